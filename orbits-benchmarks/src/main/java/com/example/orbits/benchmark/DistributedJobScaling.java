@@ -0,0 +1,201 @@
+package com.example.orbits.benchmark;
+
+import com.example.orbits.OrbitsApplication;
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how a bulk job scales when it is distributed to worker JVMs on the local machine.
+ * <p>
+ * A coordinator is started in this JVM on a random port, with its job directory in a temporary directory,
+ * and a file of random simple input records is written there. The file is first calculated by a local job, and then
+ * by distributed jobs, with one more worker started before each of them. Every worker is a new JVM running
+ * the executable jar of the application on a random port, which registers itself with the coordinator.
+ * <p>
+ * For every job, the elapsed time and the throughput are printed, together with the records every worker
+ * calculated for the job and its throughput while it had chunks in flight, as reported by {@code GET /cluster/workers}.
+ * The output of every distributed job is compared with the output of the local job.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar com.example.orbits.benchmark.DistributedJobScaling <web jar> [workers] [records]},
+ * where the jar is {@code orbits-web/target/orbits-web-*-exec.jar}.
+ */
+public class DistributedJobScaling {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(10);
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String webJar;
+    private final Path directory;
+    private final String registrationToken = UUID.randomUUID().toString();
+    private String baseUri;
+
+    private DistributedJobScaling(String webJar, Path directory) {
+        this.webJar = webJar;
+        this.directory = directory;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: DistributedJobScaling <web jar> [workers] [records]");
+            System.exit(1);
+        }
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        long records = args.length > 2 ? Long.parseLong(args[2]) : 4_000_000L;
+        Path directory = Files.createTempDirectory("orbits-cluster");
+        System.out.printf("workers=%d, records=%d, directory=%s%n", workers, records, directory);
+        new DistributedJobScaling(args[0], directory).run(workers, records);
+        System.exit(0);
+    }
+
+    private void run(int workers, long records) throws Exception {
+        writeInput(directory.resolve("input.f64"), records);
+        var builder = new SpringApplicationBuilder(OrbitsApplication.class)
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=warn");
+        List<Process> processes = new ArrayList<>();
+        try (ConfigurableApplicationContext context = builder.run("--orbits.jobs.directory=" + directory,
+                "--orbits.cluster.registration-enabled=true", "--orbits.cluster.registration-token=" + registrationToken)) {
+            baseUri = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            System.out.printf("%-8s %12s %16s%n", "workers", "elapsed [s]", "records [1/s]");
+            runJob("local.f64", false, records, Map.of());
+            for (int count = 1; count <= workers; count++) {
+                processes.add(startWorker());
+                awaitWorkers(count, processes);
+                Map<String, Long> previousRecords = new HashMap<>();
+                for (JsonNode worker : get("/cluster/workers")) {
+                    previousRecords.put(worker.get("id").asText(), worker.get("records").asLong());
+                }
+                String output = "distributed-" + count + ".f64";
+                runJob(output, true, records, previousRecords);
+                if (!sameContent(directory.resolve("local.f64"), directory.resolve(output))) {
+                    throw new IllegalStateException("Output of the distributed job differs from the local output");
+                }
+            }
+        } finally {
+            for (Process process : processes) {
+                process.destroy();
+                process.waitFor(10, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private void runJob(String output, boolean distributed, long records, Map<String, Long> previousRecords) throws Exception {
+        String input = String.format("{\"type\": \"simple\", \"input\": \"input.f64\", \"output\": \"%s\", \"distributed\": %b}",
+                output, distributed);
+        long start = System.nanoTime();
+        JsonNode job = send(HttpRequest.newBuilder(URI.create(baseUri + "/jobs"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(input)));
+        String id = job.get("id").asText();
+        while (!job.get("state").asText().equals("completed")) {
+            if (job.get("state").asText().equals("failed") || System.nanoTime() - start > TIMEOUT.toNanos()) {
+                throw new IllegalStateException("Job did not complete: " + job);
+            }
+            Thread.sleep(20);
+            job = get("/jobs/" + id);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-8s %12.2f %16.0f%n", distributed ? Integer.toString(previousRecords.size()) : "local",
+                seconds, records / seconds);
+        if (distributed) {
+            for (JsonNode worker : get("/cluster/workers")) {
+                String workerId = worker.get("id").asText();
+                System.out.printf("  %-10s %-28s %12d records %12.0f records/s %4d failures%n", workerId,
+                        worker.get("url").asText(), worker.get("records").asLong() - previousRecords.getOrDefault(workerId, 0L),
+                        worker.get("throughput").asDouble(), worker.get("failures").asLong());
+            }
+        }
+    }
+
+    private Process startWorker() throws IOException {
+        var command = List.of(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+                "-jar", webJar, "--server.port=0", "--orbits.cluster.coordinator=" + baseUri, "--orbits.cluster.heartbeat=1s",
+                "--orbits.cluster.registration-token=" + registrationToken,
+                "--orbits.cache.enabled=false", "--spring.main.banner-mode=off", "--logging.level.root=warn");
+        return new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+    }
+
+    private void awaitWorkers(int count, List<Process> processes) throws Exception {
+        long start = System.nanoTime();
+        while (get("/cluster/workers").size() < count) {
+            for (Process process : processes) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Worker exited with code " + process.exitValue());
+                }
+            }
+            if (System.nanoTime() - start > TIMEOUT.toNanos()) {
+                throw new IllegalStateException("Worker did not register within " + TIMEOUT);
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private JsonNode get(String path) throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(baseUri + path)).GET());
+    }
+
+    private JsonNode send(HttpRequest.Builder request) throws Exception {
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Unexpected response " + response.statusCode() + ": " + response.body());
+        }
+        return mapper.readTree(response.body());
+    }
+
+    private static void writeInput(Path file, long records) throws IOException {
+        var random = new SplittableRandom(42);
+        var buffer = ByteBuffer.allocate(4096 * HohmannTransferBinaryCodec.SIMPLE_INPUT_SIZE);
+        try (OutputStream output = Files.newOutputStream(file)) {
+            for (long i = 0; i < records; i++) {
+                if (!buffer.hasRemaining()) {
+                    output.write(buffer.array(), 0, buffer.position());
+                    buffer.clear();
+                }
+                HohmannTransferBinaryCodec.writeRecord(buffer, random.nextDouble(1e24, 1e31),
+                        random.nextDouble(1e6, 1e12), random.nextDouble(1e6, 1e12));
+            }
+            output.write(buffer.array(), 0, buffer.position());
+        }
+    }
+
+    private static boolean sameContent(Path first, Path second) throws IOException {
+        try (var firstChannel = FileChannel.open(first); var secondChannel = FileChannel.open(second)) {
+            long size = firstChannel.size();
+            if (size != secondChannel.size()) {
+                return false;
+            }
+            long chunk = 1L << 30;
+            for (long position = 0; position < size; position += chunk) {
+                long length = Math.min(chunk, size - position);
+                if (!firstChannel.map(FileChannel.MapMode.READ_ONLY, position, length)
+                        .equals(secondChannel.map(FileChannel.MapMode.READ_ONLY, position, length))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
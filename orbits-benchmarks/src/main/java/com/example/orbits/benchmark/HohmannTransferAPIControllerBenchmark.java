@@ -0,0 +1,99 @@
+package com.example.orbits.benchmark;
+
+import com.example.orbits.OrbitsApplication;
+import com.example.orbits.controller.HohmannTransferAPIController;
+import com.example.orbits.controller.HohmannTransferOutput;
+import com.example.orbits.controller.InterplanetaryHohmannTransferInput;
+import com.example.orbits.controller.SimpleHohmannTransferInput;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the full {@link HohmannTransferAPIController} path: Jackson deserialization of the request body,
+ * the controller method itself and serialization of the response body.
+ * The controller and the object mapper are taken from the orbits application, started on a random port,
+ * with the result cache disabled so that every invocation performs the calculation, and metrics disabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HohmannTransferAPIControllerBenchmark {
+
+    private static final byte[] SIMPLE_INPUT = ("{\"primaryBodyMass\": 1.988e30,"
+            + " \"startingOrbitRadius\": 1.496e11, \"destinationOrbitRadius\": 2.289e11}")
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INTERPLANETARY_INPUT = ("{\"primaryBodyMass\": 1.988e30,"
+            + " \"startingOrbitRadius\": 6.671e6, \"destinationOrbitRadius\": 3.69e6,"
+            + " \"startingPlanetMass\": 5.972e24, \"startingPlanetOrbitRadius\": 1.496e11,"
+            + " \"destinationPlanetMass\": 6.417e23, \"destinationPlanetOrbitRadius\": 2.289e11}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private ConfigurableApplicationContext context;
+    private HohmannTransferAPIController controller;
+    private ObjectReader simpleInputReader;
+    private ObjectReader interplanetaryInputReader;
+    private ObjectWriter outputWriter;
+    private HohmannTransferOutput output;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(OrbitsApplication.class)
+                .properties("server.port=0", "orbits.cache.enabled=false", "orbits.metrics.enabled=false",
+                        "spring.main.banner-mode=off", "logging.level.root=warn")
+                .run();
+        controller = context.getBean(HohmannTransferAPIController.class);
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        simpleInputReader = objectMapper.readerFor(SimpleHohmannTransferInput.class);
+        interplanetaryInputReader = objectMapper.readerFor(InterplanetaryHohmannTransferInput.class);
+        outputWriter = objectMapper.writerFor(HohmannTransferOutput.class);
+        output = (HohmannTransferOutput) controller.simpleHohmannTransfer(simpleInputReader.readValue(SIMPLE_INPUT), null).getBody();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] simpleHohmannTransfer() throws IOException {
+        SimpleHohmannTransferInput input = simpleInputReader.readValue(SIMPLE_INPUT);
+        return outputWriter.writeValueAsBytes(controller.simpleHohmannTransfer(input, null).getBody());
+    }
+
+    @Benchmark
+    public byte[] interplanetaryHohmannTransfer() throws IOException {
+        InterplanetaryHohmannTransferInput input = interplanetaryInputReader.readValue(INTERPLANETARY_INPUT);
+        return outputWriter.writeValueAsBytes(controller.interplanetaryHohmannTransfer(input, null).getBody());
+    }
+
+    @Benchmark
+    public SimpleHohmannTransferInput deserializeSimpleInput() throws IOException {
+        return simpleInputReader.readValue(SIMPLE_INPUT);
+    }
+
+    @Benchmark
+    public byte[] serializeOutput() throws IOException {
+        return outputWriter.writeValueAsBytes(output);
+    }
+}
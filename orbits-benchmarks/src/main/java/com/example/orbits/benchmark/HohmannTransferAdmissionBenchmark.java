@@ -0,0 +1,73 @@
+package com.example.orbits.benchmark;
+
+import com.example.orbits.service.HohmannTransferAdmissionProperties;
+import com.example.orbits.service.HohmannTransferAdmissionService;
+import com.example.orbits.service.HohmannTransferMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmarks of {@link HohmannTransferAdmissionService} called concurrently from many threads, measuring the cost
+ * of admitting and releasing a request. The quota is high enough for every request to be admitted.
+ * With {@code sharedClient}, all threads take tokens from the same bucket, which is the worst case of contention;
+ * otherwise every thread is a different client. Throughput is reported for all threads together.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class HohmannTransferAdmissionBenchmark {
+
+    @Param({"false", "true"})
+    public boolean sharedClient;
+
+    private HohmannTransferAdmissionService service;
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+        String id;
+
+        @Setup
+        public void setUp(HohmannTransferAdmissionBenchmark benchmark) {
+            id = benchmark.sharedClient ? "shared" : "client-" + NEXT_ID.getAndIncrement();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        var properties = new HohmannTransferAdmissionProperties();
+        properties.setEnabled(true);
+        properties.setRate(1e9);
+        properties.setBurst(Long.MAX_VALUE / 1_000_000_000L);
+        properties.setInitialConcurrency(1024);
+        properties.setMinConcurrency(1024);
+        properties.setMaxConcurrency(1024);
+        service = new HohmannTransferAdmissionService(properties, HohmannTransferMetrics.disabled());
+    }
+
+    @Benchmark
+    public boolean admitAndRelease(Client client) {
+        var admission = service.admit(client.id, 1L);
+        admission.release();
+        return admission.isAdmitted();
+    }
+}
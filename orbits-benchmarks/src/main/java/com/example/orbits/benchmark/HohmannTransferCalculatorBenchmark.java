@@ -0,0 +1,74 @@
+package com.example.orbits.benchmark;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.HohmannTransfer;
+import com.example.orbits.model.Orbit;
+import com.example.orbits.service.HohmannTransferCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link HohmannTransferCalculator} for both same-body and interplanetary transfers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HohmannTransferCalculatorBenchmark {
+
+    private Orbit startingOrbit;
+    private Orbit destinationOrbit;
+    private Orbit startingPlanetaryOrbit;
+    private Orbit destinationPlanetaryOrbit;
+    private HohmannTransferCalculator sameBodyCalculator;
+    private HohmannTransferCalculator interplanetaryCalculator;
+
+    @Setup
+    public void setUp() {
+        var sol = new CelestialBody("Sol", 1.988e30);
+        startingOrbit = new Orbit(1.496e11, sol);
+        destinationOrbit = new Orbit(2.289e11, sol);
+        var terra = new CelestialBody("Terra", 5.972e24);
+        terra.setOrbit(startingOrbit);
+        var mars = new CelestialBody("Mars", 6.417e23);
+        mars.setOrbit(destinationOrbit);
+        startingPlanetaryOrbit = new Orbit(6.671e6, terra);
+        destinationPlanetaryOrbit = new Orbit(3.69e6, mars);
+        sameBodyCalculator = new HohmannTransferCalculator(startingOrbit, destinationOrbit);
+        interplanetaryCalculator = new HohmannTransferCalculator(startingPlanetaryOrbit, destinationPlanetaryOrbit);
+    }
+
+    @Benchmark
+    public double calculateSameBody() {
+        sameBodyCalculator.calculate();
+        return sameBodyCalculator.getTotalDeltaV();
+    }
+
+    @Benchmark
+    public double calculateInterplanetary() {
+        interplanetaryCalculator.calculate();
+        return interplanetaryCalculator.getTotalDeltaV();
+    }
+
+    @Benchmark
+    public HohmannTransfer calculateTransferSameBody() {
+        return HohmannTransferCalculator.calculateTransfer(startingOrbit, destinationOrbit);
+    }
+
+    @Benchmark
+    public HohmannTransfer calculateTransferInterplanetary() {
+        return HohmannTransferCalculator.calculateTransfer(startingPlanetaryOrbit, destinationPlanetaryOrbit);
+    }
+}
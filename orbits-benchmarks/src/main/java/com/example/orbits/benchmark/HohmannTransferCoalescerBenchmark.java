@@ -0,0 +1,83 @@
+package com.example.orbits.benchmark;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.HohmannTransfer;
+import com.example.orbits.model.Orbit;
+import com.example.orbits.service.HohmannTransferCache;
+import com.example.orbits.service.HohmannTransferCacheProperties;
+import com.example.orbits.service.HohmannTransferCoalescer;
+import com.example.orbits.service.HohmannTransferCoalescerProperties;
+import com.example.orbits.service.HohmannTransferMetrics;
+import com.example.orbits.service.HohmannTransferService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link HohmannTransferService} called concurrently from many threads, with and without
+ * a {@link HohmannTransferCoalescer}, with the cache disabled. Throughput is reported for all threads together;
+ * the average latency of a coalesced calculation grows by up to the configured maximum delay.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class HohmannTransferCoalescerBenchmark {
+
+    @Param({"false", "true"})
+    public boolean coalescerEnabled;
+
+    @Param({"200"})
+    public long maxDelayMicros;
+
+    @Param({"16"})
+    public int maxBatchSize;
+
+    private HohmannTransferCoalescer coalescer;
+    private HohmannTransferService service;
+    private Orbit startingOrbit;
+    private Orbit destinationOrbit;
+
+    @Setup
+    public void setUp() {
+        var cacheProperties = new HohmannTransferCacheProperties();
+        cacheProperties.setEnabled(false);
+        var cache = new HohmannTransferCache(cacheProperties);
+        var metrics = HohmannTransferMetrics.disabled();
+        var coalescerProperties = new HohmannTransferCoalescerProperties();
+        coalescerProperties.setEnabled(coalescerEnabled);
+        coalescerProperties.setMaxDelay(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(maxDelayMicros)));
+        coalescerProperties.setMaxBatchSize(maxBatchSize);
+        coalescer = new HohmannTransferCoalescer(coalescerProperties, metrics);
+        service = new HohmannTransferService(cache, coalescer, metrics);
+        var sol = new CelestialBody("Sol", 1.988e30);
+        startingOrbit = new Orbit(1.496e11, sol);
+        destinationOrbit = new Orbit(2.289e11, sol);
+    }
+
+    @TearDown
+    public void tearDown() {
+        coalescer.close();
+    }
+
+    @Benchmark
+    public HohmannTransfer calculate() {
+        return service.calculate(startingOrbit, destinationOrbit);
+    }
+}
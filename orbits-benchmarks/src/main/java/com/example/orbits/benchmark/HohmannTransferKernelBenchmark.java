@@ -0,0 +1,57 @@
+package com.example.orbits.benchmark;
+
+import com.example.orbits.service.HohmannTransferKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the column methods of {@link HohmannTransferKernel},
+ * run in the calling thread over a batch of random same-body transfers.
+ * Results are reported per transfer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HohmannTransferKernelBenchmark {
+
+    private static final int SIZE = 1 << 12;
+
+    private final double[] mu = new double[SIZE];
+    private final double[] r1 = new double[SIZE];
+    private final double[] r2 = new double[SIZE];
+    private final double[] transferTime = new double[SIZE];
+    private final double[] insertionDeltaV = new double[SIZE];
+    private final double[] arrivalDeltaV = new double[SIZE];
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        for (int i = 0; i < SIZE; i++) {
+            mu[i] = 1.327e20;
+            r1[i] = random.nextDouble(5e10, 5e11);
+            r2[i] = r1[i] * random.nextDouble(0.1, 10d);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] calculateOrbitTransfers() {
+        HohmannTransferKernel.calculateOrbitTransfers(0, SIZE, mu, r1, r2, transferTime, insertionDeltaV, arrivalDeltaV);
+        return insertionDeltaV;
+    }
+}
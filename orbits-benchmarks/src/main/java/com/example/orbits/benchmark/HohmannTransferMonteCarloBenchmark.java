@@ -0,0 +1,51 @@
+package com.example.orbits.benchmark;
+
+import com.example.orbits.service.HohmannTransferMonteCarlo;
+import com.example.orbits.service.HohmannTransferMonteCarlo.Distribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link HohmannTransferMonteCarlo} simulations of an Earth to Mars transfer with uncertain
+ * parameters. Results are reported per sample, including drawing the parameters and updating the sketches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HohmannTransferMonteCarloBenchmark {
+
+    private static final int SAMPLES = 1 << 20;
+
+    private final HohmannTransferMonteCarlo simple = HohmannTransferMonteCarlo.simple(Distribution.fixed(1.989e30),
+            Distribution.normal(1.496e11, 1e8), Distribution.uniform(2.27e11, 2.29e11));
+    private final HohmannTransferMonteCarlo interplanetary = HohmannTransferMonteCarlo.interplanetary(
+            Distribution.normal(1.989e30, 1e26), Distribution.normal(1.496e11, 1e8), Distribution.fixed(5.972e24),
+            Distribution.uniform(2.27e11, 2.29e11), Distribution.normal(6.417e23, 1e20),
+            Distribution.uniform(6.6e6, 7e6), Distribution.fixed(3.7e6));
+    private long seed;
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public HohmannTransferMonteCarlo.Result simple() {
+        return simple.run(SAMPLES, seed++, 0.001);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public HohmannTransferMonteCarlo.Result interplanetary() {
+        return interplanetary.run(SAMPLES, seed++, 0.001);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.orbits.benchmark;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.Orbit;
+import com.example.orbits.service.HohmannTransferRoutePlanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link HohmannTransferRoutePlanner} with graphs of random orbits around the Sun and three planets:
+ * queries of the cheapest route between random orbits, and building the whole graph by adding its orbits one by one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HohmannTransferRouteBenchmark {
+
+    @Param({"500", "2000"})
+    private int size;
+
+    private CelestialBody[] primaries;
+    private HohmannTransferRoutePlanner planner;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        var sun = new CelestialBody("Sun", 1.9885e30);
+        primaries = new CelestialBody[]{sun, planet("Earth", 5.97237e24, 1.49598e11, sun),
+                planet("Mars", 6.4171e23, 2.27939e11, sun), planet("Jupiter", 1.8982e27, 7.78479e11, sun)};
+        random = new SplittableRandom(42);
+        planner = new HohmannTransferRoutePlanner(HohmannTransferRoutePlanner.Cost.DELTA_V);
+        for (int i = 0; i < size; i++) {
+            planner.add(randomOrbit());
+        }
+    }
+
+    @Benchmark
+    public int[] route() {
+        return planner.route(random.nextInt(size), random.nextInt(size));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public HohmannTransferRoutePlanner build() {
+        var copy = new HohmannTransferRoutePlanner(planner.getCost());
+        for (int i = 0; i < size; i++) {
+            copy.add(planner.getOrbit(i));
+        }
+        return copy;
+    }
+
+    private Orbit randomOrbit() {
+        var primary = primaries[random.nextInt(primaries.length)];
+        return new Orbit(primary.getOrbit() == null ? random.nextDouble(5e10, 5e12) : random.nextDouble(2e6, 1e9), primary);
+    }
+
+    private static CelestialBody planet(String name, double mass, double orbitRadius, CelestialBody parent) {
+        var planet = new CelestialBody(name, mass);
+        planet.setOrbit(new Orbit(orbitRadius, parent));
+        return planet;
+    }
+}
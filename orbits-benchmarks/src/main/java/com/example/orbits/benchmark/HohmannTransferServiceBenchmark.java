@@ -0,0 +1,72 @@
+package com.example.orbits.benchmark;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.HohmannTransfer;
+import com.example.orbits.model.Orbit;
+import com.example.orbits.service.HohmannTransferCache;
+import com.example.orbits.service.HohmannTransferCacheProperties;
+import com.example.orbits.service.HohmannTransferCoalescerProperties;
+import com.example.orbits.service.HohmannTransferMetrics;
+import com.example.orbits.service.HohmannTransferMetricsProperties;
+import com.example.orbits.service.HohmannTransferService;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link HohmannTransferService}, measuring the overhead of the result cache and of metrics recording.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HohmannTransferServiceBenchmark {
+
+    @Param({"false", "true"})
+    public boolean metricsEnabled;
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    @Param({"10", "1000"})
+    public int timingSampleInterval;
+
+    private HohmannTransferService service;
+    private Orbit startingOrbit;
+    private Orbit destinationOrbit;
+
+    @Setup
+    public void setUp() {
+        var cacheProperties = new HohmannTransferCacheProperties();
+        cacheProperties.setEnabled(cacheEnabled);
+        var cache = new HohmannTransferCache(cacheProperties);
+        var metricsProperties = new HohmannTransferMetricsProperties();
+        metricsProperties.setEnabled(metricsEnabled);
+        metricsProperties.setTimingSampleInterval(timingSampleInterval);
+        var metrics = new HohmannTransferMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT), metricsProperties,
+                new HohmannTransferCoalescerProperties(), cache);
+        service = new HohmannTransferService(cache, metrics);
+        var sol = new CelestialBody("Sol", 1.988e30);
+        startingOrbit = new Orbit(1.496e11, sol);
+        destinationOrbit = new Orbit(2.289e11, sol);
+    }
+
+    @Benchmark
+    public HohmannTransfer calculate() {
+        return service.calculate(startingOrbit, destinationOrbit);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.orbits.benchmark;
+
+import com.example.orbits.service.HohmannTransferKernel;
+import com.example.orbits.service.HohmannTransferStrategyOptimizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link HohmannTransferStrategyOptimizer} over batches of random pairs of orbits, compared with
+ * the Hohmann transfers of {@link HohmannTransferKernel} alone. With a transfer time limit, most plans need
+ * a bisection search of the intermediate radius. Results are reported per transfer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HohmannTransferStrategyBenchmark {
+
+    private static final int SIZE = 1 << 16;
+    private static final double MU = 3.986e14;
+
+    @Param({"Infinity", "1e7"})
+    private double maxTransferTime;
+
+    private final double[] mu = new double[SIZE];
+    private final double[] r1 = new double[SIZE];
+    private final double[] r2 = new double[SIZE];
+    private final double[] intermediateRadius = new double[SIZE];
+    private final double[] transferTime = new double[SIZE];
+    private final double[] totalDeltaV = new double[SIZE];
+    private final double[] arrivalDeltaV = new double[SIZE];
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        for (int i = 0; i < SIZE; i++) {
+            mu[i] = MU;
+            r1[i] = 6.671e6 * Math.exp(random.nextDouble(0d, 2d));
+            r2[i] = 6.671e6 * Math.exp(random.nextDouble(0d, 5d));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] plan() {
+        HohmannTransferStrategyOptimizer.plan(mu, r1, r2, 1000d, maxTransferTime, intermediateRadius, transferTime, totalDeltaV);
+        return totalDeltaV;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] hohmann() {
+        HohmannTransferKernel.calculateOrbitTransfers(mu, r1, r2, transferTime, totalDeltaV, arrivalDeltaV);
+        return totalDeltaV;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.orbits.benchmark;
+
+import com.example.orbits.service.HohmannTransferKernel;
+import com.example.orbits.service.HohmannTransferTrajectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of trajectory sampling: the Kepler solver of {@link HohmannTransferKernel} alone, over random mean
+ * anomalies at a given eccentricity, and whole blocks of {@link HohmannTransferTrajectory} samples, calculated
+ * on the common fork-join pool. Results are reported per sample.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HohmannTransferTrajectoryBenchmark {
+
+    private static final int SIZE = 1 << 12;
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    @Param({"0.2", "0.9", "0.999"})
+    private double eccentricity;
+
+    private final double[] meanAnomaly = new double[SIZE];
+    private final double[] eccentricAnomaly = new double[SIZE];
+    private HohmannTransferTrajectory trajectory;
+    private HohmannTransferTrajectory.Block block;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        for (int i = 0; i < SIZE; i++) {
+            meanAnomaly[i] = random.nextDouble(0d, 2d * Math.PI);
+        }
+        // The destination radius giving a transfer orbit of the benchmarked eccentricity
+        double r1 = 1.496e11;
+        double r2 = r1 * (1d + eccentricity) / (1d - eccentricity);
+        trajectory = HohmannTransferTrajectory.of(new double[]{1.327e20}, new double[]{r1}, new double[]{r2}, BLOCK_SIZE);
+        block = trajectory.newBlock(BLOCK_SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] eccentricAnomaly() {
+        for (int i = 0; i < SIZE; i++) {
+            eccentricAnomaly[i] = HohmannTransferKernel.eccentricAnomaly(meanAnomaly[i], eccentricity);
+        }
+        return eccentricAnomaly;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCK_SIZE)
+    public HohmannTransferTrajectory.Block trajectoryBlock() {
+        trajectory.calculate(0, block);
+        return block;
+    }
+}
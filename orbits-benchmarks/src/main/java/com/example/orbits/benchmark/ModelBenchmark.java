@@ -0,0 +1,47 @@
+package com.example.orbits.benchmark;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.Orbit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the derived quantities provided by the {@link Orbit} and {@link CelestialBody} model classes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModelBenchmark {
+
+    private CelestialBody body;
+    private Orbit orbit;
+
+    @Setup
+    public void setUp() {
+        body = new CelestialBody("Sol", 1.988e30);
+        orbit = new Orbit(1.496e11, body);
+    }
+
+    @Benchmark
+    public double orbitalSpeed() {
+        return orbit.getOrbitalSpeed();
+    }
+
+    @Benchmark
+    public double standardGravitationalParameter() {
+        return body.getStandardGravitationalParameter();
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.orbits.benchmark;
+
+import com.example.orbits.OrbitsApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives {@code /simple} and {@code /interplanetary} of a locally started application at constant request rates,
+ * and records the distributions of latencies with HdrHistogram.
+ * <p>
+ * Unlike {@link TransportLoadComparison}, which keeps a fixed number of requests in flight, this load test is
+ * open-loop: requests are scheduled at fixed intervals regardless of how fast the server responds, and the latency
+ * of every request is measured from its scheduled start rather than from the moment it was actually sent.
+ * A server which stalls therefore delays all requests scheduled during the stall, as it would delay independent
+ * clients, instead of slowing down the load generator and hiding the delay (coordinated omission).
+ * The time from actually sending a request to its response is recorded separately as the service time.
+ * <p>
+ * The application is started on a random port, with the result cache disabled so that every request
+ * performs a calculation. Every endpoint is warmed up at the lowest rate, and then driven at each of the given rates
+ * in increasing order, until a rate is not sustained: fewer than 95% of the scheduled requests complete
+ * within the step, or any request fails. The highest throughput of a sustained rate is reported as the throughput
+ * ceiling of the endpoint.
+ * <p>
+ * A summary is printed, and a JSON report with the percentiles and the compressed histograms of every step
+ * is written to a file, so that runs can be compared across commits. If a previous report is given,
+ * the ceilings and 99th percentiles of both runs are printed side by side.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar com.example.orbits.benchmark.OpenLoopLoadTest [mode] [rates] [seconds] [report] [baseline report]},
+ * where the mode is {@code servlet} (the default) or {@code reactive}, and the rates are comma-separated requests per second.
+ */
+public class OpenLoopLoadTest {
+
+    private static final Map<String, String> INPUTS = Map.of(
+            "/simple", "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 1.496e11, \"destinationOrbitRadius\": 2.289e11}",
+            "/interplanetary", "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 6.671e6, \"destinationOrbitRadius\": 3.69e6,"
+                    + " \"startingPlanetMass\": 5.972e24, \"startingPlanetOrbitRadius\": 1.496e11,"
+                    + " \"destinationPlanetMass\": 6.417e23, \"destinationPlanetOrbitRadius\": 2.289e11}");
+    private static final String[] ENDPOINTS = {"/simple", "/interplanetary"};
+    private static final double[] PERCENTILES = {50d, 90d, 99d, 99.9, 99.99};
+    private static final double SUSTAINED_RATIO = 0.95;
+    private static final int WARMUP_SECONDS = 5;
+    /**
+     * The maximum number of requests in flight. When it is reached, sending waits for responses, but latencies
+     * still include the wait, since they are measured from the scheduled start of every request.
+     */
+    private static final int MAX_IN_FLIGHT = 4096;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+    private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.MINUTES.toNanos(2);
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final int[] rates;
+    private final int seconds;
+
+    private OpenLoopLoadTest(int[] rates, int seconds) {
+        this.rates = rates;
+        this.seconds = seconds;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String mode = args.length > 0 ? args[0] : "servlet";
+        int[] rates = Arrays.stream((args.length > 1 ? args[1] : "500,1000,2000,4000,8000,16000").split(","))
+                .mapToInt(rate -> Integer.parseInt(rate.trim())).sorted().toArray();
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        var report = new File(args.length > 3 ? args[3] : "loadtest-report.json");
+        var baseline = args.length > 4 ? new File(args[4]) : null;
+        var test = new OpenLoopLoadTest(rates, seconds);
+        System.out.printf("mode=%s, rates=%s, seconds=%d%n", mode, Arrays.toString(rates), seconds);
+        ObjectNode result = test.run(mode);
+        test.mapper.writeValue(report, result);
+        System.out.printf("report written to %s%n", report);
+        if (baseline != null) {
+            test.compare(test.mapper.readTree(baseline), result);
+        }
+    }
+
+    private ObjectNode run(String mode) throws Exception {
+        var builder = new SpringApplicationBuilder(OrbitsApplication.class)
+                .properties("server.port=0", "orbits.cache.enabled=false", "spring.main.banner-mode=off",
+                        "logging.level.root=warn");
+        if (mode.equals("reactive")) {
+            builder.profiles("reactive");
+        }
+        var report = mapper.createObjectNode();
+        report.put("startedAt", Instant.now().toString());
+        report.put("mode", mode);
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("secondsPerRate", seconds);
+        ObjectNode endpoints = report.putObject("endpoints");
+        try (ConfigurableApplicationContext context = builder.run()) {
+            String baseUri = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            System.out.printf("%-16s %10s %10s %8s %10s %10s %10s %10s %12s%n", "endpoint", "rate [1/s]", "done [1/s]",
+                    "errors", "p50 [ms]", "p99 [ms]", "p99.9 [ms]", "max [ms]", "svc p99 [ms]");
+            for (String endpoint : ENDPOINTS) {
+                var request = HttpRequest.newBuilder(URI.create(baseUri + endpoint))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(INPUTS.get(endpoint)))
+                        .build();
+                step(request, rates[0], WARMUP_SECONDS);
+                ObjectNode endpointReport = endpoints.putObject(endpoint);
+                ArrayNode steps = endpointReport.putArray("steps");
+                double ceiling = 0d;
+                for (int rate : rates) {
+                    StepResult result = step(request, rate, seconds);
+                    steps.add(result.toJson(mapper));
+                    print(endpoint, result);
+                    if (!result.isSustained()) {
+                        break;
+                    }
+                    ceiling = Math.max(ceiling, result.throughput());
+                }
+                endpointReport.put("throughputCeiling", ceiling);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Sends requests at the given rate for the given time, and waits for all responses.
+     */
+    private StepResult step(HttpRequest request, int rate, int seconds) throws InterruptedException {
+        var latency = new Recorder(HIGHEST_TRACKABLE_LATENCY, 3);
+        var serviceTime = new Recorder(HIGHEST_TRACKABLE_LATENCY, 3);
+        var errors = new AtomicLong();
+        var completed = new AtomicLong();
+        var inFlight = new Semaphore(MAX_IN_FLIGHT);
+        long count = (long) rate * seconds;
+        double interval = 1e9 / rate;
+        long start = System.nanoTime();
+        for (long i = 0; i < count; i++) {
+            long scheduled = start + (long) (i * interval);
+            for (long delay = scheduled - System.nanoTime(); delay > 0; delay = scheduled - System.nanoTime()) {
+                LockSupport.parkNanos(delay);
+            }
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, e) -> {
+                long now = System.nanoTime();
+                latency.recordValue(Math.min(now - scheduled, HIGHEST_TRACKABLE_LATENCY));
+                serviceTime.recordValue(Math.min(now - sent, HIGHEST_TRACKABLE_LATENCY));
+                if (e != null || response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                }
+                completed.incrementAndGet();
+                inFlight.release();
+            });
+        }
+        // Throughput counts the responses received until the end of the step, or until the last request was sent
+        // if sending fell behind; requests still in flight are waited for, but are not counted
+        long end = Math.max(System.nanoTime(), start + TimeUnit.SECONDS.toNanos(seconds));
+        for (long delay = end - System.nanoTime(); delay > 0; delay = end - System.nanoTime()) {
+            LockSupport.parkNanos(delay);
+        }
+        long completedInTime = completed.get();
+        if (!inFlight.tryAcquire(MAX_IN_FLIGHT, DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            errors.addAndGet(count - completed.get());
+        } else {
+            inFlight.release(MAX_IN_FLIGHT);
+        }
+        return new StepResult(rate, count, completedInTime / ((end - start) / 1e9), errors.get(),
+                latency.getIntervalHistogram(), serviceTime.getIntervalHistogram());
+    }
+
+    private static void print(String endpoint, StepResult result) {
+        System.out.printf("%-16s %10d %10.0f %8d %10.2f %10.2f %10.2f %10.2f %12.2f%n", endpoint, result.rate,
+                result.throughput(), result.errors, toMillis(result.latency.getValueAtPercentile(50d)),
+                toMillis(result.latency.getValueAtPercentile(99d)), toMillis(result.latency.getValueAtPercentile(99.9)),
+                toMillis(result.latency.getMaxValue()), toMillis(result.serviceTime.getValueAtPercentile(99d)));
+    }
+
+    /**
+     * Prints the throughput ceilings and the 99th percentiles of latency at every common rate of two reports.
+     */
+    private void compare(JsonNode baseline, JsonNode current) {
+        System.out.printf("%nbaseline from %s%n", baseline.path("startedAt").asText());
+        System.out.printf("%-16s %-16s %14s %14s %10s%n", "endpoint", "metric", "baseline", "current", "change");
+        for (String endpoint : ENDPOINTS) {
+            JsonNode before = baseline.path("endpoints").path(endpoint);
+            JsonNode after = current.path("endpoints").path(endpoint);
+            if (before.isMissingNode() || after.isMissingNode()) {
+                continue;
+            }
+            printChange(endpoint, "ceiling [1/s]", before.path("throughputCeiling").asDouble(), after.path("throughputCeiling").asDouble());
+            Map<Integer, Double> p99 = new LinkedHashMap<>();
+            after.path("steps").forEach(step -> p99.put(step.path("rate").asInt(), step.path("latencyMillis").path("99").asDouble()));
+            before.path("steps").forEach(step -> {
+                Double value = p99.get(step.path("rate").asInt());
+                if (value != null) {
+                    printChange(endpoint, "p99@" + step.path("rate").asInt() + " [ms]",
+                            step.path("latencyMillis").path("99").asDouble(), value);
+                }
+            });
+        }
+    }
+
+    private static void printChange(String endpoint, String metric, double before, double after) {
+        String change = before > 0d ? String.format("%+9.1f%%", 100d * (after - before) / before) : "n/a";
+        System.out.printf("%-16s %-16s %14.2f %14.2f %10s%n", endpoint, metric, before, after, change);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static class StepResult {
+
+        private final int rate;
+        private final long requests;
+        private final double throughput;
+        private final long errors;
+        private final Histogram latency;
+        private final Histogram serviceTime;
+
+        StepResult(int rate, long requests, double throughput, long errors, Histogram latency, Histogram serviceTime) {
+            this.rate = rate;
+            this.requests = requests;
+            this.throughput = throughput;
+            this.errors = errors;
+            this.latency = latency;
+            this.serviceTime = serviceTime;
+        }
+
+        double throughput() {
+            return throughput;
+        }
+
+        boolean isSustained() {
+            return errors == 0 && throughput >= SUSTAINED_RATIO * rate;
+        }
+
+        ObjectNode toJson(ObjectMapper mapper) {
+            var json = mapper.createObjectNode();
+            json.put("rate", rate);
+            json.put("requests", requests);
+            json.put("throughput", throughput);
+            json.put("errors", errors);
+            json.put("sustained", isSustained());
+            putPercentiles(json.putObject("latencyMillis"), latency);
+            putPercentiles(json.putObject("serviceTimeMillis"), serviceTime);
+            json.put("latencyHistogram", encode(latency));
+            json.put("serviceTimeHistogram", encode(serviceTime));
+            return json;
+        }
+
+        private static void putPercentiles(ObjectNode json, Histogram histogram) {
+            json.put("mean", histogram.getMean() / TimeUnit.MILLISECONDS.toNanos(1));
+            for (double percentile : PERCENTILES) {
+                json.put(BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString(),
+                        toMillis(histogram.getValueAtPercentile(percentile)));
+            }
+            json.put("max", toMillis(histogram.getMaxValue()));
+        }
+
+        /**
+         * Encodes a histogram in the compressed format of HdrHistogram, which can be decoded with
+         * {@link Histogram#decodeFromCompressedByteBuffer} to merge or plot the results of several runs.
+         */
+        private static String encode(Histogram histogram) {
+            var buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+            int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+            return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.orbits.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cold start of the Spring Boot application with the cold start of the lightweight launcher.
+ * <p>
+ * Each executable jar is started a number of times in a new JVM, on a free port, and {@code POST /simple} is sent
+ * repeatedly until the first successful response arrives. The time from starting the process to receiving that
+ * response is measured, and the median and the maximum of all runs are printed for both servers.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar com.example.orbits.benchmark.StartupComparison <web jar> <launcher jar> [runs]},
+ * where the jars are {@code orbits-web/target/orbits-web-*-exec.jar} and {@code orbits-launcher/target/orbits-launcher-*-exec.jar}.
+ */
+public class StartupComparison {
+
+    private static final String SIMPLE_INPUT =
+            "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 1.496e11, \"destinationOrbitRadius\": 2.289e11}";
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: StartupComparison <web jar> <launcher jar> [runs]");
+            System.exit(1);
+        }
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        var comparison = new StartupComparison();
+        System.out.printf("runs=%d%n", runs);
+        System.out.printf("%-9s %14s %14s%n", "server", "median [ms]", "max [ms]");
+        comparison.run("spring", runs, port -> List.of("-jar", args[0], "--server.port=" + port,
+                "--spring.main.banner-mode=off", "--logging.level.root=warn"));
+        comparison.run("launcher", runs, port -> List.of("-jar", args[1], Integer.toString(port)));
+    }
+
+    private void run(String server, int runs, Arguments arguments) throws Exception {
+        long[] durations = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            durations[i] = measure(arguments);
+        }
+        Arrays.sort(durations);
+        System.out.printf("%-9s %14.0f %14.0f%n", server, toMillis(durations[runs / 2]), toMillis(durations[runs - 1]));
+    }
+
+    private long measure(Arguments arguments) throws Exception {
+        int port = freePort();
+        var command = new ArrayList<String>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(arguments.of(port));
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/simple"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(SIMPLE_INPUT))
+                .build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Server exited with code " + process.exitValue());
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return System.nanoTime() - start;
+                    }
+                } catch (ConnectException e) {
+                    // The server is not listening yet
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException("Server did not respond within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @FunctionalInterface
+    private interface Arguments {
+
+        List<String> of(int port);
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.orbits.benchmark;
+
+import com.example.orbits.OrbitsApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the servlet-based (Tomcat) and the reactive (Netty) deployment modes of the orbits application
+ * under the same load.
+ * <p>
+ * Each mode is started in turn on a random port, with the result cache disabled so that every request
+ * performs a calculation. The load generator keeps a fixed number of requests in flight to {@code /simple},
+ * which simulates bursts from many concurrent clients, and then posts one large newline-delimited JSON batch
+ * to {@code /simple/batch}. Throughput and latency percentiles are printed for both modes.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar com.example.orbits.benchmark.TransportLoadComparison [concurrency] [requests] [batchSize]}
+ */
+public class TransportLoadComparison {
+
+    private static final String SIMPLE_INPUT =
+            "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 1.496e11, \"destinationOrbitRadius\": 2.289e11}";
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final int concurrency;
+    private final int requests;
+    private final int batchSize;
+
+    private TransportLoadComparison(int concurrency, int requests, int batchSize) {
+        this.concurrency = concurrency;
+        this.requests = requests;
+        this.batchSize = batchSize;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 256;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 50_000;
+        int batchSize = args.length > 2 ? Integer.parseInt(args[2]) : 200_000;
+        var comparison = new TransportLoadComparison(concurrency, requests, batchSize);
+        System.out.printf("concurrency=%d, requests=%d, batchSize=%d%n", concurrency, requests, batchSize);
+        System.out.printf("%-9s %12s %10s %10s %10s %10s %14s%n",
+                "mode", "requests/s", "p50 [ms]", "p99 [ms]", "max [ms]", "errors", "batch items/s");
+        comparison.run("servlet");
+        comparison.run("reactive");
+    }
+
+    private void run(String mode) throws Exception {
+        var builder = new SpringApplicationBuilder(OrbitsApplication.class)
+                .properties("server.port=0", "orbits.cache.enabled=false", "spring.main.banner-mode=off",
+                        "logging.level.root=warn");
+        if (mode.equals("reactive")) {
+            builder.profiles("reactive");
+        }
+        try (ConfigurableApplicationContext context = builder.run()) {
+            String baseUri = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            load(baseUri, requests / 5);
+            LoadResult result = load(baseUri, requests);
+            double batchThroughput = batch(baseUri);
+            System.out.printf("%-9s %12.0f %10.2f %10.2f %10.2f %10d %14.0f%n", mode, result.throughput(),
+                    result.percentile(0.5), result.percentile(0.99), result.percentile(1), result.errors, batchThroughput);
+        }
+    }
+
+    private LoadResult load(String baseUri, int count) throws InterruptedException {
+        var request = HttpRequest.newBuilder(URI.create(baseUri + "/simple"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(SIMPLE_INPUT))
+                .build();
+        var inFlight = new Semaphore(concurrency);
+        var errors = new AtomicInteger();
+        long[] latencies = new long[count];
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            inFlight.acquire();
+            int index = i;
+            long requestStart = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, e) -> {
+                latencies[index] = System.nanoTime() - requestStart;
+                if (e != null || response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                }
+                inFlight.release();
+            });
+        }
+        inFlight.acquire(concurrency);
+        long duration = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new LoadResult(count, duration, latencies, errors.get());
+    }
+
+    /**
+     * Posts a newline-delimited JSON batch over a raw socket and counts the results as they arrive.
+     * The request is written by a separate thread while the response is read, which is needed because both modes
+     * start streaming results before the whole request has been received; {@link HttpClient} only reads
+     * the response after sending the whole request body, so large batches would fill the socket buffers and stall.
+     */
+    private double batch(String baseUri) throws Exception {
+        byte[] content = IntStream.range(0, batchSize).mapToObj(i -> SIMPLE_INPUT).collect(Collectors.joining("\n"))
+                .getBytes(StandardCharsets.UTF_8);
+        URI uri = URI.create(baseUri);
+        String head = "POST /simple/batch HTTP/1.1\r\nHost: " + uri.getHost() + "\r\nConnection: close\r\n"
+                + "Content-Type: application/x-ndjson\r\nContent-Length: " + content.length + "\r\n\r\n";
+        long start = System.nanoTime();
+        long count;
+        try (var socket = new Socket(uri.getHost(), uri.getPort())) {
+            var sender = CompletableFuture.runAsync(() -> {
+                try {
+                    OutputStream output = socket.getOutputStream();
+                    output.write(head.getBytes(StandardCharsets.US_ASCII));
+                    output.write(content);
+                    output.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            count = countResults(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+            sender.join();
+        }
+        if (count != batchSize) {
+            throw new IllegalStateException("Expected " + batchSize + " results, got " + count);
+        }
+        return count / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static long countResults(InputStream input) throws IOException {
+        boolean chunked = false;
+        for (String line = readLine(input); !line.isEmpty(); line = readLine(input)) {
+            if (line.toLowerCase().startsWith("transfer-encoding:") && line.toLowerCase().contains("chunked")) {
+                chunked = true;
+            }
+        }
+        long count = 0;
+        if (!chunked) {
+            for (int b = input.read(); b != -1; b = input.read()) {
+                count += b == '\n' ? 1 : 0;
+            }
+            return count;
+        }
+        for (int size = Integer.parseInt(readLine(input).trim(), 16); size > 0; size = Integer.parseInt(readLine(input).trim(), 16)) {
+            for (int i = 0; i < size; i++) {
+                count += input.read() == '\n' ? 1 : 0;
+            }
+            readLine(input);
+        }
+        return count;
+    }
+
+    private static String readLine(InputStream input) throws IOException {
+        var line = new StringBuilder();
+        for (int b = input.read(); b != '\n'; b = input.read()) {
+            if (b == -1) {
+                throw new EOFException();
+            }
+            if (b != '\r') {
+                line.append((char) b);
+            }
+        }
+        return line.toString();
+    }
+
+    private static class LoadResult {
+
+        private final int count;
+        private final long duration;
+        private final long[] sortedLatencies;
+        private final int errors;
+
+        LoadResult(int count, long duration, long[] sortedLatencies, int errors) {
+            this.count = count;
+            this.duration = duration;
+            this.sortedLatencies = sortedLatencies;
+            this.errors = errors;
+        }
+
+        double throughput() {
+            return count / (duration / 1e9);
+        }
+
+        double percentile(double p) {
+            int index = (int) Math.ceil(p * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.CelestialBodyCatalogConfiguration;
+import com.example.orbits.service.HohmannTransferCache;
+import com.example.orbits.service.HohmannTransferCacheProperties;
+import com.example.orbits.service.HohmannTransferMetrics;
+import com.example.orbits.service.HohmannTransferPhaseEvents;
+import com.example.orbits.service.HohmannTransferPhaseEvents.Phase;
+import com.example.orbits.service.HohmannTransferService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Recording;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the cost of timing the phases of a request with {@link HohmannTransferPhaseEvents}.
+ * <p>
+ * A request to {@link HohmannTransferAPIController#simpleHohmannTransfer} is read and written with the JSON converter
+ * of the application, which times binding and serialization, and with the default converter of Spring MVC;
+ * model building and calculation are timed in both. {@code recording} selects whether a Java Flight Recorder recording
+ * of the phase events is running, as while {@link com.example.orbits.service.HohmannTransferProfiler} records.
+ * A single event timed around an empty block is compared with the empty block itself. The result cache
+ * and metrics are disabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HohmannTransferPhaseEventBenchmark {
+
+    private static final byte[] SIMPLE_INPUT = ("{\"primaryBodyMass\": 1.988e30,"
+            + " \"startingOrbitRadius\": 1.496e11, \"destinationOrbitRadius\": 2.289e11}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"false", "true"})
+    public boolean recording;
+
+    private HohmannTransferAPIController controller;
+    private MappingJackson2HttpMessageConverter timingConverter;
+    private MappingJackson2HttpMessageConverter defaultConverter;
+    private Recording jfrRecording;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        var cacheProperties = new HohmannTransferCacheProperties();
+        cacheProperties.setEnabled(false);
+        var metrics = HohmannTransferMetrics.disabled();
+        var transferService = new HohmannTransferService(new HohmannTransferCache(cacheProperties), metrics);
+        var inputHandler = new HohmannTransferInputHandler(transferService, CelestialBodyCatalogConfiguration.load(objectMapper), metrics);
+        controller = new HohmannTransferAPIController(inputHandler, new HohmannTransferBatchStreamer(objectMapper, metrics),
+                new HohmannTransferBinaryBatchProcessor(metrics),
+                new HohmannTransferSweepWriter(new HohmannTransferSweepProperties(), metrics),
+                new HohmannTransferTrajectoryWriter(new HohmannTransferTrajectoryProperties(), metrics));
+        timingConverter = new HohmannTransferJsonHttpMessageConverter(objectMapper);
+        defaultConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        if (recording) {
+            jfrRecording = new Recording();
+            jfrRecording.setToDisk(true);
+            jfrRecording.setMaxSize(64L << 20);
+            for (Phase phase : Phase.values()) {
+                jfrRecording.enable(phase.getEventName()).withoutThreshold();
+            }
+            jfrRecording.start();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (jfrRecording != null) {
+            jfrRecording.close();
+        }
+    }
+
+    @Benchmark
+    public byte[] timingConverter() throws IOException {
+        return exchange(timingConverter);
+    }
+
+    @Benchmark
+    public byte[] defaultConverter() throws IOException {
+        return exchange(defaultConverter);
+    }
+
+    @Benchmark
+    public void event() {
+        var event = new HohmannTransferPhaseEvents.Calculation();
+        event.begin();
+        event.end("simple");
+    }
+
+    @Benchmark
+    public void baseline() {
+    }
+
+    private byte[] exchange(MappingJackson2HttpMessageConverter converter) throws IOException {
+        var input = (SimpleHohmannTransferInput) converter.read(SimpleHohmannTransferInput.class, null, new InputMessage());
+        var output = new OutputMessage();
+        converter.write(controller.simpleHohmannTransfer(input, null).getBody(), MediaType.APPLICATION_JSON, output);
+        return output.body.toByteArray();
+    }
+
+    private static class InputMessage implements HttpInputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        InputMessage() {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(SIMPLE_INPUT);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    private static class OutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.CelestialBodyCatalogConfiguration;
+import com.example.orbits.service.HohmannTransferCache;
+import com.example.orbits.service.HohmannTransferCacheProperties;
+import com.example.orbits.service.HohmannTransferMetrics;
+import com.example.orbits.service.HohmannTransferService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks of rejecting invalid input of {@link HohmannTransferAPIController#simpleHohmannTransfer}.
+ * Rejection by {@link com.example.orbits.service.HohmannTransferValidator} is compared with the previous approach,
+ * where the exception thrown by the model constructors was caught and converted into a {@code ResponseStatusException}.
+ * The cost of an exception grows with the depth of the stack it is created in, so the controller is called
+ * {@code stackDepth} frames deep; a request handled by an embedded server is usually more than 100 frames deep.
+ * Accepting valid input is measured for comparison. The result cache and metrics are disabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HohmannTransferValidationBenchmark {
+
+    @Param({"0", "100"})
+    public int stackDepth;
+
+    private HohmannTransferInputHandler inputHandler;
+    private HohmannTransferAPIController controller;
+    private SimpleHohmannTransferInput validInput;
+    private SimpleHohmannTransferInput invalidInput;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        var cacheProperties = new HohmannTransferCacheProperties();
+        cacheProperties.setEnabled(false);
+        var metrics = HohmannTransferMetrics.disabled();
+        var transferService = new HohmannTransferService(new HohmannTransferCache(cacheProperties), metrics);
+        inputHandler = new HohmannTransferInputHandler(transferService, CelestialBodyCatalogConfiguration.load(objectMapper), metrics);
+        controller = new HohmannTransferAPIController(inputHandler, new HohmannTransferBatchStreamer(objectMapper, metrics),
+                new HohmannTransferBinaryBatchProcessor(metrics),
+                new HohmannTransferSweepWriter(new HohmannTransferSweepProperties(), metrics),
+                new HohmannTransferTrajectoryWriter(new HohmannTransferTrajectoryProperties(), metrics));
+        validInput = new SimpleHohmannTransferInput();
+        validInput.setPrimaryBodyMass(1.988e30);
+        validInput.setStartingOrbitRadius(1.496e11);
+        validInput.setDestinationOrbitRadius(2.289e11);
+        invalidInput = new SimpleHohmannTransferInput();
+        invalidInput.setPrimaryBodyMass(-1.988e30);
+        invalidInput.setStartingOrbitRadius(1.496e11);
+        invalidInput.setDestinationOrbitRadius(2.289e11);
+    }
+
+    @Benchmark
+    public Object rejectWithException() {
+        return atDepth(stackDepth, () -> {
+            try {
+                return inputHandler.calculate(invalidInput, false);
+            } catch (IllegalArgumentException e) {
+                return inputHandler.reject(e);
+            }
+        });
+    }
+
+    @Benchmark
+    public Object rejectWithValidator() {
+        return atDepth(stackDepth, () -> controller.simpleHohmannTransfer(invalidInput, null));
+    }
+
+    @Benchmark
+    public Object accept() {
+        return atDepth(stackDepth, () -> controller.simpleHohmannTransfer(validInput, null));
+    }
+
+    private static Object atDepth(int depth, Supplier<Object> call) {
+        return depth == 0 ? call.get() : atDepth(depth - 1, call);
+    }
+}
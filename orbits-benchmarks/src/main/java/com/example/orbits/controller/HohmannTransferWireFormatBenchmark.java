@@ -0,0 +1,99 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import com.example.orbits.service.CelestialBodyCatalogConfiguration;
+import com.example.orbits.service.HohmannTransferCache;
+import com.example.orbits.service.HohmannTransferCacheProperties;
+import com.example.orbits.service.HohmannTransferMetrics;
+import com.example.orbits.service.HohmannTransferService;
+import com.example.orbits.service.HohmannTransferType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the JSON and binary wire formats of the batch endpoints, measuring the time needed to process
+ * one batch item: decoding the input, calculating the transfer and encoding the output.
+ * Both paths use the same components as the API controllers, without HTTP; the cache and metrics are disabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HohmannTransferWireFormatBenchmark {
+
+    private static final int ITEMS = 4096;
+
+    private HohmannTransferInputHandler inputHandler;
+    private HohmannTransferBatchStreamer batchStreamer;
+    private HohmannTransferBinaryBatchProcessor binaryBatchProcessor;
+    private byte[] jsonInput;
+    private byte[] binaryInput;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(ITEMS * 128);
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        var cacheProperties = new HohmannTransferCacheProperties();
+        cacheProperties.setEnabled(false);
+        var metrics = HohmannTransferMetrics.disabled();
+        var transferService = new HohmannTransferService(new HohmannTransferCache(cacheProperties), metrics);
+        inputHandler = new HohmannTransferInputHandler(transferService, CelestialBodyCatalogConfiguration.load(objectMapper), metrics);
+        batchStreamer = new HohmannTransferBatchStreamer(objectMapper, metrics);
+        binaryBatchProcessor = new HohmannTransferBinaryBatchProcessor(metrics);
+
+        var random = new SplittableRandom(42);
+        var json = new StringBuilder();
+        var binary = ByteBuffer.allocate(ITEMS * HohmannTransferBinaryCodec.SIMPLE_INPUT_SIZE);
+        for (int i = 0; i < ITEMS; i++) {
+            double r1 = random.nextDouble(5e10, 5e11);
+            double r2 = random.nextDouble(5e10, 5e11);
+            json.append("{\"primaryBodyMass\":1.988E30,\"startingOrbitRadius\":").append(r1)
+                    .append(",\"destinationOrbitRadius\":").append(r2).append("}\n");
+            HohmannTransferBinaryCodec.writeRecord(binary, 1.988e30, r1, r2);
+        }
+        jsonInput = json.toString().getBytes(StandardCharsets.UTF_8);
+        binaryInput = binary.array();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public long json() throws IOException {
+        output.reset();
+        var count = new AtomicLong();
+        batchStreamer.stream(new ByteArrayInputStream(jsonInput), output, true, "simple",
+                SimpleHohmannTransferInput.class, inputHandler::validate, input -> inputHandler.calculate(input, false), count);
+        return count.get();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public long binary() throws IOException {
+        output.reset();
+        var count = new AtomicLong();
+        binaryBatchProcessor.stream(new ByteArrayInputStream(binaryInput), output, HohmannTransferType.SAME_BODY,
+                "simple", count);
+        return count.get();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.orbits.codec;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * HohmannTransferBinaryCodec encodes and decodes the compact binary wire format of the Hohmann transfer API,
+ * used with the {@value #MEDIA_TYPE_VALUE} content type.
+ * <p>
+ * A message is a sequence of fixed-width records without any header or separator. Every record is a sequence
+ * of little-endian IEEE 754 float64 values, in base SI units:
+ * <ul>
+ * <li>simple input ({@value #SIMPLE_INPUT_SIZE} bytes): {@code primaryBodyMass}, {@code startingOrbitRadius},
+ * {@code destinationOrbitRadius};</li>
+ * <li>interplanetary input ({@value #INTERPLANETARY_INPUT_SIZE} bytes): the fields of a simple input, followed by
+ * {@code startingPlanetMass}, {@code startingPlanetOrbitRadius}, {@code destinationPlanetMass},
+ * {@code destinationPlanetOrbitRadius};</li>
+ * <li>output ({@value #OUTPUT_SIZE} bytes): {@code transferTime}, {@code insertionDeltaV}, {@code arrivalDeltaV},
+ * {@code totalDeltaV}. All values are NaN if the corresponding input was rejected.</li>
+ * </ul>
+ * Records are read from and written to NIO buffers directly into columns of primitive values, one column per field,
+ * so no objects are created per record. The byte order of the buffers is ignored, and their positions are advanced
+ * past the processed records. This class has no dependencies outside of the JDK, so it can be used by clients:
+ * <pre>
+ * {@code
+ * ByteBuffer request = ByteBuffer.allocate(n * SIMPLE_INPUT_SIZE);
+ * HohmannTransferBinaryCodec.writeRecords(request, new double[][]{masses, startingRadii, destinationRadii}, 0, n);
+ * // POST request.flip() to /simple/batch with Content-Type: application/x-orbits-float64
+ * double[][] results = new double[OUTPUT_FIELDS][n];
+ * HohmannTransferBinaryCodec.readRecords(response, results, 0, n);
+ * }
+ * </pre>
+ */
+public final class HohmannTransferBinaryCodec {
+
+    /**
+     * The media type of the binary wire format.
+     */
+    public static final String MEDIA_TYPE_VALUE = "application/x-orbits-float64";
+
+    /**
+     * The numbers of fields of simple input, interplanetary input and output records.
+     */
+    public static final int SIMPLE_INPUT_FIELDS = 3;
+    public static final int INTERPLANETARY_INPUT_FIELDS = 7;
+    public static final int OUTPUT_FIELDS = 4;
+
+    /**
+     * The sizes in bytes of simple input, interplanetary input and output records.
+     */
+    public static final int SIMPLE_INPUT_SIZE = SIMPLE_INPUT_FIELDS * Double.BYTES;
+    public static final int INTERPLANETARY_INPUT_SIZE = INTERPLANETARY_INPUT_FIELDS * Double.BYTES;
+    public static final int OUTPUT_SIZE = OUTPUT_FIELDS * Double.BYTES;
+
+    /**
+     * The indices of the fields of output records.
+     */
+    public static final int TRANSFER_TIME = 0;
+    public static final int INSERTION_DELTA_V = 1;
+    public static final int ARRIVAL_DELTA_V = 2;
+    public static final int TOTAL_DELTA_V = 3;
+
+    private static final VarHandle FLOAT64 = MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private HohmannTransferBinaryCodec() {
+    }
+
+    /**
+     * Reads complete records from a buffer into columns, until the buffer contains no complete record
+     * or the requested number of records has been read. An incomplete trailing record is left in the buffer.
+     *
+     * @param buffer  the buffer to read from.
+     * @param columns the columns to write the fields to, one per field of a record.
+     * @param offset  the index in the columns at which the first record is written.
+     * @param count   the maximum number of records to read.
+     * @return The number of records read.
+     */
+    public static int readRecords(ByteBuffer buffer, double[][] columns, int offset, int count) {
+        int fields = columns.length;
+        int recordSize = fields * Double.BYTES;
+        int records = Math.min(count, buffer.remaining() / recordSize);
+        int position = buffer.position();
+        for (int i = offset; i < offset + records; i++) {
+            for (int field = 0; field < fields; field++) {
+                columns[field][i] = (double) FLOAT64.get(buffer, position);
+                position += Double.BYTES;
+            }
+        }
+        buffer.position(position);
+        return records;
+    }
+
+    /**
+     * Writes records from columns into a buffer. The buffer must have enough space for all of the records.
+     *
+     * @param buffer  the buffer to write to.
+     * @param columns the columns to read the fields from, one per field of a record.
+     * @param from    the index of the first record to write (inclusive).
+     * @param to      the index of the last record to write (exclusive).
+     */
+    public static void writeRecords(ByteBuffer buffer, double[][] columns, int from, int to) {
+        int fields = columns.length;
+        int position = buffer.position();
+        if (buffer.remaining() < (to - from) * fields * Double.BYTES) {
+            throw new IllegalArgumentException("Buffer is too small for " + (to - from) + " records");
+        }
+        for (int i = from; i < to; i++) {
+            for (int field = 0; field < fields; field++) {
+                FLOAT64.set(buffer, position, columns[field][i]);
+                position += Double.BYTES;
+            }
+        }
+        buffer.position(position);
+    }
+
+    /**
+     * Reads a single record from a buffer.
+     *
+     * @param buffer the buffer to read from.
+     * @param values the array to write the fields of the record to.
+     * @throws IllegalArgumentException if the buffer does not contain a complete record.
+     */
+    public static void readRecord(ByteBuffer buffer, double[] values) {
+        if (buffer.remaining() < values.length * Double.BYTES) {
+            throw new IllegalArgumentException("Buffer does not contain a complete record");
+        }
+        int position = buffer.position();
+        for (int field = 0; field < values.length; field++) {
+            values[field] = (double) FLOAT64.get(buffer, position);
+            position += Double.BYTES;
+        }
+        buffer.position(position);
+    }
+
+    /**
+     * Writes a single record into a buffer.
+     *
+     * @param buffer the buffer to write to.
+     * @param values the fields of the record.
+     */
+    public static void writeRecord(ByteBuffer buffer, double... values) {
+        if (buffer.remaining() < values.length * Double.BYTES) {
+            throw new IllegalArgumentException("Buffer is too small for a record");
+        }
+        int position = buffer.position();
+        for (double value : values) {
+            FLOAT64.set(buffer, position, value);
+            position += Double.BYTES;
+        }
+        buffer.position(position);
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.orbits.model;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 /**
  * A simple data class for modeling celestial bodies.
@@ -16,6 +18,13 @@ public class CelestialBody {
     private final String name;
     private final double mass;
 
+    /**
+     * The standard gravitational parameter (mu) of this body, derived from its mass.
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final double standardGravitationalParameter;
+
     /**
      * Orbit associated with this body.
      */
@@ -33,14 +42,26 @@ public class CelestialBody {
         }
         this.name = name;
         this.mass = mass;
+        this.standardGravitationalParameter = standardGravitationalParameter(mass);
     }
 
     /**
-     * Calculates the standard gravitational parameter (mu) of this body.
+     * Returns the standard gravitational parameter (mu) of this body, which is calculated once, when the body is created.
      *
      * @return The standard gravitational parameter of this body.
      */
     public double getStandardGravitationalParameter() {
+        return standardGravitationalParameter;
+    }
+
+    /**
+     * Calculates the standard gravitational parameter (mu) of a body of the given mass,
+     * without creating a celestial body object. The mass is not validated.
+     *
+     * @param mass the mass of the body (in kilograms).
+     * @return The standard gravitational parameter of the body.
+     */
+    public static double standardGravitationalParameter(double mass) {
         return G * mass;
     }
 }
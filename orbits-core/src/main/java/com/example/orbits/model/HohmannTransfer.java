@@ -0,0 +1,36 @@
+package com.example.orbits.model;
+
+import lombok.Value;
+
+/**
+ * An immutable data class holding the calculated parameters of a Hohmann transfer.
+ * All values are expressed in base SI units.
+ */
+@Value
+public class HohmannTransfer {
+
+    /**
+     * Duration of the Hohmann transfer.
+     */
+    double transferTime;
+
+    /**
+     * Delta-V needed to enter the transfer orbit from the starting orbit.
+     */
+    double insertionDeltaV;
+
+    /**
+     * Delta-V needed to leave the transfer orbit to the destination orbit.
+     */
+    double arrivalDeltaV;
+
+    /**
+     * Returns the total delta-V needed for the Hohmann transfer.
+     * Specifically, returns the sum of the insertion delta-V and the arrival delta-V.
+     *
+     * @return The total delta-V needed for the Hohmann transfer.
+     */
+    public double getTotalDeltaV() {
+        return insertionDeltaV + arrivalDeltaV;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.orbits.model;
+
+import lombok.Value;
+
+/**
+ * An immutable data class describing the cheapest transfer between two circular orbits around the same primary body,
+ * either a Hohmann transfer or a bi-elliptic transfer. All values are expressed in base SI units.
+ */
+@Value
+public class TransferPlan {
+
+    /**
+     * The kinds of transfers which may be planned.
+     */
+    public enum Strategy {
+
+        /**
+         * A Hohmann transfer along a single half-ellipse.
+         */
+        HOHMANN,
+
+        /**
+         * A bi-elliptic transfer along two half-ellipses joined at an intermediate radius beyond both orbits.
+         */
+        BI_ELLIPTIC
+    }
+
+    /**
+     * The kind of the planned transfer.
+     */
+    Strategy strategy;
+
+    /**
+     * The largest distance from the primary body reached during the transfer: the intermediate radius
+     * of a bi-elliptic transfer, or the larger of the two orbit radii for a Hohmann transfer.
+     */
+    double intermediateRadius;
+
+    /**
+     * Duration of the planned transfer.
+     */
+    double transferTime;
+
+    /**
+     * Total delta-V of all burns of the planned transfer.
+     */
+    double totalDeltaV;
+
+    /**
+     * Total delta-V of the Hohmann transfer between the same orbits, for comparison.
+     */
+    double hohmannDeltaV;
+}
@@ -0,0 +1,170 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.Orbit;
+import lombok.Data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A catalog of well-known celestial bodies, such as the Sun, the planets and their major moons.
+ * <p>
+ * The catalog is loaded once, at startup, from the {@value #RESOURCE} resource file. The file is a JSON array
+ * of {@link Entry entries}; this module has no dependencies, so the JSON parser is supplied by the caller
+ * as an {@link EntryReader}. Every body which has a parent
+ * body in the catalog is assigned an orbit around that parent, so that bodies from the catalog can be used directly
+ * in both same-body and interplanetary Hohmann transfer calculations.
+ * <p>
+ * Bodies returned by the catalog are shared between all callers, so they are read-only:
+ * {@link CelestialBody#setOrbit} throws an {@link UnsupportedOperationException} for every body of the catalog.
+ * Their standard gravitational parameters are calculated once, when the catalog is loaded.
+ */
+public class CelestialBodyCatalog {
+
+    /**
+     * The name of the class path resource containing the catalog.
+     */
+    public static final String RESOURCE = "catalog/celestial-bodies.json";
+
+    private final Map<String, CelestialBody> bodies;
+
+    /**
+     * Creates a catalog of the given entries.
+     *
+     * @param entries the definitions of the bodies in the catalog.
+     * @throws IllegalStateException if the entries contain duplicate names or invalid orbits.
+     */
+    public CelestialBodyCatalog(Entry[] entries) {
+        this.bodies = load(entries);
+    }
+
+    /**
+     * Loads the catalog from the {@value #RESOURCE} resource file.
+     *
+     * @param reader the JSON parser used to read the entries from the resource file.
+     * @return The loaded catalog.
+     * @throws UncheckedIOException if the resource file cannot be read.
+     */
+    public static CelestialBodyCatalog load(EntryReader reader) {
+        try (InputStream input = CelestialBodyCatalog.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (input == null) {
+                throw new IOException("Resource not found: " + RESOURCE);
+            }
+            return new CelestialBodyCatalog(reader.read(input));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load celestial body catalog", e);
+        }
+    }
+
+    /**
+     * Finds a celestial body in the catalog. Names are not case-sensitive.
+     *
+     * @param name the name of the body to find.
+     * @return The body with the given name, or an empty optional if the catalog does not contain such a body.
+     */
+    public Optional<CelestialBody> find(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(bodies.get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Returns a celestial body from the catalog. Names are not case-sensitive.
+     *
+     * @param name the name of the body to return.
+     * @return The body with the given name.
+     * @throws UnknownCelestialBodyException if the catalog does not contain a body with the given name.
+     */
+    public CelestialBody get(String name) {
+        return find(name).orElseThrow(() -> new UnknownCelestialBodyException(name));
+    }
+
+    /**
+     * Returns all celestial bodies in the catalog, in the order in which they are defined.
+     *
+     * @return An unmodifiable collection of all bodies in the catalog.
+     */
+    public Collection<CelestialBody> getBodies() {
+        return bodies.values();
+    }
+
+    private static Map<String, CelestialBody> load(Entry[] entries) {
+        Map<String, CelestialBody> bodies = new LinkedHashMap<>();
+        for (var entry : entries) {
+            var key = entry.getName().toLowerCase(Locale.ROOT);
+            if (bodies.put(key, new CatalogBody(entry.getName(), entry.getMass())) != null) {
+                throw new IllegalStateException("Duplicate celestial body in catalog: " + entry.getName());
+            }
+        }
+        for (var entry : entries) {
+            if (entry.getParent() != null) {
+                var parent = bodies.get(entry.getParent().toLowerCase(Locale.ROOT));
+                if (parent == null || entry.getOrbitRadius() == null) {
+                    throw new IllegalStateException("Invalid orbit of celestial body in catalog: " + entry.getName());
+                }
+                bodies.get(entry.getName().toLowerCase(Locale.ROOT)).setOrbit(new Orbit(entry.getOrbitRadius(), parent));
+            }
+        }
+        for (var body : bodies.values()) {
+            ((CatalogBody) body).readOnly = true;
+        }
+        return Collections.unmodifiableMap(bodies);
+    }
+
+    /**
+     * A body of the catalog, whose orbit cannot be changed once the catalog has been loaded.
+     * It is equal to a {@link CelestialBody} with the same properties.
+     */
+    private static final class CatalogBody extends CelestialBody {
+
+        private boolean readOnly;
+
+        CatalogBody(String name, double mass) {
+            super(name, mass);
+        }
+
+        @Override
+        public void setOrbit(Orbit orbit) {
+            if (readOnly) {
+                throw new UnsupportedOperationException("Celestial bodies of the catalog cannot be modified");
+            }
+            super.setOrbit(orbit);
+        }
+    }
+
+    /**
+     * The definition of a single body in the catalog file.
+     */
+    @Data
+    public static class Entry {
+        private String name;
+        private double mass;
+        private String parent;
+        private Double orbitRadius;
+    }
+
+    /**
+     * Reads catalog entries from a JSON array.
+     */
+    @FunctionalInterface
+    public interface EntryReader {
+
+        /**
+         * Reads catalog entries from the given input.
+         *
+         * @param input the input containing a JSON array of entries.
+         * @return The entries read from the input.
+         * @throws IOException if the input cannot be read or parsed.
+         */
+        Entry[] read(InputStream input) throws IOException;
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.HohmannTransfer;
+import com.example.orbits.model.Orbit;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * HohmannTransferCalculator is a class which allows to calculate parameters of Hohmann transfer orbital maneuvers.
+ * When both the starting and destination orbits are provided, {@link #calculate} method can be used
+ * to obtain and store the results in an instance of this class.
+ * <p>
+ * The starting orbit's primary body must be the same as the destination orbit's primary body,
+ * or the starting orbit's primary body must orbit the same body as the destination orbit's primary body
+ * (for example: two orbits around different planets that orbit the same star).
+ * If this condition is not met, calculations cannot be performed.
+ * <p>
+ * Instances of this class store both the input data and the results, so they must not be shared between threads.
+ * The stateless {@link #calculateTransfer} method should be used instead whenever calculations
+ * may be performed concurrently.
+ */
+public class HohmannTransferCalculator {
+
+    /**
+     * The starting orbit of the Hohmann transfer to calculate.
+     */
+    @Getter
+    private Orbit startingOrbit;
+
+    /**
+     * The destination orbit of the Hohmann transfer to calculate.
+     */
+    @Getter
+    private Orbit destinationOrbit;
+
+    private double transferTime;
+    private double insertionDeltaV;
+    private double arrivalDeltaV;
+
+    /**
+     * Creates a calculator object with no data.
+     * To perform calculations, the input data must be set.
+     */
+    public HohmannTransferCalculator() {
+    }
+
+    /**
+     * Creates a calculator object and initializes the input data.
+     *
+     * @param startingOrbit    the starting orbit for the Hohmann transfer calculation.
+     * @param destinationOrbit the destination orbit for the Hohmann transfer calculation.
+     * @see #setStartingOrbit
+     * @see #setDestinationOrbit
+     */
+    public HohmannTransferCalculator(Orbit startingOrbit, Orbit destinationOrbit) {
+        this();
+        this.startingOrbit = startingOrbit;
+        this.destinationOrbit = destinationOrbit;
+    }
+
+    /**
+     * Sets the starting orbit for the Hohmann transfer calculation.
+     * The starting orbit's primary body must be the same as the destination orbit's primary body,
+     * or the starting orbit's primary body must orbit the same body as the destination orbit's primary body
+     * (for example: two orbits around different planets that orbit the same star).
+     * If this condition is not met, calculations cannot be performed.
+     *
+     * @param startingOrbit the new starting orbit data.
+     */
+    public void setStartingOrbit(Orbit startingOrbit) {
+        this.startingOrbit = startingOrbit;
+    }
+
+    /**
+     * Sets the destination orbit for the Hohmann transfer calculation.
+     * The destination orbit's primary body must be the same as the starting orbit's primary body,
+     * or the destination orbit's primary body must orbit the same body as the starting orbit's primary body
+     * (for example: two orbits around different planets that orbit the same star).
+     * If this condition is not met, calculations cannot be performed.
+     *
+     * @param destinationOrbit the new destination orbit data.
+     */
+    public void setDestinationOrbit(Orbit destinationOrbit) {
+        this.destinationOrbit = destinationOrbit;
+    }
+
+    /**
+     * Returns the duration of the most recently calculated Hohmann transfer.
+     *
+     * @return Duration of the Hohmann transfer.
+     */
+    public double getTransferTime() {
+        return transferTime;
+    }
+
+    /**
+     * Returns the most recently calculated delta-V needed to enter the transfer orbit from the starting orbit.
+     *
+     * @return The delta-V needed to enter the transfer orbit.
+     */
+    public double getInsertionDeltaV() {
+        return insertionDeltaV;
+    }
+
+    /**
+     * Returns the most recently calculated delta-V needed to leave the transfer orbit to the destination orbit.
+     *
+     * @return The delta-V needed to leave the transfer orbit.
+     */
+    public double getArrivalDeltaV() {
+        return arrivalDeltaV;
+    }
+
+    /**
+     * Returns the total delta-V needed for the most recently calculated Hohmann transfer.
+     * Specifically, returns the sum of the insertion delta-V and the arrival delta-V.
+     *
+     * @return The total delta-V needed for the Hohmann transfer.
+     */
+    public double getTotalDeltaV() {
+        return insertionDeltaV + arrivalDeltaV;
+    }
+
+    /**
+     * Calculates the parameters of the Hohmann transfer defined by starting and destination orbits.
+     * All results can be then accessed from the respective getter methods until the next call of this method.
+     *
+     * @throws IllegalStateException if some of the input parameters have not been specified,
+     *                               or if the conditions described in {@link #setStartingOrbit}
+     *                               and {@link #setDestinationOrbit} are not met.
+     */
+    public void calculate() {
+        if (startingOrbit == null || destinationOrbit == null) {
+            throw new IllegalStateException("Orbit data required for calculation has not been set");
+        }
+
+        var transfer = calculateTransfer(startingOrbit, destinationOrbit);
+        transferTime = transfer.getTransferTime();
+        insertionDeltaV = transfer.getInsertionDeltaV();
+        arrivalDeltaV = transfer.getArrivalDeltaV();
+    }
+
+    /**
+     * Calculates the parameters of the Hohmann transfer defined by the given starting and destination orbits.
+     * This method does not depend on any shared state, so it can be safely called from multiple threads at once.
+     *
+     * @param startingOrbit    the starting orbit of the Hohmann transfer.
+     * @param destinationOrbit the destination orbit of the Hohmann transfer.
+     * @return Calculated parameters of the Hohmann transfer.
+     * @throws IllegalStateException if the conditions described in {@link #setStartingOrbit}
+     *                               and {@link #setDestinationOrbit} are not met.
+     */
+    public static HohmannTransfer calculateTransfer(@NonNull Orbit startingOrbit, @NonNull Orbit destinationOrbit) {
+        return calculateTransfer(classify(startingOrbit, destinationOrbit), startingOrbit, destinationOrbit);
+    }
+
+    /**
+     * Determines the type of the Hohmann transfer defined by the given starting and destination orbits.
+     *
+     * @param startingOrbit    the starting orbit of the Hohmann transfer.
+     * @param destinationOrbit the destination orbit of the Hohmann transfer.
+     * @return The type of the Hohmann transfer.
+     * @throws IllegalStateException if the conditions described in {@link #setStartingOrbit}
+     *                               and {@link #setDestinationOrbit} are not met.
+     */
+    public static HohmannTransferType classify(@NonNull Orbit startingOrbit, @NonNull Orbit destinationOrbit) {
+        var startingOrbitBody = startingOrbit.getPrimaryBody();
+        var destinationOrbitBody = destinationOrbit.getPrimaryBody();
+        if (startingOrbitBody.equals(destinationOrbitBody)) {
+            return HohmannTransferType.SAME_BODY;
+        } else if (areSiblings(startingOrbitBody, destinationOrbitBody)) {
+            return HohmannTransferType.INTERPLANETARY;
+        } else {
+            throw new IllegalStateException("Orbit data required for calculation is not valid");
+        }
+    }
+
+    /**
+     * Checks whether orbits around the given bodies meet the conditions described in {@link #setStartingOrbit}
+     * and {@link #setDestinationOrbit}, without throwing an exception if they do not.
+     *
+     * @param startingBody    the primary body of the starting orbit.
+     * @param destinationBody the primary body of the destination orbit.
+     * @return True if {@link #classify} accepts orbits around the given bodies.
+     */
+    public static boolean canTransfer(@NonNull CelestialBody startingBody, @NonNull CelestialBody destinationBody) {
+        return startingBody.equals(destinationBody) || areSiblings(startingBody, destinationBody);
+    }
+
+    /**
+     * Checks whether one of the given bodies orbits the other (for example: a planet and one of its moons),
+     * so that {@link #calculateMoonTransfer} accepts orbits around them.
+     *
+     * @param startingBody    the primary body of the starting orbit.
+     * @param destinationBody the primary body of the destination orbit.
+     * @return True if either body orbits the other.
+     */
+    public static boolean isMoonTransfer(@NonNull CelestialBody startingBody, @NonNull CelestialBody destinationBody) {
+        return orbits(startingBody, destinationBody) || orbits(destinationBody, startingBody);
+    }
+
+    /**
+     * Calculates the parameters of a Hohmann transfer between an orbit around a planet and an orbit around one
+     * of its moons, in either direction. The transfer between the orbit around the planet and the orbit of the moon
+     * is a Hohmann transfer around the planet, and the orbit around the moon is entered or left
+     * on a hyperbolic trajectory, like the orbits of an interplanetary transfer.
+     * This method does not depend on any shared state, so it can be safely called from multiple threads at once.
+     *
+     * @param startingOrbit    the starting orbit of the Hohmann transfer.
+     * @param destinationOrbit the destination orbit of the Hohmann transfer.
+     * @return Calculated parameters of the Hohmann transfer.
+     * @throws IllegalStateException if neither primary body orbits the other.
+     * @see #isMoonTransfer
+     */
+    public static HohmannTransfer calculateMoonTransfer(@NonNull Orbit startingOrbit, @NonNull Orbit destinationOrbit) {
+        var startingOrbitBody = startingOrbit.getPrimaryBody();
+        var destinationOrbitBody = destinationOrbit.getPrimaryBody();
+        if (orbits(destinationOrbitBody, startingOrbitBody)) {
+            var planetTransfer = calculateOrbitTransfer(startingOrbit, destinationOrbitBody.getOrbit());
+            double arrivalDeltaV = HohmannTransferKernel.hyperbolicDeltaV(planetTransfer.getArrivalDeltaV(),
+                    destinationOrbit.getStandardGravitationalParameter(), destinationOrbit.getRadius());
+            return new HohmannTransfer(planetTransfer.getTransferTime(), planetTransfer.getInsertionDeltaV(), arrivalDeltaV);
+        } else if (orbits(startingOrbitBody, destinationOrbitBody)) {
+            var planetTransfer = calculateOrbitTransfer(startingOrbitBody.getOrbit(), destinationOrbit);
+            double insertionDeltaV = HohmannTransferKernel.hyperbolicDeltaV(planetTransfer.getInsertionDeltaV(),
+                    startingOrbit.getStandardGravitationalParameter(), startingOrbit.getRadius());
+            return new HohmannTransfer(planetTransfer.getTransferTime(), insertionDeltaV, planetTransfer.getArrivalDeltaV());
+        } else {
+            throw new IllegalStateException("Orbit data required for calculation is not valid");
+        }
+    }
+
+    private static boolean orbits(CelestialBody moon, CelestialBody planet) {
+        return moon.getOrbit() != null && moon.getOrbit().getPrimaryBody().equals(planet);
+    }
+
+    private static boolean areSiblings(CelestialBody startingBody, CelestialBody destinationBody) {
+        return startingBody.getOrbit() != null && destinationBody.getOrbit() != null
+                && startingBody.getOrbit().getPrimaryBody().equals(destinationBody.getOrbit().getPrimaryBody());
+    }
+
+    /**
+     * Calculates the parameters of a Hohmann transfer of an already determined type.
+     *
+     * @param type             the type of the Hohmann transfer, as returned by {@link #classify}.
+     * @param startingOrbit    the starting orbit of the Hohmann transfer.
+     * @param destinationOrbit the destination orbit of the Hohmann transfer.
+     * @return Calculated parameters of the Hohmann transfer.
+     */
+    static HohmannTransfer calculateTransfer(HohmannTransferType type, Orbit startingOrbit, Orbit destinationOrbit) {
+        switch (type) {
+            case SAME_BODY:
+                return calculateOrbitTransfer(startingOrbit, destinationOrbit);
+            case INTERPLANETARY:
+                return calculateInterplanetaryTransfer(startingOrbit, destinationOrbit);
+            default:
+                throw new IllegalArgumentException("Unsupported transfer type: " + type);
+        }
+    }
+
+    private static HohmannTransfer calculateOrbitTransfer(Orbit startingOrbit, Orbit destinationOrbit) {
+        double r1 = startingOrbit.getRadius();
+        double r2 = destinationOrbit.getRadius();
+        double mu = startingOrbit.getStandardGravitationalParameter();
+        return new HohmannTransfer(
+                HohmannTransferKernel.transferTime(mu, r1, r2),
+                HohmannTransferKernel.insertionDeltaV(mu, r1, r2),
+                HohmannTransferKernel.arrivalDeltaV(destinationOrbit.getStandardGravitationalParameter(), r1, r2));
+    }
+
+    private static HohmannTransfer calculateInterplanetaryTransfer(Orbit startingOrbit, Orbit destinationOrbit) {
+        Orbit startingPlanetOrbit = startingOrbit.getPrimaryBody().getOrbit();
+        Orbit destinationPlanetOrbit = destinationOrbit.getPrimaryBody().getOrbit();
+        var planetTransfer = calculateOrbitTransfer(startingPlanetOrbit, destinationPlanetOrbit);
+
+        double insertionDeltaV = HohmannTransferKernel.hyperbolicDeltaV(planetTransfer.getInsertionDeltaV(),
+                startingOrbit.getStandardGravitationalParameter(), startingOrbit.getRadius());
+        double arrivalDeltaV = HohmannTransferKernel.hyperbolicDeltaV(planetTransfer.getArrivalDeltaV(),
+                destinationOrbit.getStandardGravitationalParameter(), destinationOrbit.getRadius());
+        return new HohmannTransfer(planetTransfer.getTransferTime(), insertionDeltaV, arrivalDeltaV);
+    }
+}
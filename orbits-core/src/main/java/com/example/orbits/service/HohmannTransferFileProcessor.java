@@ -0,0 +1,331 @@
+package com.example.orbits.service;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static com.example.orbits.codec.HohmannTransferBinaryCodec.*;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * HohmannTransferFileProcessor calculates files of records in the binary format described
+ * in {@link HohmannTransferBinaryCodec}, which may be much larger than the available memory.
+ * <p>
+ * The input file is processed in groups of chunks. The records of a group are memory-mapped from the input file
+ * and to the output file, and its chunks are calculated in parallel by {@link HohmannTransferRecordCalculator}s,
+ * so neither file is ever read into the heap. The output file contains an output record for every input record,
+ * in the same order. Chunks and groups are limited to the number of input records, and to as many records
+ * as can be mapped at once from either file.
+ * <p>
+ * After each group has been written to the storage device, the number of completed records is stored
+ * in a checkpoint file next to the output file. A processor created for the same input, output and parameters
+ * resumes after the last completed group, so an interrupted job does not start over. The checkpoint also records
+ * the size and modification time of the input file, so it is discarded if the input file has been replaced.
+ * <p>
+ * The chunks of a group are calculated locally by default. A {@link GroupCalculator} can calculate them elsewhere,
+ * e.g. on other machines; the checkpoints do not depend on it, so a processor may resume the checkpoint of a processor
+ * with a different calculator.
+ * <p>
+ * Instances are meant to be {@linkplain #run run} by a single thread at a time; the progress can be read
+ * from any thread.
+ */
+public final class HohmannTransferFileProcessor {
+
+    /**
+     * The suffix appended to the name of the output file to obtain the name of the checkpoint file.
+     */
+    public static final String CHECKPOINT_SUFFIX = ".checkpoint";
+
+    private static final int MAX_MAPPED_BYTES = Integer.MAX_VALUE;
+
+    /**
+     * Calculates the chunks of a group of records.
+     */
+    @FunctionalInterface
+    public interface GroupCalculator {
+
+        /**
+         * Calculates the chunks of a group. The input records of every chunk have to be calculated into
+         * the output buffer with the same index, which has room for exactly one output record per input record.
+         * The method returns once all chunks have been calculated.
+         *
+         * @param inputs  the input records of every chunk.
+         * @param outputs the output buffers of every chunk.
+         * @throws IOException if some chunks could not be calculated.
+         */
+        void calculate(ByteBuffer[] inputs, ByteBuffer[] outputs) throws IOException;
+    }
+
+    private final Path input;
+    private final Path output;
+    private final Path checkpoint;
+    private final HohmannTransferType type;
+    private final int chunkRecords;
+    private final int groupRecords;
+    private final int inputSize;
+    private final long recordCount;
+    private final long inputModified;
+    private final GroupCalculator calculator;
+    private volatile long completedRecords;
+
+    /**
+     * Creates a processor, resuming after the last checkpoint stored for the same files and parameters, if any.
+     *
+     * @param input        the file containing input records.
+     * @param output       the file to write output records to.
+     * @param type         the type of transfers described by the input records.
+     * @param chunkRecords the number of records calculated at once by a single thread.
+     * @param parallelism  the number of chunks calculated in parallel, between two checkpoints.
+     * @throws IOException              if the input file cannot be read.
+     * @throws IllegalArgumentException if the size of the input file is not a multiple of the size of an input record,
+     *                                  or the chunk size or parallelism is not greater than 0.
+     */
+    public HohmannTransferFileProcessor(Path input, Path output, HohmannTransferType type,
+                                        int chunkRecords, int parallelism) throws IOException {
+        this(input, output, type, chunkRecords, parallelism, null);
+    }
+
+    /**
+     * Creates a processor which calculates its chunks with the given calculator, resuming after the last checkpoint
+     * stored for the same files and parameters, if any.
+     *
+     * @param input        the file containing input records.
+     * @param output       the file to write output records to.
+     * @param type         the type of transfers described by the input records.
+     * @param chunkRecords the maximum number of records in a chunk.
+     * @param parallelism  the number of chunks in a group, between two checkpoints.
+     * @param calculator   the calculator of the groups of chunks, or null to calculate them locally, in parallel.
+     * @throws IOException              if the input file cannot be read.
+     * @throws IllegalArgumentException if the size of the input file is not a multiple of the size of an input record,
+     *                                  or the chunk size or parallelism is not greater than 0.
+     */
+    public HohmannTransferFileProcessor(Path input, Path output, HohmannTransferType type,
+                                        int chunkRecords, int parallelism, GroupCalculator calculator) throws IOException {
+        if (chunkRecords <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Chunk size and parallelism must be greater than 0");
+        }
+        this.input = input;
+        this.output = output;
+        this.checkpoint = output.resolveSibling(output.getFileName() + CHECKPOINT_SUFFIX);
+        this.type = type;
+        this.inputSize = HohmannTransferRecordCalculator.inputSize(type);
+        long size = Files.size(input);
+        if (size % inputSize != 0) {
+            throw new IllegalArgumentException("Input file size is not a multiple of the record size " + inputSize);
+        }
+        this.recordCount = size / inputSize;
+        long maxRecords = Math.max(1L, Math.min(recordCount, MAX_MAPPED_BYTES / Math.max(inputSize, OUTPUT_SIZE)));
+        this.chunkRecords = (int) Math.min(chunkRecords, maxRecords);
+        this.groupRecords = (int) Math.min((long) this.chunkRecords * parallelism, maxRecords);
+        this.inputModified = Files.getLastModifiedTime(input).toMillis();
+        this.calculator = calculator != null ? calculator : localCalculator();
+        this.completedRecords = readCheckpoint();
+    }
+
+    /**
+     * Returns the number of records in the input file.
+     *
+     * @return The number of input records.
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the number of records which have been calculated and stored in a checkpoint.
+     *
+     * @return The number of completed records.
+     */
+    public long getCompletedRecords() {
+        return completedRecords;
+    }
+
+    /**
+     * Returns the checkpoint file of this processor.
+     *
+     * @return The path of the checkpoint file.
+     */
+    public Path getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Calculates all records which have not been completed yet.
+     *
+     * @param stopped checked before each group of chunks; when it returns true, the processing stops
+     *                and can be resumed from the last checkpoint.
+     * @return True if all records have been completed, false if the processing has been stopped.
+     * @throws IOException if reading the input file, writing the output or checkpoint file, or calculating a group fails.
+     */
+    public boolean run(BooleanSupplier stopped) throws IOException {
+        try (var inputChannel = FileChannel.open(input, READ);
+             var outputChannel = FileChannel.open(output, READ, WRITE, CREATE)) {
+            if (completedRecords == 0) {
+                outputChannel.truncate(0);
+            }
+            while (completedRecords < recordCount) {
+                if (stopped.getAsBoolean()) {
+                    return false;
+                }
+                long first = completedRecords;
+                int records = (int) Math.min(groupRecords, recordCount - first);
+                MappedByteBuffer inputBuffer = inputChannel.map(FileChannel.MapMode.READ_ONLY, first * inputSize, (long) records * inputSize);
+                MappedByteBuffer outputBuffer = outputChannel.map(FileChannel.MapMode.READ_WRITE, first * OUTPUT_SIZE, (long) records * OUTPUT_SIZE);
+                int chunks = (records + chunkRecords - 1) / chunkRecords;
+                var inputs = new ByteBuffer[chunks];
+                var outputs = new ByteBuffer[chunks];
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    int from = chunk * chunkRecords;
+                    int to = Math.min(from + chunkRecords, records);
+                    inputs[chunk] = slice(inputBuffer, from * inputSize, to * inputSize);
+                    outputs[chunk] = slice(outputBuffer, from * OUTPUT_SIZE, to * OUTPUT_SIZE);
+                }
+                calculator.calculate(inputs, outputs);
+                outputBuffer.force();
+                writeCheckpoint(first + records);
+                completedRecords = first + records;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Converts a CSV file into a file of binary input records. Every line of the CSV file must contain
+     * the fields of an input record, in the order described in {@link HohmannTransferBinaryCodec}.
+     * A header line and blank lines are skipped. The records are written to a temporary file, which replaces
+     * the binary file atomically once the conversion has succeeded, so the binary file is never incomplete.
+     *
+     * @param csv    the CSV file to convert.
+     * @param binary the file to write the binary input records to.
+     * @param type   the type of transfers described by the records.
+     * @return The number of converted records.
+     * @throws IOException              if reading the CSV file or writing the binary file fails.
+     * @throws IllegalArgumentException if a line of the CSV file does not contain a valid record.
+     */
+    public static long convertCsv(Path csv, Path binary, HohmannTransferType type) throws IOException {
+        int fields = type == HohmannTransferType.INTERPLANETARY ? INTERPLANETARY_INPUT_FIELDS : SIMPLE_INPUT_FIELDS;
+        double[] values = new double[fields];
+        var buffer = ByteBuffer.allocate(1024 * fields * Double.BYTES);
+        long count = 0;
+        int lineNumber = 0;
+        Path temporary = Files.createTempFile(binary.toAbsolutePath().getParent(), binary.getFileName().toString(), ".tmp");
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8);
+             OutputStream writer = Files.newOutputStream(temporary)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                if (columns.length != fields) {
+                    throw new IllegalArgumentException("Line " + lineNumber + " does not contain " + fields + " fields");
+                }
+                try {
+                    for (int field = 0; field < fields; field++) {
+                        values[field] = Double.parseDouble(columns[field].trim());
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Line " + lineNumber + " contains an invalid number", e);
+                }
+                if (!buffer.hasRemaining()) {
+                    writer.write(buffer.array(), 0, buffer.position());
+                    buffer.clear();
+                }
+                writeRecord(buffer, values);
+                count++;
+            }
+            writer.write(buffer.array(), 0, buffer.position());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, binary, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return count;
+    }
+
+    /**
+     * Returns a calculator which calculates the chunks of a group in parallel, reusing one record calculator per chunk.
+     */
+    private GroupCalculator localCalculator() {
+        var calculators = new HohmannTransferRecordCalculator[groupRecords / chunkRecords + 1];
+        return (inputs, outputs) -> IntStream.range(0, inputs.length).parallel().forEach(chunk -> {
+            if (calculators[chunk] == null) {
+                calculators[chunk] = new HohmannTransferRecordCalculator(type, chunkRecords);
+            }
+            calculators[chunk].calculate(inputs[chunk], outputs[chunk]);
+        });
+    }
+
+    private static boolean isHeader(String line) {
+        try {
+            Double.parseDouble(line.split(",", 2)[0].trim());
+            return false;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int from, int to) {
+        return buffer.duplicate().position(from).limit(to).slice();
+    }
+
+    /**
+     * Reads the number of completed records from the checkpoint file, if it has been written for the same input
+     * and parameters, and the output file still contains the completed records.
+     */
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpoint) || !Files.exists(output)) {
+            return 0;
+        }
+        var properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(checkpoint, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+        if (!checkpointProperties(0).entrySet().stream()
+                .filter(entry -> !entry.getKey().equals("completedRecords"))
+                .allMatch(entry -> entry.getValue().equals(properties.get(entry.getKey())))) {
+            return 0;
+        }
+        try {
+            long completed = Long.parseLong(properties.getProperty("completedRecords"));
+            return completed <= recordCount && Files.size(output) >= completed * OUTPUT_SIZE ? completed : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void writeCheckpoint(long completed) throws IOException {
+        Path temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            checkpointProperties(completed).store(writer, null);
+        }
+        Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Properties checkpointProperties(long completed) {
+        var properties = new Properties();
+        properties.setProperty("input", input.toAbsolutePath().normalize().toString());
+        properties.setProperty("type", type.name());
+        properties.setProperty("recordCount", Long.toString(recordCount));
+        properties.setProperty("inputSize", Long.toString(recordCount * inputSize));
+        properties.setProperty("inputModified", Long.toString(inputModified));
+        properties.setProperty("completedRecords", Long.toString(completed));
+        return properties;
+    }
+}
@@ -0,0 +1,359 @@
+package com.example.orbits.service;
+
+import lombok.AllArgsConstructor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * HohmannTransferKernel provides Hohmann transfer calculations over columns of primitive values.
+ * <p>
+ * Batch methods of this class take input parameters as {@code double[]} columns, where the i-th element
+ * of every column describes the i-th transfer, and write the results into preallocated output columns.
+ * No objects are created for individual transfers, and large batches are split between the cores
+ * of the common fork-join pool.
+ * <p>
+ * The per-element methods of this class are also used by {@link HohmannTransferCalculator},
+ * so both produce identical results for the same input values.
+ * <p>
+ * Input values are not validated: all gravitational parameters and radii are expected to be greater than 0.
+ * All input and output values are expressed in base SI units.
+ */
+public final class HohmannTransferKernel {
+
+    /**
+     * The number of transfers below which a batch is no longer split between parallel tasks.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 12;
+
+    /**
+     * The maximum number of iterations of {@link #eccentricAnomaly}, enough for bisection alone
+     * to narrow the initial bracket below the resolution of {@code double} values.
+     */
+    static final int KEPLER_MAX_ITERATIONS = 64;
+
+    private static final double KEPLER_TOLERANCE = 1e-12;
+    private static final double TWO_PI = 2d * Math.PI;
+
+    private HohmannTransferKernel() {
+    }
+
+    /**
+     * Calculates the duration of a Hohmann transfer between two orbits around the same primary body.
+     *
+     * @param mu the standard gravitational parameter of the primary body.
+     * @param r1 the radius of the starting orbit.
+     * @param r2 the radius of the destination orbit.
+     * @return The duration of the Hohmann transfer.
+     */
+    public static double transferTime(double mu, double r1, double r2) {
+        double semiMajorAxis = (r1 + r2) / 2d;
+        return Math.PI * Math.sqrt(semiMajorAxis * semiMajorAxis * semiMajorAxis / mu);
+    }
+
+    /**
+     * Calculates the delta-V needed to enter the transfer orbit of a Hohmann transfer
+     * between two orbits around the same primary body.
+     *
+     * @param mu the standard gravitational parameter of the primary body.
+     * @param r1 the radius of the starting orbit.
+     * @param r2 the radius of the destination orbit.
+     * @return The delta-V needed to enter the transfer orbit.
+     */
+    public static double insertionDeltaV(double mu, double r1, double r2) {
+        double semiMajorAxis = (r1 + r2) / 2d;
+        return Math.sqrt(mu / r1) * Math.abs(1d - Math.sqrt(r2 / semiMajorAxis));
+    }
+
+    /**
+     * Calculates the delta-V needed to leave the transfer orbit of a Hohmann transfer
+     * between two orbits around the same primary body.
+     *
+     * @param mu the standard gravitational parameter of the primary body.
+     * @param r1 the radius of the starting orbit.
+     * @param r2 the radius of the destination orbit.
+     * @return The delta-V needed to leave the transfer orbit.
+     */
+    public static double arrivalDeltaV(double mu, double r1, double r2) {
+        double semiMajorAxis = (r1 + r2) / 2d;
+        return Math.sqrt(mu / r2) * Math.abs(1d - Math.sqrt(r1 / semiMajorAxis));
+    }
+
+    /**
+     * Calculates the delta-V needed to change between a circular orbit around a planet
+     * and a hyperbolic trajectory with the given excess speed.
+     *
+     * @param excessSpeed the hyperbolic excess speed, relative to the planet.
+     * @param mu          the standard gravitational parameter of the planet.
+     * @param r           the radius of the circular orbit around the planet.
+     * @return The delta-V needed to change between the circular orbit and the hyperbolic trajectory.
+     */
+    public static double hyperbolicDeltaV(double excessSpeed, double mu, double r) {
+        double escapeVelocity = Math.sqrt(2d * mu / r);
+        return Math.abs(Math.sqrt(excessSpeed * excessSpeed + escapeVelocity * escapeVelocity) - Math.sqrt(mu / r));
+    }
+
+    /**
+     * Calculates the duration of a bi-elliptic transfer between two orbits around the same primary body:
+     * two half-ellipses joined at the given intermediate radius.
+     *
+     * @param mu the standard gravitational parameter of the primary body.
+     * @param r1 the radius of the starting orbit.
+     * @param r2 the radius of the destination orbit.
+     * @param rb the intermediate radius, at least the larger of the two radii.
+     * @return The duration of the bi-elliptic transfer.
+     */
+    public static double biEllipticTransferTime(double mu, double r1, double r2, double rb) {
+        return transferTime(mu, r1, rb) + transferTime(mu, rb, r2);
+    }
+
+    /**
+     * Calculates the total delta-V of a bi-elliptic transfer between two orbits around the same primary body:
+     * the burns entering the first half-ellipse, changing to the second half-ellipse at the intermediate radius,
+     * and leaving the second half-ellipse. For an intermediate radius equal to the larger of the two radii,
+     * this is the total delta-V of the Hohmann transfer.
+     *
+     * @param mu the standard gravitational parameter of the primary body.
+     * @param r1 the radius of the starting orbit.
+     * @param r2 the radius of the destination orbit.
+     * @param rb the intermediate radius, at least the larger of the two radii.
+     * @return The total delta-V of the bi-elliptic transfer.
+     */
+    public static double biEllipticDeltaV(double mu, double r1, double r2, double rb) {
+        // The speeds at the intermediate radius, relative to the circular speed there, on both half-ellipses
+        double apoapsisSpeed1 = Math.sqrt(2d * r1 / (r1 + rb));
+        double apoapsisSpeed2 = Math.sqrt(2d * r2 / (r2 + rb));
+        return insertionDeltaV(mu, r1, rb)
+                + Math.sqrt(mu / rb) * Math.abs(apoapsisSpeed2 - apoapsisSpeed1)
+                + arrivalDeltaV(mu, rb, r2);
+    }
+
+    /**
+     * Solves Kepler's equation {@code E - e sin(E) = M} for the eccentric anomaly of an elliptical orbit.
+     * <p>
+     * The solution is found with Newton's method, safeguarded by bisection: the root is kept in a bracket,
+     * which is narrowed by every iteration, and Newton steps leaving the bracket are replaced with bisection steps.
+     * Since the left side of the equation is strictly increasing for eccentricities below 1, the method converges
+     * for every input, within {@value #KEPLER_MAX_ITERATIONS} iterations. In practice it takes about 4 iterations
+     * on average, and fewer than 20 even for eccentricities close to 1.
+     *
+     * @param meanAnomaly  the mean anomaly, in radians.
+     * @param eccentricity the eccentricity of the orbit, at least 0 and less than 1.
+     * @return The eccentric anomaly, in radians, within the same revolution as the mean anomaly.
+     */
+    public static double eccentricAnomaly(double meanAnomaly, double eccentricity) {
+        double revolution = Math.floor(meanAnomaly / TWO_PI) * TWO_PI;
+        double m = meanAnomaly - revolution;
+        // The equation is symmetric around M = pi, so only the first half of the revolution needs to be solved
+        boolean mirrored = m > Math.PI;
+        if (mirrored) {
+            m = TWO_PI - m;
+        }
+        // e sin(E) is between 0 and e in the first half of the revolution, which brackets the root
+        double low = m;
+        double high = Math.min(m + eccentricity, Math.PI);
+        double anomaly = Math.min(m + eccentricity * Math.sin(m), high);
+        for (int i = 0; i < KEPLER_MAX_ITERATIONS; i++) {
+            double residual = anomaly - eccentricity * Math.sin(anomaly) - m;
+            if (residual == 0d) {
+                break;
+            } else if (residual > 0d) {
+                high = anomaly;
+            } else {
+                low = anomaly;
+            }
+            double next = anomaly - residual / (1d - eccentricity * Math.cos(anomaly));
+            // Newton's method converges quadratically, so the error after a step this small is below rounding errors
+            if (Math.abs(next - anomaly) <= KEPLER_TOLERANCE) {
+                anomaly = next;
+                break;
+            }
+            anomaly = next > low && next < high ? next : 0.5 * (low + high);
+        }
+        return revolution + (mirrored ? TWO_PI - anomaly : anomaly);
+    }
+
+    /**
+     * Calculates Hohmann transfers between pairs of orbits around the same primary body.
+     * Large batches are calculated in parallel.
+     *
+     * @param mu              the standard gravitational parameters of the primary bodies.
+     * @param r1              the radii of the starting orbits.
+     * @param r2              the radii of the destination orbits.
+     * @param transferTime    the column to write the transfer durations to.
+     * @param insertionDeltaV the column to write the insertion delta-Vs to.
+     * @param arrivalDeltaV   the column to write the arrival delta-Vs to.
+     * @throws IllegalArgumentException if the columns are not all of the same length.
+     */
+    public static void calculateOrbitTransfers(double[] mu, double[] r1, double[] r2,
+                                               double[] transferTime, double[] insertionDeltaV, double[] arrivalDeltaV) {
+        requireSameLength(mu, r1, r2, transferTime, insertionDeltaV, arrivalDeltaV);
+        ForkJoinPool.commonPool().invoke(new OrbitTransferTask(0, mu.length,
+                mu, r1, r2, transferTime, insertionDeltaV, arrivalDeltaV));
+    }
+
+    /**
+     * Calculates Hohmann transfers between pairs of orbits around the same primary body,
+     * for the elements in the given range, in the calling thread.
+     *
+     * @param from            the index of the first element to calculate (inclusive).
+     * @param to              the index of the last element to calculate (exclusive).
+     * @param mu              the standard gravitational parameters of the primary bodies.
+     * @param r1              the radii of the starting orbits.
+     * @param r2              the radii of the destination orbits.
+     * @param transferTime    the column to write the transfer durations to.
+     * @param insertionDeltaV the column to write the insertion delta-Vs to.
+     * @param arrivalDeltaV   the column to write the arrival delta-Vs to.
+     * @throws IllegalArgumentException if the range is invalid, or some column is shorter than its end.
+     */
+    public static void calculateOrbitTransfers(int from, int to, double[] mu, double[] r1, double[] r2,
+                                               double[] transferTime, double[] insertionDeltaV, double[] arrivalDeltaV) {
+        requireRange(from, to, mu, r1, r2, transferTime, insertionDeltaV, arrivalDeltaV);
+        orbitTransfers(from, to, mu, r1, r2, transferTime, insertionDeltaV, arrivalDeltaV);
+    }
+
+    private static void orbitTransfers(int from, int to, double[] mu, double[] r1, double[] r2,
+                                       double[] transferTime, double[] insertionDeltaV, double[] arrivalDeltaV) {
+        for (int i = from; i < to; i++) {
+            transferTime[i] = transferTime(mu[i], r1[i], r2[i]);
+            insertionDeltaV[i] = insertionDeltaV(mu[i], r1[i], r2[i]);
+            arrivalDeltaV[i] = arrivalDeltaV(mu[i], r1[i], r2[i]);
+        }
+    }
+
+    /**
+     * Calculates Hohmann transfers between pairs of orbits around two planets orbiting the same primary body.
+     * Large batches are calculated in parallel.
+     *
+     * @param mu              the standard gravitational parameters of the primary bodies.
+     * @param planetR1        the orbit radii of the starting planets.
+     * @param planetR2        the orbit radii of the destination planets.
+     * @param planetMu1       the standard gravitational parameters of the starting planets.
+     * @param planetMu2       the standard gravitational parameters of the destination planets.
+     * @param r1              the radii of the starting orbits around the starting planets.
+     * @param r2              the radii of the destination orbits around the destination planets.
+     * @param transferTime    the column to write the transfer durations to.
+     * @param insertionDeltaV the column to write the insertion delta-Vs to.
+     * @param arrivalDeltaV   the column to write the arrival delta-Vs to.
+     * @throws IllegalArgumentException if the columns are not all of the same length.
+     */
+    public static void calculateInterplanetaryTransfers(double[] mu, double[] planetR1, double[] planetR2,
+                                                        double[] planetMu1, double[] planetMu2, double[] r1, double[] r2,
+                                                        double[] transferTime, double[] insertionDeltaV, double[] arrivalDeltaV) {
+        requireSameLength(mu, planetR1, planetR2, planetMu1, planetMu2, r1, r2, transferTime, insertionDeltaV, arrivalDeltaV);
+        ForkJoinPool.commonPool().invoke(new InterplanetaryTransferTask(0, mu.length,
+                mu, planetR1, planetR2, planetMu1, planetMu2, r1, r2, transferTime, insertionDeltaV, arrivalDeltaV));
+    }
+
+    /**
+     * Calculates Hohmann transfers between pairs of orbits around two planets orbiting the same primary body,
+     * for the elements in the given range, in the calling thread.
+     *
+     * @param from            the index of the first element to calculate (inclusive).
+     * @param to              the index of the last element to calculate (exclusive).
+     * @param mu              the standard gravitational parameters of the primary bodies.
+     * @param planetR1        the orbit radii of the starting planets.
+     * @param planetR2        the orbit radii of the destination planets.
+     * @param planetMu1       the standard gravitational parameters of the starting planets.
+     * @param planetMu2       the standard gravitational parameters of the destination planets.
+     * @param r1              the radii of the starting orbits around the starting planets.
+     * @param r2              the radii of the destination orbits around the destination planets.
+     * @param transferTime    the column to write the transfer durations to.
+     * @param insertionDeltaV the column to write the insertion delta-Vs to.
+     * @param arrivalDeltaV   the column to write the arrival delta-Vs to.
+     * @throws IllegalArgumentException if the range is invalid, or some column is shorter than its end.
+     */
+    public static void calculateInterplanetaryTransfers(int from, int to, double[] mu, double[] planetR1, double[] planetR2,
+                                                        double[] planetMu1, double[] planetMu2, double[] r1, double[] r2,
+                                                        double[] transferTime, double[] insertionDeltaV, double[] arrivalDeltaV) {
+        requireRange(from, to, mu, planetR1, planetR2, planetMu1, planetMu2, r1, r2, transferTime, insertionDeltaV, arrivalDeltaV);
+        interplanetaryTransfers(from, to, mu, planetR1, planetR2, planetMu1, planetMu2, r1, r2,
+                transferTime, insertionDeltaV, arrivalDeltaV);
+    }
+
+    private static void interplanetaryTransfers(int from, int to, double[] mu, double[] planetR1, double[] planetR2,
+                                                double[] planetMu1, double[] planetMu2, double[] r1, double[] r2,
+                                                double[] transferTime, double[] insertionDeltaV, double[] arrivalDeltaV) {
+        for (int i = from; i < to; i++) {
+            transferTime[i] = transferTime(mu[i], planetR1[i], planetR2[i]);
+            double excessSpeed1 = insertionDeltaV(mu[i], planetR1[i], planetR2[i]);
+            double excessSpeed2 = arrivalDeltaV(mu[i], planetR1[i], planetR2[i]);
+            insertionDeltaV[i] = hyperbolicDeltaV(excessSpeed1, planetMu1[i], r1[i]);
+            arrivalDeltaV[i] = hyperbolicDeltaV(excessSpeed2, planetMu2[i], r2[i]);
+        }
+    }
+
+    private static void requireSameLength(double[] first, double[]... columns) {
+        for (double[] column : columns) {
+            if (column.length != first.length) {
+                throw new IllegalArgumentException("All columns must have the same length");
+            }
+        }
+    }
+
+    private static void requireRange(int from, int to, double[]... columns) {
+        if (from < 0 || from > to) {
+            throw new IllegalArgumentException("Invalid range of elements: " + from + " to " + to);
+        }
+        for (double[] column : columns) {
+            if (column.length < to) {
+                throw new IllegalArgumentException("All columns must have at least " + to + " elements");
+            }
+        }
+    }
+
+    @AllArgsConstructor
+    private static class OrbitTransferTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final double[] mu;
+        private final double[] r1;
+        private final double[] r2;
+        private final double[] transferTime;
+        private final double[] insertionDeltaV;
+        private final double[] arrivalDeltaV;
+
+        @Override
+        protected void compute() {
+            if (to - from > PARALLEL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new OrbitTransferTask(from, middle, mu, r1, r2, transferTime, insertionDeltaV, arrivalDeltaV),
+                        new OrbitTransferTask(middle, to, mu, r1, r2, transferTime, insertionDeltaV, arrivalDeltaV));
+            } else {
+                orbitTransfers(from, to, mu, r1, r2, transferTime, insertionDeltaV, arrivalDeltaV);
+            }
+        }
+    }
+
+    @AllArgsConstructor
+    private static class InterplanetaryTransferTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final double[] mu;
+        private final double[] planetR1;
+        private final double[] planetR2;
+        private final double[] planetMu1;
+        private final double[] planetMu2;
+        private final double[] r1;
+        private final double[] r2;
+        private final double[] transferTime;
+        private final double[] insertionDeltaV;
+        private final double[] arrivalDeltaV;
+
+        @Override
+        protected void compute() {
+            if (to - from > PARALLEL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new InterplanetaryTransferTask(from, middle, mu, planetR1, planetR2, planetMu1, planetMu2, r1, r2,
+                                transferTime, insertionDeltaV, arrivalDeltaV),
+                        new InterplanetaryTransferTask(middle, to, mu, planetR1, planetR2, planetMu1, planetMu2, r1, r2,
+                                transferTime, insertionDeltaV, arrivalDeltaV));
+            } else {
+                interplanetaryTransfers(from, to, mu, planetR1, planetR2, planetMu1, planetMu2, r1, r2,
+                        transferTime, insertionDeltaV, arrivalDeltaV);
+            }
+        }
+    }
+}
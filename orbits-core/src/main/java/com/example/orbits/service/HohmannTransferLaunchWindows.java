@@ -0,0 +1,183 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import lombok.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * HohmannTransferLaunchWindows describes the launch windows of Hohmann transfers between two bodies
+ * in circular orbits around the same primary body, such as two planets orbiting a star.
+ * <p>
+ * A transfer arrives at the destination orbit after {@link HohmannTransferKernel#transferTime}, half a revolution
+ * after the departure, so it must depart when the destination body is ahead of the starting body
+ * by the {@linkplain #getPhaseAngle() phase angle} which the destination body covers during the transfer.
+ * The relative position of the bodies repeats every {@linkplain #getSynodicPeriod() synodic period},
+ * and so do the launch windows.
+ * <p>
+ * These values depend only on the orbits, so an instance is a reusable table from which the departure times
+ * for any initial configuration and time horizon are obtained with simple arithmetic. Instances are immutable
+ * and can be shared between threads. Angles are expressed in radians, measured in the direction of the orbital
+ * motion; all other values are expressed in base SI units.
+ */
+public final class HohmannTransferLaunchWindows {
+
+    private static final double TWO_PI = 2d * Math.PI;
+
+    private final double transferTime;
+    private final double phaseAngle;
+    private final double synodicPeriod;
+    /**
+     * The rate of change of the angle between the bodies: the mean motion of the destination body
+     * minus the mean motion of the starting body.
+     */
+    private final double relativeMeanMotion;
+
+    private HohmannTransferLaunchWindows(double mu, double r1, double r2) {
+        if (!isValid(mu) || !isValid(r1) || !isValid(r2)) {
+            throw new IllegalArgumentException("Orbit parameters must be finite and greater than 0");
+        }
+        if (r1 == r2) {
+            throw new IllegalArgumentException("Bodies on orbits of the same radius have no launch windows");
+        }
+        double n1 = Math.sqrt(mu / (r1 * r1 * r1));
+        double n2 = Math.sqrt(mu / (r2 * r2 * r2));
+        this.transferTime = HohmannTransferKernel.transferTime(mu, r1, r2);
+        this.phaseAngle = normalize(Math.PI - n2 * transferTime);
+        this.relativeMeanMotion = n2 - n1;
+        this.synodicPeriod = TWO_PI / Math.abs(relativeMeanMotion);
+    }
+
+    /**
+     * Creates the launch window table of transfers between two circular orbits around the same primary body.
+     *
+     * @param mu the standard gravitational parameter of the primary body.
+     * @param r1 the orbit radius of the starting body.
+     * @param r2 the orbit radius of the destination body.
+     * @return The launch windows of transfers between the orbits.
+     * @throws IllegalArgumentException if any value is not finite and greater than 0, or the radii are equal.
+     */
+    public static HohmannTransferLaunchWindows of(double mu, double r1, double r2) {
+        return new HohmannTransferLaunchWindows(mu, r1, r2);
+    }
+
+    /**
+     * Creates the launch window table of transfers between two bodies orbiting the same primary body.
+     *
+     * @param startingBody    the body the transfers depart from.
+     * @param destinationBody the body the transfers arrive at.
+     * @return The launch windows of transfers between the bodies.
+     * @throws IllegalStateException    if the bodies are the same, or they do not orbit the same primary body,
+     *                                  as required for interplanetary transfers by {@link HohmannTransferCalculator}.
+     * @throws IllegalArgumentException if the orbits of the bodies have the same radius.
+     */
+    public static HohmannTransferLaunchWindows of(@NonNull CelestialBody startingBody, @NonNull CelestialBody destinationBody) {
+        var startingOrbit = startingBody.getOrbit();
+        var destinationOrbit = destinationBody.getOrbit();
+        if (startingBody.equals(destinationBody) || startingOrbit == null || destinationOrbit == null
+                || !startingOrbit.getPrimaryBody().equals(destinationOrbit.getPrimaryBody())) {
+            throw new IllegalStateException("Bodies must be different and orbit the same primary body");
+        }
+        return new HohmannTransferLaunchWindows(startingOrbit.getStandardGravitationalParameter(),
+                startingOrbit.getRadius(), destinationOrbit.getRadius());
+    }
+
+    /**
+     * Returns the duration of a transfer between the orbits.
+     *
+     * @return The duration of the Hohmann transfer.
+     */
+    public double getTransferTime() {
+        return transferTime;
+    }
+
+    /**
+     * Returns the angle by which the destination body must be ahead of the starting body at the departure.
+     * A negative angle means that the destination body must be behind the starting body.
+     *
+     * @return The required phase angle, between -pi and pi.
+     */
+    public double getPhaseAngle() {
+        return phaseAngle;
+    }
+
+    /**
+     * Returns the time after which the relative position of the bodies repeats, which is also the time
+     * between consecutive launch windows.
+     *
+     * @return The synodic period of the bodies.
+     */
+    public double getSynodicPeriod() {
+        return synodicPeriod;
+    }
+
+    /**
+     * Returns the time of the first launch window at or after time 0.
+     *
+     * @param initialPhaseAngle the angle by which the destination body is ahead of the starting body at time 0.
+     * @return The time of the first departure.
+     */
+    public double firstDeparture(double initialPhaseAngle) {
+        // The phase angle changes at the relative mean motion, so the remaining angle is measured in that direction
+        double remaining = relativeMeanMotion > 0d
+                ? positiveAngle(phaseAngle - initialPhaseAngle)
+                : positiveAngle(initialPhaseAngle - phaseAngle);
+        return remaining / Math.abs(relativeMeanMotion);
+    }
+
+    /**
+     * Counts the launch windows between time 0 and the given horizon, both inclusive.
+     *
+     * @param initialPhaseAngle the angle by which the destination body is ahead of the starting body at time 0.
+     * @param horizon           the time of the last possible departure.
+     * @return The number of departures within the horizon.
+     * @throws IllegalArgumentException if the phase angle is not finite, or the horizon is not finite and at least 0.
+     */
+    public long countDepartures(double initialPhaseAngle, double horizon) {
+        if (!Double.isFinite(initialPhaseAngle) || !(horizon >= 0d) || Double.isInfinite(horizon)) {
+            throw new IllegalArgumentException("Phase angle must be finite, and horizon must be finite and at least 0");
+        }
+        double first = firstDeparture(initialPhaseAngle);
+        return first > horizon ? 0L : (long) Math.floor((horizon - first) / synodicPeriod) + 1L;
+    }
+
+    /**
+     * Returns the times of all launch windows between time 0 and the given horizon, both inclusive.
+     *
+     * @param initialPhaseAngle the angle by which the destination body is ahead of the starting body at time 0.
+     * @param horizon           the time of the last possible departure.
+     * @return The departure times, in increasing order.
+     * @throws IllegalArgumentException if the phase angle is not finite, the horizon is not finite and at least 0,
+     *                                  or there are more than {@link Integer#MAX_VALUE} departures.
+     */
+    public double[] departures(double initialPhaseAngle, double horizon) {
+        long count = countDepartures(initialPhaseAngle, horizon);
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Horizon contains too many launch windows");
+        }
+        double[] departures = new double[(int) count];
+        double first = firstDeparture(initialPhaseAngle);
+        Arrays.setAll(departures, i -> first + i * synodicPeriod);
+        return departures;
+    }
+
+    private static boolean isValid(double value) {
+        return value > 0d && !Double.isInfinite(value);
+    }
+
+    /**
+     * Normalizes an angle to the range from -pi (exclusive) to pi (inclusive).
+     */
+    private static double normalize(double angle) {
+        double normalized = angle - TWO_PI * Math.floor(angle / TWO_PI);
+        return normalized > Math.PI ? normalized - TWO_PI : normalized;
+    }
+
+    /**
+     * Normalizes an angle to the range from 0 (inclusive) to 2 pi (exclusive).
+     */
+    private static double positiveAngle(double angle) {
+        double normalized = angle - TWO_PI * Math.floor(angle / TWO_PI);
+        return normalized < TWO_PI ? normalized : 0d;
+    }
+}
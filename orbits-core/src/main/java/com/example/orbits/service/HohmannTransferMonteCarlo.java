@@ -0,0 +1,307 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.Value;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * HohmannTransferMonteCarlo estimates the distributions of transfer durations and delta-Vs
+ * when the masses and orbit radii of a transfer are uncertain.
+ * <p>
+ * Every sample draws all parameters of a transfer from their {@linkplain Distribution distributions},
+ * calculates the transfer with the primitive methods of {@link HohmannTransferKernel}, and adds the results to
+ * {@linkplain QuantileSketch quantile sketches}, so the memory used by a simulation does not depend on the number
+ * of samples. Samples with any parameter not greater than 0 cannot be calculated, and are only counted.
+ * <p>
+ * The samples are drawn in chunks of {@value #CHUNK_SIZE}, each with its own random number generator, split from
+ * the generator of the seed along a tree of chunks whose shape depends only on the number of samples. The chunks
+ * are calculated in parallel and their sketches are merged in a fixed order, so the results of a simulation
+ * depend only on its parameters, the number of samples and the seed, but not on the number of threads.
+ * All values are expressed in base SI units.
+ */
+public final class HohmannTransferMonteCarlo {
+
+    /**
+     * The number of samples drawn with a single random number generator.
+     */
+    public static final int CHUNK_SIZE = 1 << 14;
+
+    /**
+     * A probability distribution of a single parameter of a transfer.
+     */
+    @EqualsAndHashCode
+    @ToString
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Distribution {
+
+        private enum Type {FIXED, NORMAL, UNIFORM}
+
+        private final Type type;
+        private final double first;
+        private final double second;
+
+        /**
+         * Returns a distribution of a parameter known exactly.
+         *
+         * @param value the value of the parameter.
+         * @return A distribution always returning the given value.
+         * @throws IllegalArgumentException if the value is not finite.
+         */
+        public static Distribution fixed(double value) {
+            if (!Double.isFinite(value)) {
+                throw new IllegalArgumentException("Value must be finite");
+            }
+            return new Distribution(Type.FIXED, value, value);
+        }
+
+        /**
+         * Returns a normal distribution.
+         *
+         * @param mean              the mean of the distribution.
+         * @param standardDeviation the standard deviation of the distribution, at least 0.
+         * @return A normal distribution with the given mean and standard deviation.
+         * @throws IllegalArgumentException if any value is out of its valid range.
+         */
+        public static Distribution normal(double mean, double standardDeviation) {
+            if (!Double.isFinite(mean) || !(standardDeviation >= 0d) || Double.isInfinite(standardDeviation)) {
+                throw new IllegalArgumentException("Mean must be finite, and standard deviation finite and at least 0");
+            }
+            return new Distribution(Type.NORMAL, mean, standardDeviation);
+        }
+
+        /**
+         * Returns a uniform distribution.
+         *
+         * @param from the lower bound of the distribution (inclusive).
+         * @param to   the upper bound of the distribution (exclusive), at least {@code from}.
+         * @return A uniform distribution between the given bounds.
+         * @throws IllegalArgumentException if any value is out of its valid range.
+         */
+        public static Distribution uniform(double from, double to) {
+            if (!Double.isFinite(from) || !Double.isFinite(to) || !(to >= from)) {
+                throw new IllegalArgumentException("Bounds must be finite, and the upper bound at least the lower bound");
+            }
+            return new Distribution(Type.UNIFORM, from, to);
+        }
+
+        /**
+         * Draws a value from this distribution.
+         *
+         * @param random the random number generator to use.
+         * @return A random value.
+         */
+        public double sample(SplittableRandom random) {
+            switch (type) {
+                case NORMAL:
+                    // SplittableRandom has no Gaussian values; the second value of the polar method is discarded,
+                    // so that a distribution holds no state
+                    double u, v, s;
+                    do {
+                        u = 2d * random.nextDouble() - 1d;
+                        v = 2d * random.nextDouble() - 1d;
+                        s = u * u + v * v;
+                    } while (s >= 1d || s == 0d);
+                    return first + second * u * Math.sqrt(-2d * Math.log(s) / s);
+                case UNIFORM:
+                    return first + (second - first) * random.nextDouble();
+                default:
+                    return first;
+            }
+        }
+    }
+
+    /**
+     * The results of a simulation.
+     */
+    @Value
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Result {
+
+        /**
+         * The number of drawn samples, including invalid samples.
+         */
+        long sampleCount;
+
+        /**
+         * The number of samples with any parameter not greater than 0, which are not included in the sketches.
+         */
+        long invalidSampleCount;
+
+        QuantileSketch transferTime;
+        QuantileSketch insertionDeltaV;
+        QuantileSketch arrivalDeltaV;
+        QuantileSketch totalDeltaV;
+
+        /**
+         * Merges the results of another chunk into the results of this chunk, which are not used afterwards.
+         */
+        private Result merge(Result other) {
+            transferTime.merge(other.transferTime);
+            insertionDeltaV.merge(other.insertionDeltaV);
+            arrivalDeltaV.merge(other.arrivalDeltaV);
+            totalDeltaV.merge(other.totalDeltaV);
+            return new Result(sampleCount + other.sampleCount, invalidSampleCount + other.invalidSampleCount,
+                    transferTime, insertionDeltaV, arrivalDeltaV, totalDeltaV);
+        }
+    }
+
+    private final Distribution primaryBodyMass;
+    private final Distribution planetR1;
+    private final Distribution planetMass1;
+    private final Distribution planetR2;
+    private final Distribution planetMass2;
+    private final Distribution r1;
+    private final Distribution r2;
+
+    private HohmannTransferMonteCarlo(Distribution primaryBodyMass, Distribution planetR1, Distribution planetMass1,
+                                      Distribution planetR2, Distribution planetMass2, Distribution r1, Distribution r2) {
+        this.primaryBodyMass = primaryBodyMass;
+        this.planetR1 = planetR1;
+        this.planetMass1 = planetMass1;
+        this.planetR2 = planetR2;
+        this.planetMass2 = planetMass2;
+        this.r1 = r1;
+        this.r2 = r2;
+    }
+
+    /**
+     * Creates a simulation of Hohmann transfers between two orbits around the same primary body.
+     *
+     * @param primaryBodyMass the distribution of the mass of the primary body.
+     * @param r1              the distribution of the radius of the starting orbit.
+     * @param r2              the distribution of the radius of the destination orbit.
+     * @return The simulation of the given transfer.
+     */
+    public static HohmannTransferMonteCarlo simple(@NonNull Distribution primaryBodyMass,
+                                                   @NonNull Distribution r1, @NonNull Distribution r2) {
+        return new HohmannTransferMonteCarlo(primaryBodyMass, null, null, null, null, r1, r2);
+    }
+
+    /**
+     * Creates a simulation of Hohmann transfers between orbits around two planets orbiting the same primary body.
+     *
+     * @param primaryBodyMass the distribution of the mass of the primary body.
+     * @param planetR1        the distribution of the orbit radius of the starting planet.
+     * @param planetMass1     the distribution of the mass of the starting planet.
+     * @param planetR2        the distribution of the orbit radius of the destination planet.
+     * @param planetMass2     the distribution of the mass of the destination planet.
+     * @param r1              the distribution of the radius of the starting orbit around the starting planet.
+     * @param r2              the distribution of the radius of the destination orbit around the destination planet.
+     * @return The simulation of the given transfer.
+     */
+    public static HohmannTransferMonteCarlo interplanetary(@NonNull Distribution primaryBodyMass,
+                                                           @NonNull Distribution planetR1, @NonNull Distribution planetMass1,
+                                                           @NonNull Distribution planetR2, @NonNull Distribution planetMass2,
+                                                           @NonNull Distribution r1, @NonNull Distribution r2) {
+        return new HohmannTransferMonteCarlo(primaryBodyMass, planetR1, planetMass1, planetR2, planetMass2, r1, r2);
+    }
+
+    /**
+     * Runs the simulation, calculating large numbers of samples in parallel.
+     *
+     * @param samples          the number of samples, greater than 0.
+     * @param seed             the seed of the random number generators.
+     * @param relativeAccuracy the relative accuracy of the quantile sketches.
+     * @return The results of the simulation.
+     * @throws IllegalArgumentException if the number of samples or the relative accuracy is out of its valid range.
+     */
+    public Result run(long samples, long seed, double relativeAccuracy) {
+        return run(ForkJoinPool.commonPool(), samples, seed, relativeAccuracy);
+    }
+
+    Result run(ForkJoinPool pool, long samples, long seed, double relativeAccuracy) {
+        if (samples <= 0L) {
+            throw new IllegalArgumentException("Number of samples must be greater than 0");
+        }
+        if (!(relativeAccuracy > 0d && relativeAccuracy < 1d)) {
+            throw new IllegalArgumentException("Relative accuracy must be greater than 0 and less than 1");
+        }
+        long chunks = (samples + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return pool.invoke(new SampleTask(0L, chunks, samples, new SplittableRandom(seed), relativeAccuracy));
+    }
+
+    private Result sample(long samples, SplittableRandom random, double relativeAccuracy) {
+        var transferTime = new QuantileSketch(relativeAccuracy);
+        var insertionDeltaV = new QuantileSketch(relativeAccuracy);
+        var arrivalDeltaV = new QuantileSketch(relativeAccuracy);
+        var totalDeltaV = new QuantileSketch(relativeAccuracy);
+        long invalid = 0L;
+        for (long i = 0L; i < samples; i++) {
+            // All parameters are drawn for every sample, so that invalid samples use as many random numbers as valid ones
+            double mu = CelestialBody.standardGravitationalParameter(primaryBodyMass.sample(random));
+            double radius1 = r1.sample(random);
+            double radius2 = r2.sample(random);
+            double time;
+            double insertion;
+            double arrival;
+            if (planetR1 == null) {
+                if (!(mu > 0d && radius1 > 0d && radius2 > 0d)) {
+                    invalid++;
+                    continue;
+                }
+                time = HohmannTransferKernel.transferTime(mu, radius1, radius2);
+                insertion = HohmannTransferKernel.insertionDeltaV(mu, radius1, radius2);
+                arrival = HohmannTransferKernel.arrivalDeltaV(mu, radius1, radius2);
+            } else {
+                double planetRadius1 = planetR1.sample(random);
+                double planetMu1 = CelestialBody.standardGravitationalParameter(planetMass1.sample(random));
+                double planetRadius2 = planetR2.sample(random);
+                double planetMu2 = CelestialBody.standardGravitationalParameter(planetMass2.sample(random));
+                if (!(mu > 0d && radius1 > 0d && radius2 > 0d && planetRadius1 > 0d && planetMu1 > 0d
+                        && planetRadius2 > 0d && planetMu2 > 0d)) {
+                    invalid++;
+                    continue;
+                }
+                time = HohmannTransferKernel.transferTime(mu, planetRadius1, planetRadius2);
+                double excessSpeed1 = HohmannTransferKernel.insertionDeltaV(mu, planetRadius1, planetRadius2);
+                double excessSpeed2 = HohmannTransferKernel.arrivalDeltaV(mu, planetRadius1, planetRadius2);
+                insertion = HohmannTransferKernel.hyperbolicDeltaV(excessSpeed1, planetMu1, radius1);
+                arrival = HohmannTransferKernel.hyperbolicDeltaV(excessSpeed2, planetMu2, radius2);
+            }
+            transferTime.add(time);
+            insertionDeltaV.add(insertion);
+            arrivalDeltaV.add(arrival);
+            totalDeltaV.add(insertion + arrival);
+        }
+        return new Result(samples, invalid, transferTime, insertionDeltaV, arrivalDeltaV, totalDeltaV);
+    }
+
+    private class SampleTask extends RecursiveTask<Result> {
+
+        private final long fromChunk;
+        private final long toChunk;
+        private final long samples;
+        private final SplittableRandom random;
+        private final double relativeAccuracy;
+
+        SampleTask(long fromChunk, long toChunk, long samples, SplittableRandom random, double relativeAccuracy) {
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.samples = samples;
+            this.random = random;
+            this.relativeAccuracy = relativeAccuracy;
+        }
+
+        @Override
+        protected Result compute() {
+            if (toChunk - fromChunk == 1L) {
+                long from = fromChunk * CHUNK_SIZE;
+                return sample(Math.min(samples, from + CHUNK_SIZE) - from, random, relativeAccuracy);
+            }
+            // The generators are split before any task runs, so every chunk gets the same generator in every run
+            long middle = (fromChunk + toChunk) >>> 1;
+            var left = new SampleTask(fromChunk, middle, samples, random.split(), relativeAccuracy);
+            var right = new SampleTask(middle, toChunk, samples, random, relativeAccuracy);
+            invokeAll(left, right);
+            return left.join().merge(right.join());
+        }
+    }
+}
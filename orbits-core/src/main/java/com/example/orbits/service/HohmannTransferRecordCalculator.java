@@ -0,0 +1,160 @@
+package com.example.orbits.service;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.HohmannTransfer;
+import com.example.orbits.model.Orbit;
+
+import java.nio.ByteBuffer;
+
+import static com.example.orbits.codec.HohmannTransferBinaryCodec.*;
+
+/**
+ * HohmannTransferRecordCalculator calculates chunks of records in the binary format described
+ * in {@link HohmannTransferBinaryCodec}.
+ * <p>
+ * Input records are decoded straight into primitive columns, calculated with {@link HohmannTransferKernel}
+ * and encoded into output records in the same order, so no objects are created per record. The results are identical
+ * to the results of {@link HohmannTransferCalculator} for the same inputs. A record with a value which is not
+ * a positive, finite number is invalid, and its output record contains only NaN values.
+ * <p>
+ * Instances hold the columns of a single chunk, so they must not be shared between threads.
+ */
+public final class HohmannTransferRecordCalculator {
+
+    private final HohmannTransferType type;
+    private final int capacity;
+    private final double[][] inputs;
+    private final double[][] outputs;
+    private final double[] mu;
+    private final double[] planetMu1;
+    private final double[] planetMu2;
+    private int invalidCount;
+
+    /**
+     * Creates a calculator of records of the given type.
+     *
+     * @param type     the type of transfers described by the input records.
+     * @param capacity the maximum number of records calculated at once.
+     */
+    public HohmannTransferRecordCalculator(HohmannTransferType type, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+        boolean interplanetary = type == HohmannTransferType.INTERPLANETARY;
+        this.type = type;
+        this.capacity = capacity;
+        this.inputs = new double[interplanetary ? INTERPLANETARY_INPUT_FIELDS : SIMPLE_INPUT_FIELDS][capacity];
+        this.outputs = new double[OUTPUT_FIELDS][capacity];
+        this.mu = new double[capacity];
+        this.planetMu1 = interplanetary ? new double[capacity] : null;
+        this.planetMu2 = interplanetary ? new double[capacity] : null;
+    }
+
+    /**
+     * Returns the size of a single input record of the given type.
+     *
+     * @param type the type of transfers described by the input records.
+     * @return The size of an input record in bytes.
+     */
+    public static int inputSize(HohmannTransferType type) {
+        return type == HohmannTransferType.INTERPLANETARY ? INTERPLANETARY_INPUT_SIZE : SIMPLE_INPUT_SIZE;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of invalid records among the records calculated by the last call to {@link #calculate}.
+     *
+     * @return The number of invalid records in the last chunk.
+     */
+    public int getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * Reads up to {@link #getCapacity()} complete input records from a buffer, calculates them
+     * and writes the output records into another buffer. Both buffers are advanced past the processed records.
+     *
+     * @param input  the buffer to read input records from.
+     * @param output the buffer to write output records to, with room for an output record per input record.
+     * @return The number of calculated records.
+     */
+    public int calculate(ByteBuffer input, ByteBuffer output) {
+        int n = readRecords(input, inputs, 0, capacity);
+        for (int i = 0; i < n; i++) {
+            mu[i] = CelestialBody.standardGravitationalParameter(inputs[0][i]);
+        }
+        if (type == HohmannTransferType.SAME_BODY) {
+            calculateOrbitTransfers(n);
+        } else {
+            calculateInterplanetaryTransfers(n);
+        }
+        invalidCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (!isValid(i)) {
+                for (double[] column : outputs) {
+                    column[i] = Double.NaN;
+                }
+                invalidCount++;
+            } else if (type == HohmannTransferType.INTERPLANETARY && isSamePlanet(i)) {
+                calculateSamePlanetTransfer(i);
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            outputs[TOTAL_DELTA_V][i] = outputs[INSERTION_DELTA_V][i] + outputs[ARRIVAL_DELTA_V][i];
+        }
+        writeRecords(output, outputs, 0, n);
+        return n;
+    }
+
+    private void calculateOrbitTransfers(int n) {
+        double[] r1 = inputs[1];
+        double[] r2 = inputs[2];
+        HohmannTransferKernel.calculateOrbitTransfers(0, n, mu, r1, r2, outputs[TRANSFER_TIME],
+                outputs[INSERTION_DELTA_V], outputs[ARRIVAL_DELTA_V]);
+    }
+
+    private void calculateInterplanetaryTransfers(int n) {
+        for (int i = 0; i < n; i++) {
+            planetMu1[i] = CelestialBody.standardGravitationalParameter(inputs[3][i]);
+            planetMu2[i] = CelestialBody.standardGravitationalParameter(inputs[5][i]);
+        }
+        double[] r1 = inputs[1];
+        double[] r2 = inputs[2];
+        double[] planetR1 = inputs[4];
+        double[] planetR2 = inputs[6];
+        HohmannTransferKernel.calculateInterplanetaryTransfers(0, n, mu, planetR1, planetR2, planetMu1, planetMu2,
+                r1, r2, outputs[TRANSFER_TIME], outputs[INSERTION_DELTA_V], outputs[ARRIVAL_DELTA_V]);
+    }
+
+    private boolean isValid(int i) {
+        for (double[] column : inputs) {
+            if (!(column[i] > 0d) || Double.isInfinite(column[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether both orbits of an interplanetary record are around the same planet, which
+     * {@link HohmannTransferCalculator} calculates as a transfer around a single body.
+     */
+    private boolean isSamePlanet(int i) {
+        return inputs[3][i] == inputs[5][i] && inputs[4][i] == inputs[6][i];
+    }
+
+    private void calculateSamePlanetTransfer(int i) {
+        var planet = new CelestialBody(null, inputs[3][i]);
+        planet.setOrbit(new Orbit(inputs[4][i], new CelestialBody(null, inputs[0][i])));
+        var startingOrbit = new Orbit(inputs[1][i], planet);
+        var destinationOrbit = new Orbit(inputs[2][i], planet);
+        HohmannTransfer transfer = HohmannTransferCalculator.calculateTransfer(startingOrbit, destinationOrbit);
+        outputs[TRANSFER_TIME][i] = transfer.getTransferTime();
+        outputs[INSERTION_DELTA_V][i] = transfer.getInsertionDeltaV();
+        outputs[ARRIVAL_DELTA_V][i] = transfer.getArrivalDeltaV();
+    }
+}
@@ -0,0 +1,368 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.HohmannTransfer;
+import com.example.orbits.model.Orbit;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * HohmannTransferRoutePlanner finds the cheapest routes of chained Hohmann transfers between orbits.
+ * <p>
+ * The planner holds a graph whose nodes are orbits, identified by consecutive indices in the order in which they
+ * are {@linkplain #add added}. Every two orbits between which {@link HohmannTransferCalculator} can calculate
+ * a transfer, including transfers between orbits around a planet and around one of its moons, are connected
+ * by an edge in each direction, weighted by a {@linkplain Cost cost} of that transfer ({@link #calculateLeg}).
+ * For example, a route from a low Earth orbit to an orbit around Mars may pass through an orbit around the Moon.
+ * Routes through intermediate orbits may be cheaper than the direct transfer; for example, an interplanetary transfer
+ * from a high parking orbit may need less delta-V than one from a low orbit, even including the climb.
+ * <p>
+ * The costs and first hops of the cheapest routes between all pairs of orbits are kept in flat arrays of primitives,
+ * so a query only reads an array element per orbit of the route. Adding an orbit updates them in place instead of
+ * recalculating all routes: only the routes between orbits which can reach the new orbit and orbits which can be
+ * reached from it may change, so the update takes time proportional to the product of their numbers,
+ * in parallel for large graphs. The arrays need 12 bytes per pair of orbits, and hold at most {@link #MAX_ORBITS}
+ * orbits.
+ * <p>
+ * Instances of this class are mutable and must not be accessed concurrently while an orbit is being added.
+ */
+public class HohmannTransferRoutePlanner {
+
+    /**
+     * The maximum number of orbits of a graph, for which the arrays hold 2<sup>30</sup> elements.
+     */
+    public static final int MAX_ORBITS = 1 << 15;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NO_ROUTE = -1;
+
+    /**
+     * The quantities which may be minimized by a route.
+     */
+    public enum Cost {
+
+        /**
+         * The total delta-V of all transfers of a route.
+         */
+        DELTA_V(HohmannTransfer::getTotalDeltaV),
+
+        /**
+         * The total duration of all transfers of a route.
+         */
+        TRANSFER_TIME(HohmannTransfer::getTransferTime);
+
+        private final ToDoubleFunction<HohmannTransfer> function;
+
+        Cost(ToDoubleFunction<HohmannTransfer> function) {
+            this.function = function;
+        }
+
+        /**
+         * Returns the cost of a single transfer.
+         *
+         * @param transfer the calculated transfer.
+         * @return The cost of the transfer.
+         */
+        public double of(HohmannTransfer transfer) {
+            return function.applyAsDouble(transfer);
+        }
+    }
+
+    private final Cost cost;
+    private final List<Orbit> orbits = new ArrayList<>();
+    private int capacity;
+    /**
+     * The costs of the cheapest routes, in rows of {@link #capacity} elements: the cost from orbit i to orbit j
+     * is stored at index i * capacity + j. Unreachable orbits have an infinite cost.
+     */
+    private double[] costs;
+    /**
+     * The second orbits of the cheapest routes, laid out like {@link #costs}, or {@link #NO_ROUTE}.
+     */
+    private int[] next;
+
+    /**
+     * Creates an empty planner of routes minimizing the given cost.
+     *
+     * @param cost the quantity to minimize.
+     */
+    public HohmannTransferRoutePlanner(@NonNull Cost cost) {
+        this.cost = cost;
+        this.capacity = INITIAL_CAPACITY;
+        this.costs = new double[elements(capacity)];
+        this.next = new int[elements(capacity)];
+    }
+
+    /**
+     * Returns the quantity minimized by the routes of this planner.
+     *
+     * @return The cost of routes.
+     */
+    public Cost getCost() {
+        return cost;
+    }
+
+    /**
+     * Returns the number of orbits in the graph.
+     *
+     * @return The number of orbits.
+     */
+    public int size() {
+        return orbits.size();
+    }
+
+    /**
+     * Returns an orbit of the graph.
+     *
+     * @param node the index of the orbit.
+     * @return The orbit with the given index.
+     * @throws IndexOutOfBoundsException if there is no orbit with the given index.
+     */
+    public Orbit getOrbit(int node) {
+        return orbits.get(node);
+    }
+
+    /**
+     * Adds an orbit to the graph, connects it with all orbits it can be transferred from or to,
+     * and updates the cheapest routes between all orbits.
+     *
+     * @param orbit the orbit to add.
+     * @return The index of the added orbit.
+     * @throws IllegalStateException if the graph already contains {@link #MAX_ORBITS} orbits.
+     */
+    public int add(@NonNull Orbit orbit) {
+        int k = orbits.size();
+        if (k == MAX_ORBITS) {
+            throw new IllegalStateException("Route graph already contains " + MAX_ORBITS + " orbits");
+        }
+        if (k == capacity) {
+            grow();
+        }
+        orbits.add(orbit);
+        // Direct transfers from and to the new orbit, and the orbits with a direct transfer to it
+        double[] out = new double[k];
+        double[] in = new double[k];
+        int[] sources = new int[k];
+        int sourceCount = 0;
+        for (int i = 0; i < k; i++) {
+            out[i] = transferCost(orbit, orbits.get(i));
+            in[i] = transferCost(orbits.get(i), orbit);
+            if (in[i] != Double.POSITIVE_INFINITY) {
+                sources[sourceCount++] = i;
+            }
+        }
+        int rowK = k * capacity;
+        costs[rowK + k] = 0d;
+        next[rowK + k] = k;
+        // Routes from the new orbit start with a direct transfer to some orbit i, followed by the cheapest route from i;
+        // the candidates are merged row by row, so that the arrays are read sequentially
+        Arrays.fill(costs, rowK, rowK + k, Double.POSITIVE_INFINITY);
+        Arrays.fill(next, rowK, rowK + k, NO_ROUTE);
+        for (int i = 0; i < k; i++) {
+            double toI = out[i];
+            if (toI == Double.POSITIVE_INFINITY) {
+                continue;
+            }
+            int rowI = i * capacity;
+            for (int j = 0; j < k; j++) {
+                double c = toI + costs[rowI + j];
+                if (c < costs[rowK + j]) {
+                    costs[rowK + j] = c;
+                    next[rowK + j] = i;
+                }
+            }
+        }
+        // Only the orbits reachable from the new orbit may be reached more cheaply through it
+        int[] targets = new int[k];
+        int targetCount = 0;
+        for (int j = 0; j < k; j++) {
+            if (costs[rowK + j] != Double.POSITIVE_INFINITY) {
+                targets[targetCount++] = j;
+            }
+        }
+        // Routes to the new orbit, and then routes between other orbits through the new orbit, are updated row by row
+        var update = new Update(k, in, Arrays.copyOf(sources, sourceCount), Arrays.copyOf(targets, targetCount));
+        if ((long) k * (sourceCount + targetCount) > HohmannTransferKernel.PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new RelaxTask(update, 0, k));
+        } else {
+            relax(update, 0, k);
+        }
+        return k;
+    }
+
+    /**
+     * Returns the cost of the cheapest route between two orbits.
+     *
+     * @param from the index of the starting orbit.
+     * @param to   the index of the destination orbit.
+     * @return The cost of the cheapest route, 0 for the same orbits,
+     * or {@link Double#POSITIVE_INFINITY} if the destination orbit cannot be reached.
+     * @throws IndexOutOfBoundsException if there is no orbit with either index.
+     */
+    public double cost(int from, int to) {
+        checkIndex(from);
+        checkIndex(to);
+        return costs[from * capacity + to];
+    }
+
+    /**
+     * Returns the cheapest route between two orbits.
+     *
+     * @param from the index of the starting orbit.
+     * @param to   the index of the destination orbit.
+     * @return The indices of all orbits of the route, including the starting and destination orbits,
+     * or an empty array if the destination orbit cannot be reached.
+     * @throws IndexOutOfBoundsException if there is no orbit with either index.
+     */
+    public int[] route(int from, int to) {
+        checkIndex(from);
+        checkIndex(to);
+        if (next[from * capacity + to] == NO_ROUTE) {
+            return new int[0];
+        }
+        int[] route = new int[INITIAL_CAPACITY];
+        int length = 0;
+        route[length++] = from;
+        for (int node = from; node != to; ) {
+            node = next[node * capacity + to];
+            if (length == route.length) {
+                route = Arrays.copyOf(route, 2 * length);
+            }
+            route[length++] = node;
+        }
+        return Arrays.copyOf(route, length);
+    }
+
+    /**
+     * Calculates the transfer of an edge of the graph.
+     *
+     * @param startingOrbit    the starting orbit of the transfer.
+     * @param destinationOrbit the destination orbit of the transfer.
+     * @return Calculated parameters of the transfer.
+     * @throws IllegalStateException if the orbits are not connected by an edge.
+     */
+    public static HohmannTransfer calculateLeg(@NonNull Orbit startingOrbit, @NonNull Orbit destinationOrbit) {
+        if (HohmannTransferCalculator.canTransfer(startingOrbit.getPrimaryBody(), destinationOrbit.getPrimaryBody())) {
+            return HohmannTransferCalculator.calculateTransfer(startingOrbit, destinationOrbit);
+        }
+        return HohmannTransferCalculator.calculateMoonTransfer(startingOrbit, destinationOrbit);
+    }
+
+    private double transferCost(Orbit startingOrbit, Orbit destinationOrbit) {
+        var startingBody = startingOrbit.getPrimaryBody();
+        var destinationBody = destinationOrbit.getPrimaryBody();
+        if (!HohmannTransferCalculator.canTransfer(startingBody, destinationBody)
+                && !HohmannTransferCalculator.isMoonTransfer(startingBody, destinationBody)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return cost.of(calculateLeg(startingOrbit, destinationOrbit));
+    }
+
+    /**
+     * Updates the rows of the given orbits with the new orbit k. A route to orbit k ends with a direct transfer
+     * from some orbit j, preceded by the cheapest route to j; routes to other orbits may then become cheaper
+     * by going through orbit k.
+     */
+    private void relax(Update update, int from, int to) {
+        int k = update.k;
+        int rowK = k * capacity;
+        for (int i = from; i < to; i++) {
+            int rowI = i * capacity;
+            double toK = Double.POSITIVE_INFINITY;
+            int hop = NO_ROUTE;
+            for (int j : update.sources) {
+                double c = costs[rowI + j] + update.in[j];
+                if (c < toK) {
+                    toK = c;
+                    hop = i == j ? k : next[rowI + j];
+                }
+            }
+            costs[rowI + k] = toK;
+            next[rowI + k] = hop;
+            if (toK == Double.POSITIVE_INFINITY) {
+                continue;
+            }
+            for (int j : update.targets) {
+                double c = toK + costs[rowK + j];
+                if (c < costs[rowI + j]) {
+                    costs[rowI + j] = c;
+                    next[rowI + j] = hop;
+                }
+            }
+        }
+    }
+
+    private void grow() {
+        int newCapacity = 2 * capacity;
+        double[] newCosts = new double[elements(newCapacity)];
+        int[] newNext = new int[elements(newCapacity)];
+        for (int i = 0; i < orbits.size(); i++) {
+            System.arraycopy(costs, i * capacity, newCosts, i * newCapacity, orbits.size());
+            System.arraycopy(next, i * capacity, newNext, i * newCapacity, orbits.size());
+        }
+        capacity = newCapacity;
+        costs = newCosts;
+        next = newNext;
+    }
+
+    private static int elements(int capacity) {
+        if (capacity > MAX_ORBITS) {
+            throw new IllegalStateException("Route graph cannot contain more than " + MAX_ORBITS + " orbits");
+        }
+        return Math.multiplyExact(capacity, capacity);
+    }
+
+    private void checkIndex(int node) {
+        if (node < 0 || node >= orbits.size()) {
+            throw new IndexOutOfBoundsException("Unknown orbit: " + node);
+        }
+    }
+
+    /**
+     * The new orbit k, the costs of direct transfers to it, the orbits with such a transfer,
+     * and the orbits reachable from it.
+     */
+    private static class Update {
+
+        private final int k;
+        private final double[] in;
+        private final int[] sources;
+        private final int[] targets;
+
+        Update(int k, double[] in, int[] sources, int[] targets) {
+            this.k = k;
+            this.in = in;
+            this.sources = sources;
+            this.targets = targets;
+        }
+    }
+
+    private class RelaxTask extends RecursiveAction {
+
+        private final Update update;
+        private final int from;
+        private final int to;
+
+        RelaxTask(Update update, int from, int to) {
+            this.update = update;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            long work = (long) (to - from) * (update.sources.length + update.targets.length);
+            if (work > HohmannTransferKernel.PARALLEL_THRESHOLD && to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RelaxTask(update, from, middle), new RelaxTask(update, middle, to));
+            } else {
+                relax(update, from, to);
+            }
+        }
+    }
+}
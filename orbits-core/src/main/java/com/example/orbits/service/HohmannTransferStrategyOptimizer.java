@@ -0,0 +1,224 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.TransferPlan;
+import lombok.AllArgsConstructor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * HohmannTransferStrategyOptimizer plans the cheapest transfer between two circular orbits around the same primary body,
+ * choosing between the Hohmann transfer and bi-elliptic transfers through an intermediate radius beyond both orbits.
+ * <p>
+ * The total delta-V of a bi-elliptic transfer, as a function of the intermediate radius, has no minimum between
+ * the larger orbit radius and infinity: depending on the ratio of the radii, it only increases, only decreases
+ * towards the bi-parabolic limit, or first increases and then decreases. At the larger orbit radius it equals
+ * the delta-V of the Hohmann transfer. The cheapest plan is therefore either the Hohmann transfer, or the bi-elliptic
+ * transfer through the largest admissible intermediate radius, which beats the Hohmann transfer only for radius ratios
+ * above about 11.94. The admissible radius is bounded by a ratio to the larger orbit radius and by the maximum
+ * transfer time; since the transfer time is an increasing, convex function of the intermediate radius, the latter bound
+ * is found by a few steps of Newton's method.
+ * <p>
+ * Like {@link HohmannTransferKernel}, batch methods of this class take and produce columns of primitive values,
+ * create no objects for individual transfers, and split large batches between the cores of the common fork-join pool.
+ * Batch input values are not validated. All values are expressed in base SI units.
+ */
+public final class HohmannTransferStrategyOptimizer {
+
+    /**
+     * The maximum number of steps of the search for the intermediate radius.
+     */
+    static final int SEARCH_ITERATIONS = 64;
+
+    private static final double SEARCH_TOLERANCE = 1e-12;
+
+    private HohmannTransferStrategyOptimizer() {
+    }
+
+    /**
+     * Plans the cheapest transfer between two circular orbits around the same primary body.
+     *
+     * @param mu              the standard gravitational parameter of the primary body.
+     * @param r1              the radius of the starting orbit.
+     * @param r2              the radius of the destination orbit.
+     * @param maxRadiusRatio  the maximum ratio of the intermediate radius of a bi-elliptic transfer
+     *                        to the larger of the two radii, at least 1.
+     * @param maxTransferTime the maximum duration of the transfer, or {@link Double#POSITIVE_INFINITY} for no limit.
+     * @return The cheapest transfer within the limits.
+     * @throws IllegalArgumentException if any value is out of its valid range, or even the Hohmann transfer
+     *                                  takes longer than the maximum transfer time.
+     */
+    public static TransferPlan plan(double mu, double r1, double r2, double maxRadiusRatio, double maxTransferTime) {
+        if (!isValid(mu) || !isValid(r1) || !isValid(r2)) {
+            throw new IllegalArgumentException("Orbit parameters must be finite and greater than 0");
+        }
+        checkLimits(maxRadiusRatio, maxTransferTime);
+        double rb = intermediateRadius(mu, r1, r2, maxRadiusRatio, maxTransferTime);
+        if (Double.isNaN(rb)) {
+            throw new IllegalArgumentException("No transfer takes less than the maximum transfer time");
+        }
+        double hohmannDeltaV = HohmannTransferKernel.insertionDeltaV(mu, r1, r2) + HohmannTransferKernel.arrivalDeltaV(mu, r1, r2);
+        if (rb == Math.max(r1, r2)) {
+            return new TransferPlan(TransferPlan.Strategy.HOHMANN, rb,
+                    HohmannTransferKernel.transferTime(mu, r1, r2), hohmannDeltaV, hohmannDeltaV);
+        }
+        return new TransferPlan(TransferPlan.Strategy.BI_ELLIPTIC, rb,
+                HohmannTransferKernel.biEllipticTransferTime(mu, r1, r2, rb),
+                HohmannTransferKernel.biEllipticDeltaV(mu, r1, r2, rb), hohmannDeltaV);
+    }
+
+    /**
+     * Plans the cheapest transfers between pairs of orbits around the same primary body.
+     * Large batches are calculated in parallel.
+     * <p>
+     * A planned transfer is a Hohmann transfer if its intermediate radius equals the larger of its two orbit radii.
+     * If even the Hohmann transfer takes longer than the maximum transfer time, all results of the pair are NaN.
+     *
+     * @param mu                 the standard gravitational parameters of the primary bodies.
+     * @param r1                 the radii of the starting orbits.
+     * @param r2                 the radii of the destination orbits.
+     * @param maxRadiusRatio     the maximum ratio of intermediate radii to the larger orbit radii, at least 1.
+     * @param maxTransferTime    the maximum duration of every transfer, or {@link Double#POSITIVE_INFINITY} for no limit.
+     * @param intermediateRadius the column to write the intermediate radii to.
+     * @param transferTime       the column to write the transfer durations to.
+     * @param totalDeltaV        the column to write the total delta-Vs to.
+     * @throws IllegalArgumentException if the limits are out of their valid ranges.
+     */
+    public static void plan(double[] mu, double[] r1, double[] r2, double maxRadiusRatio, double maxTransferTime,
+                            double[] intermediateRadius, double[] transferTime, double[] totalDeltaV) {
+        checkLimits(maxRadiusRatio, maxTransferTime);
+        ForkJoinPool.commonPool().invoke(new PlanTask(0, mu.length, mu, r1, r2, maxRadiusRatio, maxTransferTime,
+                intermediateRadius, transferTime, totalDeltaV));
+    }
+
+    /**
+     * Plans the cheapest transfers between pairs of orbits around the same primary body,
+     * for the elements in the given range, in the calling thread.
+     *
+     * @param from               the index of the first element to calculate (inclusive).
+     * @param to                 the index of the last element to calculate (exclusive).
+     * @param mu                 the standard gravitational parameters of the primary bodies.
+     * @param r1                 the radii of the starting orbits.
+     * @param r2                 the radii of the destination orbits.
+     * @param maxRadiusRatio     the maximum ratio of intermediate radii to the larger orbit radii, at least 1.
+     * @param maxTransferTime    the maximum duration of every transfer, or {@link Double#POSITIVE_INFINITY} for no limit.
+     * @param intermediateRadius the column to write the intermediate radii to.
+     * @param transferTime       the column to write the transfer durations to.
+     * @param totalDeltaV        the column to write the total delta-Vs to.
+     * @see #plan(double[], double[], double[], double, double, double[], double[], double[])
+     */
+    public static void plan(int from, int to, double[] mu, double[] r1, double[] r2, double maxRadiusRatio, double maxTransferTime,
+                            double[] intermediateRadius, double[] transferTime, double[] totalDeltaV) {
+        for (int i = from; i < to; i++) {
+            double rb = intermediateRadius(mu[i], r1[i], r2[i], maxRadiusRatio, maxTransferTime);
+            intermediateRadius[i] = rb;
+            if (Double.isNaN(rb)) {
+                transferTime[i] = Double.NaN;
+                totalDeltaV[i] = Double.NaN;
+            } else if (rb == Math.max(r1[i], r2[i])) {
+                transferTime[i] = HohmannTransferKernel.transferTime(mu[i], r1[i], r2[i]);
+                totalDeltaV[i] = HohmannTransferKernel.insertionDeltaV(mu[i], r1[i], r2[i])
+                        + HohmannTransferKernel.arrivalDeltaV(mu[i], r1[i], r2[i]);
+            } else {
+                transferTime[i] = HohmannTransferKernel.biEllipticTransferTime(mu[i], r1[i], r2[i], rb);
+                totalDeltaV[i] = HohmannTransferKernel.biEllipticDeltaV(mu[i], r1[i], r2[i], rb);
+            }
+        }
+    }
+
+    /**
+     * Returns the intermediate radius of the cheapest transfer: the larger orbit radius if the Hohmann transfer
+     * is the cheapest, or NaN if no transfer is fast enough.
+     */
+    static double intermediateRadius(double mu, double r1, double r2, double maxRadiusRatio, double maxTransferTime) {
+        double outer = Math.max(r1, r2);
+        if (!(HohmannTransferKernel.transferTime(mu, r1, r2) <= maxTransferTime)) {
+            return Double.NaN;
+        }
+        double rb = maxIntermediateRadius(mu, r1, r2, outer * maxRadiusRatio, maxTransferTime);
+        if (rb > outer) {
+            double hohmannDeltaV = HohmannTransferKernel.insertionDeltaV(mu, r1, r2) + HohmannTransferKernel.arrivalDeltaV(mu, r1, r2);
+            if (HohmannTransferKernel.biEllipticDeltaV(mu, r1, r2, rb) < hohmannDeltaV) {
+                return rb;
+            }
+        }
+        return outer;
+    }
+
+    /**
+     * Returns the largest intermediate radius, up to the given bound, of a bi-elliptic transfer which takes
+     * at most the maximum transfer time, or the larger orbit radius if there is no such transfer.
+     */
+    static double maxIntermediateRadius(double mu, double r1, double r2, double maxRadius, double maxTransferTime) {
+        double low = Math.max(r1, r2);
+        double high = maxRadius;
+        if (!(high > low) || HohmannTransferKernel.biEllipticTransferTime(mu, r1, r2, high) <= maxTransferTime) {
+            return Math.max(low, high);
+        }
+        if (HohmannTransferKernel.biEllipticTransferTime(mu, r1, r2, low) > maxTransferTime) {
+            return low;
+        }
+        // The transfer time is an increasing, convex function of the radius, so Newton's method started above the root
+        // approaches it from above without overshooting, while the bracket guards against rounding errors
+        double radius = high;
+        for (int i = 0; i < SEARCH_ITERATIONS; i++) {
+            double excess = HohmannTransferKernel.biEllipticTransferTime(mu, r1, r2, radius) - maxTransferTime;
+            if (excess <= 0d) {
+                low = radius;
+            } else {
+                high = radius;
+            }
+            if (high - low <= 2d * SEARCH_TOLERANCE * high) {
+                break;
+            }
+            double step = excess / transferTimeDerivative(mu, r1, r2, radius);
+            // Once the steps from above become negligible, a step just below the root closes the bracket
+            double next = excess > 0d ? radius - Math.max(step, SEARCH_TOLERANCE * radius) : radius - step;
+            radius = next > low && next < high ? next : Math.sqrt(low * high);
+        }
+        return low;
+    }
+
+    /**
+     * Returns the derivative of the duration of a bi-elliptic transfer with respect to the intermediate radius.
+     */
+    private static double transferTimeDerivative(double mu, double r1, double r2, double rb) {
+        return 0.75 * Math.PI * (Math.sqrt((r1 + rb) / 2d) + Math.sqrt((r2 + rb) / 2d)) / Math.sqrt(mu);
+    }
+
+    private static void checkLimits(double maxRadiusRatio, double maxTransferTime) {
+        if (!(maxRadiusRatio >= 1d) || Double.isInfinite(maxRadiusRatio) || !(maxTransferTime > 0d)) {
+            throw new IllegalArgumentException("Radius ratio must be finite and at least 1, and transfer time greater than 0");
+        }
+    }
+
+    private static boolean isValid(double value) {
+        return value > 0d && !Double.isInfinite(value);
+    }
+
+    @AllArgsConstructor
+    private static class PlanTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final double[] mu;
+        private final double[] r1;
+        private final double[] r2;
+        private final double maxRadiusRatio;
+        private final double maxTransferTime;
+        private final double[] intermediateRadius;
+        private final double[] transferTime;
+        private final double[] totalDeltaV;
+
+        @Override
+        protected void compute() {
+            if (to - from > HohmannTransferKernel.PARALLEL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PlanTask(from, middle, mu, r1, r2, maxRadiusRatio, maxTransferTime, intermediateRadius, transferTime, totalDeltaV),
+                        new PlanTask(middle, to, mu, r1, r2, maxRadiusRatio, maxTransferTime, intermediateRadius, transferTime, totalDeltaV));
+            } else {
+                plan(from, to, mu, r1, r2, maxRadiusRatio, maxTransferTime, intermediateRadius, transferTime, totalDeltaV);
+            }
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.orbits.service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * HohmannTransferSweep describes a regular grid of Hohmann transfers and calculates it in blocks of consecutive points.
+ * <p>
+ * A sweep is defined by one axis of values for each input parameter of {@link HohmannTransferKernel}.
+ * Every combination of axis values is a point of the grid; points are numbered in row-major order,
+ * that is, the value of the last axis changes fastest. Only the axes are stored, so grids of any size
+ * can be described, while the memory needed to calculate them depends only on the size of a {@link Block}.
+ * <p>
+ * Each block is split between the cores of the common fork-join pool. Every parallel task expands
+ * its part of the grid into input columns and calculates them with the range methods of {@link HohmannTransferKernel},
+ * so the results are identical to the results of {@link HohmannTransferCalculator} for the same values.
+ * <p>
+ * Interplanetary sweeps always use the interplanetary equations, even at points where the starting
+ * and destination planets happen to have the same mass and orbit radius.
+ */
+public final class HohmannTransferSweep {
+
+    private final HohmannTransferType type;
+    private final double[][] axes;
+    private final long size;
+
+    private HohmannTransferSweep(HohmannTransferType type, double[]... axes) {
+        long size = 1L;
+        for (double[] axis : axes) {
+            if (axis.length == 0) {
+                throw new IllegalArgumentException("Sweep axes must not be empty");
+            }
+            for (double value : axis) {
+                if (!(value > 0d) || Double.isInfinite(value)) {
+                    throw new IllegalArgumentException("Sweep values must be finite and greater than 0");
+                }
+            }
+            try {
+                size = Math.multiplyExact(size, axis.length);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Sweep has too many points");
+            }
+        }
+        this.type = type;
+        this.axes = axes;
+        this.size = size;
+    }
+
+    /**
+     * Creates a sweep of Hohmann transfers between pairs of orbits around the same primary body.
+     * The axes are used in the order of the parameters.
+     *
+     * @param mu the standard gravitational parameters of the primary body.
+     * @param r1 the radii of the starting orbit.
+     * @param r2 the radii of the destination orbit.
+     * @return A sweep over all combinations of the given values.
+     * @throws IllegalArgumentException if any axis is empty, any value is not finite and greater than 0,
+     *                                  or the number of points exceeds {@link Long#MAX_VALUE}.
+     */
+    public static HohmannTransferSweep sameBody(double[] mu, double[] r1, double[] r2) {
+        return new HohmannTransferSweep(HohmannTransferType.SAME_BODY, mu.clone(), r1.clone(), r2.clone());
+    }
+
+    /**
+     * Creates a sweep of Hohmann transfers between pairs of orbits around two planets orbiting the same primary body.
+     * The axes are used in the order of the parameters.
+     *
+     * @param mu        the standard gravitational parameters of the primary body.
+     * @param planetR1  the orbit radii of the starting planet.
+     * @param planetR2  the orbit radii of the destination planet.
+     * @param planetMu1 the standard gravitational parameters of the starting planet.
+     * @param planetMu2 the standard gravitational parameters of the destination planet.
+     * @param r1        the radii of the starting orbit around the starting planet.
+     * @param r2        the radii of the destination orbit around the destination planet.
+     * @return A sweep over all combinations of the given values.
+     * @throws IllegalArgumentException if any axis is empty, any value is not finite and greater than 0,
+     *                                  or the number of points exceeds {@link Long#MAX_VALUE}.
+     */
+    public static HohmannTransferSweep interplanetary(double[] mu, double[] planetR1, double[] planetR2,
+                                                      double[] planetMu1, double[] planetMu2, double[] r1, double[] r2) {
+        return new HohmannTransferSweep(HohmannTransferType.INTERPLANETARY, mu.clone(), planetR1.clone(), planetR2.clone(),
+                planetMu1.clone(), planetMu2.clone(), r1.clone(), r2.clone());
+    }
+
+    /**
+     * Returns the type of the transfers in this sweep.
+     *
+     * @return The type of the transfers.
+     */
+    public HohmannTransferType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the number of points of this sweep.
+     *
+     * @return The number of points.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of values of each axis, in the order of the parameters used to create this sweep.
+     *
+     * @return The lengths of the axes.
+     */
+    public int[] shape() {
+        int[] shape = new int[axes.length];
+        for (int axis = 0; axis < axes.length; axis++) {
+            shape[axis] = axes[axis].length;
+        }
+        return shape;
+    }
+
+    /**
+     * Creates a block which can hold the given number of consecutive points of this sweep.
+     * A block can be reused for any number of {@link #calculate} calls, but not concurrently.
+     *
+     * @param capacity the maximum number of points in the block.
+     * @return A new, empty block.
+     */
+    public Block newBlock(int capacity) {
+        return new Block(axes.length, capacity);
+    }
+
+    /**
+     * Calculates consecutive points of this sweep, starting from the given point, until the block is full
+     * or the last point has been calculated. Large blocks are calculated in parallel.
+     *
+     * @param first the index of the first point to calculate.
+     * @param block the block to write the inputs and results to.
+     */
+    public void calculate(long first, Block block) {
+        if (first < 0 || first >= size) {
+            throw new IndexOutOfBoundsException("Point " + first + " is out of range");
+        }
+        block.size = (int) Math.min(block.capacity(), size - first);
+        ForkJoinPool.commonPool().invoke(new SweepTask(first, 0, block.size, block));
+    }
+
+    /**
+     * Writes the axis indices of the given point into an array, in row-major order.
+     *
+     * @param point   the index of the point.
+     * @param indices the array to write the index of each axis to.
+     */
+    public void indicesOf(long point, int[] indices) {
+        for (int axis = axes.length - 1; axis >= 0; axis--) {
+            int length = axes[axis].length;
+            indices[axis] = (int) (point % length);
+            point /= length;
+        }
+    }
+
+    /**
+     * Advances the axis indices to the next point, in row-major order.
+     *
+     * @param indices the axis indices of a point, which are replaced with the indices of the next point.
+     */
+    public void next(int[] indices) {
+        for (int axis = axes.length - 1; axis >= 0; axis--) {
+            if (++indices[axis] < axes[axis].length) {
+                return;
+            }
+            indices[axis] = 0;
+        }
+    }
+
+    private void calculateRange(long first, int from, int to, Block block) {
+        double[][] inputs = block.inputs;
+        int[] indices = new int[axes.length];
+        indicesOf(first + from, indices);
+        for (int i = from; i < to; i++) {
+            for (int axis = 0; axis < axes.length; axis++) {
+                inputs[axis][i] = axes[axis][indices[axis]];
+            }
+            next(indices);
+        }
+        if (type == HohmannTransferType.SAME_BODY) {
+            HohmannTransferKernel.calculateOrbitTransfers(from, to, inputs[0], inputs[1], inputs[2],
+                    block.transferTime, block.insertionDeltaV, block.arrivalDeltaV);
+        } else {
+            HohmannTransferKernel.calculateInterplanetaryTransfers(from, to, inputs[0], inputs[1], inputs[2],
+                    inputs[3], inputs[4], inputs[5], inputs[6], block.transferTime, block.insertionDeltaV, block.arrivalDeltaV);
+        }
+    }
+
+    /**
+     * Columns holding the inputs and results of consecutive points of a sweep.
+     */
+    public static final class Block {
+
+        private final double[][] inputs;
+        private final double[] transferTime;
+        private final double[] insertionDeltaV;
+        private final double[] arrivalDeltaV;
+        private int size;
+
+        private Block(int parameters, int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Block capacity must be greater than 0");
+            }
+            this.inputs = new double[parameters][capacity];
+            this.transferTime = new double[capacity];
+            this.insertionDeltaV = new double[capacity];
+            this.arrivalDeltaV = new double[capacity];
+        }
+
+        /**
+         * Returns the maximum number of points in this block.
+         *
+         * @return The capacity of this block.
+         */
+        public int capacity() {
+            return transferTime.length;
+        }
+
+        /**
+         * Returns the number of points calculated by the most recent {@link HohmannTransferSweep#calculate} call.
+         * Only this many leading elements of the columns are valid.
+         *
+         * @return The number of points in this block.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the column of the given input parameter, in the order of the parameters used to create the sweep.
+         *
+         * @param parameter the index of the parameter.
+         * @return The values of the parameter.
+         */
+        public double[] getInput(int parameter) {
+            return inputs[parameter];
+        }
+
+        /**
+         * Returns the column of transfer durations.
+         *
+         * @return The durations of the transfers.
+         */
+        public double[] getTransferTime() {
+            return transferTime;
+        }
+
+        /**
+         * Returns the column of delta-Vs needed to enter the transfer orbits.
+         *
+         * @return The insertion delta-Vs.
+         */
+        public double[] getInsertionDeltaV() {
+            return insertionDeltaV;
+        }
+
+        /**
+         * Returns the column of delta-Vs needed to leave the transfer orbits.
+         *
+         * @return The arrival delta-Vs.
+         */
+        public double[] getArrivalDeltaV() {
+            return arrivalDeltaV;
+        }
+    }
+
+    private class SweepTask extends RecursiveAction {
+
+        private final long first;
+        private final int from;
+        private final int to;
+        private final Block block;
+
+        SweepTask(long first, int from, int to, Block block) {
+            this.first = first;
+            this.from = from;
+            this.to = to;
+            this.block = block;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > HohmannTransferKernel.PARALLEL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new SweepTask(first, from, middle, block), new SweepTask(first, middle, to, block));
+            } else {
+                calculateRange(first, from, to, block);
+            }
+        }
+    }
+}
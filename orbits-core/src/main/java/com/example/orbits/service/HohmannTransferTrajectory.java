@@ -0,0 +1,297 @@
+package com.example.orbits.service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * HohmannTransferTrajectory describes the paths of a set of spacecraft along their Hohmann transfer orbits,
+ * and calculates their state vectors at evenly spaced times, in blocks of consecutive samples.
+ * <p>
+ * Each transfer follows half of the transfer ellipse of {@link HohmannTransferCalculator}, which has a semi-major
+ * axis of {@code (r1 + r2) / 2}, from the starting orbit radius to the destination orbit radius. The first sample
+ * of a transfer is taken at the departure and the last one at the arrival, after {@link HohmannTransferKernel#transferTime},
+ * with the remaining samples evenly spaced in between. Samples are numbered transfer by transfer.
+ * <p>
+ * A state vector consists of the position and velocity of the spacecraft relative to the primary body,
+ * in the plane of the transfer orbit. The x axis points from the primary body towards the departure point,
+ * and the spacecraft moves counterclockwise, so every transfer starts at {@code (r1, 0)} and ends at {@code (-r2, 0)}.
+ * Positions are found by solving Kepler's equation with {@link HohmannTransferKernel#eccentricAnomaly}.
+ * <p>
+ * Only the orbital elements of the transfers are stored, so any number of samples can be described,
+ * while the memory needed to calculate them depends only on the size of a {@link Block}. Each block is split
+ * between the cores of the common fork-join pool, and no objects are created for individual samples.
+ */
+public final class HohmannTransferTrajectory {
+
+    private final int samples;
+    private final long size;
+    private final double[] semiMajorAxis;
+    private final double[] eccentricity;
+    private final double[] meanMotion;
+    private final double[] transferTime;
+    /**
+     * Whether each transfer descends to a lower orbit, departing from the apoapsis of its transfer orbit.
+     */
+    private final boolean[] descending;
+
+    private HohmannTransferTrajectory(double[] mu, double[] r1, double[] r2, int samples) {
+        if (mu.length == 0 || mu.length != r1.length || mu.length != r2.length) {
+            throw new IllegalArgumentException("Trajectory must contain transfers with all parameters");
+        }
+        if (samples <= 0) {
+            throw new IllegalArgumentException("Number of samples must be greater than 0");
+        }
+        try {
+            this.size = Math.multiplyExact((long) mu.length, samples);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Trajectory has too many samples");
+        }
+        this.samples = samples;
+        int transfers = mu.length;
+        this.semiMajorAxis = new double[transfers];
+        this.eccentricity = new double[transfers];
+        this.meanMotion = new double[transfers];
+        this.transferTime = new double[transfers];
+        this.descending = new boolean[transfers];
+        for (int i = 0; i < transfers; i++) {
+            if (!isValid(mu[i]) || !isValid(r1[i]) || !isValid(r2[i])) {
+                throw new IllegalArgumentException("Trajectory parameters must be finite and greater than 0");
+            }
+            double a = (r1[i] + r2[i]) / 2d;
+            semiMajorAxis[i] = a;
+            eccentricity[i] = Math.abs(r2[i] - r1[i]) / (r1[i] + r2[i]);
+            meanMotion[i] = Math.sqrt(mu[i] / (a * a * a));
+            transferTime[i] = HohmannTransferKernel.transferTime(mu[i], r1[i], r2[i]);
+            descending[i] = r2[i] < r1[i];
+        }
+    }
+
+    /**
+     * Creates a trajectory of Hohmann transfers between pairs of orbits around the same primary body.
+     * The i-th element of every column describes the i-th transfer.
+     *
+     * @param mu      the standard gravitational parameters of the primary bodies.
+     * @param r1      the radii of the starting orbits.
+     * @param r2      the radii of the destination orbits.
+     * @param samples the number of samples of each transfer.
+     * @return A trajectory sampling every transfer the given number of times.
+     * @throws IllegalArgumentException if there are no transfers, the columns differ in length, any value
+     *                                  is not finite and greater than 0, the number of samples is not greater than 0,
+     *                                  or the total number of samples exceeds {@link Long#MAX_VALUE}.
+     */
+    public static HohmannTransferTrajectory of(double[] mu, double[] r1, double[] r2, int samples) {
+        return new HohmannTransferTrajectory(mu, r1, r2, samples);
+    }
+
+    /**
+     * Returns the number of transfers of this trajectory.
+     *
+     * @return The number of transfers.
+     */
+    public int getTransferCount() {
+        return transferTime.length;
+    }
+
+    /**
+     * Returns the number of samples of each transfer.
+     *
+     * @return The number of samples per transfer.
+     */
+    public int getSamples() {
+        return samples;
+    }
+
+    /**
+     * Returns the total number of samples of all transfers.
+     *
+     * @return The number of samples.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Creates a block which can hold the given number of consecutive samples of this trajectory.
+     * A block can be reused for any number of {@link #calculate} calls, but not concurrently.
+     *
+     * @param capacity the maximum number of samples in the block.
+     * @return A new, empty block.
+     */
+    public Block newBlock(int capacity) {
+        return new Block(capacity);
+    }
+
+    /**
+     * Calculates consecutive samples of this trajectory, starting from the given sample, until the block is full
+     * or the last sample has been calculated. Large blocks are calculated in parallel.
+     *
+     * @param first the index of the first sample to calculate.
+     * @param block the block to write the state vectors to.
+     */
+    public void calculate(long first, Block block) {
+        if (first < 0 || first >= size) {
+            throw new IndexOutOfBoundsException("Sample " + first + " is out of range");
+        }
+        block.size = (int) Math.min(block.capacity(), size - first);
+        ForkJoinPool.commonPool().invoke(new TrajectoryTask(first, 0, block.size, block));
+    }
+
+    /**
+     * Returns the index of the transfer which the given sample belongs to.
+     *
+     * @param sample the index of the sample.
+     * @return The index of the transfer.
+     */
+    public int transferOf(long sample) {
+        return (int) (sample / samples);
+    }
+
+    private void calculateRange(long first, int from, int to, Block block) {
+        long sample = first + from;
+        int transfer = (int) (sample / samples);
+        int step = (int) (sample % samples);
+        double interval = samples > 1 ? transferTime[transfer] / (samples - 1) : 0d;
+        for (int i = from; i < to; i++) {
+            double time = step * interval;
+            double a = semiMajorAxis[transfer];
+            double e = eccentricity[transfer];
+            double n = meanMotion[transfer];
+            // A descending transfer departs from the apoapsis, half a revolution after the periapsis
+            double meanAnomaly = descending[transfer] ? Math.PI + n * time : n * time;
+            double anomaly = HohmannTransferKernel.eccentricAnomaly(meanAnomaly, e);
+            double cos = Math.cos(anomaly);
+            double sin = Math.sin(anomaly);
+            double minorAxisRatio = Math.sqrt(1d - e * e);
+            double speedFactor = n * a / (1d - e * cos);
+            // Periapsis-based coordinates are rotated by half a turn, so that every transfer departs along the x axis
+            double sign = descending[transfer] ? -1d : 1d;
+            block.time[i] = time;
+            block.x[i] = sign * a * (cos - e);
+            block.y[i] = sign * a * minorAxisRatio * sin;
+            block.vx[i] = -sign * speedFactor * sin;
+            block.vy[i] = sign * speedFactor * minorAxisRatio * cos;
+            if (++step == samples && i + 1 < to) {
+                step = 0;
+                transfer++;
+                interval = samples > 1 ? transferTime[transfer] / (samples - 1) : 0d;
+            }
+        }
+    }
+
+    private static boolean isValid(double value) {
+        return value > 0d && !Double.isInfinite(value);
+    }
+
+    /**
+     * Columns holding the state vectors of consecutive samples of a trajectory.
+     */
+    public static final class Block {
+
+        private final double[] time;
+        private final double[] x;
+        private final double[] y;
+        private final double[] vx;
+        private final double[] vy;
+        private int size;
+
+        private Block(int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Block capacity must be greater than 0");
+            }
+            this.time = new double[capacity];
+            this.x = new double[capacity];
+            this.y = new double[capacity];
+            this.vx = new double[capacity];
+            this.vy = new double[capacity];
+        }
+
+        /**
+         * Returns the maximum number of samples in this block.
+         *
+         * @return The capacity of this block.
+         */
+        public int capacity() {
+            return time.length;
+        }
+
+        /**
+         * Returns the number of samples calculated by the most recent {@link HohmannTransferTrajectory#calculate} call.
+         * Only this many leading elements of the columns are valid.
+         *
+         * @return The number of samples in this block.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the column of times elapsed since the departure.
+         *
+         * @return The times of the samples.
+         */
+        public double[] getTime() {
+            return time;
+        }
+
+        /**
+         * Returns the column of x coordinates of the positions.
+         *
+         * @return The x coordinates.
+         */
+        public double[] getX() {
+            return x;
+        }
+
+        /**
+         * Returns the column of y coordinates of the positions.
+         *
+         * @return The y coordinates.
+         */
+        public double[] getY() {
+            return y;
+        }
+
+        /**
+         * Returns the column of x components of the velocities.
+         *
+         * @return The x velocities.
+         */
+        public double[] getVx() {
+            return vx;
+        }
+
+        /**
+         * Returns the column of y components of the velocities.
+         *
+         * @return The y velocities.
+         */
+        public double[] getVy() {
+            return vy;
+        }
+    }
+
+    private class TrajectoryTask extends RecursiveAction {
+
+        private final long first;
+        private final int from;
+        private final int to;
+        private final Block block;
+
+        TrajectoryTask(long first, int from, int to, Block block) {
+            this.first = first;
+            this.from = from;
+            this.to = to;
+            this.block = block;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > HohmannTransferKernel.PARALLEL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new TrajectoryTask(first, from, middle, block), new TrajectoryTask(first, middle, to, block));
+            } else {
+                calculateRange(first, from, to, block);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.orbits.service;
+
+/**
+ * The kinds of Hohmann transfers supported by {@link HohmannTransferCalculator}.
+ */
+public enum HohmannTransferType {
+
+    /**
+     * A transfer between two orbits around the same primary body.
+     */
+    SAME_BODY("same-body"),
+
+    /**
+     * A transfer between orbits around two bodies which orbit the same primary body.
+     */
+    INTERPLANETARY("interplanetary");
+
+    private final String tagValue;
+
+    HohmannTransferType(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    /**
+     * Returns the name of this transfer type, as used in metric tags.
+     *
+     * @return The name of this transfer type.
+     */
+    public String getTagValue() {
+        return tagValue;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * HohmannTransferValidator checks the input values of a Hohmann transfer before any model objects are created,
+ * and collects a structured error for every invalid field instead of throwing an exception at the first one.
+ * <p>
+ * The checks match the conditions enforced by the constructors of {@link CelestialBody} and
+ * {@link com.example.orbits.model.Orbit} and by {@link HohmannTransferCalculator#classify}, so objects created
+ * from values which passed validation can be calculated without exceptions. Rejecting an input still costs several
+ * times as much as accepting it, because the errors are collected, but an order of magnitude less than throwing
+ * and catching the exceptions of the model classes, since no stack traces are captured.
+ * <p>
+ * A validator is created for a single input; its checks are chained and the result is read afterwards:
+ * <pre>
+ * {@code
+ * var validator = new HohmannTransferValidator()
+ *         .requirePositive("primaryBodyMass", mass)
+ *         .requirePositive("startingOrbitRadius", r1);
+ * if (!validator.isValid()) {
+ *     return validator.getErrors();
+ * }
+ * }
+ * </pre>
+ * No errors list is allocated until the first check fails. Instances are not thread-safe.
+ */
+public final class HohmannTransferValidator {
+
+    /**
+     * The reasons for which a field can be invalid.
+     */
+    public enum ErrorCode {
+
+        /**
+         * A mass or a radius is not greater than 0.
+         */
+        NOT_POSITIVE("not-positive"),
+
+        /**
+         * A celestial body is not in the catalog.
+         */
+        UNKNOWN_BODY("unknown-body"),
+
+        /**
+         * The orbits do not meet the conditions described in {@link HohmannTransferCalculator}.
+         */
+        INCOMPATIBLE_ORBITS("incompatible-orbits");
+
+        private final String code;
+
+        ErrorCode(String code) {
+            this.code = code;
+        }
+
+        /**
+         * Returns the identifier of this error in API responses.
+         *
+         * @return The lowercase, hyphenated identifier of this error.
+         */
+        public String getCode() {
+            return code;
+        }
+    }
+
+    /**
+     * An error of a single input field.
+     */
+    @Value
+    public static class FieldError {
+
+        /**
+         * The name of the invalid field, as given to the validator.
+         */
+        String field;
+
+        /**
+         * The reason for which the field is invalid.
+         */
+        ErrorCode code;
+    }
+
+    private List<FieldError> errors;
+
+    /**
+     * Checks that a mass or a radius is greater than 0.
+     *
+     * @param field the name of the field.
+     * @param value the value of the field.
+     * @return This validator.
+     */
+    public HohmannTransferValidator requirePositive(String field, double value) {
+        if (!(value > 0d)) {
+            addError(field, ErrorCode.NOT_POSITIVE);
+        }
+        return this;
+    }
+
+    /**
+     * Checks that a celestial body was found in the catalog.
+     *
+     * @param field the name of the field containing the name of the body.
+     * @param body  the body found in the catalog, or null if there is no such body.
+     * @return This validator.
+     * @see CelestialBodyCatalog#find
+     */
+    public HohmannTransferValidator requireKnownBody(String field, CelestialBody body) {
+        if (body == null) {
+            addError(field, ErrorCode.UNKNOWN_BODY);
+        }
+        return this;
+    }
+
+    /**
+     * Checks that orbits around the given bodies can be connected by a Hohmann transfer. The check is skipped
+     * if either body is null, since a missing body has already been reported by {@link #requireKnownBody}.
+     *
+     * @param field           the name of the field to report an error for.
+     * @param startingBody    the primary body of the starting orbit, or null.
+     * @param destinationBody the primary body of the destination orbit, or null.
+     * @return This validator.
+     * @see HohmannTransferCalculator#canTransfer
+     */
+    public HohmannTransferValidator requireTransferable(String field, CelestialBody startingBody, CelestialBody destinationBody) {
+        if (startingBody != null && destinationBody != null
+                && !HohmannTransferCalculator.canTransfer(startingBody, destinationBody)) {
+            addError(field, ErrorCode.INCOMPATIBLE_ORBITS);
+        }
+        return this;
+    }
+
+    /**
+     * Returns whether all checks have passed.
+     *
+     * @return True if no errors have been found.
+     */
+    public boolean isValid() {
+        return errors == null;
+    }
+
+    /**
+     * Returns all errors found by the checks, in the order of the checks.
+     *
+     * @return An unmodifiable list of errors, empty if all checks have passed.
+     */
+    public List<FieldError> getErrors() {
+        return errors == null ? Collections.emptyList() : Collections.unmodifiableList(errors);
+    }
+
+    private void addError(@NonNull String field, ErrorCode code) {
+        if (errors == null) {
+            errors = new ArrayList<>(4);
+        }
+        errors.add(new FieldError(field, code));
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.orbits.service;
+
+import java.util.Arrays;
+
+/**
+ * A mergeable sketch of the distribution of non-negative values, which answers quantile queries with a bounded
+ * relative error in memory independent of the number of values.
+ * <p>
+ * Positive values are counted in buckets whose bounds grow geometrically by the factor
+ * {@code (1 + relativeAccuracy) / (1 - relativeAccuracy)}, so every value of a bucket is within the relative accuracy
+ * of the bucket's representative value. The buckets are kept in a single array covering the indices between
+ * the smallest and the largest value added, so the memory used by a sketch grows only with the logarithm
+ * of the ratio of these values; zeros are counted separately.
+ * <p>
+ * Merging two sketches adds their bucket counts, so the counts, and therefore all quantiles, do not depend
+ * on the order in which values are added or sketches are merged. Instances are mutable and not thread-safe;
+ * parallel calculations should fill a sketch per task and merge them.
+ */
+public final class QuantileSketch {
+
+    private static final int INITIAL_BUCKETS = 64;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private long[] counts = new long[0];
+    /**
+     * The bucket index of {@code counts[0]}.
+     */
+    private int offset;
+    private long zeroCount;
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param relativeAccuracy the maximum relative error of quantiles, greater than 0 and less than 1.
+     * @throws IllegalArgumentException if the relative accuracy is out of its valid range.
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0d && relativeAccuracy < 1d)) {
+            throw new IllegalArgumentException("Relative accuracy must be greater than 0 and less than 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1d + relativeAccuracy) / (1d - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    /**
+     * Returns the maximum relative error of quantiles of this sketch.
+     *
+     * @return The relative accuracy of this sketch.
+     */
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * Adds a value to this sketch.
+     *
+     * @param value the value to add, finite and at least 0.
+     * @throws IllegalArgumentException if the value is negative or not finite.
+     */
+    public void add(double value) {
+        if (!(value >= 0d) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Value must be finite and at least 0");
+        }
+        if (value == 0d) {
+            zeroCount++;
+        } else {
+            int index = index(value);
+            ensureCapacity(index, index);
+            counts[index - offset]++;
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds all values of another sketch to this sketch.
+     *
+     * @param other the sketch to merge into this sketch, with the same relative accuracy.
+     * @throws IllegalArgumentException if the sketches have different relative accuracies.
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Sketches must have the same relative accuracy");
+        }
+        if (other.count == 0L) {
+            return;
+        }
+        if (other.counts.length > 0) {
+            ensureCapacity(other.offset, other.offset + other.counts.length - 1);
+            for (int i = 0; i < other.counts.length; i++) {
+                counts[other.offset + i - offset] += other.counts[i];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Returns the number of values added to this sketch.
+     *
+     * @return The number of values.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the smallest value added to this sketch.
+     *
+     * @return The exact minimum, or NaN if the sketch is empty.
+     */
+    public double getMin() {
+        return count == 0L ? Double.NaN : min;
+    }
+
+    /**
+     * Returns the largest value added to this sketch.
+     *
+     * @return The exact maximum, or NaN if the sketch is empty.
+     */
+    public double getMax() {
+        return count == 0L ? Double.NaN : max;
+    }
+
+    /**
+     * Returns the mean of all values added to this sketch.
+     *
+     * @return The mean, or NaN if the sketch is empty.
+     */
+    public double getMean() {
+        return count == 0L ? Double.NaN : sum / count;
+    }
+
+    /**
+     * Returns an approximate quantile of the values added to this sketch.
+     *
+     * @param quantile the quantile to return, between 0 and 1.
+     * @return A value within the relative accuracy of the exact quantile, or NaN if the sketch is empty.
+     * @throws IllegalArgumentException if the quantile is out of its valid range.
+     */
+    public double quantile(double quantile) {
+        if (!(quantile >= 0d && quantile <= 1d)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (count == 0L) {
+            return Double.NaN;
+        }
+        // The rank of the quantile among the values in increasing order, counted from 0
+        long rank = (long) (quantile * (count - 1));
+        if (rank < zeroCount) {
+            return 0d;
+        }
+        long seen = zeroCount;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                return Math.max(min, Math.min(max, value(offset + i)));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns a histogram of the values added to this sketch, in bins of equal width between the minimum
+     * and the maximum value. Every bucket of the sketch is counted in the bin containing its representative value,
+     * so the counts of bins narrower than the relative accuracy allows are only approximate.
+     *
+     * @param bins the number of bins, greater than 0.
+     * @return The number of values in every bin, in increasing order of values.
+     * @throws IllegalArgumentException if the number of bins is not greater than 0.
+     */
+    public long[] histogram(int bins) {
+        if (bins <= 0) {
+            throw new IllegalArgumentException("Number of bins must be greater than 0");
+        }
+        long[] histogram = new long[bins];
+        if (count == 0L) {
+            return histogram;
+        }
+        double width = (max - min) / bins;
+        histogram[bin(0d, width, bins)] += zeroCount;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0L) {
+                histogram[bin(value(offset + i), width, bins)] += counts[i];
+            }
+        }
+        return histogram;
+    }
+
+    private int bin(double value, double width, int bins) {
+        if (!(width > 0d)) {
+            return 0;
+        }
+        return (int) Math.max(0L, Math.min(bins - 1L, (long) ((value - min) / width)));
+    }
+
+    private int index(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    /**
+     * Returns the representative value of a bucket, whose relative distance from both bounds of the bucket
+     * is at most the relative accuracy.
+     */
+    private double value(int index) {
+        return 2d * Math.pow(gamma, index) / (gamma + 1d);
+    }
+
+    private void ensureCapacity(int minIndex, int maxIndex) {
+        if (counts.length == 0) {
+            counts = new long[Math.max(INITIAL_BUCKETS, maxIndex - minIndex + 1)];
+            offset = minIndex - (counts.length - (maxIndex - minIndex + 1)) / 2;
+            return;
+        }
+        int newMin = Math.min(offset, minIndex);
+        int newMax = Math.max(offset + counts.length - 1, maxIndex);
+        if (newMin == offset && newMax == offset + counts.length - 1) {
+            return;
+        }
+        // Grow by at least half of the current size, towards the side which needs it
+        int length = Math.max(newMax - newMin + 1, counts.length + counts.length / 2);
+        int newOffset = newMin < offset ? newMax - length + 1 : newMin;
+        long[] newCounts = new long[length];
+        System.arraycopy(counts, 0, newCounts, offset - newOffset, counts.length);
+        counts = newCounts;
+        offset = newOffset;
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch(count=" + count + ", min=" + getMin() + ", max=" + getMax()
+                + ", buckets=" + Arrays.stream(counts).filter(c -> c != 0L).count() + ")";
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.orbits.service;
+
+/**
+ * Thrown when a celestial body is requested from {@link CelestialBodyCatalog} by a name which is not in the catalog.
+ */
+public class UnknownCelestialBodyException extends IllegalArgumentException {
+
+    public UnknownCelestialBodyException(String name) {
+        super("Unknown celestial body: " + name);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.orbits.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static com.example.orbits.codec.HohmannTransferBinaryCodec.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferBinaryCodecTest {
+
+    @Test
+    void testRecordsAreLittleEndianFloat64() {
+        var buffer = ByteBuffer.allocate(SIMPLE_INPUT_SIZE);
+        writeRecord(buffer, 1.988e30, 1.496e11, 2.289e11);
+        assertFalse(buffer.hasRemaining());
+        buffer.flip().order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(1.988e30, buffer.getDouble(0));
+        assertEquals(1.496e11, buffer.getDouble(8));
+        assertEquals(2.289e11, buffer.getDouble(16));
+    }
+
+    @Test
+    void testColumnsRoundTrip() {
+        int n = 10;
+        double[][] columns = new double[OUTPUT_FIELDS][n];
+        for (int field = 0; field < OUTPUT_FIELDS; field++) {
+            for (int i = 0; i < n; i++) {
+                columns[field][i] = field * 100 + i + 0.5;
+            }
+        }
+        var buffer = ByteBuffer.allocateDirect(n * OUTPUT_SIZE + 3).order(ByteOrder.BIG_ENDIAN);
+        writeRecords(buffer, columns, 0, n);
+        buffer.put(new byte[3]).flip();
+
+        double[][] decoded = new double[OUTPUT_FIELDS][n];
+        assertEquals(4, readRecords(buffer, decoded, 0, 4));
+        assertEquals(6, readRecords(buffer, decoded, 4, n));
+        assertEquals(3, buffer.remaining(), "An incomplete record must be left in the buffer");
+        for (int field = 0; field < OUTPUT_FIELDS; field++) {
+            assertArrayEquals(columns[field], decoded[field]);
+        }
+    }
+
+    @Test
+    void testIncompleteRecord() {
+        var buffer = ByteBuffer.allocate(SIMPLE_INPUT_SIZE - 1);
+        assertThrows(IllegalArgumentException.class, () -> readRecord(buffer, new double[SIMPLE_INPUT_FIELDS]));
+        assertThrows(IllegalArgumentException.class, () -> writeRecord(buffer, 1d, 2d, 3d));
+    }
+}
@@ -141,4 +141,45 @@ class HohmannTransferCalculatorTest {
             assertEquals(5700d, calculator.getTotalDeltaV(), 2d);
         }
     }
+
+    @Nested
+    class MoonTransferTest {
+
+        private Orbit lowEarthOrbit;
+        private Orbit lowLunarOrbit;
+
+        @BeforeEach
+        void setUp() {
+            CelestialBody earth = new CelestialBody("Terra", 5.972e24);
+            earth.setOrbit(orbit);
+            CelestialBody moon = new CelestialBody("Luna", 7.342e22);
+            moon.setOrbit(new Orbit(3.844e8, earth));
+            lowEarthOrbit = new Orbit(6.671e6, earth);
+            lowLunarOrbit = new Orbit(1.837e6, moon);
+        }
+
+        @Test
+        void testMoonTransferToMoon() {
+            var transfer = HohmannTransferCalculator.calculateMoonTransfer(lowEarthOrbit, lowLunarOrbit);
+            double expected = 4.98d * 24d * 60d * 60d;
+            assertEquals(expected, transfer.getTransferTime(), expected / 100d);
+            assertEquals(3108d, transfer.getInsertionDeltaV(), 1d);
+            assertEquals(821d, transfer.getArrivalDeltaV(), 1d);
+        }
+
+        @Test
+        void testMoonTransferFromMoon() {
+            var transfer = HohmannTransferCalculator.calculateMoonTransfer(lowLunarOrbit, lowEarthOrbit);
+            assertEquals(821d, transfer.getInsertionDeltaV(), 1d);
+            assertEquals(3108d, transfer.getArrivalDeltaV(), 1d);
+        }
+
+        @Test
+        void testMoonTransferBetweenUnrelatedBodies() {
+            assertTrue(HohmannTransferCalculator.isMoonTransfer(lowEarthOrbit.getPrimaryBody(), lowLunarOrbit.getPrimaryBody()));
+            assertFalse(HohmannTransferCalculator.isMoonTransfer(lowEarthOrbit.getPrimaryBody(), lowEarthOrbit.getPrimaryBody()));
+            assertThrows(IllegalStateException.class,
+                    () -> HohmannTransferCalculator.calculateMoonTransfer(lowEarthOrbit, new Orbit(1e7, lowEarthOrbit.getPrimaryBody())));
+        }
+    }
 }
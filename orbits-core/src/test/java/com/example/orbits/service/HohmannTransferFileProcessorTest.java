@@ -0,0 +1,165 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.Orbit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.orbits.codec.HohmannTransferBinaryCodec.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferFileProcessorTest {
+
+    private static final int RECORDS = 10_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRun() throws IOException {
+        Path input = writeInput(RECORDS);
+        Path output = directory.resolve("output.f64");
+        var processor = new HohmannTransferFileProcessor(input, output, HohmannTransferType.SAME_BODY, 1000, 3);
+        assertEquals(RECORDS, processor.getRecordCount());
+        assertTrue(processor.run(() -> false));
+        assertEquals(RECORDS, processor.getCompletedRecords());
+        assertOutput(input, output);
+    }
+
+    @Test
+    void testResumeFromCheckpoint() throws IOException {
+        Path input = writeInput(RECORDS);
+        Path output = directory.resolve("output.f64");
+        var groups = new AtomicInteger();
+        var processor = new HohmannTransferFileProcessor(input, output, HohmannTransferType.SAME_BODY, 1000, 2);
+        assertFalse(processor.run(() -> groups.incrementAndGet() > 2));
+        assertEquals(4000, processor.getCompletedRecords());
+
+        var resumed = new HohmannTransferFileProcessor(input, output, HohmannTransferType.SAME_BODY, 1000, 2);
+        assertEquals(4000, resumed.getCompletedRecords());
+        groups.set(0);
+        assertTrue(resumed.run(() -> groups.incrementAndGet() > 100));
+        assertEquals(3, groups.get());
+        assertOutput(input, output);
+    }
+
+    @Test
+    void testCheckpointOfReplacedInputIsDiscarded() throws IOException {
+        Path input = writeInput(RECORDS);
+        Path output = directory.resolve("output.f64");
+        var groups = new AtomicInteger();
+        var processor = new HohmannTransferFileProcessor(input, output, HohmannTransferType.SAME_BODY, 1000, 2);
+        assertFalse(processor.run(() -> groups.incrementAndGet() > 2));
+        assertEquals(4000, processor.getCompletedRecords());
+
+        Files.setLastModifiedTime(input, FileTime.fromMillis(Files.getLastModifiedTime(input).toMillis() + 60_000L));
+        var restarted = new HohmannTransferFileProcessor(input, output, HohmannTransferType.SAME_BODY, 1000, 2);
+        assertEquals(0, restarted.getCompletedRecords());
+    }
+
+    @Test
+    void testGroupCalculator() throws IOException {
+        Path input = writeInput(RECORDS);
+        Path output = directory.resolve("output.f64");
+        var chunks = new AtomicInteger();
+        var calculator = new HohmannTransferRecordCalculator(HohmannTransferType.SAME_BODY, 1000);
+        var failing = new HohmannTransferFileProcessor(input, output, HohmannTransferType.SAME_BODY, 1000, 4,
+                (inputs, outputs) -> {
+                    throw new IOException("Unavailable");
+                });
+        assertThrows(IOException.class, () -> failing.run(() -> false));
+        assertEquals(0, failing.getCompletedRecords());
+
+        var processor = new HohmannTransferFileProcessor(input, output, HohmannTransferType.SAME_BODY, 1000, 4,
+                (inputs, outputs) -> {
+                    assertTrue(inputs.length <= 4);
+                    for (int chunk = 0; chunk < inputs.length; chunk++) {
+                        assertEquals(inputs[chunk].remaining() / SIMPLE_INPUT_SIZE, outputs[chunk].remaining() / OUTPUT_SIZE);
+                        calculator.calculate(inputs[chunk], outputs[chunk]);
+                        chunks.incrementAndGet();
+                    }
+                });
+        assertTrue(processor.run(() -> false));
+        assertEquals(RECORDS / 1000, chunks.get());
+        assertOutput(input, output);
+    }
+
+    @Test
+    void testHugeChunkSize() throws IOException {
+        Path input = writeInput(RECORDS);
+        Path output = directory.resolve("output.f64");
+        var processor = new HohmannTransferFileProcessor(input, output, HohmannTransferType.SAME_BODY,
+                Integer.MAX_VALUE, Integer.MAX_VALUE);
+        assertTrue(processor.run(() -> false));
+        assertEquals(RECORDS, processor.getCompletedRecords());
+        assertOutput(input, output);
+    }
+
+    @Test
+    void testInvalidInputFileSize() throws IOException {
+        Path input = Files.write(directory.resolve("input.f64"), new byte[SIMPLE_INPUT_SIZE + 1]);
+        assertThrows(IllegalArgumentException.class, () -> new HohmannTransferFileProcessor(input,
+                directory.resolve("output.f64"), HohmannTransferType.SAME_BODY, 1000, 1));
+    }
+
+    @Test
+    void testConvertCsv() throws IOException {
+        Path csv = Files.writeString(directory.resolve("input.csv"),
+                "primaryBodyMass,startingOrbitRadius,destinationOrbitRadius\n1.988e30, 1.496e11, 2.289e11\n\n1,2,3\n");
+        Path binary = directory.resolve("input.f64");
+        assertEquals(2, HohmannTransferFileProcessor.convertCsv(csv, binary, HohmannTransferType.SAME_BODY));
+        var buffer = ByteBuffer.wrap(Files.readAllBytes(binary));
+        double[] values = new double[SIMPLE_INPUT_FIELDS];
+        readRecord(buffer, values);
+        assertArrayEquals(new double[]{1.988e30, 1.496e11, 2.289e11}, values);
+        readRecord(buffer, values);
+        assertArrayEquals(new double[]{1, 2, 3}, values);
+        assertFalse(buffer.hasRemaining());
+
+        Files.writeString(csv, "1,2\n");
+        assertThrows(IllegalArgumentException.class,
+                () -> HohmannTransferFileProcessor.convertCsv(csv, binary, HohmannTransferType.SAME_BODY));
+        assertEquals(2 * SIMPLE_INPUT_SIZE, Files.size(binary));
+        try (var files = Files.list(directory)) {
+            assertFalse(files.anyMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    private Path writeInput(int records) throws IOException {
+        var random = new Random(42);
+        var buffer = ByteBuffer.allocate(records * SIMPLE_INPUT_SIZE);
+        for (int i = 0; i < records; i++) {
+            writeRecord(buffer, 1e24 + random.nextDouble() * 1e30, 1e6 + random.nextDouble() * 1e12,
+                    i == 7 ? -1 : 1e6 + random.nextDouble() * 1e12);
+        }
+        return Files.write(directory.resolve("input.f64"), buffer.array());
+    }
+
+    private static void assertOutput(Path input, Path output) throws IOException {
+        var inputBuffer = ByteBuffer.wrap(Files.readAllBytes(input));
+        var outputBuffer = ByteBuffer.wrap(Files.readAllBytes(output));
+        assertEquals(RECORDS * OUTPUT_SIZE, outputBuffer.remaining());
+        double[] inputs = new double[SIMPLE_INPUT_FIELDS];
+        double[] outputs = new double[OUTPUT_FIELDS];
+        for (int i = 0; i < RECORDS; i++) {
+            readRecord(inputBuffer, inputs);
+            readRecord(outputBuffer, outputs);
+            if (i == 7) {
+                assertTrue(Double.isNaN(outputs[TOTAL_DELTA_V]));
+                continue;
+            }
+            var body = new CelestialBody(null, inputs[0]);
+            var transfer = HohmannTransferCalculator.calculateTransfer(new Orbit(inputs[1], body), new Orbit(inputs[2], body));
+            assertEquals(transfer.getTransferTime(), outputs[TRANSFER_TIME]);
+            assertEquals(transfer.getTotalDeltaV(), outputs[TOTAL_DELTA_V]);
+        }
+    }
+}
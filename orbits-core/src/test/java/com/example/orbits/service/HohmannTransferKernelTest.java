@@ -0,0 +1,132 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferKernelTest {
+
+    private static final double SOL_MASS = 1.988e30;
+    private static final double TERRA_MASS = 5.972e24;
+    private static final double MARS_MASS = 6.417e23;
+
+    @Test
+    void testOrbitTransfersMatchReferenceValues() {
+        // LEO at 300 km to GEO, and Earth to Mars, with the delta-Vs and durations of published examples
+        double[] mu = {mu(TERRA_MASS), mu(SOL_MASS)};
+        double[] r1 = {6.678e6, 1.496e11};
+        double[] r2 = {4.2164e7, 2.279e11};
+        var results = new double[3][2];
+        HohmannTransferKernel.calculateOrbitTransfers(mu, r1, r2, results[0], results[1], results[2]);
+
+        assertEquals(5.27d, results[0][0] / 3600d, 0.01d);
+        assertEquals(2426d, results[1][0], 1d);
+        assertEquals(1467d, results[2][0], 1d);
+        assertEquals(259d, results[0][1] / 86400d, 0.5d);
+        assertEquals(2943d, results[1][1], 1d);
+        assertEquals(2648d, results[2][1], 1d);
+
+        for (int i = 0; i < 2; i++) {
+            // The speeds on the transfer orbit follow from the vis-viva equation
+            double semiMajorAxis = (r1[i] + r2[i]) / 2d;
+            double periapsisSpeed = Math.sqrt(mu[i] * (2d / r1[i] - 1d / semiMajorAxis));
+            double apoapsisSpeed = Math.sqrt(mu[i] * (2d / r2[i] - 1d / semiMajorAxis));
+            assertEquals(periapsisSpeed - Math.sqrt(mu[i] / r1[i]), results[1][i], 1e-9 * periapsisSpeed);
+            assertEquals(Math.sqrt(mu[i] / r2[i]) - apoapsisSpeed, results[2][i], 1e-9 * apoapsisSpeed);
+        }
+    }
+
+    @Test
+    void testTransfersBetweenEqualOrbitsNeedNoDeltaV() {
+        var results = new double[3][1];
+        HohmannTransferKernel.calculateOrbitTransfers(new double[]{mu(TERRA_MASS)}, new double[]{7e6}, new double[]{7e6},
+                results[0], results[1], results[2]);
+        assertEquals(0d, results[1][0]);
+        assertEquals(0d, results[2][0]);
+        // Half of the period of the circular orbit
+        assertEquals(Math.PI * Math.sqrt(7e6 * 7e6 * 7e6 / mu(TERRA_MASS)), results[0][0], 1e-6);
+    }
+
+    @Test
+    void testInterplanetaryTransfersMatchReferenceValues() {
+        // From LEO to a low Mars orbit: about 3.6 km/s for the injection and 2.1 km/s for the capture
+        var results = new double[3][1];
+        HohmannTransferKernel.calculateInterplanetaryTransfers(
+                new double[]{mu(SOL_MASS)}, new double[]{1.496e11}, new double[]{2.279e11},
+                new double[]{mu(TERRA_MASS)}, new double[]{mu(MARS_MASS)}, new double[]{6.678e6}, new double[]{3.69e6},
+                results[0], results[1], results[2]);
+
+        assertEquals(259d, results[0][0] / 86400d, 0.5d);
+        assertEquals(3590d, results[1][0], 10d);
+        assertEquals(2091d, results[2][0], 10d);
+    }
+
+    @Test
+    void testMismatchedColumnsAreRejected() {
+        double[] two = new double[2];
+        double[] three = new double[3];
+        assertThrows(IllegalArgumentException.class,
+                () -> HohmannTransferKernel.calculateOrbitTransfers(two, two, three, two, two, two));
+        assertThrows(IllegalArgumentException.class,
+                () -> HohmannTransferKernel.calculateOrbitTransfers(two, two, two, two, two, three));
+        assertThrows(IllegalArgumentException.class,
+                () -> HohmannTransferKernel.calculateInterplanetaryTransfers(two, two, two, two, three, two, two, two, two, two));
+        assertThrows(IllegalArgumentException.class,
+                () -> HohmannTransferKernel.calculateOrbitTransfers(0, 3, three, three, two, three, three, three));
+        assertThrows(IllegalArgumentException.class,
+                () -> HohmannTransferKernel.calculateOrbitTransfers(2, 1, three, three, three, three, three, three));
+        assertThrows(IllegalArgumentException.class, () -> HohmannTransferKernel.calculateInterplanetaryTransfers(-1, 2,
+                three, three, three, three, three, three, three, three, three, three));
+        // A range shorter than the columns is valid
+        HohmannTransferKernel.calculateOrbitTransfers(0, 2, three, three, two, three, two, three);
+    }
+
+    @Test
+    void testLargeBatchesMatchSequentialCalculation() {
+        int size = HohmannTransferKernel.PARALLEL_THRESHOLD * 8 + 3;
+        var random = new Random(42);
+        double[] mu = new double[size];
+        double[] r1 = new double[size];
+        double[] r2 = new double[size];
+        double[] planetR1 = new double[size];
+        double[] planetR2 = new double[size];
+        double[] planetMu1 = new double[size];
+        double[] planetMu2 = new double[size];
+        for (int i = 0; i < size; i++) {
+            mu[i] = mu(SOL_MASS * (0.1d + random.nextDouble()));
+            r1[i] = 1e6 + random.nextDouble() * 1e8;
+            r2[i] = 1e6 + random.nextDouble() * 1e8;
+            planetR1[i] = 1e10 + random.nextDouble() * 1e12;
+            planetR2[i] = 1e10 + random.nextDouble() * 1e12;
+            planetMu1[i] = mu(TERRA_MASS * (0.1d + random.nextDouble()));
+            planetMu2[i] = mu(TERRA_MASS * (0.1d + random.nextDouble()));
+        }
+
+        var simple = new double[3][size];
+        HohmannTransferKernel.calculateOrbitTransfers(mu, planetR1, planetR2, simple[0], simple[1], simple[2]);
+        var interplanetary = new double[3][size];
+        HohmannTransferKernel.calculateInterplanetaryTransfers(mu, planetR1, planetR2, planetMu1, planetMu2, r1, r2,
+                interplanetary[0], interplanetary[1], interplanetary[2]);
+
+        // The parallel tasks split the batch, so every element must match a single sequential pass
+        var sequentialSimple = new double[3][size];
+        HohmannTransferKernel.calculateOrbitTransfers(0, size, mu, planetR1, planetR2,
+                sequentialSimple[0], sequentialSimple[1], sequentialSimple[2]);
+        var sequentialInterplanetary = new double[3][size];
+        HohmannTransferKernel.calculateInterplanetaryTransfers(0, size, mu, planetR1, planetR2, planetMu1, planetMu2, r1, r2,
+                sequentialInterplanetary[0], sequentialInterplanetary[1], sequentialInterplanetary[2]);
+        for (int column = 0; column < 3; column++) {
+            assertArrayEquals(sequentialSimple[column], simple[column]);
+            assertArrayEquals(sequentialInterplanetary[column], interplanetary[column]);
+        }
+        assertTrue(Arrays.stream(interplanetary[1]).allMatch(deltaV -> deltaV > 0d));
+    }
+
+    private static double mu(double mass) {
+        return new CelestialBody(null, mass).getStandardGravitationalParameter();
+    }
+}
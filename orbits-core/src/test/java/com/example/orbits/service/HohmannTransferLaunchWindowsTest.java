@@ -0,0 +1,80 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.Orbit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferLaunchWindowsTest {
+
+    private static final double DAY = 86400d;
+
+    private final CelestialBody sun = new CelestialBody("Sun", 1.9885e30);
+
+    @Test
+    void testEarthToMars() {
+        var windows = HohmannTransferLaunchWindows.of(planet("Earth", 1.49598e11), planet("Mars", 2.27939e11));
+        assertEquals(44.3, Math.toDegrees(windows.getPhaseAngle()), 0.1);
+        assertEquals(780d, windows.getSynodicPeriod() / DAY, 1d);
+        assertEquals(259d, windows.getTransferTime() / DAY, 1d);
+        var expected = HohmannTransferCalculator.calculateTransfer(new Orbit(1.49598e11, sun), new Orbit(2.27939e11, sun));
+        assertEquals(expected.getTransferTime(), windows.getTransferTime());
+    }
+
+    @Test
+    void testEarthToVenus() {
+        var windows = HohmannTransferLaunchWindows.of(planet("Earth", 1.49598e11), planet("Venus", 1.08209e11));
+        assertEquals(-54d, Math.toDegrees(windows.getPhaseAngle()), 0.5);
+        assertEquals(584d, windows.getSynodicPeriod() / DAY, 1d);
+    }
+
+    @Test
+    void testDeparturesMatchPhaseAngle() {
+        double mu = sun.getStandardGravitationalParameter();
+        double[][] orbits = {{1.49598e11, 2.27939e11}, {1.49598e11, 1.08209e11}, {7.78479e11, 5.7909e10}};
+        for (double[] radii : orbits) {
+            var windows = HohmannTransferLaunchWindows.of(mu, radii[0], radii[1]);
+            double relativeMeanMotion = Math.sqrt(mu / Math.pow(radii[1], 3)) - Math.sqrt(mu / Math.pow(radii[0], 3));
+            for (double initialPhaseAngle = -10d; initialPhaseAngle <= 10d; initialPhaseAngle += 0.37) {
+                double horizon = 20d * windows.getSynodicPeriod();
+                double[] departures = windows.departures(initialPhaseAngle, horizon);
+                assertEquals(windows.countDepartures(initialPhaseAngle, horizon), departures.length);
+                assertTrue(departures.length == 20 || departures.length == 21);
+                assertTrue(departures[0] >= 0d && departures[0] < windows.getSynodicPeriod());
+                for (double departure : departures) {
+                    assertTrue(departure <= horizon);
+                    double phase = initialPhaseAngle + relativeMeanMotion * departure - windows.getPhaseAngle();
+                    assertEquals(0d, Math.sin(phase / 2d), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testDeparturesWithinShortHorizon() {
+        var windows = HohmannTransferLaunchWindows.of(planet("Earth", 1.49598e11), planet("Mars", 2.27939e11));
+        assertEquals(0, windows.departures(0d, 0d).length);
+        assertEquals(1, windows.departures(windows.getPhaseAngle(), 0d).length);
+        assertThrows(IllegalArgumentException.class, () -> windows.departures(0d, -1d));
+        assertThrows(IllegalArgumentException.class, () -> windows.departures(Double.NaN, 1d));
+    }
+
+    @Test
+    void testInvalidPairs() {
+        var earth = planet("Earth", 1.49598e11);
+        var moon = new CelestialBody("Moon", 7.342e22);
+        moon.setOrbit(new Orbit(3.844e8, earth));
+        assertThrows(IllegalStateException.class, () -> HohmannTransferLaunchWindows.of(earth, earth));
+        assertThrows(IllegalStateException.class, () -> HohmannTransferLaunchWindows.of(earth, moon));
+        assertThrows(IllegalStateException.class, () -> HohmannTransferLaunchWindows.of(sun, earth));
+        assertThrows(IllegalArgumentException.class, () -> HohmannTransferLaunchWindows.of(earth, planet("Twin", 1.49598e11)));
+        assertThrows(IllegalArgumentException.class, () -> HohmannTransferLaunchWindows.of(-1d, 1d, 2d));
+    }
+
+    private CelestialBody planet(String name, double orbitRadius) {
+        var planet = new CelestialBody(name, 1e24);
+        planet.setOrbit(new Orbit(orbitRadius, sun));
+        return planet;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.service.HohmannTransferMonteCarlo.Distribution;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferMonteCarloTest {
+
+    private static final double SUN_MASS = 1.989e30;
+    private static final double EARTH_MASS = 5.972e24;
+    private static final double MARS_MASS = 6.417e23;
+    private static final double EARTH_ORBIT_RADIUS = 1.496e11;
+    private static final double MARS_ORBIT_RADIUS = 2.279e11;
+
+    @Test
+    void testFixedParametersMatchKernel() {
+        double mu = CelestialBody.standardGravitationalParameter(EARTH_MASS);
+        var result = HohmannTransferMonteCarlo.simple(Distribution.fixed(EARTH_MASS), Distribution.fixed(6.671e6),
+                Distribution.fixed(4.2164e7)).run(1000, 1, 0.001);
+        assertEquals(1000, result.getSampleCount());
+        assertEquals(0, result.getInvalidSampleCount());
+        double totalDeltaV = HohmannTransferKernel.insertionDeltaV(mu, 6.671e6, 4.2164e7)
+                + HohmannTransferKernel.arrivalDeltaV(mu, 6.671e6, 4.2164e7);
+        assertEquals(totalDeltaV, result.getTotalDeltaV().quantile(0.5), 1e-9 * totalDeltaV);
+        assertEquals(result.getTotalDeltaV().getMin(), result.getTotalDeltaV().getMax());
+        assertEquals(HohmannTransferKernel.transferTime(mu, 6.671e6, 4.2164e7), result.getTransferTime().getMean(), 1e-6);
+    }
+
+    @Test
+    void testResultsAreIndependentOfThreadCount() {
+        var simulation = interplanetary();
+        long samples = 5L * HohmannTransferMonteCarlo.CHUNK_SIZE + 123;
+        var parallel = simulation.run(samples, 42, 0.001);
+        var pool = new ForkJoinPool(1);
+        HohmannTransferMonteCarlo.Result sequential;
+        try {
+            sequential = simulation.run(pool, samples, 42, 0.001);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(samples, parallel.getSampleCount());
+        assertEquals(sequential.getInvalidSampleCount(), parallel.getInvalidSampleCount());
+        for (double q = 0d; q <= 1d; q += 0.01) {
+            assertEquals(sequential.getTotalDeltaV().quantile(q), parallel.getTotalDeltaV().quantile(q));
+            assertEquals(sequential.getTransferTime().quantile(q), parallel.getTransferTime().quantile(q));
+        }
+        assertEquals(sequential.getInsertionDeltaV().getMean(), parallel.getInsertionDeltaV().getMean());
+        assertArrayEquals(sequential.getArrivalDeltaV().histogram(50), parallel.getArrivalDeltaV().histogram(50));
+        assertNotEquals(parallel.getTotalDeltaV().getMean(), simulation.run(samples, 43, 0.001).getTotalDeltaV().getMean());
+    }
+
+    @Test
+    void testDistributionsAndInvalidSamples() {
+        // About 16% of the samples of the starting orbit radius are not greater than 0
+        var result = HohmannTransferMonteCarlo.simple(Distribution.fixed(EARTH_MASS), Distribution.normal(1e7, 1e7),
+                Distribution.uniform(4e7, 5e7)).run(100_000, 7, 0.001);
+        assertEquals(0.16, (double) result.getInvalidSampleCount() / result.getSampleCount(), 0.01);
+        assertEquals(result.getSampleCount() - result.getInvalidSampleCount(), result.getTotalDeltaV().getCount());
+        var interplanetary = interplanetary().run(100_000, 7, 0.001);
+        assertEquals(0, interplanetary.getInvalidSampleCount());
+        double median = interplanetary.getTotalDeltaV().quantile(0.5);
+        assertTrue(interplanetary.getTotalDeltaV().quantile(0.05) < median && median < interplanetary.getTotalDeltaV().quantile(0.95));
+        assertThrows(IllegalArgumentException.class, () -> Distribution.normal(1d, -1d));
+        assertThrows(IllegalArgumentException.class, () -> Distribution.uniform(2d, 1d));
+        assertThrows(IllegalArgumentException.class, () -> interplanetary().run(0, 1, 0.001));
+    }
+
+    private static HohmannTransferMonteCarlo interplanetary() {
+        return HohmannTransferMonteCarlo.interplanetary(Distribution.normal(SUN_MASS, 1e27),
+                Distribution.normal(EARTH_ORBIT_RADIUS, 1e8), Distribution.fixed(EARTH_MASS),
+                Distribution.uniform(MARS_ORBIT_RADIUS * 0.99, MARS_ORBIT_RADIUS * 1.01), Distribution.normal(MARS_MASS, 1e21),
+                Distribution.uniform(6.6e6, 7e6), Distribution.fixed(3.7e6));
+    }
+}
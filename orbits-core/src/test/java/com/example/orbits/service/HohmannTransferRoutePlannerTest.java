@@ -0,0 +1,126 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.Orbit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferRoutePlannerTest {
+
+    private final CelestialBody sun = new CelestialBody("Sun", 1.9885e30);
+    private final CelestialBody earth = body("Earth", 5.97237e24, 1.49598e11, sun);
+    private final CelestialBody mars = body("Mars", 6.4171e23, 2.27939e11, sun);
+    private final CelestialBody moon = body("Moon", 7.342e22, 3.844e8, earth);
+
+    @Test
+    void testRouteThroughIntermediateOrbit() {
+        var planner = new HohmannTransferRoutePlanner(HohmannTransferRoutePlanner.Cost.DELTA_V);
+        int low = planner.add(new Orbit(6.671e6, earth));
+        int far = planner.add(new Orbit(6.671e8, earth));
+        int mars = planner.add(new Orbit(3.69e6, this.mars));
+        double direct = planner.cost(low, far);
+        assertArrayEquals(new int[]{low, far}, planner.route(low, far));
+        assertEquals(legCost(planner, low, far), direct);
+        assertArrayEquals(new int[]{low, mars}, planner.route(low, mars));
+
+        // For radius ratios this large, a detour through a much higher orbit needs less delta-V, like a bi-elliptic transfer
+        int high = planner.add(new Orbit(1e11, earth));
+        assertArrayEquals(new int[]{low, high, far}, planner.route(low, far));
+        assertEquals(legCost(planner, low, high) + legCost(planner, high, far), planner.cost(low, far), 1e-9);
+        assertTrue(planner.cost(low, far) < direct);
+        assertEquals(0d, planner.cost(high, high));
+        assertArrayEquals(new int[]{high}, planner.route(high, high));
+    }
+
+    @Test
+    void testRouteThroughMoon() {
+        var planner = new HohmannTransferRoutePlanner(HohmannTransferRoutePlanner.Cost.DELTA_V);
+        int low = planner.add(new Orbit(6.671e6, earth));
+        int lunar = planner.add(new Orbit(1.837e6, moon));
+        int mars = planner.add(new Orbit(3.69e6, this.mars));
+        assertArrayEquals(new int[]{low, lunar}, planner.route(low, lunar));
+        assertEquals(legCost(planner, low, lunar), planner.cost(low, lunar));
+        assertArrayEquals(new int[]{lunar, low, mars}, planner.route(lunar, mars));
+        assertEquals(legCost(planner, lunar, low) + legCost(planner, low, mars), planner.cost(lunar, mars), 1e-9);
+    }
+
+    @Test
+    void testUnreachableOrbits() {
+        var planner = new HohmannTransferRoutePlanner(HohmannTransferRoutePlanner.Cost.TRANSFER_TIME);
+        int low = planner.add(new Orbit(6.671e6, earth));
+        int centauri = planner.add(new Orbit(1e11, new CelestialBody("Alpha Centauri", 2.1e30)));
+        assertEquals(Double.POSITIVE_INFINITY, planner.cost(low, centauri));
+        assertEquals(0, planner.route(centauri, low).length);
+        assertThrows(IndexOutOfBoundsException.class, () -> planner.cost(low, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> planner.route(-1, low));
+    }
+
+    @Test
+    void testIncrementalUpdatesMatchFloydWarshall() {
+        var random = new SplittableRandom(42);
+        for (var cost : HohmannTransferRoutePlanner.Cost.values()) {
+            var planner = new HohmannTransferRoutePlanner(cost);
+            List<Orbit> orbits = new ArrayList<>();
+            var primaries = new CelestialBody[]{sun, earth, mars, moon};
+            for (int i = 0; i < 100; i++) {
+                var primary = primaries[random.nextInt(primaries.length)];
+                var orbit = new Orbit(primary == sun ? random.nextDouble(5e10, 5e11) : random.nextDouble(2e6, 1e8), primary);
+                assertEquals(i, planner.add(orbit));
+                orbits.add(orbit);
+            }
+            double[][] expected = floydWarshall(orbits, cost);
+            for (int i = 0; i < orbits.size(); i++) {
+                for (int j = 0; j < orbits.size(); j++) {
+                    assertEquals(expected[i][j], planner.cost(i, j), 1e-9 * expected[i][j]);
+                    int[] route = planner.route(i, j);
+                    if (expected[i][j] == Double.POSITIVE_INFINITY) {
+                        assertEquals(0, route.length);
+                    } else {
+                        double sum = 0d;
+                        for (int leg = 1; leg < route.length; leg++) {
+                            sum += legCost(planner, route[leg - 1], route[leg]);
+                        }
+                        assertEquals(expected[i][j], sum, 1e-9 * expected[i][j]);
+                    }
+                }
+            }
+        }
+    }
+
+    private static double legCost(HohmannTransferRoutePlanner planner, int from, int to) {
+        return planner.getCost().of(HohmannTransferRoutePlanner.calculateLeg(planner.getOrbit(from), planner.getOrbit(to)));
+    }
+
+    private static double[][] floydWarshall(List<Orbit> orbits, HohmannTransferRoutePlanner.Cost cost) {
+        int n = orbits.size();
+        double[][] d = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                try {
+                    d[i][j] = i == j ? 0d : cost.of(HohmannTransferRoutePlanner.calculateLeg(orbits.get(i), orbits.get(j)));
+                } catch (IllegalStateException e) {
+                    d[i][j] = Double.POSITIVE_INFINITY;
+                }
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    d[i][j] = Math.min(d[i][j], d[i][k] + d[k][j]);
+                }
+            }
+        }
+        return d;
+    }
+
+    private static CelestialBody body(String name, double mass, double orbitRadius, CelestialBody parent) {
+        var body = new CelestialBody(name, mass);
+        body.setOrbit(new Orbit(orbitRadius, parent));
+        return body;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.TransferPlan;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferStrategyOptimizerTest {
+
+    private static final double MU = 3.986e14;
+    private static final double R1 = 6.671e6;
+
+    @Test
+    void testHohmannForSmallRadiusRatios() {
+        var plan = HohmannTransferStrategyOptimizer.plan(MU, R1, 10d * R1, 1000d, Double.POSITIVE_INFINITY);
+        assertEquals(TransferPlan.Strategy.HOHMANN, plan.getStrategy());
+        assertEquals(10d * R1, plan.getIntermediateRadius());
+        assertEquals(plan.getHohmannDeltaV(), plan.getTotalDeltaV());
+        assertEquals(HohmannTransferKernel.transferTime(MU, R1, 10d * R1), plan.getTransferTime());
+    }
+
+    @Test
+    void testBiEllipticForLargeRadiusRatios() {
+        for (double ratio : new double[]{20d, 100d, 1d / 20d}) {
+            var plan = HohmannTransferStrategyOptimizer.plan(MU, R1, ratio * R1, 1000d, Double.POSITIVE_INFINITY);
+            assertEquals(TransferPlan.Strategy.BI_ELLIPTIC, plan.getStrategy());
+            assertEquals(1000d * Math.max(R1, ratio * R1), plan.getIntermediateRadius());
+            assertTrue(plan.getTotalDeltaV() < plan.getHohmannDeltaV());
+        }
+        // Between the ratios 11.94 and 15.58, only intermediate radii far enough beat the Hohmann transfer
+        assertEquals(TransferPlan.Strategy.HOHMANN, HohmannTransferStrategyOptimizer.plan(MU, R1, 13d * R1, 1.5, Double.POSITIVE_INFINITY).getStrategy());
+        assertEquals(TransferPlan.Strategy.BI_ELLIPTIC, HohmannTransferStrategyOptimizer.plan(MU, R1, 13d * R1, 1000d, Double.POSITIVE_INFINITY).getStrategy());
+    }
+
+    @Test
+    void testPlansAreAtLeastAsGoodAsAnyAdmissibleTransfer() {
+        var random = new SplittableRandom(42);
+        for (int i = 0; i < 200; i++) {
+            double r2 = R1 * Math.exp(random.nextDouble(-6d, 6d));
+            double hohmannTime = HohmannTransferKernel.transferTime(MU, R1, r2);
+            double maxTransferTime = hohmannTime * random.nextDouble(1d, 100d);
+            double maxRadiusRatio = random.nextDouble(1d, 1e4);
+            var plan = HohmannTransferStrategyOptimizer.plan(MU, R1, r2, maxRadiusRatio, maxTransferTime);
+            assertTrue(plan.getTransferTime() <= maxTransferTime);
+            assertTrue(plan.getTotalDeltaV() <= plan.getHohmannDeltaV());
+            double outer = Math.max(R1, r2);
+            for (double rb = outer; rb <= outer * maxRadiusRatio; rb *= 1.01) {
+                if (HohmannTransferKernel.biEllipticTransferTime(MU, R1, r2, rb) <= maxTransferTime) {
+                    assertTrue(plan.getTotalDeltaV() <= HohmannTransferKernel.biEllipticDeltaV(MU, R1, r2, rb) * (1d + 1e-12));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testTransferTimeLimit() {
+        double r2 = 100d * R1;
+        double hohmannTime = HohmannTransferKernel.transferTime(MU, R1, r2);
+        var plan = HohmannTransferStrategyOptimizer.plan(MU, R1, r2, 1e6, 10d * hohmannTime);
+        assertEquals(TransferPlan.Strategy.BI_ELLIPTIC, plan.getStrategy());
+        assertEquals(10d * hohmannTime, plan.getTransferTime(), 1e-9 * hohmannTime);
+        // A bi-elliptic transfer includes at least half a revolution on the outer orbit, which takes too long here
+        assertEquals(TransferPlan.Strategy.HOHMANN, HohmannTransferStrategyOptimizer.plan(MU, R1, r2, 1e6, 3d * hohmannTime).getStrategy());
+        assertThrows(IllegalArgumentException.class, () -> HohmannTransferStrategyOptimizer.plan(MU, R1, r2, 1e6, 0.9 * hohmannTime));
+        assertThrows(IllegalArgumentException.class, () -> HohmannTransferStrategyOptimizer.plan(MU, R1, r2, 0.5, hohmannTime));
+        assertThrows(IllegalArgumentException.class, () -> HohmannTransferStrategyOptimizer.plan(MU, -R1, r2, 2d, hohmannTime));
+    }
+
+    @Test
+    void testBatchMatchesSinglePlans() {
+        int size = 3 * HohmannTransferKernel.PARALLEL_THRESHOLD + 5;
+        var random = new SplittableRandom(7);
+        double[] mu = new double[size];
+        double[] r1 = new double[size];
+        double[] r2 = new double[size];
+        for (int i = 0; i < size; i++) {
+            mu[i] = MU;
+            r1[i] = R1 * Math.exp(random.nextDouble(0d, 2d));
+            r2[i] = R1 * Math.exp(random.nextDouble(0d, 6d));
+        }
+        double maxTransferTime = 2e6;
+        double[] intermediateRadius = new double[size];
+        double[] transferTime = new double[size];
+        double[] totalDeltaV = new double[size];
+        HohmannTransferStrategyOptimizer.plan(mu, r1, r2, 100d, maxTransferTime, intermediateRadius, transferTime, totalDeltaV);
+        int infeasible = 0;
+        for (int i = 0; i < size; i++) {
+            if (HohmannTransferKernel.transferTime(mu[i], r1[i], r2[i]) > maxTransferTime) {
+                assertTrue(Double.isNaN(intermediateRadius[i]) && Double.isNaN(transferTime[i]) && Double.isNaN(totalDeltaV[i]));
+                infeasible++;
+                continue;
+            }
+            var plan = HohmannTransferStrategyOptimizer.plan(mu[i], r1[i], r2[i], 100d, maxTransferTime);
+            assertEquals(plan.getIntermediateRadius(), intermediateRadius[i]);
+            assertEquals(plan.getTransferTime(), transferTime[i]);
+            assertEquals(plan.getTotalDeltaV(), totalDeltaV[i]);
+        }
+        assertTrue(infeasible > 0 && infeasible < size);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.Orbit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferSweepTest {
+
+    @Test
+    void testSameBodySweepMatchesCalculator() {
+        var sol = new CelestialBody("Sol", 1.988e30);
+        double[] r1 = {1e11, 1.496e11, 2e11};
+        double[] r2 = new double[3000];
+        for (int i = 0; i < r2.length; i++) {
+            r2[i] = 5e10 + i * 1e8;
+        }
+        var sweep = HohmannTransferSweep.sameBody(new double[]{sol.getStandardGravitationalParameter()}, r1, r2);
+        assertEquals(9000L, sweep.size());
+        assertArrayEquals(new int[]{1, 3, 3000}, sweep.shape());
+
+        // A block smaller than the sweep, larger than the parallel threshold, and not aligned to the axes
+        var block = sweep.newBlock(5000);
+        int[] indices = new int[3];
+        for (long first = 0; first < sweep.size(); first += block.size()) {
+            sweep.calculate(first, block);
+            sweep.indicesOf(first, indices);
+            for (int i = 0; i < block.size(); i++) {
+                var expected = HohmannTransferCalculator.calculateTransfer(
+                        new Orbit(r1[indices[1]], sol), new Orbit(r2[indices[2]], sol));
+                assertEquals(expected.getTransferTime(), block.getTransferTime()[i]);
+                assertEquals(expected.getInsertionDeltaV(), block.getInsertionDeltaV()[i]);
+                assertEquals(expected.getArrivalDeltaV(), block.getArrivalDeltaV()[i]);
+                sweep.next(indices);
+            }
+        }
+        assertEquals(4000, block.size());
+    }
+
+    @Test
+    void testInterplanetarySweepMatchesCalculator() {
+        var sol = new CelestialBody("Sol", 1.988e30);
+        var terra = new CelestialBody("Terra", 5.972e24);
+        terra.setOrbit(new Orbit(1.496e11, sol));
+        var mars = new CelestialBody("Mars", 6.417e23);
+        mars.setOrbit(new Orbit(2.289e11, sol));
+        var sweep = HohmannTransferSweep.interplanetary(new double[]{sol.getStandardGravitationalParameter()},
+                new double[]{1.496e11}, new double[]{2.289e11},
+                new double[]{terra.getStandardGravitationalParameter()}, new double[]{mars.getStandardGravitationalParameter()},
+                new double[]{6.671e6, 7e6}, new double[]{3.69e6});
+        var block = sweep.newBlock(16);
+        sweep.calculate(0, block);
+        assertEquals(2, block.size());
+        var expected = HohmannTransferCalculator.calculateTransfer(new Orbit(7e6, terra), new Orbit(3.69e6, mars));
+        assertEquals(expected.getInsertionDeltaV(), block.getInsertionDeltaV()[1]);
+        assertEquals(expected.getArrivalDeltaV(), block.getArrivalDeltaV()[1]);
+    }
+
+    @Test
+    void testInvalidSweeps() {
+        assertThrows(IllegalArgumentException.class,
+                () -> HohmannTransferSweep.sameBody(new double[]{1e20}, new double[0], new double[]{1e11}));
+        assertThrows(IllegalArgumentException.class,
+                () -> HohmannTransferSweep.sameBody(new double[]{1e20}, new double[]{-1e11}, new double[]{1e11}));
+        assertThrows(IllegalArgumentException.class,
+                () -> HohmannTransferSweep.sameBody(new double[]{1e20}, new double[]{Double.NaN}, new double[]{1e11}));
+        double[] huge = new double[1 << 22];
+        Arrays.fill(huge, 1e11);
+        assertThrows(IllegalArgumentException.class, () -> HohmannTransferSweep.interplanetary(
+                new double[]{1e20}, huge, huge, huge, huge, huge, huge));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.Orbit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferTrajectoryTest {
+
+    @Test
+    void testEccentricAnomalySolvesKeplerEquation() {
+        double[] eccentricities = {0d, 1e-9, 0.1, 0.5, 0.9, 0.99, 0.999999};
+        for (double e : eccentricities) {
+            for (int i = -100; i <= 1100; i++) {
+                double meanAnomaly = i * 2d * Math.PI / 1000d;
+                double anomaly = HohmannTransferKernel.eccentricAnomaly(meanAnomaly, e);
+                assertEquals(meanAnomaly, anomaly - e * Math.sin(anomaly), 1e-14,
+                        "M = " + meanAnomaly + ", e = " + e);
+                assertTrue(Math.abs(anomaly - meanAnomaly) <= e + 1e-14);
+            }
+        }
+        assertEquals(0d, HohmannTransferKernel.eccentricAnomaly(0d, 0.9));
+        assertEquals(Math.PI, HohmannTransferKernel.eccentricAnomaly(Math.PI, 0.9), 1e-15);
+    }
+
+    @Test
+    void testTrajectoryFollowsTransferOrbit() {
+        double mu = new CelestialBody("Sol", 1.988e30).getStandardGravitationalParameter();
+        double[] r1 = {1.496e11, 2.289e11, 1e11, 7e11};
+        double[] r2 = {2.289e11, 1.496e11, 1e11, 1e9};
+        int samples = 3001;
+        var trajectory = HohmannTransferTrajectory.of(new double[]{mu, mu, mu, mu}, r1, r2, samples);
+        assertEquals(4, trajectory.getTransferCount());
+        assertEquals(4L * samples, trajectory.size());
+
+        // A block smaller than the trajectory, larger than the parallel threshold, and not aligned to the transfers
+        var block = trajectory.newBlock(5000);
+        for (long first = 0; first < trajectory.size(); first += block.size()) {
+            trajectory.calculate(first, block);
+            for (int i = 0; i < block.size(); i++) {
+                long sample = first + i;
+                int transfer = trajectory.transferOf(sample);
+                int step = (int) (sample % samples);
+                double a = (r1[transfer] + r2[transfer]) / 2d;
+                double transferTime = HohmannTransferKernel.transferTime(mu, r1[transfer], r2[transfer]);
+                double x = block.getX()[i];
+                double y = block.getY()[i];
+                double vx = block.getVx()[i];
+                double vy = block.getVy()[i];
+                double r = Math.hypot(x, y);
+                double v = Math.hypot(vx, vy);
+                assertEquals(transferTime * step / (samples - 1), block.getTime()[i], transferTime * 1e-12);
+                // Vis-viva equation and conservation of angular momentum
+                assertEquals(-mu / (2d * a), v * v / 2d - mu / r, mu / a * 1e-9);
+                assertEquals(Math.sqrt(2d * mu * r1[transfer] * r2[transfer] / (r1[transfer] + r2[transfer])),
+                        x * vy - y * vx, v * r * 1e-9);
+                assertTrue(y >= -r * 1e-12);
+                assertTrue(r >= Math.min(r1[transfer], r2[transfer]) * (1d - 1e-12));
+                assertTrue(r <= Math.max(r1[transfer], r2[transfer]) * (1d + 1e-12));
+                if (step == 0) {
+                    assertEquals(r1[transfer], x, r1[transfer] * 1e-12);
+                    assertEquals(0d, y, r1[transfer] * 1e-12);
+                    assertEquals(0d, vx, 1e-9);
+                    var expected = HohmannTransferCalculator.calculateTransfer(new Orbit(r1[transfer], new CelestialBody(null, 1.988e30)),
+                            new Orbit(r2[transfer], new CelestialBody(null, 1.988e30)));
+                    assertEquals(Math.sqrt(mu / r1[transfer]) + Math.signum(r2[transfer] - r1[transfer]) * expected.getInsertionDeltaV(),
+                            vy, vy * 1e-9);
+                } else if (step == samples - 1) {
+                    assertEquals(-r2[transfer], x, r2[transfer] * 1e-9);
+                    assertEquals(0d, y, r2[transfer] * 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSingleSample() {
+        var trajectory = HohmannTransferTrajectory.of(new double[]{1e20}, new double[]{1e10}, new double[]{2e10}, 1);
+        var block = trajectory.newBlock(16);
+        trajectory.calculate(0, block);
+        assertEquals(1, block.size());
+        assertEquals(0d, block.getTime()[0]);
+        assertEquals(1e10, block.getX()[0], 1e-2);
+    }
+
+    @Test
+    void testInvalidTrajectories() {
+        assertThrows(IllegalArgumentException.class,
+                () -> HohmannTransferTrajectory.of(new double[0], new double[0], new double[0], 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> HohmannTransferTrajectory.of(new double[]{1e20}, new double[]{1e10}, new double[]{-1}, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> HohmannTransferTrajectory.of(new double[]{1e20}, new double[]{1e10}, new double[]{2e10}, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> HohmannTransferTrajectory.of(new double[]{1e20}, new double[]{1e10, 2e10}, new double[]{2e10}, 10));
+    }
+}
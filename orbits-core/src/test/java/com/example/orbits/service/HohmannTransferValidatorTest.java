@@ -0,0 +1,59 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.Orbit;
+import com.example.orbits.service.HohmannTransferValidator.ErrorCode;
+import com.example.orbits.service.HohmannTransferValidator.FieldError;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferValidatorTest {
+
+    @Test
+    void testValidInput() {
+        var validator = new HohmannTransferValidator()
+                .requirePositive("primaryBodyMass", 5.972e24)
+                .requirePositive("startingOrbitRadius", 6.671e6);
+        assertTrue(validator.isValid());
+        assertEquals(List.of(), validator.getErrors());
+    }
+
+    @Test
+    void testAllInvalidFieldsAreReported() {
+        var validator = new HohmannTransferValidator()
+                .requirePositive("primaryBodyMass", -1d)
+                .requirePositive("startingOrbitRadius", 6.671e6)
+                .requirePositive("destinationOrbitRadius", 0d)
+                .requirePositive("startingPlanetMass", Double.NaN);
+        assertFalse(validator.isValid());
+        assertEquals(List.of(new FieldError("primaryBodyMass", ErrorCode.NOT_POSITIVE),
+                new FieldError("destinationOrbitRadius", ErrorCode.NOT_POSITIVE),
+                new FieldError("startingPlanetMass", ErrorCode.NOT_POSITIVE)), validator.getErrors());
+        assertEquals("not-positive", validator.getErrors().get(0).getCode().getCode());
+    }
+
+    @Test
+    void testBodiesMatchCalculatorConditions() {
+        var sun = new CelestialBody("Sun", 1.989e30);
+        var earth = new CelestialBody("Earth", 5.972e24);
+        earth.setOrbit(new Orbit(1.496e11, sun));
+        var mars = new CelestialBody("Mars", 6.417e23);
+        mars.setOrbit(new Orbit(2.279e11, sun));
+        var moon = new CelestialBody("Moon", 7.342e22);
+        moon.setOrbit(new Orbit(3.844e8, earth));
+        assertTrue(new HohmannTransferValidator().requireTransferable("destinationBody", earth, earth).isValid());
+        assertTrue(new HohmannTransferValidator().requireTransferable("destinationBody", earth, mars).isValid());
+        var validator = new HohmannTransferValidator()
+                .requireKnownBody("startingBody", moon)
+                .requireKnownBody("destinationBody", null)
+                .requireTransferable("destinationBody", moon, mars)
+                .requireTransferable("destinationBody", moon, null);
+        assertEquals(List.of(new FieldError("destinationBody", ErrorCode.UNKNOWN_BODY),
+                new FieldError("destinationBody", ErrorCode.INCOMPATIBLE_ORBITS)), validator.getErrors());
+        assertThrows(IllegalStateException.class,
+                () -> HohmannTransferCalculator.classify(new Orbit(1e7, moon), new Orbit(1e7, mars)));
+    }
+}
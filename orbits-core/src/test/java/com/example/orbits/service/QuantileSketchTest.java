@@ -0,0 +1,76 @@
+package com.example.orbits.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileSketchTest {
+
+    private static final double RELATIVE_ACCURACY = 0.001;
+
+    @Test
+    void testQuantilesAreWithinRelativeAccuracy() {
+        var random = new SplittableRandom(1);
+        double[] values = new double[100_000];
+        var sketch = new QuantileSketch(RELATIVE_ACCURACY);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextDouble(-20d, 20d));
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+        for (double q : new double[]{0d, 0.01, 0.25, 0.5, 0.75, 0.99, 0.999, 1d}) {
+            double exact = values[(int) (q * (values.length - 1))];
+            assertEquals(exact, sketch.quantile(q), RELATIVE_ACCURACY * exact);
+        }
+        assertEquals(values.length, sketch.getCount());
+        assertEquals(values[0], sketch.getMin());
+        assertEquals(values[values.length - 1], sketch.getMax());
+        assertEquals(values.length, Arrays.stream(sketch.histogram(10)).sum());
+    }
+
+    @Test
+    void testMergeIsIndependentOfOrder() {
+        var random = new SplittableRandom(2);
+        var all = new QuantileSketch(RELATIVE_ACCURACY);
+        var first = new QuantileSketch(RELATIVE_ACCURACY);
+        var second = new QuantileSketch(RELATIVE_ACCURACY);
+        for (int i = 0; i < 10_000; i++) {
+            double value = i % 100 == 0 ? 0d : random.nextDouble(1d, 1e3);
+            all.add(value);
+            (i < 5000 ? first : second).add(value * (i < 5000 ? 1d : 1e6));
+        }
+        var merged = new QuantileSketch(RELATIVE_ACCURACY);
+        merged.merge(second);
+        merged.merge(first);
+        var reversed = new QuantileSketch(RELATIVE_ACCURACY);
+        reversed.merge(first);
+        reversed.merge(second);
+        for (double q = 0d; q <= 1d; q += 0.05) {
+            assertEquals(reversed.quantile(q), merged.quantile(q));
+        }
+        assertArrayEquals(reversed.histogram(20), merged.histogram(20));
+        assertEquals(0d, all.quantile(0.005));
+        assertEquals(10_000, merged.getCount());
+        assertThrows(IllegalArgumentException.class, () -> merged.merge(new QuantileSketch(0.01)));
+    }
+
+    @Test
+    void testHistogramAndEdgeCases() {
+        var sketch = new QuantileSketch(RELATIVE_ACCURACY);
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+        assertTrue(Double.isNaN(sketch.getMean()));
+        assertArrayEquals(new long[3], sketch.histogram(3));
+        for (int i = 1; i <= 100; i++) {
+            sketch.add(i);
+        }
+        assertArrayEquals(new long[]{25, 25, 25, 25}, sketch.histogram(4));
+        assertEquals(50.5, sketch.getMean(), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> sketch.add(-1d));
+        assertThrows(IllegalArgumentException.class, () -> sketch.add(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(0d));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.orbits.launcher;
+
+import com.example.orbits.service.CelestialBodyCatalog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+
+import static com.example.orbits.launcher.HttpExchanges.*;
+
+/**
+ * Handles {@code GET /bodies}, returning all bodies from the {@link CelestialBodyCatalog}
+ * in the format of the Spring Boot application's catalog endpoint.
+ */
+class CelestialBodyHttpHandler implements HttpHandler {
+
+    private final ObjectMapper objectMapper;
+    private final byte[] body;
+
+    CelestialBodyHttpHandler(ObjectMapper objectMapper, CelestialBodyCatalog catalog) throws IOException {
+        this.objectMapper = objectMapper;
+        ArrayNode bodies = objectMapper.createArrayNode();
+        for (var body : catalog.getBodies()) {
+            var orbit = body.getOrbit();
+            bodies.addObject()
+                    .put("name", body.getName())
+                    .put("mass", body.getMass())
+                    .put("standardGravitationalParameter", body.getStandardGravitationalParameter())
+                    .put("parent", orbit != null ? orbit.getPrimaryBody().getName() : null)
+                    .put("orbitRadius", orbit != null ? orbit.getRadius() : null);
+        }
+        this.body = objectMapper.writeValueAsBytes(bodies);
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath())) {
+            sendError(exchange, objectMapper, NOT_FOUND, "Not Found");
+        } else if (!exchange.getRequestMethod().equals("GET")) {
+            exchange.getResponseHeaders().set("Allow", "GET");
+            sendError(exchange, objectMapper, METHOD_NOT_ALLOWED, "Method Not Allowed");
+        } else {
+            send(exchange, OK, APPLICATION_JSON_VALUE, body);
+        }
+    }
+}
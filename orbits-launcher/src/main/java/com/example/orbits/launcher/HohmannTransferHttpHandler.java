@@ -0,0 +1,204 @@
+package com.example.orbits.launcher;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.HohmannTransfer;
+import com.example.orbits.model.Orbit;
+import com.example.orbits.service.CelestialBodyCatalog;
+import com.example.orbits.service.HohmannTransferCalculator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static com.example.orbits.codec.HohmannTransferBinaryCodec.*;
+import static com.example.orbits.launcher.HttpExchanges.*;
+
+/**
+ * Handles {@code POST /simple}, {@code POST /interplanetary} and {@code POST /named} with the same input and output
+ * formats as the Spring Boot application. The simple and interplanetary endpoints also accept and produce
+ * the binary format described in {@link HohmannTransferBinaryCodec}.
+ * <p>
+ * Malformed request bodies, including fields which cannot be converted to the type of the corresponding field
+ * of the Spring Boot application's input objects and binary records with values which are not finite,
+ * result in a 400 Bad Request response, and invalid input parameters in a 422 Unprocessable Entity response.
+ * The format of the response is negotiated from the quality values of the {@code Accept} header.
+ */
+class HohmannTransferHttpHandler implements HttpHandler {
+
+    private static final String INVALID_INPUT_MESSAGE = "Input parameters are invalid";
+    private static final String MALFORMED_INPUT_MESSAGE = "Malformed request body";
+
+    private final ObjectMapper objectMapper;
+    private final CelestialBodyCatalog catalog;
+
+    HohmannTransferHttpHandler(ObjectMapper objectMapper, CelestialBodyCatalog catalog) {
+        this.objectMapper = objectMapper;
+        this.catalog = catalog;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (!path.equals(exchange.getHttpContext().getPath())) {
+            sendError(exchange, objectMapper, NOT_FOUND, "Not Found");
+            return;
+        }
+        if (!exchange.getRequestMethod().equals("POST")) {
+            exchange.getResponseHeaders().set("Allow", "POST");
+            sendError(exchange, objectMapper, METHOD_NOT_ALLOWED, "Method Not Allowed");
+            return;
+        }
+        boolean named = path.equals("/named");
+        String contentType = contentType(exchange);
+        boolean binary = !named && MEDIA_TYPE_VALUE.equals(contentType);
+        if (!binary && !APPLICATION_JSON_VALUE.equals(contentType)) {
+            sendError(exchange, objectMapper, UNSUPPORTED_MEDIA_TYPE, "Unsupported Media Type");
+            return;
+        }
+        String outputType = named ? negotiate(exchange, APPLICATION_JSON_VALUE)
+                : negotiate(exchange, APPLICATION_JSON_VALUE, MEDIA_TYPE_VALUE);
+        if (outputType == null) {
+            sendError(exchange, objectMapper, NOT_ACCEPTABLE, "Not Acceptable");
+            return;
+        }
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        int fields = path.equals("/interplanetary") ? INTERPLANETARY_INPUT_FIELDS : SIMPLE_INPUT_FIELDS;
+        double[] values = new double[fields];
+        String[] bodyNames = null;
+        if (binary) {
+            if (body.length != fields * Double.BYTES) {
+                sendError(exchange, objectMapper, BAD_REQUEST,
+                        "Message must contain exactly one record of " + fields * Double.BYTES + " bytes");
+                return;
+            }
+            readRecord(ByteBuffer.wrap(body), values);
+            for (double value : values) {
+                if (!Double.isFinite(value)) {
+                    sendError(exchange, objectMapper, BAD_REQUEST, "Record must contain only finite values");
+                    return;
+                }
+            }
+        } else {
+            JsonNode input = readJsonObject(body);
+            if (input == null) {
+                sendError(exchange, objectMapper, BAD_REQUEST, MALFORMED_INPUT_MESSAGE);
+                return;
+            }
+            try {
+                if (named) {
+                    bodyNames = readNamedInput(input, values);
+                } else {
+                    readJsonInput(input, values);
+                }
+            } catch (JsonProcessingException e) {
+                sendError(exchange, objectMapper, BAD_REQUEST, MALFORMED_INPUT_MESSAGE);
+                return;
+            }
+        }
+        HohmannTransfer transfer;
+        try {
+            Orbit[] orbits = named ? createNamedOrbits(bodyNames, values) : createOrbits(values);
+            transfer = HohmannTransferCalculator.calculateTransfer(orbits[0], orbits[1]);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            sendError(exchange, objectMapper, UNPROCESSABLE_ENTITY, INVALID_INPUT_MESSAGE);
+            return;
+        }
+        if (outputType.equals(MEDIA_TYPE_VALUE)) {
+            sendBinaryOutput(exchange, transfer);
+        } else {
+            sendJsonOutput(exchange, transfer);
+        }
+    }
+
+    /**
+     * Parses a request body which should contain a JSON object.
+     *
+     * @return The parsed object, or null if the body does not contain a JSON object.
+     */
+    private JsonNode readJsonObject(byte[] body) throws IOException {
+        try {
+            JsonNode input = objectMapper.readTree(body);
+            return input != null && input.isObject() ? input : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the fields of a named JSON input object: the radii into the orbit radius positions of a simple input record,
+     * and the names of the bodies.
+     */
+    private String[] readNamedInput(JsonNode input, double[] values) throws JsonProcessingException {
+        values[1] = readField(input, "startingOrbitRadius", double.class, 0d);
+        values[2] = readField(input, "destinationOrbitRadius", double.class, 0d);
+        return new String[]{
+                readField(input, "startingBody", String.class, null),
+                readField(input, "destinationBody", String.class, null)
+        };
+    }
+
+    /**
+     * Reads the fields of a JSON input object in the order of the binary input record. As in the Spring Boot
+     * application, missing fields are read as 0, which makes the input invalid.
+     */
+    private void readJsonInput(JsonNode input, double[] values) throws JsonProcessingException {
+        values[0] = readField(input, "primaryBodyMass", double.class, 0d);
+        values[1] = readField(input, "startingOrbitRadius", double.class, 0d);
+        values[2] = readField(input, "destinationOrbitRadius", double.class, 0d);
+        if (values.length == INTERPLANETARY_INPUT_FIELDS) {
+            values[3] = readField(input, "startingPlanetMass", double.class, 0d);
+            values[4] = readField(input, "startingPlanetOrbitRadius", double.class, 0d);
+            values[5] = readField(input, "destinationPlanetMass", double.class, 0d);
+            values[6] = readField(input, "destinationPlanetOrbitRadius", double.class, 0d);
+        }
+    }
+
+    /**
+     * Converts a field of a JSON input object with the same deserializers as the Spring Boot application,
+     * so that values which it would not accept, such as non-numeric strings in numeric fields, are rejected.
+     */
+    private <T> T readField(JsonNode input, String field, Class<T> type, T defaultValue) throws JsonProcessingException {
+        JsonNode value = input.get(field);
+        return value == null ? defaultValue : objectMapper.treeToValue(value, type);
+    }
+
+    private Orbit[] createNamedOrbits(String[] bodyNames, double[] values) {
+        return new Orbit[]{
+                new Orbit(values[1], catalog.get(bodyNames[0])),
+                new Orbit(values[2], catalog.get(bodyNames[1]))
+        };
+    }
+
+    private static Orbit[] createOrbits(double[] values) {
+        var primaryBody = new CelestialBody(null, values[0]);
+        if (values.length == SIMPLE_INPUT_FIELDS) {
+            return new Orbit[]{new Orbit(values[1], primaryBody), new Orbit(values[2], primaryBody)};
+        }
+        var startingPlanet = new CelestialBody(null, values[3]);
+        startingPlanet.setOrbit(new Orbit(values[4], primaryBody));
+        var destinationPlanet = new CelestialBody(null, values[5]);
+        destinationPlanet.setOrbit(new Orbit(values[6], primaryBody));
+        return new Orbit[]{new Orbit(values[1], startingPlanet), new Orbit(values[2], destinationPlanet)};
+    }
+
+    private void sendJsonOutput(HttpExchange exchange, HohmannTransfer transfer) throws IOException {
+        var output = objectMapper.createObjectNode()
+                .put("transferTime", transfer.getTransferTime())
+                .put("insertionDeltaV", transfer.getInsertionDeltaV())
+                .put("arrivalDeltaV", transfer.getArrivalDeltaV())
+                .put("totalDeltaV", transfer.getTotalDeltaV());
+        sendJson(exchange, objectMapper, output);
+    }
+
+    private static void sendBinaryOutput(HttpExchange exchange, HohmannTransfer transfer) throws IOException {
+        var output = ByteBuffer.allocate(OUTPUT_SIZE);
+        writeRecord(output, transfer.getTransferTime(), transfer.getInsertionDeltaV(), transfer.getArrivalDeltaV(),
+                transfer.getTotalDeltaV());
+        send(exchange, OK, MEDIA_TYPE_VALUE, output.array());
+    }
+}
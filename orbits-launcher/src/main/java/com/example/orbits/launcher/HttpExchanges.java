@@ -0,0 +1,145 @@
+package com.example.orbits.launcher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Helper methods for reading requests and writing responses of the JDK HTTP server,
+ * shared by the handlers of {@link OrbitsLauncher}.
+ */
+final class HttpExchanges {
+
+    static final String APPLICATION_JSON_VALUE = "application/json";
+
+    static final int OK = 200;
+    static final int BAD_REQUEST = 400;
+    static final int NOT_FOUND = 404;
+    static final int METHOD_NOT_ALLOWED = 405;
+    static final int NOT_ACCEPTABLE = 406;
+    static final int UNSUPPORTED_MEDIA_TYPE = 415;
+    static final int UNPROCESSABLE_ENTITY = 422;
+
+    private HttpExchanges() {
+    }
+
+    /**
+     * Returns the media type of the request body, without parameters.
+     *
+     * @param exchange the HTTP exchange.
+     * @return The lower-case media type of the request body, or null if the request has no {@code Content-Type} header.
+     */
+    static String contentType(HttpExchange exchange) {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null) {
+            return null;
+        }
+        int end = contentType.indexOf(';');
+        return (end < 0 ? contentType : contentType.substring(0, end)).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Selects the media type of the response among the types a handler can produce, in the same way as
+     * Spring MVC: the type accepted with the highest quality is selected, and of types accepted with the same quality,
+     * the one matched by a more specific entry of the {@code Accept} header, then the one given first.
+     * The quality of a type is the {@code q} parameter of the most specific entry which matches it,
+     * so that a type matched by an entry with {@code q=0} is not acceptable.
+     *
+     * @param exchange   the HTTP exchange.
+     * @param mediaTypes the lower-case media types which can be produced, in order of preference.
+     * @return The selected media type, the first given type if the request has no {@code Accept} header,
+     * or null if none of the given types is acceptable.
+     */
+    static String negotiate(HttpExchange exchange, String... mediaTypes) {
+        String accept = exchange.getRequestHeaders().getFirst("Accept");
+        if (accept == null || accept.isBlank()) {
+            return mediaTypes[0];
+        }
+        String selected = null;
+        double selectedQuality = 0d;
+        int selectedSpecificity = -1;
+        for (String mediaType : mediaTypes) {
+            double quality = 0d;
+            int specificity = -1;
+            for (String entry : accept.split(",")) {
+                String[] parameters = entry.split(";");
+                int entrySpecificity = specificity(parameters[0].trim().toLowerCase(Locale.ROOT), mediaType);
+                if (entrySpecificity > specificity) {
+                    specificity = entrySpecificity;
+                    quality = quality(parameters);
+                }
+            }
+            if (quality > selectedQuality || (quality == selectedQuality && quality > 0d && specificity > selectedSpecificity)) {
+                selected = mediaType;
+                selectedQuality = quality;
+                selectedSpecificity = specificity;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Returns how specifically an entry of the {@code Accept} header matches a media type:
+     * 2 for the same type, 1 for a {@code type/*} range, 0 for {@code *}{@code /*}, or -1 if it does not match.
+     */
+    private static int specificity(String range, String mediaType) {
+        if (range.equals(mediaType)) {
+            return 2;
+        } else if (range.equals("*/*")) {
+            return 0;
+        } else if (range.endsWith("/*") && mediaType.startsWith(range.substring(0, range.length() - 1))) {
+            return 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the {@code q} parameter of an entry of the {@code Accept} header, or 0 if it is not a valid quality.
+     */
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String[] parameter = parameters[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    double quality = Double.parseDouble(parameter[1].trim());
+                    return quality >= 0d && quality <= 1d ? quality : 0d;
+                } catch (NumberFormatException e) {
+                    return 0d;
+                }
+            }
+        }
+        return 1d;
+    }
+
+    static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    static void sendJson(HttpExchange exchange, ObjectMapper objectMapper, Object body) throws IOException {
+        send(exchange, OK, APPLICATION_JSON_VALUE, objectMapper.writeValueAsBytes(body));
+    }
+
+    /**
+     * Sends an error response with a JSON body similar to the error responses of the Spring Boot application.
+     *
+     * @param exchange     the HTTP exchange.
+     * @param objectMapper the object mapper used to write the body.
+     * @param status       the status code of the response.
+     * @param message      the error message.
+     * @throws IOException if writing the response fails.
+     */
+    static void sendError(HttpExchange exchange, ObjectMapper objectMapper, int status, String message) throws IOException {
+        var body = objectMapper.createObjectNode()
+                .put("status", status)
+                .put("message", message)
+                .put("path", exchange.getRequestURI().getPath());
+        send(exchange, status, APPLICATION_JSON_VALUE, objectMapper.writeValueAsBytes(body));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.orbits.launcher;
+
+import com.example.orbits.service.CelestialBodyCatalog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A lightweight launcher which serves Hohmann transfer calculations with the HTTP server built into the JDK,
+ * without Spring. It starts in a fraction of the time needed by the Spring Boot application,
+ * which makes it suitable for short-lived jobs and for instances started on demand.
+ * <p>
+ * The launcher exposes the single-transfer endpoints of the Spring Boot application with the same contracts:
+ * {@code POST /simple}, {@code POST /interplanetary} and {@code POST /named}, including the binary format
+ * of the simple and interplanetary endpoints, and {@code GET /bodies}.
+ * Batches, sweeps, the result cache and metrics are only available in the Spring Boot application.
+ * <p>
+ * Usage: {@code java -jar orbits-launcher-exec.jar [port]}. The default port is {@value #DEFAULT_PORT};
+ * port 0 selects a free port.
+ */
+public class OrbitsLauncher implements AutoCloseable {
+
+    static final int DEFAULT_PORT = 8080;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private OrbitsLauncher(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        var launcher = start(port);
+        Runtime.getRuntime().addShutdownHook(new Thread(launcher::close));
+        System.out.printf("Started orbits launcher on port %d in %d ms (JVM running for %d ms)%n", launcher.getPort(),
+                System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime(),
+                ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    /**
+     * Starts a server listening on the given port.
+     *
+     * @param port the port to listen on, or 0 to select a free port.
+     * @return The started launcher, which stops the server when closed.
+     * @throws IOException if the server cannot be started.
+     */
+    public static OrbitsLauncher start(int port) throws IOException {
+        var objectMapper = new ObjectMapper();
+        var catalog = CelestialBodyCatalog.load(input -> objectMapper.readValue(input, CelestialBodyCatalog.Entry[].class));
+        var server = HttpServer.create(new InetSocketAddress(port), 0);
+        var transferHandler = new HohmannTransferHttpHandler(objectMapper, catalog);
+        server.createContext("/simple", transferHandler);
+        server.createContext("/interplanetary", transferHandler);
+        server.createContext("/named", transferHandler);
+        server.createContext("/bodies", new CelestialBodyHttpHandler(objectMapper, catalog));
+        var executor = Executors.newFixedThreadPool(Math.max(4, 2 * Runtime.getRuntime().availableProcessors()));
+        server.setExecutor(executor);
+        server.start();
+        return new OrbitsLauncher(server, executor);
+    }
+
+    /**
+     * Returns the port on which the server listens.
+     *
+     * @return The port of the server.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server, waiting shortly for the exchanges in progress to complete.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
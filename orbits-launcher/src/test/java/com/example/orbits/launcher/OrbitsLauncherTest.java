@@ -0,0 +1,146 @@
+package com.example.orbits.launcher;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrbitsLauncherTest {
+
+    private static final String SIMPLE_INPUT =
+            "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 1.496e11, \"destinationOrbitRadius\": 2.289e11}";
+    private static final String INVALID_SIMPLE_INPUT =
+            "{\"primaryBodyMass\": -1, \"startingOrbitRadius\": 1.496e11, \"destinationOrbitRadius\": 2.289e11}";
+    private static final String INTERPLANETARY_INPUT =
+            "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 6.671e6, \"destinationOrbitRadius\": 3.69e6,"
+                    + " \"startingPlanetMass\": 5.972e24, \"startingPlanetOrbitRadius\": 1.496e11,"
+                    + " \"destinationPlanetMass\": 6.417e23, \"destinationPlanetOrbitRadius\": 2.289e11}";
+
+    private static OrbitsLauncher launcher;
+    private static HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void start() throws IOException {
+        launcher = OrbitsLauncher.start(0);
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterAll
+    static void stop() {
+        launcher.close();
+    }
+
+    @Test
+    void testSimpleHohmannTransfer() throws Exception {
+        var response = post("/simple", "application/json", SIMPLE_INPUT);
+        assertEquals(200, response.statusCode());
+        JsonNode output = objectMapper.readTree(response.body());
+        assertEquals(5642d, output.get("totalDeltaV").asDouble(), 2d);
+    }
+
+    @Test
+    void testSimpleHohmannTransferWithInvalidInput() throws Exception {
+        assertEquals(422, post("/simple", "application/json", INVALID_SIMPLE_INPUT).statusCode());
+        assertEquals(400, post("/simple", "application/json", "{\"primaryBodyMass\": }").statusCode());
+        assertEquals(400, post("/simple", "application/json", SIMPLE_INPUT.replace("1.988e30", "\"heavy\"")).statusCode());
+        assertEquals(400, post("/simple", "application/json", SIMPLE_INPUT.replace("1.988e30", "true")).statusCode());
+        assertEquals(415, post("/simple", "text/plain", SIMPLE_INPUT).statusCode());
+        assertEquals(404, post("/simple/unknown", "application/json", SIMPLE_INPUT).statusCode());
+    }
+
+    @Test
+    void testInterplanetaryHohmannTransfer() throws Exception {
+        var response = post("/interplanetary", "application/json", INTERPLANETARY_INPUT);
+        assertEquals(200, response.statusCode());
+        assertEquals(5700d, objectMapper.readTree(response.body()).get("totalDeltaV").asDouble(), 2d);
+    }
+
+    @Test
+    void testNamedHohmannTransfer() throws Exception {
+        String content = "{\"startingBody\": \"Earth\", \"startingOrbitRadius\": 6.671e6,"
+                + " \"destinationBody\": \"Mars\", \"destinationOrbitRadius\": 3.69e6}";
+        var response = post("/named", "application/json", content);
+        assertEquals(200, response.statusCode());
+        assertEquals(5700d, objectMapper.readTree(response.body()).get("totalDeltaV").asDouble(), 50d);
+        assertEquals(422, post("/named", "application/json", content.replace("Mars", "Vulcan")).statusCode());
+        assertEquals(400, post("/named", "application/json", content.replace("\"Mars\"", "{}")).statusCode());
+    }
+
+    @Test
+    void testSimpleHohmannTransferInBinaryFormat() throws Exception {
+        var input = ByteBuffer.allocate(HohmannTransferBinaryCodec.SIMPLE_INPUT_SIZE);
+        HohmannTransferBinaryCodec.writeRecord(input, 1.988e30, 1.496e11, 2.289e11);
+        var request = HttpRequest.newBuilder(uri("/simple"))
+                .header("Content-Type", HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE)
+                .header("Accept", HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(input.array()))
+                .build();
+        var response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode());
+        double[] values = new double[HohmannTransferBinaryCodec.OUTPUT_FIELDS];
+        HohmannTransferBinaryCodec.readRecord(ByteBuffer.wrap(response.body()), values);
+        assertEquals(5642d, values[HohmannTransferBinaryCodec.TOTAL_DELTA_V], 2d);
+    }
+
+    @Test
+    void testOutputFormatIsNegotiated() throws Exception {
+        String binary = HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE;
+        assertEquals(binary, contentType(postAccepting(binary + ", */*")));
+        assertEquals(binary, contentType(postAccepting("application/json;q=0.5, " + binary)));
+        assertEquals("application/json", contentType(postAccepting(binary + ";q=0, */*")));
+        assertEquals("application/json", contentType(postAccepting("application/json, " + binary)));
+        assertEquals(406, postAccepting(binary + ";q=0, application/json;q=0").statusCode());
+    }
+
+    @Test
+    void testBodies() throws Exception {
+        var request = HttpRequest.newBuilder(uri("/bodies")).GET().build();
+        var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        JsonNode moon = null;
+        for (JsonNode body : objectMapper.readTree(response.body())) {
+            if (body.get("name").asText().equals("Moon")) {
+                moon = body;
+            }
+        }
+        assertNotNull(moon);
+        assertEquals("Earth", moon.get("parent").asText());
+    }
+
+    private HttpResponse<String> postAccepting(String accept) throws Exception {
+        var request = HttpRequest.newBuilder(uri("/simple"))
+                .header("Content-Type", "application/json")
+                .header("Accept", accept)
+                .POST(HttpRequest.BodyPublishers.ofString(SIMPLE_INPUT))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String contentType(HttpResponse<?> response) {
+        return response.headers().firstValue("Content-Type").orElse(null);
+    }
+
+    private HttpResponse<String> post(String path, String contentType, String content) throws Exception {
+        var request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(content))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static URI uri(String path) {
+        return URI.create("http://localhost:" + launcher.getPort() + path);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferCache;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * An API controller that exposes statistics of the calculation result cache, which can be used to tune its size
+ * and expiration time.
+ */
+@RestController
+public class CacheStatisticsController {
+
+    private final HohmannTransferCache cache;
+
+    public CacheStatisticsController(HohmannTransferCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Handles an HTTP GET request for the statistics of the calculation result cache.
+     * The response body has the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "enabled": Boolean,
+     *     "size": Number,
+     *     "hitCount": Number,
+     *     "missCount": Number,
+     *     "evictionCount": Number,
+     *     "hitRate": Number
+     * }
+     * }
+     * </pre>
+     *
+     * @return Statistics of the calculation result cache.
+     */
+    @GetMapping(path = "/cache/statistics", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CacheStatisticsOutput cacheStatistics() {
+        var statistics = cache.getStatistics();
+        return new CacheStatisticsOutput(
+                cache.isEnabled(),
+                cache.getSize(),
+                statistics.hitCount(),
+                statistics.missCount(),
+                statistics.evictionCount(),
+                statistics.hitRate());
+    }
+}
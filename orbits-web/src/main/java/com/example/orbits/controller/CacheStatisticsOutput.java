@@ -0,0 +1,17 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+
+/**
+ * Statistics of the calculation result cache, as returned by {@link CacheStatisticsController}.
+ */
+@Data
+public class CacheStatisticsOutput {
+
+    private final boolean enabled;
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final double hitRate;
+}
@@ -0,0 +1,50 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.CelestialBodyCatalog;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * An API controller that exposes the catalog of well-known celestial bodies.
+ */
+@RestController
+public class CelestialBodyCatalogController {
+
+    private final List<CelestialBodyOutput> bodies;
+
+    public CelestialBodyCatalogController(CelestialBodyCatalog catalog) {
+        this.bodies = catalog.getBodies().stream()
+                .map(CelestialBodyOutput::of)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Handles an HTTP GET request for the list of celestial bodies in the catalog.
+     * The response body has the following format:
+     * <pre>
+     * {@code
+     * [
+     *     {
+     *         "name": String,
+     *         "mass": Number,
+     *         "standardGravitationalParameter": Number,
+     *         "parent": String,
+     *         "orbitRadius": Number
+     *     }
+     * ]
+     * }
+     * </pre>
+     * The {@code parent} and {@code orbitRadius} properties are {@code null} for bodies which do not orbit
+     * any other body in the catalog.
+     *
+     * @return The list of celestial bodies in the catalog.
+     */
+    @GetMapping(path = "/bodies", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<CelestialBodyOutput> bodies() {
+        return bodies;
+    }
+}
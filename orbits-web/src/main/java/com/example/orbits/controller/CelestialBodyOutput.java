@@ -0,0 +1,33 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.model.CelestialBody;
+import lombok.Data;
+
+/**
+ * Data of a celestial body from the catalog, as returned by {@link CelestialBodyCatalogController}.
+ */
+@Data
+public class CelestialBodyOutput {
+
+    private final String name;
+    private final double mass;
+    private final double standardGravitationalParameter;
+    private final String parent;
+    private final Double orbitRadius;
+
+    /**
+     * Creates an output object from a celestial body.
+     *
+     * @param body the celestial body.
+     * @return The output object containing the data of the given body.
+     */
+    public static CelestialBodyOutput of(CelestialBody body) {
+        var orbit = body.getOrbit();
+        return new CelestialBodyOutput(
+                body.getName(),
+                body.getMass(),
+                body.getStandardGravitationalParameter(),
+                orbit != null ? orbit.getPrimaryBody().getName() : null,
+                orbit != null ? orbit.getRadius() : null);
+    }
+}
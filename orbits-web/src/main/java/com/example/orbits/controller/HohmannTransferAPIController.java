@@ -0,0 +1,447 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import com.example.orbits.service.HohmannTransferType;
+import com.example.orbits.service.HohmannTransferValidator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static com.example.orbits.controller.HohmannTransferInputHandler.useCache;
+
+/**
+ * An API controller that enables access to a Hohmann transfer calculation service through HTTP requests.
+ * <p>
+ * Calculation results may be served from a cache. A request can bypass the cache
+ * by including the {@code Cache-Control: no-cache} header.
+ * <p>
+ * The simple and interplanetary endpoints, and their batch forms, also accept and produce the compact binary format
+ * described in {@link HohmannTransferBinaryCodec}, negotiated with the {@code Content-Type} and {@code Accept}
+ * headers. Binary batches are calculated directly from the received bytes, as described
+ * in {@link HohmannTransferBinaryBatchProcessor}, and their results are always binary as well.
+ * <p>
+ * When admission control is enabled, requests to the single-transfer and batch endpoints are admitted
+ * by {@link HohmannTransferAdmissionFilter} before they reach this controller, and rejected with 429 Too Many Requests
+ * when their client exceeds its quota or too many requests are in flight.
+ * <p>
+ * This controller is used when the application runs on a servlet container (the default).
+ * {@link ReactiveHohmannTransferAPIController} exposes the same contracts when the application runs
+ * in the {@code reactive} profile.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class HohmannTransferAPIController {
+
+    private final HohmannTransferInputHandler inputHandler;
+    private final HohmannTransferBatchStreamer batchStreamer;
+    private final HohmannTransferBinaryBatchProcessor binaryBatchProcessor;
+    private final HohmannTransferSweepWriter sweepWriter;
+    private final HohmannTransferTrajectoryWriter trajectoryWriter;
+
+    public HohmannTransferAPIController(HohmannTransferInputHandler inputHandler, HohmannTransferBatchStreamer batchStreamer,
+                                        HohmannTransferBinaryBatchProcessor binaryBatchProcessor,
+                                        HohmannTransferSweepWriter sweepWriter, HohmannTransferTrajectoryWriter trajectoryWriter) {
+        this.inputHandler = inputHandler;
+        this.batchStreamer = batchStreamer;
+        this.binaryBatchProcessor = binaryBatchProcessor;
+        this.sweepWriter = sweepWriter;
+        this.trajectoryWriter = trajectoryWriter;
+    }
+
+    /**
+     * Handles an HTTP POST request containing input data for Hohmann transfer calculation.
+     * Generates a JSON response containing the results.
+     * <p>
+     * The input JSON must be provided in the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "primaryBodyMass": Number,
+     *     "startingOrbitRadius": Number,
+     *     "destinationOrbitRadius": Number
+     * }
+     * }
+     * </pre>
+     * The response body has the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "transferTime": Number,
+     *     "insertionDeltaV": Number,
+     *     "arrivalDeltaV": Number,
+     *     "totalDeltaV": Number
+     * }
+     * }
+     * </pre>
+     * All input and output parameters are assumed to be expressed in base SI units.
+     * <p>
+     * Masses and radii must be greater than 0. If any of them is not, a 422 Unprocessable Entity response
+     * is returned with a JSON body listing every invalid field, in the format described in {@link HohmannTransferErrorOutput}.
+     *
+     * @param input        input parameters of a Hohmann transfer.
+     * @param cacheControl the value of the {@code Cache-Control} request header, if present.
+     * @return Calculated parameters for the Hohmann transfer, or the errors of invalid input fields.
+     */
+    @PostMapping(path = "/simple", consumes = {MediaType.APPLICATION_JSON_VALUE, HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE})
+    public ResponseEntity<?> simpleHohmannTransfer(@RequestBody SimpleHohmannTransferInput input,
+                                                   @RequestHeader(name = HttpHeaders.CACHE_CONTROL, required = false) String cacheControl) {
+        var validator = inputHandler.validate(input);
+        if (!validator.isValid()) {
+            return inputHandler.reject(validator);
+        }
+        return ResponseEntity.ok(inputHandler.calculate(input, useCache(cacheControl)));
+    }
+
+    /**
+     * Handles an HTTP POST request containing a batch of input data for Hohmann transfer calculation.
+     * The request body must contain either a JSON array or newline-delimited JSON values,
+     * where each item has the format accepted by {@link #simpleHohmannTransfer}.
+     * <p>
+     * Items are parsed, calculated and written to the response one by one, in the order of the input items.
+     * If the request's content type is {@code application/x-ndjson}, the results are written as
+     * newline-delimited JSON values; otherwise, they are written as a JSON array.
+     * Each result has the format returned by {@link #simpleHohmannTransfer}, or the format described
+     * in {@link HohmannTransferBatchStreamer} if the corresponding item could not be calculated.
+     *
+     * @param request  the HTTP request containing input items.
+     * @param response the HTTP response to write the results to.
+     * @throws IOException if reading the request or writing the response fails.
+     */
+    @PostMapping(path = "/simple/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, HohmannTransferBatchStreamer.APPLICATION_NDJSON_VALUE})
+    public void simpleHohmannTransferBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean useCache = useCache(request.getHeader(HttpHeaders.CACHE_CONTROL));
+        streamBatch(request, response, "simple", SimpleHohmannTransferInput.class,
+                inputHandler::validate, input -> inputHandler.calculate(input, useCache));
+    }
+
+    /**
+     * Handles an HTTP POST request containing a batch of binary input records for Hohmann transfer calculation,
+     * as described in {@link HohmannTransferBinaryCodec}. The response contains one output record per input record,
+     * in the same order.
+     *
+     * @param request  the HTTP request containing input records.
+     * @param response the HTTP response to write the output records to.
+     * @throws IOException if reading the request or writing the response fails.
+     */
+    @PostMapping(path = "/simple/batch", consumes = HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE)
+    public void simpleHohmannTransferBinaryBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE);
+        var count = new AtomicLong();
+        try {
+            binaryBatchProcessor.stream(request.getInputStream(), response.getOutputStream(), HohmannTransferType.SAME_BODY,
+                    "simple", count);
+        } finally {
+            HohmannTransferAdmissionFilter.settle(request, count.get());
+        }
+    }
+
+    /**
+     * Handles an HTTP POST request containing a parameter sweep over Hohmann transfers,
+     * and streams the resulting surface of transfer times and total delta-Vs.
+     * <p>
+     * The input JSON has the format accepted by {@link #simpleHohmannTransfer}, except that every parameter
+     * is a {@link SweepRange}:
+     * <pre>
+     * {@code
+     * {
+     *     "primaryBodyMass": 1.988e30,
+     *     "startingOrbitRadius": {"from": 1e11, "to": 2e11, "steps": 1000},
+     *     "destinationOrbitRadius": {"from": 1e11, "to": 5e11, "steps": 1000}
+     * }
+     * }
+     * </pre>
+     * The grid is calculated in parallel, block by block, and each block is written to the response
+     * before the next one is calculated. The order of the points and the response formats are described
+     * in {@link HohmannTransferSweepWriter}.
+     *
+     * @param input    the ranges of the input parameters.
+     * @param request  the HTTP request, used for content negotiation.
+     * @param response the HTTP response to write the results to.
+     * @throws IOException if writing the response fails.
+     */
+    @PostMapping(path = "/simple/sweep", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {HohmannTransferSweepWriter.TEXT_CSV_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public void simpleHohmannTransferSweep(@RequestBody SimpleHohmannTransferSweepInput input,
+                                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        HohmannTransferSweepWriter.Grid grid;
+        try {
+            grid = sweepWriter.create(input);
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+        writeSweep(grid, request, response);
+    }
+
+    /**
+     * Handles an HTTP POST request for the trajectories of spacecraft along Hohmann transfer orbits,
+     * and streams their positions and velocities at evenly spaced times.
+     * <p>
+     * The input JSON contains transfers in the format accepted by {@link #simpleHohmannTransfer},
+     * and the number of samples of each transfer (100 by default):
+     * <pre>
+     * {@code
+     * {
+     *     "transfers": [
+     *         {"primaryBodyMass": 1.988e30, "startingOrbitRadius": 1.496e11, "destinationOrbitRadius": 2.289e11}
+     *     ],
+     *     "samples": 1000000
+     * }
+     * }
+     * </pre>
+     * The samples are calculated in parallel, block by block, and each block is written to the response
+     * before the next one is calculated. The order of the samples and the response formats are described
+     * in {@link HohmannTransferTrajectoryWriter}.
+     *
+     * @param input    the transfers and the number of samples.
+     * @param request  the HTTP request, used for content negotiation.
+     * @param response the HTTP response to write the samples to.
+     * @throws IOException if writing the response fails.
+     */
+    @PostMapping(path = "/simple/trajectory", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {HohmannTransferSweepWriter.TEXT_CSV_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public void simpleHohmannTransferTrajectory(@RequestBody SimpleHohmannTransferTrajectoryInput input,
+                                                HttpServletRequest request, HttpServletResponse response) throws IOException {
+        HohmannTransferTrajectoryWriter.Request trajectory;
+        try {
+            trajectory = trajectoryWriter.create(input);
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+        writeTrajectory(trajectory, request, response);
+    }
+
+    /**
+     * Handles an HTTP POST request containing input data for interplanetary Hohmann transfer calculation.
+     * Generates a JSON response containing the results.
+     * <p>
+     * The input JSON must be provided in the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "primaryBodyMass": Number,
+     *     "startingOrbitRadius": Number,
+     *     "destinationOrbitRadius": Number,
+     *     "startingPlanetMass": Number,
+     *     "startingPlanetOrbitRadius": Number,
+     *     "destinationPlanetMass": Number,
+     *     "destinationPlanetOrbitRadius": Number
+     * }
+     * }
+     * </pre>
+     * The response body has the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "transferTime": Number,
+     *     "insertionDeltaV": Number,
+     *     "arrivalDeltaV": Number,
+     *     "totalDeltaV": Number
+     * }
+     * }
+     * </pre>
+     * All input and output parameters are assumed to be expressed in base SI units.
+     *
+     * @param input        input parameters of an interplanetary Hohmann transfer.
+     * @param cacheControl the value of the {@code Cache-Control} request header, if present.
+     * @return Calculated parameters for the Hohmann transfer, or the errors of invalid input fields.
+     */
+    @PostMapping(path = "/interplanetary", consumes = {MediaType.APPLICATION_JSON_VALUE, HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE})
+    public ResponseEntity<?> interplanetaryHohmannTransfer(@RequestBody InterplanetaryHohmannTransferInput input,
+                                                           @RequestHeader(name = HttpHeaders.CACHE_CONTROL, required = false) String cacheControl) {
+        var validator = inputHandler.validate(input);
+        if (!validator.isValid()) {
+            return inputHandler.reject(validator);
+        }
+        return ResponseEntity.ok(inputHandler.calculate(input, useCache(cacheControl)));
+    }
+
+    /**
+     * Handles an HTTP POST request containing a batch of input data for interplanetary Hohmann transfer calculation.
+     * The request body must contain either a JSON array or newline-delimited JSON values,
+     * where each item has the format accepted by {@link #interplanetaryHohmannTransfer}.
+     * <p>
+     * The results are written in the same way as described in {@link #simpleHohmannTransferBatch}.
+     *
+     * @param request  the HTTP request containing input items.
+     * @param response the HTTP response to write the results to.
+     * @throws IOException if reading the request or writing the response fails.
+     */
+    @PostMapping(path = "/interplanetary/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, HohmannTransferBatchStreamer.APPLICATION_NDJSON_VALUE})
+    public void interplanetaryHohmannTransferBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean useCache = useCache(request.getHeader(HttpHeaders.CACHE_CONTROL));
+        streamBatch(request, response, "interplanetary", InterplanetaryHohmannTransferInput.class,
+                inputHandler::validate, input -> inputHandler.calculate(input, useCache));
+    }
+
+    /**
+     * Handles an HTTP POST request containing a batch of binary input records for interplanetary Hohmann transfer
+     * calculation, as described in {@link HohmannTransferBinaryCodec}. The response contains one output record
+     * per input record, in the same order.
+     *
+     * @param request  the HTTP request containing input records.
+     * @param response the HTTP response to write the output records to.
+     * @throws IOException if reading the request or writing the response fails.
+     */
+    @PostMapping(path = "/interplanetary/batch", consumes = HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE)
+    public void interplanetaryHohmannTransferBinaryBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE);
+        var count = new AtomicLong();
+        try {
+            binaryBatchProcessor.stream(request.getInputStream(), response.getOutputStream(), HohmannTransferType.INTERPLANETARY,
+                    "interplanetary", count);
+        } finally {
+            HohmannTransferAdmissionFilter.settle(request, count.get());
+        }
+    }
+
+    /**
+     * Handles an HTTP POST request containing a parameter sweep over interplanetary Hohmann transfers,
+     * and streams the resulting surface of transfer times and total delta-Vs.
+     * <p>
+     * The input JSON has the format accepted by {@link #interplanetaryHohmannTransfer}, except that every parameter
+     * is a {@link SweepRange}. The results are written in the same way as described in {@link #simpleHohmannTransferSweep}.
+     *
+     * @param input    the ranges of the input parameters.
+     * @param request  the HTTP request, used for content negotiation.
+     * @param response the HTTP response to write the results to.
+     * @throws IOException if writing the response fails.
+     */
+    @PostMapping(path = "/interplanetary/sweep", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {HohmannTransferSweepWriter.TEXT_CSV_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public void interplanetaryHohmannTransferSweep(@RequestBody InterplanetaryHohmannTransferSweepInput input,
+                                                   HttpServletRequest request, HttpServletResponse response) throws IOException {
+        HohmannTransferSweepWriter.Grid grid;
+        try {
+            grid = sweepWriter.create(input);
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+        writeSweep(grid, request, response);
+    }
+
+    /**
+     * Handles an HTTP POST request for the trajectories of spacecraft along interplanetary Hohmann transfer orbits,
+     * and streams their positions and velocities at evenly spaced times.
+     * <p>
+     * The input JSON has the format accepted by {@link #simpleHohmannTransferTrajectory}, except that the transfers
+     * have the format accepted by {@link #interplanetaryHohmannTransfer}. The samples are written in the same way
+     * as described in {@link #simpleHohmannTransferTrajectory}.
+     *
+     * @param input    the transfers and the number of samples.
+     * @param request  the HTTP request, used for content negotiation.
+     * @param response the HTTP response to write the samples to.
+     * @throws IOException if writing the response fails.
+     */
+    @PostMapping(path = "/interplanetary/trajectory", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {HohmannTransferSweepWriter.TEXT_CSV_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public void interplanetaryHohmannTransferTrajectory(@RequestBody InterplanetaryHohmannTransferTrajectoryInput input,
+                                                        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        HohmannTransferTrajectoryWriter.Request trajectory;
+        try {
+            trajectory = trajectoryWriter.create(input);
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+        writeTrajectory(trajectory, request, response);
+    }
+
+    /**
+     * Handles an HTTP POST request containing input data for Hohmann transfer calculation
+     * between orbits around celestial bodies from the catalog.
+     * Generates a JSON response containing the results.
+     * <p>
+     * The input JSON must be provided in the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "startingBody": String,
+     *     "startingOrbitRadius": Number,
+     *     "destinationBody": String,
+     *     "destinationOrbitRadius": Number
+     * }
+     * }
+     * </pre>
+     * Both bodies must be the same, or they must orbit the same parent body (for example, Earth and Mars).
+     * Body names are not case-sensitive.
+     * The response body has the format described in {@link #simpleHohmannTransfer}.
+     * All numeric input and output parameters are assumed to be expressed in base SI units.
+     *
+     * @param input        input parameters of a Hohmann transfer between orbits around named celestial bodies.
+     * @param cacheControl the value of the {@code Cache-Control} request header, if present.
+     * @return Calculated parameters for the Hohmann transfer, or the errors of invalid input fields.
+     * @see CelestialBodyCatalogController
+     */
+    @PostMapping(path = "/named", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> namedHohmannTransfer(@RequestBody NamedHohmannTransferInput input,
+                                                  @RequestHeader(name = HttpHeaders.CACHE_CONTROL, required = false) String cacheControl) {
+        var validator = inputHandler.validate(input);
+        if (!validator.isValid()) {
+            return inputHandler.reject(validator);
+        }
+        return ResponseEntity.ok(inputHandler.calculate(input, useCache(cacheControl)));
+    }
+
+    /**
+     * Handles an HTTP POST request containing a batch of input data for Hohmann transfer calculation
+     * between orbits around celestial bodies from the catalog.
+     * The request body must contain either a JSON array or newline-delimited JSON values,
+     * where each item has the format accepted by {@link #namedHohmannTransfer}.
+     * <p>
+     * The results are written in the same way as described in {@link #simpleHohmannTransferBatch}.
+     *
+     * @param request  the HTTP request containing input items.
+     * @param response the HTTP response to write the results to.
+     * @throws IOException if reading the request or writing the response fails.
+     */
+    @PostMapping(path = "/named/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, HohmannTransferBatchStreamer.APPLICATION_NDJSON_VALUE})
+    public void namedHohmannTransferBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean useCache = useCache(request.getHeader(HttpHeaders.CACHE_CONTROL));
+        streamBatch(request, response, "named", NamedHohmannTransferInput.class,
+                inputHandler::validate, input -> inputHandler.calculate(input, useCache));
+    }
+
+    private <T> void streamBatch(HttpServletRequest request, HttpServletResponse response, String endpoint, Class<T> inputType,
+                                 Function<T, HohmannTransferValidator> validation,
+                                 Function<T, HohmannTransferOutput> calculation) throws IOException {
+        boolean ndjson = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType(HohmannTransferBatchStreamer.APPLICATION_NDJSON_VALUE));
+        response.setContentType(ndjson ? HohmannTransferBatchStreamer.APPLICATION_NDJSON_VALUE : MediaType.APPLICATION_JSON_VALUE);
+        var count = new AtomicLong();
+        try {
+            batchStreamer.stream(request.getInputStream(), response.getOutputStream(), ndjson, endpoint, inputType,
+                    validation, calculation, count);
+        } finally {
+            HohmannTransferAdmissionFilter.settle(request, count.get());
+        }
+    }
+
+    private void writeSweep(HohmannTransferSweepWriter.Grid grid, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        boolean binary = accept != null && HohmannTransferSweepWriter.isBinary(MediaType.parseMediaTypes(accept));
+        sweepWriter.headers(grid, binary).forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        sweepWriter.write(grid, binary, response.getOutputStream());
+    }
+
+    private void writeTrajectory(HohmannTransferTrajectoryWriter.Request trajectory, HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        boolean binary = accept != null && HohmannTransferSweepWriter.isBinary(MediaType.parseMediaTypes(accept));
+        trajectoryWriter.headers(trajectory, binary).forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        trajectoryWriter.write(trajectory, binary, response.getOutputStream());
+    }
+}
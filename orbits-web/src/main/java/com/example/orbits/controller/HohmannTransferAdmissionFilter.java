@@ -0,0 +1,89 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferAdmissionProperties;
+import com.example.orbits.service.HohmannTransferAdmissionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * A servlet filter which admits requests to {@link HohmannTransferAPIController} with
+ * {@link HohmannTransferAdmissionService}, before their bodies are read.
+ * Rejected requests receive a 429 Too Many Requests response with a {@code Retry-After} header
+ * and a JSON body in the format described in {@link HohmannTransferErrorOutput}.
+ *
+ * @see HohmannTransferAdmissionPolicy
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+class HohmannTransferAdmissionFilter extends OncePerRequestFilter {
+
+    private final HohmannTransferAdmissionService admissionService;
+    private final String clientHeader;
+    private final Set<String> trustedProxies;
+    private final UrlPathHelper pathHelper = new UrlPathHelper();
+    private final byte[] rejectionBody;
+
+    HohmannTransferAdmissionFilter(HohmannTransferAdmissionService admissionService,
+                                   HohmannTransferAdmissionProperties properties, ObjectMapper objectMapper) {
+        this.admissionService = admissionService;
+        this.clientHeader = properties.getClientHeader();
+        this.trustedProxies = HohmannTransferAdmissionPolicy.trustedProxies(properties.getTrustedProxies());
+        this.rejectionBody = HohmannTransferAdmissionPolicy.rejectionBody(objectMapper);
+    }
+
+    /**
+     * Charges an admitted request for its actual weight, once it has been processed or has failed.
+     *
+     * @param request the admitted request.
+     * @param weight  the number of transfers the request contained.
+     */
+    static void settle(HttpServletRequest request, long weight) {
+        HohmannTransferAdmissionPolicy.settle(request.getAttribute(HohmannTransferAdmissionPolicy.ADMISSION_ATTRIBUTE), weight);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !admissionService.isEnabled()
+                || !HohmannTransferAdmissionPolicy.isControlled(request.getMethod(), pathHelper.getPathWithinApplication(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String contentType = request.getContentType();
+        long weight = HohmannTransferAdmissionPolicy.weight(pathHelper.getPathWithinApplication(request),
+                contentType != null ? MediaType.parseMediaType(contentType) : null, request.getContentLengthLong());
+        var admission = admissionService.admit(client(request), weight);
+        if (!admission.isAdmitted()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, HohmannTransferAdmissionPolicy.retryAfter(admission));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(rejectionBody.length);
+            response.getOutputStream().write(rejectionBody);
+            return;
+        }
+        request.setAttribute(HohmannTransferAdmissionPolicy.ADMISSION_ATTRIBUTE, admission);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            admission.release();
+        }
+    }
+
+    private String client(HttpServletRequest request) {
+        return HohmannTransferAdmissionPolicy.client(request.getRemoteAddr(), request.getHeader(clientHeader), trustedProxies);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import com.example.orbits.service.HohmannTransferAdmissionService;
+import com.example.orbits.service.HohmannTransferAdmissionService.Admission;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The rules of admission control shared by {@link HohmannTransferAdmissionFilter} and
+ * {@link ReactiveHohmannTransferAdmissionFilter}: which requests are subject to it, and how much they weigh.
+ * <p>
+ * Admission control covers the single-transfer endpoints and their batches. A request for a single transfer
+ * weighs 1. A binary batch with a known length weighs as many transfers as it has records. The size of a JSON batch
+ * is not known until it has been read, so it is admitted like a single transfer, and its remaining items are charged
+ * by the API controller once the batch has been processed, even if it ended early.
+ * <p>
+ * A client is identified by its remote address, unless the request comes from a trusted proxy which names
+ * the client in a header.
+ */
+final class HohmannTransferAdmissionPolicy {
+
+    /**
+     * The name of the request attribute holding the {@link Admission} of an admitted request.
+     */
+    static final String ADMISSION_ATTRIBUTE = Admission.class.getName();
+
+    static final String REJECTION_MESSAGE = "Too many requests";
+
+    private static final Set<String> PATHS = Set.of("/simple", "/simple/batch", "/interplanetary", "/interplanetary/batch",
+            "/named", "/named/batch");
+    private static final MediaType BINARY_MEDIA_TYPE = MediaType.parseMediaType(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE);
+
+    private HohmannTransferAdmissionPolicy() {
+    }
+
+    /**
+     * Checks whether a request is subject to admission control.
+     *
+     * @param method the HTTP method of the request.
+     * @param path   the path of the request within the application.
+     * @return {@code true} if the request has to be admitted before it is processed.
+     */
+    static boolean isControlled(String method, String path) {
+        return "POST".equals(method) && PATHS.contains(path);
+    }
+
+    /**
+     * Normalizes the configured addresses of trusted proxies to the format of remote addresses.
+     *
+     * @param addresses the IP addresses of the trusted proxies.
+     * @return The normalized addresses.
+     * @throws IllegalArgumentException if an address is not a valid IP address.
+     */
+    static Set<String> trustedProxies(List<String> addresses) {
+        return addresses.stream().map(address -> {
+            try {
+                return InetAddress.getByName(address).getHostAddress();
+            } catch (UnknownHostException e) {
+                throw new IllegalArgumentException("Invalid trusted proxy address: " + address, e);
+            }
+        }).collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Identifies the client of a request.
+     *
+     * @param remoteAddress  the IP address the request was received from, or null if it is unknown.
+     * @param clientId       the value of the client header, or null if it is absent.
+     * @param trustedProxies the normalized addresses of the trusted proxies.
+     * @return The client header if the request was received from a trusted proxy, otherwise the remote address.
+     */
+    static String client(String remoteAddress, String clientId, Set<String> trustedProxies) {
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return clientId != null && trustedProxies.contains(remoteAddress) ? clientId : remoteAddress;
+    }
+
+    /**
+     * Determines the weight of a request before it is processed.
+     *
+     * @param path          the path of the request within the application.
+     * @param contentType   the content type of the request, or null if it is absent.
+     * @param contentLength the length of the request body, or a negative number if it is unknown.
+     * @return The number of transfers the request is known to contain, at least 1.
+     */
+    static long weight(String path, MediaType contentType, long contentLength) {
+        if (contentType == null || contentLength <= 0L || !path.endsWith("/batch")
+                || !BINARY_MEDIA_TYPE.isCompatibleWith(contentType)) {
+            return 1L;
+        }
+        int recordSize = path.startsWith("/interplanetary")
+                ? HohmannTransferBinaryCodec.INTERPLANETARY_INPUT_SIZE
+                : HohmannTransferBinaryCodec.SIMPLE_INPUT_SIZE;
+        return Math.max(1L, contentLength / recordSize);
+    }
+
+    /**
+     * Formats the value of the {@code Retry-After} header of a rejected request.
+     *
+     * @param admission the rejected admission.
+     * @return The number of whole seconds to wait before retrying, at least 1.
+     */
+    static String retryAfter(Admission admission) {
+        long nanos = admission.getRetryAfter().toNanos();
+        return Long.toString(nanos <= 0L ? 1L : (nanos - 1L) / 1_000_000_000L + 1L);
+    }
+
+    /**
+     * Encodes the body of the response to a rejected request.
+     *
+     * @param objectMapper the object mapper to encode the body with.
+     * @return The JSON body, in the format described in {@link HohmannTransferErrorOutput}.
+     */
+    static byte[] rejectionBody(ObjectMapper objectMapper) {
+        try {
+            return objectMapper.writeValueAsBytes(HohmannTransferErrorOutput.of(REJECTION_MESSAGE));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Charges an admitted request for its actual weight, if admission control is enabled.
+     *
+     * @param admission the admission stored in the {@link #ADMISSION_ATTRIBUTE} attribute of the request, or null.
+     * @param weight    the number of transfers the request contained.
+     * @see HohmannTransferAdmissionService.Admission#settle
+     */
+    static void settle(Object admission, long weight) {
+        if (admission instanceof Admission) {
+            ((Admission) admission).settle(weight);
+        }
+    }
+}
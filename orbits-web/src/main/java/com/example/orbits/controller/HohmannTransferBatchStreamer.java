@@ -0,0 +1,213 @@
+package com.example.orbits.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.example.orbits.service.HohmannTransferMetrics;
+import com.example.orbits.service.HohmannTransferMetrics.RejectionCause;
+import com.example.orbits.service.HohmannTransferValidator;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A helper component which processes batches of Hohmann transfer inputs as streams.
+ * <p>
+ * Input items are read one by one with Jackson's streaming parser, either from a JSON array
+ * or from a sequence of newline-delimited JSON values. Each item is calculated and written to the output
+ * before the next one is read, so the memory needed to process a batch does not depend on its size.
+ * <p>
+ * An item which cannot be calculated does not fail the whole batch. Instead, a {@link HohmannTransferErrorOutput}
+ * is written in its place, listing the invalid fields of items which could be parsed. Items are validated
+ * before they are calculated, so rejecting an item throws no exceptions.
+ * Only malformed JSON ends the batch early, because no further items can be read after a syntax error.
+ * <p>
+ * Batches can be processed either from blocking streams, as done by the servlet-based API controller,
+ * or from reactive streams of already tokenized items, as done by the reactive API controller. In the latter case
+ * items are only requested from the client as fast as the encoded results are consumed by the connection.
+ */
+@Component
+class HohmannTransferBatchStreamer {
+
+    /**
+     * The media type of newline-delimited JSON streams.
+     */
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    static final String INVALID_ITEM_MESSAGE = "Input parameters are invalid";
+    static final String MALFORMED_ITEM_MESSAGE = "Input item is malformed";
+    static final String MALFORMED_INPUT_MESSAGE = "Input is malformed";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter itemWriter;
+    private final HohmannTransferMetrics metrics;
+
+    HohmannTransferBatchStreamer(ObjectMapper objectMapper, HohmannTransferMetrics metrics) {
+        this.objectMapper = objectMapper;
+        this.itemWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Reads input items from the given stream, calculates them and writes the results to the output stream.
+     * Results are written in the same order as the input items.
+     * <p>
+     * Every item is counted as soon as it has been calculated, so the count is also complete for the items
+     * processed before a failure.
+     *
+     * @param input       the stream containing a JSON array or newline-delimited JSON values.
+     * @param output      the stream to write the results to.
+     * @param ndjson      whether the results should be written as newline-delimited JSON instead of a JSON array.
+     * @param endpoint    the name of the endpoint processing the batch, used in metrics.
+     * @param inputType   the type of input items.
+     * @param validation  the validation of every input item, performed before its calculation.
+     * @param calculation the calculation to perform for every valid input item; it may also throw
+     *                    {@link IllegalArgumentException} or {@link IllegalStateException} to reject an item.
+     * @param count       the counter to add every processed input item to.
+     * @param <T>         the type of input items.
+     * @throws IOException if reading the input or writing the output fails.
+     */
+    <T> void stream(InputStream input, OutputStream output, boolean ndjson, String endpoint, Class<T> inputType,
+                    Function<T, HohmannTransferValidator> validation, Function<T, HohmannTransferOutput> calculation,
+                    AtomicLong count) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(input);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            if (ndjson) {
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+            try {
+                JsonToken token = parser.nextToken();
+                boolean array = token == JsonToken.START_ARRAY;
+                if (array) {
+                    token = parser.nextToken();
+                }
+                while (token != null && !(array && token == JsonToken.END_ARRAY)) {
+                    JsonNode item = parser.readValueAsTree();
+                    Object result = calculateItem(item, endpoint, inputType, validation, calculation);
+                    count.incrementAndGet();
+                    writeItem(generator, result, ndjson);
+                    token = parser.nextToken();
+                }
+            } catch (JsonParseException e) {
+                metrics.recordRejectedBatchItem(endpoint, RejectionCause.MALFORMED_INPUT);
+                writeItem(generator, HohmannTransferErrorOutput.of(MALFORMED_INPUT_MESSAGE), ndjson);
+            }
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    /**
+     * Calculates a reactive stream of input items and encodes the results as a stream of buffers.
+     * Results are emitted in the same order as the input items, and every item is encoded into its own buffer,
+     * so that the stream honors the demand of the subscriber.
+     * <p>
+     * Malformed JSON ends the stream with an error item. Since the reactive JSON decoder tokenizes whole buffers
+     * at once, items which were received in the same buffer as the syntax error are not calculated.
+     *
+     * @param items         the input items, decoded as JSON trees.
+     * @param bufferFactory the factory of buffers to encode the results into.
+     * @param ndjson        whether the results should be encoded as newline-delimited JSON instead of a JSON array.
+     * @param endpoint      the name of the endpoint processing the batch, used in metrics.
+     * @param inputType     the type of input items.
+     * @param validation    the validation of every input item, performed before its calculation.
+     * @param calculation   the calculation to perform for every valid input item; it may also throw
+     *                      {@link IllegalArgumentException} or {@link IllegalStateException} to reject an item.
+     * @param <T>           the type of input items.
+     * @return The stream of encoded results.
+     */
+    <T> Flux<DataBuffer> stream(Flux<JsonNode> items, DataBufferFactory bufferFactory, boolean ndjson, String endpoint,
+                                Class<T> inputType, Function<T, HohmannTransferValidator> validation,
+                                Function<T, HohmannTransferOutput> calculation) {
+        Flux<Object> results = items
+                .map(item -> calculateItem(item, endpoint, inputType, validation, calculation))
+                .onErrorResume(HohmannTransferBatchStreamer::isMalformedInput, e -> {
+                    metrics.recordRejectedBatchItem(endpoint, RejectionCause.MALFORMED_INPUT);
+                    return Mono.just(HohmannTransferErrorOutput.of(MALFORMED_INPUT_MESSAGE));
+                });
+        if (ndjson) {
+            return results.map(result -> bufferFactory.wrap(encodeItem(result, false, true)));
+        }
+        Flux<DataBuffer> elements = results.index()
+                .map(result -> bufferFactory.wrap(encodeItem(result.getT2(), result.getT1() > 0, false)));
+        return Flux.concat(Mono.fromSupplier(() -> bufferFactory.wrap(new byte[]{'['})), elements,
+                Mono.fromSupplier(() -> bufferFactory.wrap(new byte[]{']'})));
+    }
+
+    private <T> Object calculateItem(JsonNode item, String endpoint, Class<T> inputType,
+                                     Function<T, HohmannTransferValidator> validation,
+                                     Function<T, HohmannTransferOutput> calculation) {
+        T value;
+        try {
+            value = objectMapper.treeToValue(item, inputType);
+        } catch (JsonProcessingException e) {
+            value = null;
+        }
+        if (value == null) {
+            metrics.recordRejectedBatchItem(endpoint, RejectionCause.MALFORMED_INPUT);
+            return HohmannTransferErrorOutput.of(MALFORMED_ITEM_MESSAGE);
+        }
+        var validator = validation.apply(value);
+        if (!validator.isValid()) {
+            metrics.recordRejectedBatchItem(endpoint, RejectionCause.of(validator.getErrors().get(0).getCode()));
+            return HohmannTransferErrorOutput.of(INVALID_ITEM_MESSAGE, validator);
+        }
+        Object result;
+        try {
+            result = calculation.apply(value);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            metrics.recordRejectedBatchItem(endpoint, RejectionCause.of(e));
+            return HohmannTransferErrorOutput.of(INVALID_ITEM_MESSAGE);
+        }
+        metrics.recordBatchItem(endpoint);
+        return result;
+    }
+
+    private void writeItem(JsonGenerator generator, Object item, boolean ndjson) throws IOException {
+        itemWriter.writeValue(generator, item);
+        if (ndjson) {
+            generator.writeRaw('\n');
+        }
+    }
+
+    private static boolean isMalformedInput(Throwable e) {
+        // Request body decoding errors are wrapped in a ServerWebInputException by WebFlux
+        return e instanceof DecodingException || e.getCause() instanceof DecodingException;
+    }
+
+    private byte[] encodeItem(Object item, boolean leadingComma, boolean trailingNewline) {
+        var output = new ByteArrayOutputStream(128);
+        try {
+            if (leadingComma) {
+                output.write(',');
+            }
+            itemWriter.writeValue(output, item);
+            if (trailingNewline) {
+                output.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import com.example.orbits.service.HohmannTransferMetrics;
+import com.example.orbits.service.HohmannTransferMetrics.RejectionCause;
+import com.example.orbits.service.HohmannTransferRecordCalculator;
+import com.example.orbits.service.HohmannTransferType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.orbits.codec.HohmannTransferBinaryCodec.OUTPUT_SIZE;
+
+/**
+ * A helper component which processes batches in the binary wire format described in {@link HohmannTransferBinaryCodec}.
+ * <p>
+ * Input records are calculated by a {@link HohmannTransferRecordCalculator} in chunks of up to {@value #CHUNK_RECORDS}
+ * records, straight from the received bytes. No objects are created per record, and the results are identical
+ * to the results of the JSON endpoints for the same inputs. Binary batches always bypass the result cache.
+ * <p>
+ * A record with a value which is not greater than 0 is rejected, and its output record contains only NaN values.
+ * An incomplete trailing record is ignored and recorded as malformed input.
+ */
+@Component
+class HohmannTransferBinaryBatchProcessor {
+
+    static final int CHUNK_RECORDS = 1024;
+
+    private final HohmannTransferMetrics metrics;
+
+    HohmannTransferBinaryBatchProcessor(HohmannTransferMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Reads input records from the given stream, calculates them and writes the output records to the output stream.
+     * The calculated records are added to the given counter even if the batch fails part way through.
+     *
+     * @param input    the stream containing input records.
+     * @param output   the stream to write the output records to.
+     * @param type     the type of transfers described by the input records.
+     * @param endpoint the name of the endpoint processing the batch, used in metrics.
+     * @param count    the counter to add every processed input record to.
+     * @throws IOException if reading the input or writing the output fails.
+     */
+    void stream(InputStream input, OutputStream output, HohmannTransferType type, String endpoint, AtomicLong count)
+            throws IOException {
+        var batch = new Batch(type, endpoint);
+        byte[] bytes = new byte[CHUNK_RECORDS * batch.inputSize];
+        try {
+            for (int length = input.read(bytes); length != -1; length = input.read(bytes)) {
+                output.write(batch.process(ByteBuffer.wrap(bytes, 0, length)));
+            }
+            batch.finish();
+        } finally {
+            count.addAndGet(batch.count);
+        }
+    }
+
+    /**
+     * Calculates a reactive stream of buffers containing input records and encodes the output records
+     * as a stream of buffers. Records may be split between input buffers arbitrarily.
+     *
+     * @param input         the buffers containing input records.
+     * @param bufferFactory the factory of buffers to encode the output records into.
+     * @param type          the type of transfers described by the input records.
+     * @param endpoint      the name of the endpoint processing the batch, used in metrics.
+     * @return The stream of encoded output records.
+     */
+    Flux<DataBuffer> stream(Flux<DataBuffer> input, DataBufferFactory bufferFactory, HohmannTransferType type,
+                            String endpoint) {
+        return Flux.defer(() -> {
+            var batch = new Batch(type, endpoint);
+            return input
+                    .map(buffer -> {
+                        try {
+                            return bufferFactory.wrap(batch.process(buffer.asByteBuffer()));
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .concatWith(Mono.fromRunnable(batch::finish));
+        });
+    }
+
+    /**
+     * The state of a single batch: the calculator of the current chunk, and the bytes of an input record
+     * which was split between two reads.
+     */
+    private class Batch {
+
+        private final HohmannTransferType type;
+        private final String endpoint;
+        private final int inputSize;
+        private final HohmannTransferRecordCalculator calculator;
+        private final ByteBuffer pending;
+        private int count;
+
+        Batch(HohmannTransferType type, String endpoint) {
+            this.type = type;
+            this.endpoint = endpoint;
+            this.inputSize = HohmannTransferRecordCalculator.inputSize(type);
+            this.calculator = new HohmannTransferRecordCalculator(type, CHUNK_RECORDS);
+            this.pending = ByteBuffer.allocate(inputSize);
+        }
+
+        /**
+         * Calculates all complete input records, including one completed with the bytes left by the previous call.
+         *
+         * @param input the received bytes.
+         * @return The encoded output records.
+         */
+        byte[] process(ByteBuffer input) {
+            int records = (pending.position() + input.remaining()) / inputSize;
+            var output = ByteBuffer.allocate(records * OUTPUT_SIZE);
+            if (pending.position() > 0 && records > 0) {
+                int missing = pending.remaining();
+                pending.put(input.slice().limit(missing));
+                input.position(input.position() + missing);
+                pending.flip();
+                calculateChunk(pending, output);
+                pending.clear();
+            }
+            while (input.remaining() >= inputSize) {
+                calculateChunk(input, output);
+            }
+            pending.put(input);
+            return output.array();
+        }
+
+        void finish() {
+            if (pending.position() > 0) {
+                metrics.recordRejectedBatchItem(endpoint, RejectionCause.MALFORMED_INPUT);
+            }
+        }
+
+        private void calculateChunk(ByteBuffer input, ByteBuffer output) {
+            int n = calculator.calculate(input, output);
+            int invalid = calculator.getInvalidCount();
+            metrics.recordBatchItems(endpoint, type, n - invalid);
+            if (invalid > 0) {
+                metrics.recordRejectedBatchItems(endpoint, RejectionCause.INVALID_INPUT, invalid);
+            }
+            count += n;
+        }
+    }
+}
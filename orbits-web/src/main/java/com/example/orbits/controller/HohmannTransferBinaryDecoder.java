@@ -0,0 +1,38 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+
+import java.util.Map;
+
+/**
+ * Decodes single-transfer inputs of the reactive API controller from the binary wire format
+ * described in {@link HohmannTransferBinaryCodec}.
+ */
+class HohmannTransferBinaryDecoder extends AbstractDataBufferDecoder<Object> {
+
+    HohmannTransferBinaryDecoder() {
+        super(HohmannTransferBinaryMessages.MEDIA_TYPE);
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return HohmannTransferBinaryMessages.isInputType(elementType.toClass()) && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Object decode(DataBuffer buffer, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        try {
+            return HohmannTransferBinaryMessages.readInput(buffer.asByteBuffer(), elementType.toClass());
+        } catch (IllegalArgumentException e) {
+            throw new DecodingException(e.getMessage(), e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
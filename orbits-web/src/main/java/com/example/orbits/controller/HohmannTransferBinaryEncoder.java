@@ -0,0 +1,40 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+
+/**
+ * Encodes single-transfer outputs of the reactive API controller in the binary wire format
+ * described in {@link HohmannTransferBinaryCodec}.
+ */
+class HohmannTransferBinaryEncoder extends AbstractEncoder<HohmannTransferOutput> {
+
+    HohmannTransferBinaryEncoder() {
+        super(HohmannTransferBinaryMessages.MEDIA_TYPE);
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return elementType.toClass() == HohmannTransferOutput.class && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends HohmannTransferOutput> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return Flux.from(inputStream).map(output -> encodeValue(output, bufferFactory, elementType, mimeType, hints));
+    }
+
+    @Override
+    public DataBuffer encodeValue(HohmannTransferOutput output, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  MimeType mimeType, Map<String, Object> hints) {
+        return bufferFactory.wrap(HohmannTransferBinaryMessages.writeOutput(output));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads single-transfer inputs and writes outputs of the servlet-based API controller in the binary wire format
+ * described in {@link HohmannTransferBinaryCodec}. Spring Boot registers this converter in front of the default ones.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+class HohmannTransferBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    HohmannTransferBinaryHttpMessageConverter() {
+        super(HohmannTransferBinaryMessages.MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return HohmannTransferBinaryMessages.isInputType(clazz) || clazz == HohmannTransferOutput.class;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        int size = HohmannTransferBinaryMessages.inputSize(clazz);
+        byte[] bytes = inputMessage.getBody().readNBytes(size + 1);
+        try {
+            return HohmannTransferBinaryMessages.readInput(ByteBuffer.wrap(bytes), clazz);
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object output, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(HohmannTransferBinaryMessages.writeOutput((HohmannTransferOutput) output));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import org.springframework.http.MediaType;
+
+import java.nio.ByteBuffer;
+
+import static com.example.orbits.codec.HohmannTransferBinaryCodec.*;
+
+/**
+ * Conversions between the binary wire format described in {@link HohmannTransferBinaryCodec} and the input and output
+ * objects of single-transfer endpoints. They are shared by the servlet message converter and the reactive codecs.
+ */
+final class HohmannTransferBinaryMessages {
+
+    static final MediaType MEDIA_TYPE = MediaType.parseMediaType(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE);
+
+    private HohmannTransferBinaryMessages() {
+    }
+
+    static boolean isInputType(Class<?> type) {
+        return type == SimpleHohmannTransferInput.class || type == InterplanetaryHohmannTransferInput.class;
+    }
+
+    static int inputSize(Class<?> type) {
+        return type == InterplanetaryHohmannTransferInput.class ? INTERPLANETARY_INPUT_SIZE : SIMPLE_INPUT_SIZE;
+    }
+
+    /**
+     * Decodes an input object from a message containing exactly one input record.
+     *
+     * @param buffer the message.
+     * @param type   the type of the input object.
+     * @return The decoded input object.
+     * @throws IllegalArgumentException if the message does not contain exactly one input record,
+     *                                  or the record contains values which are not finite.
+     */
+    static SimpleHohmannTransferInput readInput(ByteBuffer buffer, Class<?> type) {
+        if (buffer.remaining() != inputSize(type)) {
+            throw new IllegalArgumentException("Message must contain exactly one record of " + inputSize(type) + " bytes");
+        }
+        if (type == InterplanetaryHohmannTransferInput.class) {
+            double[] values = new double[INTERPLANETARY_INPUT_FIELDS];
+            readFiniteRecord(buffer, values);
+            var input = new InterplanetaryHohmannTransferInput();
+            setSimpleInput(input, values);
+            input.setStartingPlanetMass(values[3]);
+            input.setStartingPlanetOrbitRadius(values[4]);
+            input.setDestinationPlanetMass(values[5]);
+            input.setDestinationPlanetOrbitRadius(values[6]);
+            return input;
+        }
+        double[] values = new double[SIMPLE_INPUT_FIELDS];
+        readFiniteRecord(buffer, values);
+        var input = new SimpleHohmannTransferInput();
+        setSimpleInput(input, values);
+        return input;
+    }
+
+    /**
+     * Reads a record and rejects NaN and infinite values, which cannot be expressed in the JSON format either.
+     */
+    private static void readFiniteRecord(ByteBuffer buffer, double[] values) {
+        readRecord(buffer, values);
+        for (double value : values) {
+            if (!Double.isFinite(value)) {
+                throw new IllegalArgumentException("Record must contain only finite values");
+            }
+        }
+    }
+
+    /**
+     * Encodes an output object as an output record.
+     *
+     * @param output the output object.
+     * @return The output record.
+     */
+    static byte[] writeOutput(HohmannTransferOutput output) {
+        var buffer = ByteBuffer.allocate(OUTPUT_SIZE);
+        writeRecord(buffer, output.getTransferTime(), output.getInsertionDeltaV(), output.getArrivalDeltaV(),
+                output.getTotalDeltaV());
+        return buffer.array();
+    }
+
+    private static void setSimpleInput(SimpleHohmannTransferInput input, double[] values) {
+        input.setPrimaryBodyMass(values[0]);
+        input.setStartingOrbitRadius(values[1]);
+        input.setDestinationOrbitRadius(values[2]);
+    }
+}
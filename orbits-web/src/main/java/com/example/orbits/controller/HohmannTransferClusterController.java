@@ -0,0 +1,136 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferClusterService;
+import com.example.orbits.service.HohmannTransferWorker;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * An API controller that manages the workers calculating distributed jobs, as described
+ * in {@link HohmannTransferClusterService}.
+ * <p>
+ * Every endpoint returns the status of workers in the following format:
+ * <pre>
+ * {@code
+ * {
+ *     "id": String,
+ *     "url": String,
+ *     "registered": String,
+ *     "inFlight": Number,
+ *     "chunks": Number,
+ *     "records": Number,
+ *     "failures": Number,
+ *     "throughput": Number,
+ *     "lastError": String
+ * }
+ * }
+ * </pre>
+ * The {@code throughput} is the number of records the worker has calculated per second in which it had chunks in flight.
+ * The {@code lastError} property is only present for workers which have failed a chunk.
+ * <p>
+ * Workers can only be registered and deregistered when registration is enabled, with the registration token
+ * in the {@value HohmannTransferClusterService#TOKEN_HEADER} header; otherwise these endpoints respond
+ * with 404 Not Found, or 403 Forbidden for a missing or wrong token.
+ */
+@RestController
+public class HohmannTransferClusterController {
+
+    private final HohmannTransferClusterService clusterService;
+    private final HohmannTransferInputHandler inputHandler;
+
+    public HohmannTransferClusterController(HohmannTransferClusterService clusterService, HohmannTransferInputHandler inputHandler) {
+        this.clusterService = clusterService;
+        this.inputHandler = inputHandler;
+    }
+
+    /**
+     * Handles an HTTP POST request registering a worker. The input JSON must be provided in the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "url": String
+     * }
+     * }
+     * </pre>
+     * Registering a worker again with the same URL returns the registered worker.
+     *
+     * @param token the registration token.
+     * @param input the worker to register.
+     * @return A 201 Created response with the status of the registered worker.
+     */
+    @PostMapping(path = "/cluster/workers", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<HohmannTransferWorkerOutput> registerWorker(
+            @RequestHeader(name = HohmannTransferClusterService.TOKEN_HEADER, required = false) String token,
+            @RequestBody HohmannTransferWorkerInput input) {
+        authorize(token);
+        HohmannTransferWorker worker;
+        try {
+            worker = clusterService.register(input.getUrl() != null ? URI.create(input.getUrl()) : null);
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+        return ResponseEntity.created(URI.create("/cluster/workers/" + worker.getId())).body(HohmannTransferWorkerOutput.of(worker));
+    }
+
+    /**
+     * Handles an HTTP GET request for the status and throughput of all workers, in the order of registration.
+     *
+     * @return The status of all workers.
+     */
+    @GetMapping(path = "/cluster/workers", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<HohmannTransferWorkerOutput> workers() {
+        return clusterService.getWorkers().stream().map(HohmannTransferWorkerOutput::of).collect(Collectors.toList());
+    }
+
+    /**
+     * Handles an HTTP GET request for the status and throughput of a worker.
+     *
+     * @param id the identifier of the worker.
+     * @return The status of the worker, or a 404 Not Found response if there is no such worker.
+     */
+    @GetMapping(path = "/cluster/workers/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public HohmannTransferWorkerOutput worker(@PathVariable String id) {
+        return clusterService.find(id).map(HohmannTransferWorkerOutput::of).orElseThrow(() -> notFound(id));
+    }
+
+    /**
+     * Handles an HTTP DELETE request deregistering a worker. Chunks in flight on the worker are still accepted.
+     *
+     * @param token the registration token.
+     * @param id    the identifier of the worker.
+     * @return The status of the worker, or a 404 Not Found response if there is no such worker.
+     */
+    @DeleteMapping(path = "/cluster/workers/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public HohmannTransferWorkerOutput deregisterWorker(
+            @RequestHeader(name = HohmannTransferClusterService.TOKEN_HEADER, required = false) String token,
+            @PathVariable String id) {
+        authorize(token);
+        return clusterService.deregister(id).map(HohmannTransferWorkerOutput::of).orElseThrow(() -> notFound(id));
+    }
+
+    private void authorize(String token) {
+        if (!clusterService.isRegistrationEnabled()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Worker registration is disabled");
+        }
+        if (!clusterService.isAuthorized(token)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Invalid registration token");
+        }
+    }
+
+    private static ResponseStatusException notFound(String id) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown worker: " + id);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferValidator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Output data of a rejected input, returned as the body of a 422 Unprocessable Entity response
+ * by the calculation endpoints of {@link HohmannTransferAPIController}, or in place of a batch item
+ * which could not be calculated, as described in {@link HohmannTransferBatchStreamer}:
+ * <pre>
+ * {@code
+ * {
+ *     "error": String,
+ *     "errors": [
+ *         {
+ *             "field": String,
+ *             "code": "not-positive" | "unknown-body" | "incompatible-orbits"
+ *         }
+ *     ]
+ * }
+ * }
+ * </pre>
+ * The {@code errors} list contains an entry for every invalid field, and is only present for inputs
+ * which could be parsed.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HohmannTransferErrorOutput {
+
+    private final String error;
+    private final List<FieldErrorOutput> errors;
+
+    /**
+     * An error of a single input field.
+     */
+    @Data
+    public static class FieldErrorOutput {
+        private final String field;
+        private final String code;
+    }
+
+    /**
+     * Creates an output object with a message only.
+     *
+     * @param error the message describing the error.
+     * @return The output object containing the given message.
+     */
+    public static HohmannTransferErrorOutput of(String error) {
+        return new HohmannTransferErrorOutput(error, null);
+    }
+
+    /**
+     * Creates an output object from the errors found by a validator.
+     *
+     * @param error     the message describing the error.
+     * @param validator the validator which rejected the input.
+     * @return The output object containing the given message and field errors.
+     */
+    public static HohmannTransferErrorOutput of(String error, HohmannTransferValidator validator) {
+        var fieldErrors = validator.getErrors();
+        List<FieldErrorOutput> errors = new ArrayList<>(fieldErrors.size());
+        for (var fieldError : fieldErrors) {
+            errors.add(new FieldErrorOutput(fieldError.getField(), fieldError.getCode().getCode()));
+        }
+        return new HohmannTransferErrorOutput(error, errors);
+    }
+}
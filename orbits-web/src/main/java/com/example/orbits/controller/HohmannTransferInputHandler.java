@@ -0,0 +1,152 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.Orbit;
+import com.example.orbits.service.CelestialBodyCatalog;
+import com.example.orbits.service.HohmannTransferMetrics;
+import com.example.orbits.service.HohmannTransferMetrics.RejectionCause;
+import com.example.orbits.service.HohmannTransferPhaseEvents.Calculation;
+import com.example.orbits.service.HohmannTransferPhaseEvents.ModelBuilding;
+import com.example.orbits.service.HohmannTransferService;
+import com.example.orbits.service.HohmannTransferValidator;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * A helper component which converts API input objects into orbits and calculates them with
+ * {@link HohmannTransferService}. It is shared by the servlet-based and the reactive API controllers,
+ * so that both expose exactly the same contracts.
+ * <p>
+ * Input objects are checked by a {@link HohmannTransferValidator} before they are calculated,
+ * so that invalid inputs are rejected without throwing exceptions, which would be much more expensive
+ * than the calculation itself. The {@code calculate} methods must only be called with valid inputs.
+ * <p>
+ * The building of the model and the calculation are timed by
+ * {@link com.example.orbits.service.HohmannTransferPhaseEvents}, which cost nothing unless they are being recorded.
+ */
+@Component
+class HohmannTransferInputHandler {
+
+    private static final String SIMPLE = "simple";
+    private static final String INTERPLANETARY = "interplanetary";
+    private static final String NAMED = "named";
+
+    private final HohmannTransferService transferService;
+    private final CelestialBodyCatalog catalog;
+    private final HohmannTransferMetrics metrics;
+
+    HohmannTransferInputHandler(HohmannTransferService transferService, CelestialBodyCatalog catalog,
+                                HohmannTransferMetrics metrics) {
+        this.transferService = transferService;
+        this.catalog = catalog;
+        this.metrics = metrics;
+    }
+
+    HohmannTransferValidator validate(SimpleHohmannTransferInput input) {
+        return new HohmannTransferValidator()
+                .requirePositive("primaryBodyMass", input.getPrimaryBodyMass())
+                .requirePositive("startingOrbitRadius", input.getStartingOrbitRadius())
+                .requirePositive("destinationOrbitRadius", input.getDestinationOrbitRadius());
+    }
+
+    HohmannTransferValidator validate(InterplanetaryHohmannTransferInput input) {
+        return validate((SimpleHohmannTransferInput) input)
+                .requirePositive("startingPlanetMass", input.getStartingPlanetMass())
+                .requirePositive("startingPlanetOrbitRadius", input.getStartingPlanetOrbitRadius())
+                .requirePositive("destinationPlanetMass", input.getDestinationPlanetMass())
+                .requirePositive("destinationPlanetOrbitRadius", input.getDestinationPlanetOrbitRadius());
+    }
+
+    HohmannTransferValidator validate(NamedHohmannTransferInput input) {
+        var startingBody = catalog.find(input.getStartingBody()).orElse(null);
+        var destinationBody = catalog.find(input.getDestinationBody()).orElse(null);
+        return new HohmannTransferValidator()
+                .requireKnownBody("startingBody", startingBody)
+                .requirePositive("startingOrbitRadius", input.getStartingOrbitRadius())
+                .requireKnownBody("destinationBody", destinationBody)
+                .requirePositive("destinationOrbitRadius", input.getDestinationOrbitRadius())
+                .requireTransferable("destinationBody", startingBody, destinationBody);
+    }
+
+    HohmannTransferOutput calculate(SimpleHohmannTransferInput input, boolean useCache) {
+        var event = new ModelBuilding();
+        event.begin();
+        var primaryBody = new CelestialBody(null, input.getPrimaryBodyMass());
+        var startingOrbit = new Orbit(input.getStartingOrbitRadius(), primaryBody);
+        var destinationOrbit = new Orbit(input.getDestinationOrbitRadius(), primaryBody);
+        event.end(SIMPLE);
+        return getOutput(startingOrbit, destinationOrbit, useCache, SIMPLE);
+    }
+
+    HohmannTransferOutput calculate(InterplanetaryHohmannTransferInput input, boolean useCache) {
+        var event = new ModelBuilding();
+        event.begin();
+        var primaryBody = new CelestialBody(null, input.getPrimaryBodyMass());
+        var startingPlanet = new CelestialBody(null, input.getStartingPlanetMass());
+        startingPlanet.setOrbit(new Orbit(input.getStartingPlanetOrbitRadius(), primaryBody));
+        var destinationPlanet = new CelestialBody(null, input.getDestinationPlanetMass());
+        destinationPlanet.setOrbit(new Orbit(input.getDestinationPlanetOrbitRadius(), primaryBody));
+        var startingOrbit = new Orbit(input.getStartingOrbitRadius(), startingPlanet);
+        var destinationOrbit = new Orbit(input.getDestinationOrbitRadius(), destinationPlanet);
+        event.end(INTERPLANETARY);
+        return getOutput(startingOrbit, destinationOrbit, useCache, INTERPLANETARY);
+    }
+
+    HohmannTransferOutput calculate(NamedHohmannTransferInput input, boolean useCache) {
+        var event = new ModelBuilding();
+        event.begin();
+        var startingOrbit = new Orbit(input.getStartingOrbitRadius(), catalog.get(input.getStartingBody()));
+        var destinationOrbit = new Orbit(input.getDestinationOrbitRadius(), catalog.get(input.getDestinationBody()));
+        event.end(NAMED);
+        return getOutput(startingOrbit, destinationOrbit, useCache, NAMED);
+    }
+
+    /**
+     * Records the rejection of an input in metrics and creates the exception to be thrown by an API controller.
+     *
+     * @param e the exception thrown by the calculation.
+     * @return An exception resulting in a 422 Unprocessable Entity response.
+     */
+    ResponseStatusException reject(RuntimeException e) {
+        metrics.recordRejection(RejectionCause.of(e));
+        return new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "Input parameters are invalid");
+    }
+
+    /**
+     * Records the rejection of an input in metrics and creates the response to be returned by an API controller,
+     * without throwing an exception.
+     *
+     * @param validator the validator which rejected the input.
+     * @return A 422 Unprocessable Entity response listing the invalid fields.
+     */
+    ResponseEntity<Object> reject(HohmannTransferValidator validator) {
+        metrics.recordRejection(RejectionCause.of(validator.getErrors().get(0).getCode()));
+        // The content type is set explicitly, so that the errors are written as JSON even for binary requests
+        return ResponseEntity.unprocessableEntity()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(HohmannTransferErrorOutput.of(HohmannTransferBatchStreamer.INVALID_ITEM_MESSAGE, validator));
+    }
+
+    /**
+     * Checks whether a request may be served from the result cache.
+     *
+     * @param cacheControl the value of the {@code Cache-Control} request header, or null if it is absent.
+     * @return False if the request includes the {@code no-cache} directive, true otherwise.
+     */
+    static boolean useCache(String cacheControl) {
+        return cacheControl == null || !cacheControl.contains(CacheControl.noCache().getHeaderValue());
+    }
+
+    private HohmannTransferOutput getOutput(Orbit startingOrbit, Orbit destinationOrbit, boolean useCache,
+                                            String type) {
+        var event = new Calculation();
+        event.begin();
+        var transfer = transferService.calculate(startingOrbit, destinationOrbit, useCache);
+        event.end(type);
+        return HohmannTransferOutput.of(transfer);
+    }
+}
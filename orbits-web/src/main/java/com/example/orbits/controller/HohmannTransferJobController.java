@@ -0,0 +1,150 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferFileProcessor;
+import com.example.orbits.service.HohmannTransferJob;
+import com.example.orbits.service.HohmannTransferJobService;
+import com.example.orbits.service.HohmannTransferType;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * An API controller that manages bulk calculation jobs, which calculate files of binary or CSV records
+ * in the background with {@link HohmannTransferJobService}. The output file of a job contains a binary output record
+ * for every input record, and can be read while the job is running up to its completed records.
+ * <p>
+ * Every endpoint returns the status of jobs in the following format:
+ * <pre>
+ * {@code
+ * {
+ *     "id": String,
+ *     "type": "simple" | "interplanetary",
+ *     "state": "queued" | "running" | "completed" | "cancelled" | "failed",
+ *     "input": String,
+ *     "output": String,
+ *     "distributed": Boolean,
+ *     "submitted": String,
+ *     "recordCount": Number,
+ *     "completedRecords": Number,
+ *     "progress": Number,
+ *     "error": String
+ * }
+ * }
+ * </pre>
+ * The {@code error} property is only present for failed jobs.
+ */
+@RestController
+public class HohmannTransferJobController {
+
+    private final HohmannTransferJobService jobService;
+    private final HohmannTransferInputHandler inputHandler;
+
+    public HohmannTransferJobController(HohmannTransferJobService jobService, HohmannTransferInputHandler inputHandler) {
+        this.jobService = jobService;
+        this.inputHandler = inputHandler;
+    }
+
+    /**
+     * Handles an HTTP POST request submitting a job. The input JSON must be provided in the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "type": "simple" | "interplanetary",
+     *     "input": String,
+     *     "output": String,
+     *     "format": "binary" | "csv",
+     *     "distributed": Boolean
+     * }
+     * }
+     * </pre>
+     * Paths are relative to the job directory. Binary input files contain records in the format described in
+     * {@link com.example.orbits.codec.HohmannTransferBinaryCodec}; CSV files contain the same fields, in the same order.
+     * If a previous job with the same files and parameters has been interrupted or cancelled, the new job resumes
+     * from its last checkpoint, as described in {@link HohmannTransferFileProcessor}. A distributed job is calculated
+     * by the workers registered with {@link HohmannTransferClusterController}.
+     *
+     * @param input the parameters of the job.
+     * @return A 202 Accepted response with the status of the submitted job.
+     */
+    @PostMapping(path = "/jobs", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<HohmannTransferJobOutput> submitJob(@RequestBody HohmannTransferJobInput input) {
+        HohmannTransferJob job;
+        try {
+            job = jobService.submit(type(input.getType()), input.getInput(), input.getOutput(), csv(input.getFormat()),
+                    input.isDistributed());
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+        return ResponseEntity.accepted().location(URI.create("/jobs/" + job.getId())).body(output(job));
+    }
+
+    /**
+     * Handles an HTTP GET request for the status of all jobs, in the order of submission.
+     *
+     * @return The status of all jobs.
+     */
+    @GetMapping(path = "/jobs", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<HohmannTransferJobOutput> jobs() {
+        return jobService.getJobs().stream().map(this::output).collect(Collectors.toList());
+    }
+
+    /**
+     * Handles an HTTP GET request for the status and progress of a job.
+     *
+     * @param id the identifier of the job.
+     * @return The status of the job, or a 404 Not Found response if there is no such job.
+     */
+    @GetMapping(path = "/jobs/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public HohmannTransferJobOutput job(@PathVariable String id) {
+        return jobService.find(id).map(this::output).orElseThrow(() -> notFound(id));
+    }
+
+    /**
+     * Handles an HTTP DELETE request cancelling a job. A running job stops after its current group of chunks;
+     * its output file and last checkpoint are kept, so it can be resumed by submitting it again.
+     *
+     * @param id the identifier of the job.
+     * @return The status of the job, or a 404 Not Found response if there is no such job.
+     */
+    @DeleteMapping(path = "/jobs/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public HohmannTransferJobOutput cancelJob(@PathVariable String id) {
+        return jobService.cancel(id).map(this::output).orElseThrow(() -> notFound(id));
+    }
+
+    private HohmannTransferJobOutput output(HohmannTransferJob job) {
+        return HohmannTransferJobOutput.of(job, jobService.getDirectory());
+    }
+
+    private static HohmannTransferType type(String type) {
+        if ("simple".equals(type)) {
+            return HohmannTransferType.SAME_BODY;
+        } else if ("interplanetary".equals(type)) {
+            return HohmannTransferType.INTERPLANETARY;
+        }
+        throw new IllegalArgumentException("Unsupported job type: " + type);
+    }
+
+    private static boolean csv(String format) {
+        if (format == null || format.equals("binary")) {
+            return false;
+        } else if (format.equals("csv")) {
+            return true;
+        }
+        throw new IllegalArgumentException("Unsupported input format: " + format);
+    }
+
+    private static ResponseStatusException notFound(String id) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown job: " + id);
+    }
+}
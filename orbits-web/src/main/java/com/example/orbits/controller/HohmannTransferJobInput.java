@@ -0,0 +1,35 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+
+/**
+ * Input data of a bulk calculation job, as accepted by {@link HohmannTransferJobController}.
+ */
+@Data
+public class HohmannTransferJobInput {
+
+    /**
+     * The type of transfers described by the input records: {@code simple} or {@code interplanetary}.
+     */
+    private String type;
+
+    /**
+     * The path of the input file, relative to the job directory.
+     */
+    private String input;
+
+    /**
+     * The path of the output file, relative to the job directory.
+     */
+    private String output;
+
+    /**
+     * The format of the input file: {@code binary} (the default) or {@code csv}.
+     */
+    private String format = "binary";
+
+    /**
+     * Whether the records should be calculated by the registered workers instead of this instance.
+     */
+    private boolean distributed;
+}
@@ -0,0 +1,54 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferJob;
+import com.example.orbits.service.HohmannTransferType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * The status of a bulk calculation job, as returned by {@link HohmannTransferJobController}.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HohmannTransferJobOutput {
+
+    private final String id;
+    private final String type;
+    private final String state;
+    private final String input;
+    private final String output;
+    private final boolean distributed;
+    private final Instant submitted;
+    private final long recordCount;
+    private final long completedRecords;
+    private final double progress;
+    private final String error;
+
+    /**
+     * Creates an output object from the current state of a job.
+     *
+     * @param job       the job.
+     * @param directory the job directory, which the paths of the job files are relative to.
+     * @return The output object describing the job.
+     */
+    public static HohmannTransferJobOutput of(HohmannTransferJob job, Path directory) {
+        long recordCount = job.getRecordCount();
+        long completedRecords = job.getCompletedRecords();
+        return new HohmannTransferJobOutput(
+                job.getId(),
+                job.getType() == HohmannTransferType.INTERPLANETARY ? "interplanetary" : "simple",
+                job.getState().name().toLowerCase(Locale.ROOT),
+                directory.relativize(job.getInput()).toString(),
+                directory.relativize(job.getOutput()).toString(),
+                job.isDistributed(),
+                job.getSubmitted(),
+                recordCount,
+                completedRecords,
+                recordCount > 0 ? (double) completedRecords / recordCount : job.getState() == HohmannTransferJob.State.COMPLETED ? 1d : 0d,
+                job.getError());
+    }
+}
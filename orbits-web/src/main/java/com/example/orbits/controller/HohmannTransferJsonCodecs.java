@@ -0,0 +1,61 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferPhaseEvents.Binding;
+import com.example.orbits.service.HohmannTransferPhaseEvents.Serialization;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import java.util.Map;
+
+/**
+ * The JSON codecs of the reactive API controller, which time the binding of request bodies and the serialization
+ * of response bodies with {@link com.example.orbits.service.HohmannTransferPhaseEvents}, like
+ * {@link HohmannTransferJsonHttpMessageConverter} does for the servlet-based controllers.
+ * Only single values are timed; streamed batch items are decoded and encoded in chunks as they arrive.
+ */
+final class HohmannTransferJsonCodecs {
+
+    static final class Decoder extends Jackson2JsonDecoder {
+
+        Decoder(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        public Object decode(DataBuffer dataBuffer, ResolvableType targetType, @Nullable MimeType mimeType,
+                             @Nullable Map<String, Object> hints) throws DecodingException {
+            var event = new Binding();
+            event.begin();
+            Object input = super.decode(dataBuffer, targetType, mimeType, hints);
+            event.end(input != null ? input.getClass().getSimpleName() : null);
+            return input;
+        }
+    }
+
+    static final class Encoder extends Jackson2JsonEncoder {
+
+        Encoder(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                      @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+            var event = new Serialization();
+            event.begin();
+            DataBuffer output = super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+            event.end(value.getClass().getSimpleName());
+            return output;
+        }
+    }
+
+    private HohmannTransferJsonCodecs() {
+    }
+}
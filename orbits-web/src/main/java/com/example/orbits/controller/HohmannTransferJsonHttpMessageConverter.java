@@ -0,0 +1,45 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferPhaseEvents.Binding;
+import com.example.orbits.service.HohmannTransferPhaseEvents.Serialization;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * The JSON converter of the servlet-based API controllers, which times the binding of request bodies and
+ * the serialization of response bodies with {@link com.example.orbits.service.HohmannTransferPhaseEvents}.
+ * Spring Boot uses it in place of its default JSON converter.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+class HohmannTransferJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    HohmannTransferJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        var event = new Binding();
+        event.begin();
+        Object input = super.read(type, contextClass, inputMessage);
+        event.end(input != null ? input.getClass().getSimpleName() : null);
+        return input;
+    }
+
+    @Override
+    protected void writeInternal(Object output, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        var event = new Serialization();
+        event.begin();
+        super.writeInternal(output, type, outputMessage);
+        event.end(output.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferLaunchWindowService;
+import com.example.orbits.service.HohmannTransferLaunchWindows;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * An API controller that schedules Hohmann transfers between bodies orbiting the same primary body,
+ * with the launch window tables of {@link HohmannTransferLaunchWindowService}.
+ */
+@RestController
+public class HohmannTransferLaunchWindowController {
+
+    private final HohmannTransferLaunchWindowService windowService;
+    private final HohmannTransferInputHandler inputHandler;
+    private final HohmannTransferLaunchWindowProperties properties;
+
+    public HohmannTransferLaunchWindowController(HohmannTransferLaunchWindowService windowService,
+                                                 HohmannTransferInputHandler inputHandler,
+                                                 HohmannTransferLaunchWindowProperties properties) {
+        this.windowService = windowService;
+        this.inputHandler = inputHandler;
+        this.properties = properties;
+    }
+
+    /**
+     * Handles an HTTP POST request for the launch windows of pairs of bodies within a time horizon.
+     * The input JSON must be provided in the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "pairs": [
+     *         {
+     *             "startingBody": String,
+     *             "destinationBody": String,
+     *             "primaryBodyMass": Number,
+     *             "startingOrbitRadius": Number,
+     *             "destinationOrbitRadius": Number,
+     *             "initialPhaseAngle": Number
+     *         }
+     *     ],
+     *     "horizon": Number
+     * }
+     * }
+     * </pre>
+     * A pair is given either by the names of two bodies from the catalog, or, if the names are absent, by the mass
+     * of the primary body and the radii of both orbits. The initial phase angle is the angle (in radians) by which
+     * the destination body is ahead of the starting body at time 0, and departures are scheduled from time 0
+     * to the horizon (in seconds). Pairs are calculated in parallel. The response body has the following format:
+     * <pre>
+     * {@code
+     * [
+     *     {
+     *         "startingBody": String,
+     *         "destinationBody": String,
+     *         "phaseAngle": Number,
+     *         "synodicPeriod": Number,
+     *         "transferTime": Number,
+     *         "departures": [Number]
+     *     }
+     * ]
+     * }
+     * </pre>
+     * Requests with more pairs or departures than the configured limits are rejected.
+     *
+     * @param input the pairs of bodies and the time horizon.
+     * @return The launch windows of every pair, in the order of the input.
+     */
+    @PostMapping(path = "/windows", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<HohmannTransferLaunchWindowOutput> windows(@RequestBody HohmannTransferLaunchWindowInput input) {
+        try {
+            var pairs = input.getPairs();
+            if (pairs == null || pairs.isEmpty() || pairs.size() > properties.getMaxPairs()) {
+                throw new IllegalArgumentException("Number of pairs must be between 1 and " + properties.getMaxPairs());
+            }
+            var windows = pairs.parallelStream().map(this::windows).toArray(HohmannTransferLaunchWindows[]::new);
+            long departures = IntStream.range(0, windows.length)
+                    .mapToLong(i -> windows[i].countDepartures(pairs.get(i).getInitialPhaseAngle(), input.getHorizon()))
+                    .sum();
+            if (departures > properties.getMaxDepartures()) {
+                throw new IllegalArgumentException("Number of departures exceeds " + properties.getMaxDepartures());
+            }
+            return IntStream.range(0, windows.length).parallel()
+                    .mapToObj(i -> HohmannTransferLaunchWindowOutput.of(pairs.get(i), windows[i],
+                            windows[i].departures(pairs.get(i).getInitialPhaseAngle(), input.getHorizon())))
+                    .collect(Collectors.toList());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw inputHandler.reject(e);
+        }
+    }
+
+    private HohmannTransferLaunchWindows windows(HohmannTransferLaunchWindowInput.Pair pair) {
+        if (pair == null) {
+            throw new IllegalArgumentException("Pair must not be null");
+        }
+        if (pair.getStartingBody() != null || pair.getDestinationBody() != null) {
+            return windowService.windows(pair.getStartingBody(), pair.getDestinationBody());
+        }
+        return windowService.windows(pair.getPrimaryBodyMass(), pair.getStartingOrbitRadius(), pair.getDestinationOrbitRadius());
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Input data of launch window requests, as accepted by {@link HohmannTransferLaunchWindowController}.
+ */
+@Data
+public class HohmannTransferLaunchWindowInput {
+
+    private List<Pair> pairs;
+    private double horizon;
+
+    /**
+     * A pair of bodies, given either by the names of bodies from the catalog,
+     * or by the mass of their primary body and the radii of their orbits.
+     */
+    @Data
+    public static class Pair {
+        private String startingBody;
+        private String destinationBody;
+        private double primaryBodyMass;
+        private double startingOrbitRadius;
+        private double destinationOrbitRadius;
+        private double initialPhaseAngle;
+    }
+}
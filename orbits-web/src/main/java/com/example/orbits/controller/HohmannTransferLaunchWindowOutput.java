@@ -0,0 +1,37 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferLaunchWindows;
+import lombok.Data;
+
+/**
+ * Launch windows of a pair of bodies, as returned by {@link HohmannTransferLaunchWindowController}.
+ */
+@Data
+public class HohmannTransferLaunchWindowOutput {
+
+    private final String startingBody;
+    private final String destinationBody;
+    private final double phaseAngle;
+    private final double synodicPeriod;
+    private final double transferTime;
+    private final double[] departures;
+
+    /**
+     * Creates an output object from the launch windows of a pair of bodies.
+     *
+     * @param pair       the input data of the pair.
+     * @param windows    the launch windows of the pair.
+     * @param departures the departure times within the requested horizon.
+     * @return The output object containing the data of the given launch windows.
+     */
+    public static HohmannTransferLaunchWindowOutput of(HohmannTransferLaunchWindowInput.Pair pair,
+                                                       HohmannTransferLaunchWindows windows, double[] departures) {
+        return new HohmannTransferLaunchWindowOutput(
+                pair.getStartingBody(),
+                pair.getDestinationBody(),
+                windows.getPhaseAngle(),
+                windows.getSynodicPeriod(),
+                windows.getTransferTime(),
+                departures);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the launch window endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "orbits.windows")
+public class HohmannTransferLaunchWindowProperties {
+
+    /**
+     * The maximum number of pairs of bodies of a single request.
+     */
+    private int maxPairs = 100_000;
+
+    /**
+     * The maximum number of departures of all pairs of a single request.
+     */
+    private long maxDepartures = 1_000_000L;
+}
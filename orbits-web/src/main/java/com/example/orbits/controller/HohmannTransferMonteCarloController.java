@@ -0,0 +1,156 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferMonteCarlo;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.example.orbits.controller.ParameterDistribution.toDistribution;
+
+/**
+ * An API controller that estimates the distributions of transfer durations and delta-Vs when the parameters
+ * of a transfer are uncertain, with Monte Carlo simulations run by {@link HohmannTransferMonteCarlo}.
+ */
+@RestController
+public class HohmannTransferMonteCarloController {
+
+    private final HohmannTransferInputHandler inputHandler;
+    private final HohmannTransferMonteCarloProperties properties;
+
+    public HohmannTransferMonteCarloController(HohmannTransferInputHandler inputHandler, HohmannTransferMonteCarloProperties properties) {
+        this.inputHandler = inputHandler;
+        this.properties = properties;
+    }
+
+    /**
+     * Handles an HTTP POST request for a Monte Carlo simulation of Hohmann transfers between two orbits
+     * around the same primary body. The input JSON must be provided in the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "primaryBodyMass": Distribution,
+     *     "startingOrbitRadius": Distribution,
+     *     "destinationOrbitRadius": Distribution,
+     *     "samples": Number,
+     *     "seed": Number,
+     *     "percentiles": [Number],
+     *     "bins": Number
+     * }
+     * }
+     * </pre>
+     * Every parameter is given as a {@link ParameterDistribution}. The simulation draws {@code samples}
+     * (1000000 by default) transfers, and reports the given {@code percentiles} (1, 5, 25, 50, 75, 95 and 99
+     * by default) and a histogram with the given number of {@code bins} (50 by default) of every calculated quantity.
+     * The results are the same for the same input and {@code seed}; a random seed is chosen if none is given.
+     * The response body has the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "seed": Number,
+     *     "samples": Number,
+     *     "invalidSamples": Number,
+     *     "transferTime": Statistics,
+     *     "insertionDeltaV": Statistics,
+     *     "arrivalDeltaV": Statistics,
+     *     "totalDeltaV": Statistics
+     * }
+     * }
+     * </pre>
+     * where statistics have the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "mean": Number,
+     *     "min": Number,
+     *     "max": Number,
+     *     "percentiles": {
+     *         "50": Number
+     *     },
+     *     "histogram": {
+     *         "from": Number,
+     *         "to": Number,
+     *         "counts": [Number]
+     *     }
+     * }
+     * }
+     * </pre>
+     * Samples with any parameter not greater than 0 are counted as invalid and excluded from the statistics.
+     *
+     * @param input the distributions of the transfer parameters and the options of the simulation.
+     * @return The statistics of the simulated transfers.
+     */
+    @PostMapping(path = "/simple/monte-carlo", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public HohmannTransferMonteCarloOutput simulate(@RequestBody SimpleHohmannTransferMonteCarloInput input) {
+        HohmannTransferMonteCarlo simulation;
+        try {
+            simulation = HohmannTransferMonteCarlo.simple(toDistribution(input.getPrimaryBodyMass()),
+                    toDistribution(input.getStartingOrbitRadius()), toDistribution(input.getDestinationOrbitRadius()));
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+        return run(simulation, input);
+    }
+
+    /**
+     * Handles an HTTP POST request for a Monte Carlo simulation of Hohmann transfers between orbits around two planets
+     * orbiting the same primary body. The input JSON must be provided in the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "primaryBodyMass": Distribution,
+     *     "startingPlanetOrbitRadius": Distribution,
+     *     "startingPlanetMass": Distribution,
+     *     "startingOrbitRadius": Distribution,
+     *     "destinationPlanetOrbitRadius": Distribution,
+     *     "destinationPlanetMass": Distribution,
+     *     "destinationOrbitRadius": Distribution,
+     *     "samples": Number,
+     *     "seed": Number,
+     *     "percentiles": [Number],
+     *     "bins": Number
+     * }
+     * }
+     * </pre>
+     * The options and the response body are the same as for
+     * {@link #simulate(SimpleHohmannTransferMonteCarloInput) simple transfers}.
+     *
+     * @param input the distributions of the transfer parameters and the options of the simulation.
+     * @return The statistics of the simulated transfers.
+     */
+    @PostMapping(path = "/interplanetary/monte-carlo", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public HohmannTransferMonteCarloOutput simulate(@RequestBody InterplanetaryHohmannTransferMonteCarloInput input) {
+        HohmannTransferMonteCarlo simulation;
+        try {
+            simulation = HohmannTransferMonteCarlo.interplanetary(toDistribution(input.getPrimaryBodyMass()),
+                    toDistribution(input.getStartingPlanetOrbitRadius()), toDistribution(input.getStartingPlanetMass()),
+                    toDistribution(input.getDestinationPlanetOrbitRadius()), toDistribution(input.getDestinationPlanetMass()),
+                    toDistribution(input.getStartingOrbitRadius()), toDistribution(input.getDestinationOrbitRadius()));
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+        return run(simulation, input);
+    }
+
+    private HohmannTransferMonteCarloOutput run(HohmannTransferMonteCarlo simulation, SimpleHohmannTransferMonteCarloInput input) {
+        var percentiles = input.getPercentiles();
+        try {
+            if (input.getSamples() <= 0L || input.getSamples() > properties.getMaxSamples()) {
+                throw new IllegalArgumentException("Number of samples must be between 1 and " + properties.getMaxSamples());
+            }
+            if (input.getBins() <= 0 || input.getBins() > properties.getMaxBins()) {
+                throw new IllegalArgumentException("Number of bins must be between 1 and " + properties.getMaxBins());
+            }
+            if (percentiles == null || percentiles.stream().anyMatch(p -> p == null || !(p >= 0d && p <= 100d))) {
+                throw new IllegalArgumentException("Percentiles must be between 0 and 100");
+            }
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+        long seed = input.getSeed() != null ? input.getSeed() : ThreadLocalRandom.current().nextLong();
+        var result = simulation.run(input.getSamples(), seed, properties.getRelativeAccuracy());
+        return HohmannTransferMonteCarloOutput.of(seed, result, percentiles, input.getBins());
+    }
+}
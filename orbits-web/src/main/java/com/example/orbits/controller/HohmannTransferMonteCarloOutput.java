@@ -0,0 +1,81 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferMonteCarlo;
+import com.example.orbits.service.QuantileSketch;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Output data of a Monte Carlo simulation, as returned by {@link HohmannTransferMonteCarloController}.
+ * The statistics of a quantity are not included if no sample was valid.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HohmannTransferMonteCarloOutput {
+
+    private final long seed;
+    private final long samples;
+    private final long invalidSamples;
+    private final Statistics transferTime;
+    private final Statistics insertionDeltaV;
+    private final Statistics arrivalDeltaV;
+    private final Statistics totalDeltaV;
+
+    /**
+     * Statistics of a single quantity of the simulated transfers.
+     */
+    @Data
+    public static class Statistics {
+
+        private final double mean;
+        private final double min;
+        private final double max;
+        private final Map<String, Double> percentiles;
+        private final Histogram histogram;
+
+        static Statistics of(QuantileSketch sketch, List<Double> percentiles, int bins) {
+            if (sketch.getCount() == 0L) {
+                return null;
+            }
+            Map<String, Double> values = new LinkedHashMap<>();
+            for (double percentile : percentiles) {
+                values.put(BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString(), sketch.quantile(percentile / 100d));
+            }
+            return new Statistics(sketch.getMean(), sketch.getMin(), sketch.getMax(), values,
+                    new Histogram(sketch.getMin(), sketch.getMax(), sketch.histogram(bins)));
+        }
+    }
+
+    /**
+     * A histogram of bins of equal width between the minimum and the maximum value of a quantity.
+     */
+    @Data
+    public static class Histogram {
+
+        private final double from;
+        private final double to;
+        private final long[] counts;
+    }
+
+    /**
+     * Creates an output object from the results of a simulation.
+     *
+     * @param seed        the seed of the simulation.
+     * @param result      the results of the simulation.
+     * @param percentiles the percentiles to report, between 0 and 100.
+     * @param bins        the number of histogram bins.
+     * @return The output object containing the statistics of the given results.
+     */
+    public static HohmannTransferMonteCarloOutput of(long seed, HohmannTransferMonteCarlo.Result result, List<Double> percentiles, int bins) {
+        return new HohmannTransferMonteCarloOutput(seed, result.getSampleCount(), result.getInvalidSampleCount(),
+                Statistics.of(result.getTransferTime(), percentiles, bins),
+                Statistics.of(result.getInsertionDeltaV(), percentiles, bins),
+                Statistics.of(result.getArrivalDeltaV(), percentiles, bins),
+                Statistics.of(result.getTotalDeltaV(), percentiles, bins));
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the Monte Carlo endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "orbits.monte-carlo")
+public class HohmannTransferMonteCarloProperties {
+
+    /**
+     * The maximum number of samples of a single simulation.
+     */
+    private long maxSamples = 100_000_000L;
+
+    /**
+     * The maximum number of histogram bins of a single simulation.
+     */
+    private int maxBins = 1000;
+
+    /**
+     * The relative accuracy of the reported percentiles.
+     */
+    private double relativeAccuracy = 0.001;
+}
@@ -0,0 +1,30 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.model.HohmannTransfer;
+import lombok.Data;
+
+/**
+ * Output data of a Hohmann transfer calculation, as returned by {@link HohmannTransferAPIController}.
+ */
+@Data
+public class HohmannTransferOutput {
+
+    private final double transferTime;
+    private final double insertionDeltaV;
+    private final double arrivalDeltaV;
+    private final double totalDeltaV;
+
+    /**
+     * Creates an output object from the calculated parameters of a Hohmann transfer.
+     *
+     * @param transfer the calculated parameters of a Hohmann transfer.
+     * @return The output object containing the given parameters.
+     */
+    public static HohmannTransferOutput of(HohmannTransfer transfer) {
+        return new HohmannTransferOutput(
+                transfer.getTransferTime(),
+                transfer.getInsertionDeltaV(),
+                transfer.getArrivalDeltaV(),
+                transfer.getTotalDeltaV());
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.service.HohmannTransferStrategyOptimizer;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An API controller that plans the cheapest transfers between orbits around the same primary body,
+ * choosing between Hohmann and bi-elliptic transfers with {@link HohmannTransferStrategyOptimizer}.
+ */
+@RestController
+public class HohmannTransferPlanController {
+
+    private final HohmannTransferInputHandler inputHandler;
+    private final HohmannTransferPlanProperties properties;
+
+    public HohmannTransferPlanController(HohmannTransferInputHandler inputHandler, HohmannTransferPlanProperties properties) {
+        this.inputHandler = inputHandler;
+        this.properties = properties;
+    }
+
+    /**
+     * Handles an HTTP POST request for the cheapest transfers between pairs of orbits.
+     * The input JSON must be provided in the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "transfers": [
+     *         {
+     *             "primaryBodyMass": Number,
+     *             "startingOrbitRadius": Number,
+     *             "destinationOrbitRadius": Number
+     *         }
+     *     ],
+     *     "maxRadiusRatio": Number,
+     *     "maxTransferTime": Number
+     * }
+     * }
+     * </pre>
+     * The intermediate radius of a bi-elliptic transfer is at most {@code maxRadiusRatio} (1000 by default)
+     * times the larger orbit radius, and no transfer takes longer than {@code maxTransferTime}, if present.
+     * All transfers are planned together, in parallel. The response body has the following format:
+     * <pre>
+     * {@code
+     * [
+     *     {
+     *         "strategy": "hohmann" | "bi-elliptic" | "none",
+     *         "intermediateRadius": Number,
+     *         "transferTime": Number,
+     *         "totalDeltaV": Number
+     *     }
+     * ]
+     * }
+     * </pre>
+     * The strategy is {@code none}, with no other properties, if even the Hohmann transfer takes too long.
+     *
+     * @param input the pairs of orbits and the limits of the transfers.
+     * @return The planned transfers, in the order of the input.
+     */
+    @PostMapping(path = "/simple/plan", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<HohmannTransferPlanOutput> plan(@RequestBody SimpleHohmannTransferPlanInput input) {
+        var transfers = input.getTransfers();
+        if (transfers == null || transfers.isEmpty() || transfers.size() > properties.getMaxTransfers()) {
+            throw inputHandler.reject(new IllegalArgumentException(
+                    "Number of transfers must be between 1 and " + properties.getMaxTransfers()));
+        }
+        int size = transfers.size();
+        double[] mu = new double[size];
+        double[] r1 = new double[size];
+        double[] r2 = new double[size];
+        double[] intermediateRadius = new double[size];
+        double[] transferTime = new double[size];
+        double[] totalDeltaV = new double[size];
+        try {
+            for (int i = 0; i < size; i++) {
+                var transfer = transfers.get(i);
+                if (transfer == null || !isValid(transfer.getStartingOrbitRadius()) || !isValid(transfer.getDestinationOrbitRadius())) {
+                    throw new IllegalArgumentException("Orbit radius must be finite and greater than 0");
+                }
+                mu[i] = CelestialBody.standardGravitationalParameter(transfer.getPrimaryBodyMass());
+                r1[i] = transfer.getStartingOrbitRadius();
+                r2[i] = transfer.getDestinationOrbitRadius();
+                if (!isValid(mu[i])) {
+                    throw new IllegalArgumentException("Mass must be finite and greater than 0");
+                }
+            }
+            double maxTransferTime = input.getMaxTransferTime() != null ? input.getMaxTransferTime() : Double.POSITIVE_INFINITY;
+            HohmannTransferStrategyOptimizer.plan(mu, r1, r2, input.getMaxRadiusRatio(), maxTransferTime,
+                    intermediateRadius, transferTime, totalDeltaV);
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+        List<HohmannTransferPlanOutput> output = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            output.add(HohmannTransferPlanOutput.of(Math.max(r1[i], r2[i]), intermediateRadius[i], transferTime[i], totalDeltaV[i]));
+        }
+        return output;
+    }
+
+    private static boolean isValid(double value) {
+        return value > 0d && !Double.isInfinite(value);
+    }
+}
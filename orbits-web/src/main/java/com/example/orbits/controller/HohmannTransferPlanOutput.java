@@ -0,0 +1,38 @@
+package com.example.orbits.controller;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+/**
+ * Output data of a transfer plan, as returned by {@link HohmannTransferPlanController}.
+ * Only the strategy is included for transfers which cannot be completed within the maximum transfer time.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HohmannTransferPlanOutput {
+
+    private static final HohmannTransferPlanOutput NONE = new HohmannTransferPlanOutput("none", null, null, null);
+
+    private final String strategy;
+    private final Double intermediateRadius;
+    private final Double transferTime;
+    private final Double totalDeltaV;
+
+    /**
+     * Creates an output object from a planned transfer, as calculated by
+     * {@link com.example.orbits.service.HohmannTransferStrategyOptimizer}.
+     *
+     * @param outerRadius        the larger of the two orbit radii.
+     * @param intermediateRadius the intermediate radius of the planned transfer, or NaN if there is no such transfer.
+     * @param transferTime       the duration of the planned transfer.
+     * @param totalDeltaV        the total delta-V of the planned transfer.
+     * @return The output object containing the given plan.
+     */
+    public static HohmannTransferPlanOutput of(double outerRadius, double intermediateRadius, double transferTime, double totalDeltaV) {
+        if (Double.isNaN(intermediateRadius)) {
+            return NONE;
+        }
+        return new HohmannTransferPlanOutput(intermediateRadius == outerRadius ? "hohmann" : "bi-elliptic",
+                intermediateRadius, transferTime, totalDeltaV);
+    }
+}
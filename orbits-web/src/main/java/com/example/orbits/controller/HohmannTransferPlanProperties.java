@@ -0,0 +1,17 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the transfer plan endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "orbits.plans")
+public class HohmannTransferPlanProperties {
+
+    /**
+     * The maximum number of transfers of a single request.
+     */
+    private int maxTransfers = 1_000_000;
+}
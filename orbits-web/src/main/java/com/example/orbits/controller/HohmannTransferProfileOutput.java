@@ -0,0 +1,65 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferProfile;
+import com.example.orbits.service.HohmannTransferProfiler;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The latency breakdown of requests by phase, as returned by {@link HohmannTransferProfilingController}.
+ * Durations are in seconds and latencies in microseconds.
+ */
+@Data
+public class HohmannTransferProfileOutput {
+
+    private final double duration;
+    private final List<Phase> phases;
+
+    /**
+     * The latency statistics of a single phase. Only the count is included if the phase was not recorded.
+     */
+    @Data
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Phase {
+
+        private final String phase;
+        private final long count;
+        private final Double mean;
+        private final Double max;
+        private final Map<String, Double> percentiles;
+
+        static Phase of(HohmannTransferProfile.PhaseStatistics statistics) {
+            String phase = statistics.getPhase().getLabel();
+            if (statistics.getCount() == 0L) {
+                return new Phase(phase, 0L, null, null, null);
+            }
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            for (int i = 0; i < HohmannTransferProfiler.PERCENTILES.length; i++) {
+                percentiles.put(BigDecimal.valueOf(HohmannTransferProfiler.PERCENTILES[i]).stripTrailingZeros().toPlainString(),
+                        toMicros(statistics.getPercentiles()[i]));
+            }
+            return new Phase(phase, statistics.getCount(), toMicros(statistics.getMean()), toMicros(statistics.getMax()), percentiles);
+        }
+    }
+
+    /**
+     * Creates an output object from a profile.
+     *
+     * @param profile the latency breakdown recorded by {@link HohmannTransferProfiler}.
+     * @return The output object describing the profile.
+     */
+    public static HohmannTransferProfileOutput of(HohmannTransferProfile profile) {
+        return new HohmannTransferProfileOutput(profile.getDuration().toNanos() / 1e9,
+                profile.getPhases().stream().map(Phase::of).collect(Collectors.toList()));
+    }
+
+    private static double toMicros(double nanos) {
+        return nanos / 1e3;
+    }
+}
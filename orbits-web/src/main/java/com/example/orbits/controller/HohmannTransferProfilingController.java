@@ -0,0 +1,77 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferProfiler;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An API controller that profiles the requests served by this instance with Java Flight Recorder,
+ * as described in {@link HohmannTransferProfiler}.
+ * <p>
+ * The profile is returned in the following format, with the duration in seconds and latencies in microseconds:
+ * <pre>
+ * {@code
+ * {
+ *     "duration": Number,
+ *     "phases": [
+ *         {
+ *             "phase": "binding" | "model" | "calculation" | "serialization",
+ *             "count": Number,
+ *             "mean": Number,
+ *             "max": Number,
+ *             "percentiles": {
+ *                 "50": Number,
+ *                 "90": Number,
+ *                 "99": Number,
+ *                 "99.9": Number
+ *             }
+ *         }
+ *     ]
+ * }
+ * }
+ * </pre>
+ * Phases which were not recorded only contain their {@code count} of 0.
+ * <p>
+ * Profiling is only available when {@code orbits.profiling.enabled} is set; otherwise the endpoint responds
+ * with 404 Not Found.
+ */
+@RestController
+public class HohmannTransferProfilingController {
+
+    private final HohmannTransferProfiler profiler;
+    private final HohmannTransferInputHandler inputHandler;
+
+    public HohmannTransferProfilingController(HohmannTransferProfiler profiler, HohmannTransferInputHandler inputHandler) {
+        this.profiler = profiler;
+        this.inputHandler = inputHandler;
+    }
+
+    /**
+     * Handles an HTTP POST request for a profile. The phases of all requests are recorded for the given number
+     * of seconds, and the latency breakdown is returned when the recording has ended; the request thread
+     * is not blocked in the meantime.
+     *
+     * @param seconds the duration of the recording, at most {@code orbits.profiling.max-duration}.
+     * @return The latency breakdown, or a 409 Conflict response if another recording is running.
+     */
+    @PostMapping(path = "/profiling", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<HohmannTransferProfileOutput> profile(@RequestParam(name = "seconds", defaultValue = "10") double seconds) {
+        if (!profiler.isEnabled()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Profiling is disabled");
+        }
+        try {
+            return profiler.record(Duration.ofNanos(Math.round(seconds * 1e9))).thenApply(HohmannTransferProfileOutput::of);
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+}
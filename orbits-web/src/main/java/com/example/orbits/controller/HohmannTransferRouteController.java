@@ -0,0 +1,143 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferRoutePlanner.Cost;
+import com.example.orbits.service.HohmannTransferRouteService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An API controller that plans routes of chained Hohmann transfers, such as from a low Earth orbit through
+ * a parking orbit to an orbit around Mars, with {@link HohmannTransferRouteService}.
+ * <p>
+ * Orbits are returned in the following format:
+ * <pre>
+ * {@code
+ * {
+ *     "id": Number,
+ *     "body": String,
+ *     "radius": Number
+ * }
+ * }
+ * </pre>
+ */
+@RestController
+public class HohmannTransferRouteController {
+
+    private final HohmannTransferRouteService routeService;
+    private final HohmannTransferInputHandler inputHandler;
+
+    public HohmannTransferRouteController(HohmannTransferRouteService routeService, HohmannTransferInputHandler inputHandler) {
+        this.routeService = routeService;
+        this.inputHandler = inputHandler;
+    }
+
+    /**
+     * Handles an HTTP POST request adding orbits around bodies from the catalog to the route graph.
+     * The input JSON must be provided in the following format:
+     * <pre>
+     * {@code
+     * [
+     *     {
+     *         "body": String,
+     *         "radius": Number
+     *     }
+     * ]
+     * }
+     * </pre>
+     * Orbits are added in order; if one of them is invalid, the orbits before it remain in the graph.
+     *
+     * @param input the orbits to add.
+     * @return The added orbits with their identifiers.
+     */
+    @PostMapping(path = "/routes/orbits", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<HohmannTransferRouteOrbitOutput> addOrbits(@RequestBody List<HohmannTransferRouteOrbitInput> input) {
+        List<HohmannTransferRouteOrbitOutput> output = new ArrayList<>(input.size());
+        try {
+            for (var orbit : input) {
+                int id = routeService.addOrbit(orbit.getBody(), orbit.getRadius());
+                output.add(new HohmannTransferRouteOrbitOutput(id, orbit.getBody(), orbit.getRadius()));
+            }
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+        return output;
+    }
+
+    /**
+     * Handles an HTTP GET request for all orbits of the route graph.
+     *
+     * @return The orbits of the graph, in the order of their identifiers.
+     */
+    @GetMapping(path = "/routes/orbits", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<HohmannTransferRouteOrbitOutput> orbits() {
+        var orbits = routeService.getOrbits();
+        List<HohmannTransferRouteOrbitOutput> output = new ArrayList<>(orbits.size());
+        for (int i = 0; i < orbits.size(); i++) {
+            output.add(HohmannTransferRouteOrbitOutput.of(i, orbits.get(i)));
+        }
+        return output;
+    }
+
+    /**
+     * Handles an HTTP GET request for the cheapest route between two orbits of the graph.
+     * The response body has the following format:
+     * <pre>
+     * {@code
+     * {
+     *     "totalDeltaV": Number,
+     *     "transferTime": Number,
+     *     "orbits": [Orbit],
+     *     "legs": [
+     *         {
+     *             "transferTime": Number,
+     *             "insertionDeltaV": Number,
+     *             "arrivalDeltaV": Number,
+     *             "totalDeltaV": Number
+     *         }
+     *     ]
+     * }
+     * }
+     * </pre>
+     *
+     * @param from the identifier of the starting orbit.
+     * @param to   the identifier of the destination orbit.
+     * @param cost the quantity minimized by the route, {@code delta-v} or {@code transfer-time}.
+     * @return The cheapest route, or a 404 Not Found response if either orbit is unknown,
+     * or the destination orbit cannot be reached.
+     */
+    @GetMapping(path = "/routes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public HohmannTransferRouteOutput route(@RequestParam("from") int from, @RequestParam("to") int to,
+                                            @RequestParam(name = "cost", defaultValue = "delta-v") String cost) {
+        Cost routeCost;
+        try {
+            routeCost = cost(cost);
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+        try {
+            return routeService.route(from, to, routeCost)
+                    .map(HohmannTransferRouteOutput::of)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No route between orbits"));
+        } catch (IndexOutOfBoundsException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown orbit");
+        }
+    }
+
+    private static Cost cost(String cost) {
+        if ("delta-v".equals(cost)) {
+            return Cost.DELTA_V;
+        } else if ("transfer-time".equals(cost)) {
+            return Cost.TRANSFER_TIME;
+        }
+        throw new IllegalArgumentException("Unsupported route cost: " + cost);
+    }
+}
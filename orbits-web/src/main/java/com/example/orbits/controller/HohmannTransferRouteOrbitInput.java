@@ -0,0 +1,13 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+
+/**
+ * Input data of an orbit added to the route graph, as accepted by {@link HohmannTransferRouteController}.
+ */
+@Data
+public class HohmannTransferRouteOrbitInput {
+
+    private String body;
+    private double radius;
+}
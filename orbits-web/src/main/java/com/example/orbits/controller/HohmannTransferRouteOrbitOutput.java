@@ -0,0 +1,26 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.model.Orbit;
+import lombok.Data;
+
+/**
+ * An orbit of the route graph, as returned by {@link HohmannTransferRouteController}.
+ */
+@Data
+public class HohmannTransferRouteOrbitOutput {
+
+    private final int id;
+    private final String body;
+    private final double radius;
+
+    /**
+     * Creates an output object from an orbit of the route graph.
+     *
+     * @param id    the identifier of the orbit.
+     * @param orbit the orbit.
+     * @return The output object containing the data of the given orbit.
+     */
+    public static HohmannTransferRouteOrbitOutput of(int id, Orbit orbit) {
+        return new HohmannTransferRouteOrbitOutput(id, orbit.getPrimaryBody().getName(), orbit.getRadius());
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferRoute;
+import lombok.Data;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The cheapest route between two orbits, as returned by {@link HohmannTransferRouteController}.
+ */
+@Data
+public class HohmannTransferRouteOutput {
+
+    private final double totalDeltaV;
+    private final double transferTime;
+    private final List<HohmannTransferRouteOrbitOutput> orbits;
+    private final List<HohmannTransferOutput> legs;
+
+    /**
+     * Creates an output object from a route.
+     *
+     * @param route the route found by the route service.
+     * @return The output object containing the orbits and transfers of the given route.
+     */
+    public static HohmannTransferRouteOutput of(HohmannTransferRoute route) {
+        return new HohmannTransferRouteOutput(
+                route.getTotalDeltaV(),
+                route.getTransferTime(),
+                IntStream.range(0, route.getOrbits().size())
+                        .mapToObj(i -> HohmannTransferRouteOrbitOutput.of(route.getOrbitIds().get(i), route.getOrbits().get(i)))
+                        .collect(Collectors.toList()),
+                route.getLegs().stream().map(HohmannTransferOutput::of).collect(Collectors.toList()));
+    }
+}
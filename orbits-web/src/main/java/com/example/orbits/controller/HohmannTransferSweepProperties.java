@@ -0,0 +1,27 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the sweep endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "orbits.sweep")
+public class HohmannTransferSweepProperties {
+
+    /**
+     * The number of points calculated and written at once. The memory needed by a sweep depends only on this value.
+     */
+    private int blockSize = 1 << 16;
+
+    /**
+     * The maximum number of values of a single sweep parameter.
+     */
+    private int maxSteps = 1 << 20;
+
+    /**
+     * The maximum number of points of a single sweep. It is checked before the values of any parameter are allocated.
+     */
+    private long maxPoints = 10_000_000_000L;
+}
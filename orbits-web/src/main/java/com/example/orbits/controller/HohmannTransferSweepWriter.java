@@ -0,0 +1,293 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.service.HohmannTransferMetrics;
+import com.example.orbits.service.HohmannTransferSweep;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A helper component which calculates parameter sweeps with {@link HohmannTransferSweep} and writes
+ * the resulting surfaces in blocks, so that the memory needed by a sweep does not depend on its size.
+ * <p>
+ * Sweep inputs consist of a {@link SweepRange} for every input parameter. The points of a sweep are all combinations
+ * of the values of the ranges, ordered so that the value of the last parameter changes fastest. Parameters are
+ * ordered as follows:
+ * <ul>
+ * <li>simple sweeps: {@code primaryBodyMass}, {@code startingOrbitRadius}, {@code destinationOrbitRadius};</li>
+ * <li>interplanetary sweeps: {@code primaryBodyMass}, {@code startingPlanetOrbitRadius},
+ * {@code destinationPlanetOrbitRadius}, {@code startingPlanetMass}, {@code destinationPlanetMass},
+ * {@code startingOrbitRadius}, {@code destinationOrbitRadius}.</li>
+ * </ul>
+ * The results of every point are written in one of two formats, depending on the {@code Accept} request header:
+ * <ul>
+ * <li>{@code text/csv} (the default) - a header row, then one row per point, containing the values
+ * of the swept parameters (the ones with more than one value) followed by {@code transferTime}
+ * and {@code totalDeltaV};</li>
+ * <li>{@code application/octet-stream} - a row-major matrix of little-endian float64 values, with one row per point
+ * and two columns: {@code transferTime} and {@code totalDeltaV}. The number of values of every parameter is returned
+ * in the {@value #SHAPE_HEADER} response header, and the column names in the {@value #COLUMNS_HEADER} header.</li>
+ * </ul>
+ */
+@Component
+class HohmannTransferSweepWriter {
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+    static final String SHAPE_HEADER = "X-Sweep-Shape";
+    static final String COLUMNS_HEADER = "X-Sweep-Columns";
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+    private static final String RESULT_COLUMNS = "transferTime,totalDeltaV";
+
+    private final int blockSize;
+    private final int maxSteps;
+    private final long maxPoints;
+    private final HohmannTransferMetrics metrics;
+
+    HohmannTransferSweepWriter(HohmannTransferSweepProperties properties, HohmannTransferMetrics metrics) {
+        this.blockSize = Math.max(1, properties.getBlockSize());
+        this.maxSteps = properties.getMaxSteps();
+        this.maxPoints = properties.getMaxPoints();
+        this.metrics = metrics;
+    }
+
+    /**
+     * A sweep together with the names and values of its parameters, as given in the request.
+     */
+    static class Grid {
+
+        private final HohmannTransferSweep sweep;
+        private final String endpoint;
+        private final String[] names;
+        private final double[][] values;
+
+        private Grid(HohmannTransferSweep sweep, String endpoint, String[] names, double[][] values) {
+            this.sweep = sweep;
+            this.endpoint = endpoint;
+            this.names = names;
+            this.values = values;
+        }
+    }
+
+    Grid create(SimpleHohmannTransferSweepInput input) {
+        checkSize(input.getPrimaryBodyMass(), input.getStartingOrbitRadius(), input.getDestinationOrbitRadius());
+        double[] primaryBodyMass = input.getPrimaryBodyMass().values();
+        double[] startingOrbitRadius = input.getStartingOrbitRadius().values();
+        double[] destinationOrbitRadius = input.getDestinationOrbitRadius().values();
+        var sweep = HohmannTransferSweep.sameBody(standardGravitationalParameters(primaryBodyMass),
+                startingOrbitRadius, destinationOrbitRadius);
+        return new Grid(sweep, "simple",
+                new String[]{"primaryBodyMass", "startingOrbitRadius", "destinationOrbitRadius"},
+                new double[][]{primaryBodyMass, startingOrbitRadius, destinationOrbitRadius});
+    }
+
+    Grid create(InterplanetaryHohmannTransferSweepInput input) {
+        checkSize(input.getPrimaryBodyMass(), input.getStartingPlanetOrbitRadius(), input.getDestinationPlanetOrbitRadius(),
+                input.getStartingPlanetMass(), input.getDestinationPlanetMass(), input.getStartingOrbitRadius(),
+                input.getDestinationOrbitRadius());
+        double[] primaryBodyMass = input.getPrimaryBodyMass().values();
+        double[] startingPlanetOrbitRadius = input.getStartingPlanetOrbitRadius().values();
+        double[] destinationPlanetOrbitRadius = input.getDestinationPlanetOrbitRadius().values();
+        double[] startingPlanetMass = input.getStartingPlanetMass().values();
+        double[] destinationPlanetMass = input.getDestinationPlanetMass().values();
+        double[] startingOrbitRadius = input.getStartingOrbitRadius().values();
+        double[] destinationOrbitRadius = input.getDestinationOrbitRadius().values();
+        var sweep = HohmannTransferSweep.interplanetary(standardGravitationalParameters(primaryBodyMass),
+                startingPlanetOrbitRadius, destinationPlanetOrbitRadius, standardGravitationalParameters(startingPlanetMass),
+                standardGravitationalParameters(destinationPlanetMass), startingOrbitRadius, destinationOrbitRadius);
+        return new Grid(sweep, "interplanetary",
+                new String[]{"primaryBodyMass", "startingPlanetOrbitRadius", "destinationPlanetOrbitRadius",
+                        "startingPlanetMass", "destinationPlanetMass", "startingOrbitRadius", "destinationOrbitRadius"},
+                new double[][]{primaryBodyMass, startingPlanetOrbitRadius, destinationPlanetOrbitRadius,
+                        startingPlanetMass, destinationPlanetMass, startingOrbitRadius, destinationOrbitRadius});
+    }
+
+    /**
+     * Checks whether the results should be written as a binary matrix instead of CSV.
+     *
+     * @param accept the media types accepted by the client.
+     * @return True if the client prefers {@code application/octet-stream} over {@code text/csv}.
+     */
+    static boolean isBinary(List<MediaType> accept) {
+        var sorted = new ArrayList<>(accept);
+        MediaType.sortBySpecificityAndQuality(sorted);
+        for (MediaType mediaType : sorted) {
+            if (mediaType.includes(TEXT_CSV)) {
+                return false;
+            } else if (mediaType.includes(MediaType.APPLICATION_OCTET_STREAM)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the headers describing the response of a sweep.
+     *
+     * @param grid   the sweep.
+     * @param binary whether the results are written as a binary matrix.
+     * @return The content type and sweep description headers.
+     */
+    HttpHeaders headers(Grid grid, boolean binary) {
+        var headers = new HttpHeaders();
+        headers.setContentType(binary ? MediaType.APPLICATION_OCTET_STREAM : TEXT_CSV);
+        headers.set(SHAPE_HEADER, Arrays.stream(grid.sweep.shape()).mapToObj(Integer::toString)
+                .collect(Collectors.joining(",")));
+        headers.set(COLUMNS_HEADER, binary ? RESULT_COLUMNS : csvHeader(grid));
+        return headers;
+    }
+
+    /**
+     * Calculates a sweep and writes the results to the given stream, block by block.
+     *
+     * @param grid   the sweep.
+     * @param binary whether the results should be written as a binary matrix instead of CSV.
+     * @param output the stream to write the results to.
+     * @throws IOException if writing the output fails.
+     */
+    void write(Grid grid, boolean binary, OutputStream output) throws IOException {
+        var encoder = new BlockEncoder(grid, binary);
+        while (encoder.hasNext()) {
+            output.write(encoder.next());
+        }
+        output.flush();
+    }
+
+    /**
+     * Calculates a sweep and encodes the results as a stream of buffers, one per block.
+     * The next block is only calculated when the previous one has been requested by the subscriber,
+     * and blocks are calculated outside of the event loop.
+     *
+     * @param grid          the sweep.
+     * @param binary        whether the results should be encoded as a binary matrix instead of CSV.
+     * @param bufferFactory the factory of buffers to encode the results into.
+     * @return The stream of encoded results.
+     */
+    Flux<DataBuffer> stream(Grid grid, boolean binary, DataBufferFactory bufferFactory) {
+        return Flux.<DataBuffer, BlockEncoder>generate(() -> new BlockEncoder(grid, binary), (encoder, sink) -> {
+            if (encoder.hasNext()) {
+                sink.next(bufferFactory.wrap(encoder.next()));
+            } else {
+                sink.complete();
+            }
+            return encoder;
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void checkSize(SweepRange... ranges) {
+        long points = 1L;
+        for (SweepRange range : ranges) {
+            if (range == null) {
+                throw new IllegalArgumentException("All sweep parameters are required");
+            }
+            if (range.getSteps() <= 0 || range.getSteps() > maxSteps) {
+                throw new IllegalArgumentException("Number of steps must be between 1 and " + maxSteps);
+            }
+            try {
+                points = Math.multiplyExact(points, range.getSteps());
+            } catch (ArithmeticException e) {
+                points = Long.MAX_VALUE;
+            }
+        }
+        if (points > maxPoints) {
+            throw new IllegalArgumentException("Sweep has more than " + maxPoints + " points");
+        }
+    }
+
+    private static double[] standardGravitationalParameters(double[] masses) {
+        double[] mu = new double[masses.length];
+        for (int i = 0; i < masses.length; i++) {
+            mu[i] = new CelestialBody(null, masses[i]).getStandardGravitationalParameter();
+        }
+        return mu;
+    }
+
+    private static String csvHeader(Grid grid) {
+        var header = new StringBuilder();
+        for (int axis = 0; axis < grid.names.length; axis++) {
+            if (grid.values[axis].length > 1) {
+                header.append(grid.names[axis]).append(',');
+            }
+        }
+        return header.append(RESULT_COLUMNS).toString();
+    }
+
+    /**
+     * Calculates the blocks of a sweep in order and encodes each of them into a byte array.
+     */
+    private class BlockEncoder {
+
+        private final Grid grid;
+        private final boolean binary;
+        private final HohmannTransferSweep.Block block;
+        private final int[] indices;
+        private final StringBuilder text;
+        private long next;
+
+        BlockEncoder(Grid grid, boolean binary) {
+            this.grid = grid;
+            this.binary = binary;
+            this.block = grid.sweep.newBlock((int) Math.min(blockSize, grid.sweep.size()));
+            this.indices = new int[grid.names.length];
+            this.text = binary ? null : new StringBuilder(csvHeader(grid)).append('\n');
+        }
+
+        boolean hasNext() {
+            return next < grid.sweep.size();
+        }
+
+        byte[] next() {
+            grid.sweep.calculate(next, block);
+            byte[] encoded = binary ? encodeBinary() : encodeText();
+            next += block.size();
+            metrics.recordSweepPoints(grid.endpoint, block.size());
+            return encoded;
+        }
+
+        private byte[] encodeBinary() {
+            var buffer = ByteBuffer.allocate(block.size() * 2 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            double[] transferTime = block.getTransferTime();
+            double[] insertionDeltaV = block.getInsertionDeltaV();
+            double[] arrivalDeltaV = block.getArrivalDeltaV();
+            for (int i = 0; i < block.size(); i++) {
+                buffer.putDouble(transferTime[i]);
+                buffer.putDouble(insertionDeltaV[i] + arrivalDeltaV[i]);
+            }
+            return buffer.array();
+        }
+
+        private byte[] encodeText() {
+            double[] transferTime = block.getTransferTime();
+            double[] insertionDeltaV = block.getInsertionDeltaV();
+            double[] arrivalDeltaV = block.getArrivalDeltaV();
+            grid.sweep.indicesOf(next, indices);
+            for (int i = 0; i < block.size(); i++) {
+                for (int axis = 0; axis < indices.length; axis++) {
+                    if (grid.values[axis].length > 1) {
+                        text.append(grid.values[axis][indices[axis]]).append(',');
+                    }
+                }
+                text.append(transferTime[i]).append(',').append(insertionDeltaV[i] + arrivalDeltaV[i]).append('\n');
+                grid.sweep.next(indices);
+            }
+            byte[] encoded = text.toString().getBytes(StandardCharsets.US_ASCII);
+            text.setLength(0);
+            return encoded;
+        }
+    }
+}
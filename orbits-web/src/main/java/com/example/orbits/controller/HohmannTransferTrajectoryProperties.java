@@ -0,0 +1,28 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the trajectory endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "orbits.trajectory")
+public class HohmannTransferTrajectoryProperties {
+
+    /**
+     * The number of samples calculated and written at once. The memory needed by a trajectory request
+     * depends only on this value and the number of transfers.
+     */
+    private int blockSize = 1 << 16;
+
+    /**
+     * The maximum number of samples of all transfers of a single request.
+     */
+    private long maxSamples = 10_000_000_000L;
+
+    /**
+     * The maximum number of transfers of a single request.
+     */
+    private int maxTransfers = 100_000;
+}
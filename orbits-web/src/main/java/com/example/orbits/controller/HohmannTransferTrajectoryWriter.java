@@ -0,0 +1,248 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.service.HohmannTransferMetrics;
+import com.example.orbits.service.HohmannTransferTrajectory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * A helper component which calculates trajectories along Hohmann transfer orbits with {@link HohmannTransferTrajectory}
+ * and writes the sampled state vectors in blocks, so that the memory needed by a request does not depend
+ * on the number of samples.
+ * <p>
+ * Every transfer is sampled the requested number of times, evenly in time from the departure to the arrival.
+ * Samples are written transfer by transfer, in the order of the transfers in the request. Positions and velocities
+ * are relative to the primary body of the transfer orbit, in the plane of the orbit, with the x axis pointing towards
+ * the departure point, as described in {@link HohmannTransferTrajectory}. Interplanetary transfers follow the transfer
+ * orbit between the planets, around the primary body; when both orbits are around the same planet, the transfer orbit
+ * around that planet is sampled instead, as calculated by {@link com.example.orbits.service.HohmannTransferCalculator}.
+ * <p>
+ * The samples are written in one of two formats, depending on the {@code Accept} request header:
+ * <ul>
+ * <li>{@code text/csv} (the default) - a header row, then one row per sample, containing the index of the transfer,
+ * followed by {@code time}, {@code x}, {@code y}, {@code vx} and {@code vy};</li>
+ * <li>{@code application/octet-stream} - a row-major matrix of little-endian float64 values, with one row per sample
+ * and five columns: {@code time}, {@code x}, {@code y}, {@code vx} and {@code vy}. The number of transfers
+ * and the number of samples per transfer are returned in the {@value #SHAPE_HEADER} response header,
+ * and the column names in the {@value #COLUMNS_HEADER} header.</li>
+ * </ul>
+ */
+@Component
+class HohmannTransferTrajectoryWriter {
+
+    static final String SHAPE_HEADER = "X-Trajectory-Shape";
+    static final String COLUMNS_HEADER = "X-Trajectory-Columns";
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(HohmannTransferSweepWriter.TEXT_CSV_VALUE);
+    private static final String STATE_COLUMNS = "time,x,y,vx,vy";
+    private static final int BINARY_COLUMNS = 5;
+
+    private final int blockSize;
+    private final long maxSamples;
+    private final int maxTransfers;
+    private final HohmannTransferMetrics metrics;
+
+    HohmannTransferTrajectoryWriter(HohmannTransferTrajectoryProperties properties, HohmannTransferMetrics metrics) {
+        this.blockSize = Math.max(1, properties.getBlockSize());
+        this.maxSamples = properties.getMaxSamples();
+        this.maxTransfers = properties.getMaxTransfers();
+        this.metrics = metrics;
+    }
+
+    /**
+     * A trajectory together with the name of the endpoint which calculates it.
+     */
+    static class Request {
+
+        private final HohmannTransferTrajectory trajectory;
+        private final String endpoint;
+
+        private Request(HohmannTransferTrajectory trajectory, String endpoint) {
+            this.trajectory = trajectory;
+            this.endpoint = endpoint;
+        }
+    }
+
+    Request create(SimpleHohmannTransferTrajectoryInput input) {
+        List<SimpleHohmannTransferInput> transfers = transfers(input.getTransfers());
+        int count = transfers.size();
+        double[] mu = new double[count];
+        double[] r1 = new double[count];
+        double[] r2 = new double[count];
+        for (int i = 0; i < count; i++) {
+            var transfer = transfers.get(i);
+            mu[i] = CelestialBody.standardGravitationalParameter(transfer.getPrimaryBodyMass());
+            r1[i] = transfer.getStartingOrbitRadius();
+            r2[i] = transfer.getDestinationOrbitRadius();
+        }
+        return checkSize(new Request(HohmannTransferTrajectory.of(mu, r1, r2, input.getSamples()), "simple"));
+    }
+
+    Request create(InterplanetaryHohmannTransferTrajectoryInput input) {
+        List<InterplanetaryHohmannTransferInput> transfers = transfers(input.getTransfers());
+        int count = transfers.size();
+        double[] mu = new double[count];
+        double[] r1 = new double[count];
+        double[] r2 = new double[count];
+        for (int i = 0; i < count; i++) {
+            var transfer = transfers.get(i);
+            if (transfer.getStartingPlanetMass() == transfer.getDestinationPlanetMass()
+                    && transfer.getStartingPlanetOrbitRadius() == transfer.getDestinationPlanetOrbitRadius()) {
+                mu[i] = CelestialBody.standardGravitationalParameter(transfer.getStartingPlanetMass());
+                r1[i] = transfer.getStartingOrbitRadius();
+                r2[i] = transfer.getDestinationOrbitRadius();
+            } else {
+                mu[i] = CelestialBody.standardGravitationalParameter(transfer.getPrimaryBodyMass());
+                r1[i] = transfer.getStartingPlanetOrbitRadius();
+                r2[i] = transfer.getDestinationPlanetOrbitRadius();
+            }
+        }
+        return checkSize(new Request(HohmannTransferTrajectory.of(mu, r1, r2, input.getSamples()), "interplanetary"));
+    }
+
+    /**
+     * Returns the headers describing the response of a trajectory request.
+     *
+     * @param request the trajectory request.
+     * @param binary  whether the samples are written as a binary matrix.
+     * @return The content type and trajectory description headers.
+     */
+    HttpHeaders headers(Request request, boolean binary) {
+        var headers = new HttpHeaders();
+        headers.setContentType(binary ? MediaType.APPLICATION_OCTET_STREAM : TEXT_CSV);
+        headers.set(SHAPE_HEADER, request.trajectory.getTransferCount() + "," + request.trajectory.getSamples());
+        headers.set(COLUMNS_HEADER, binary ? STATE_COLUMNS : "transfer," + STATE_COLUMNS);
+        return headers;
+    }
+
+    /**
+     * Calculates a trajectory and writes the samples to the given stream, block by block.
+     *
+     * @param request the trajectory request.
+     * @param binary  whether the samples should be written as a binary matrix instead of CSV.
+     * @param output  the stream to write the samples to.
+     * @throws IOException if writing the output fails.
+     */
+    void write(Request request, boolean binary, OutputStream output) throws IOException {
+        var encoder = new BlockEncoder(request, binary);
+        while (encoder.hasNext()) {
+            output.write(encoder.next());
+        }
+        output.flush();
+    }
+
+    /**
+     * Calculates a trajectory and encodes the samples as a stream of buffers, one per block.
+     * The next block is only calculated when the previous one has been requested by the subscriber,
+     * and blocks are calculated outside of the event loop.
+     *
+     * @param request       the trajectory request.
+     * @param binary        whether the samples should be encoded as a binary matrix instead of CSV.
+     * @param bufferFactory the factory of buffers to encode the samples into.
+     * @return The stream of encoded samples.
+     */
+    Flux<DataBuffer> stream(Request request, boolean binary, DataBufferFactory bufferFactory) {
+        return Flux.<DataBuffer, BlockEncoder>generate(() -> new BlockEncoder(request, binary), (encoder, sink) -> {
+            if (encoder.hasNext()) {
+                sink.next(bufferFactory.wrap(encoder.next()));
+            } else {
+                sink.complete();
+            }
+            return encoder;
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private <T> List<T> transfers(List<T> transfers) {
+        if (transfers == null || transfers.isEmpty()) {
+            throw new IllegalArgumentException("At least one transfer is required");
+        }
+        if (transfers.size() > maxTransfers) {
+            throw new IllegalArgumentException("Trajectory request has more than " + maxTransfers + " transfers");
+        }
+        return transfers;
+    }
+
+    private Request checkSize(Request request) {
+        if (request.trajectory.size() > maxSamples) {
+            throw new IllegalArgumentException("Trajectory request has more than " + maxSamples + " samples");
+        }
+        return request;
+    }
+
+    /**
+     * Calculates the blocks of a trajectory in order and encodes each of them into a byte array.
+     */
+    private class BlockEncoder {
+
+        private final Request request;
+        private final boolean binary;
+        private final HohmannTransferTrajectory.Block block;
+        private final StringBuilder text;
+        private long next;
+
+        BlockEncoder(Request request, boolean binary) {
+            this.request = request;
+            this.binary = binary;
+            this.block = request.trajectory.newBlock((int) Math.min(blockSize, request.trajectory.size()));
+            this.text = binary ? null : new StringBuilder("transfer,").append(STATE_COLUMNS).append('\n');
+        }
+
+        boolean hasNext() {
+            return next < request.trajectory.size();
+        }
+
+        byte[] next() {
+            request.trajectory.calculate(next, block);
+            byte[] encoded = binary ? encodeBinary() : encodeText();
+            next += block.size();
+            metrics.recordTrajectorySamples(request.endpoint, block.size());
+            return encoded;
+        }
+
+        private byte[] encodeBinary() {
+            var buffer = ByteBuffer.allocate(block.size() * BINARY_COLUMNS * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < block.size(); i++) {
+                buffer.putDouble(block.getTime()[i])
+                        .putDouble(block.getX()[i])
+                        .putDouble(block.getY()[i])
+                        .putDouble(block.getVx()[i])
+                        .putDouble(block.getVy()[i]);
+            }
+            return buffer.array();
+        }
+
+        private byte[] encodeText() {
+            int samples = request.trajectory.getSamples();
+            int transfer = request.trajectory.transferOf(next);
+            int step = (int) (next % samples);
+            for (int i = 0; i < block.size(); i++) {
+                text.append(transfer).append(',')
+                        .append(block.getTime()[i]).append(',')
+                        .append(block.getX()[i]).append(',')
+                        .append(block.getY()[i]).append(',')
+                        .append(block.getVx()[i]).append(',')
+                        .append(block.getVy()[i]).append('\n');
+                if (++step == samples) {
+                    step = 0;
+                    transfer++;
+                }
+            }
+            byte[] encoded = text.toString().getBytes(StandardCharsets.US_ASCII);
+            text.setLength(0);
+            return encoded;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+
+/**
+ * Input data of a worker registration, as accepted by {@link HohmannTransferClusterController}.
+ */
+@Data
+public class HohmannTransferWorkerInput {
+
+    /**
+     * The base URL of the worker, e.g. {@code http://localhost:8081}.
+     */
+    private String url;
+}
@@ -0,0 +1,44 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferWorker;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * The status and statistics of a worker, as returned by {@link HohmannTransferClusterController}.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HohmannTransferWorkerOutput {
+
+    private final String id;
+    private final String url;
+    private final Instant registered;
+    private final int inFlight;
+    private final long chunks;
+    private final long records;
+    private final long failures;
+    private final double throughput;
+    private final String lastError;
+
+    /**
+     * Creates an output object from the current state of a worker.
+     *
+     * @param worker the worker.
+     * @return The output object describing the worker.
+     */
+    public static HohmannTransferWorkerOutput of(HohmannTransferWorker worker) {
+        return new HohmannTransferWorkerOutput(
+                worker.getId(),
+                worker.getUrl().toString(),
+                worker.getRegistered(),
+                worker.getInFlight(),
+                worker.getChunks(),
+                worker.getRecords(),
+                worker.getFailures(),
+                worker.getThroughput(),
+                worker.getLastError());
+    }
+}
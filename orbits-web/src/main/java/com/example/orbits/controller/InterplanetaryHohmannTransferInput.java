@@ -0,0 +1,18 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Input data of a Hohmann transfer between orbits around two planets orbiting the same primary body,
+ * as accepted by {@link HohmannTransferAPIController}.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class InterplanetaryHohmannTransferInput extends SimpleHohmannTransferInput {
+
+    private double startingPlanetOrbitRadius;
+    private double startingPlanetMass;
+    private double destinationPlanetOrbitRadius;
+    private double destinationPlanetMass;
+}
@@ -0,0 +1,18 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Input data of a Monte Carlo simulation of Hohmann transfers between orbits around two planets
+ * orbiting the same primary body, as accepted by {@link HohmannTransferMonteCarloController}.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class InterplanetaryHohmannTransferMonteCarloInput extends SimpleHohmannTransferMonteCarloInput {
+
+    private ParameterDistribution startingPlanetOrbitRadius;
+    private ParameterDistribution startingPlanetMass;
+    private ParameterDistribution destinationPlanetOrbitRadius;
+    private ParameterDistribution destinationPlanetMass;
+}
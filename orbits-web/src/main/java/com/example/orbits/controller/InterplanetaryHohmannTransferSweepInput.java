@@ -0,0 +1,18 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Input data of a sweep over Hohmann transfers between orbits around two planets orbiting the same primary body,
+ * as accepted by {@link HohmannTransferAPIController}.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class InterplanetaryHohmannTransferSweepInput extends SimpleHohmannTransferSweepInput {
+
+    private SweepRange startingPlanetOrbitRadius;
+    private SweepRange startingPlanetMass;
+    private SweepRange destinationPlanetOrbitRadius;
+    private SweepRange destinationPlanetMass;
+}
@@ -0,0 +1,16 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Input data of trajectories along Hohmann transfers between orbits around two planets orbiting the same primary body,
+ * as accepted by {@link HohmannTransferAPIController}.
+ */
+@Data
+public class InterplanetaryHohmannTransferTrajectoryInput {
+
+    private List<InterplanetaryHohmannTransferInput> transfers;
+    private int samples = 100;
+}
@@ -0,0 +1,16 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+
+/**
+ * Input data of a Hohmann transfer between orbits around celestial bodies from the catalog,
+ * as accepted by {@link HohmannTransferAPIController}.
+ */
+@Data
+public class NamedHohmannTransferInput {
+
+    private String startingBody;
+    private double startingOrbitRadius;
+    private String destinationBody;
+    private double destinationOrbitRadius;
+}
@@ -0,0 +1,82 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferMonteCarlo.Distribution;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.Data;
+
+/**
+ * A probability distribution of a single uncertain parameter, as accepted by the Monte Carlo endpoints
+ * of {@link HohmannTransferMonteCarloController}.
+ * <p>
+ * A distribution is given either as a single number, for a parameter known exactly,
+ * or as a JSON object describing a normal or a uniform distribution:
+ * <pre>
+ * {@code
+ * {
+ *     "mean": Number,
+ *     "standardDeviation": Number
+ * }
+ * }
+ * </pre>
+ * <pre>
+ * {@code
+ * {
+ *     "from": Number,
+ *     "to": Number
+ * }
+ * }
+ * </pre>
+ */
+@Data
+public class ParameterDistribution {
+
+    private Double mean;
+    private Double standardDeviation;
+    private Double from;
+    private Double to;
+
+    /**
+     * Creates a distribution of a parameter known exactly.
+     *
+     * @param value the value of the parameter.
+     * @return A distribution of the given value.
+     */
+    @JsonCreator
+    public static ParameterDistribution of(double value) {
+        var distribution = new ParameterDistribution();
+        distribution.setMean(value);
+        distribution.setStandardDeviation(0d);
+        return distribution;
+    }
+
+    /**
+     * Returns the distribution described by this object.
+     *
+     * @return The normal or uniform distribution, or a fixed value if the standard deviation is 0.
+     * @throws IllegalArgumentException if the properties do not describe exactly one valid distribution.
+     */
+    Distribution toDistribution() {
+        if (mean != null && from == null && to == null) {
+            double deviation = standardDeviation != null ? standardDeviation : 0d;
+            return deviation == 0d ? Distribution.fixed(mean) : Distribution.normal(mean, deviation);
+        }
+        if (from != null && to != null && mean == null && standardDeviation == null) {
+            return Distribution.uniform(from, to);
+        }
+        throw new IllegalArgumentException("Distribution must have either a mean and a standard deviation, or bounds");
+    }
+
+    /**
+     * Returns the distribution described by the given object.
+     *
+     * @param distribution the object describing the distribution, or null.
+     * @return The described distribution.
+     * @throws IllegalArgumentException if the object is null or does not describe a valid distribution.
+     */
+    static Distribution toDistribution(ParameterDistribution distribution) {
+        if (distribution == null) {
+            throw new IllegalArgumentException("All parameters of a transfer must be present");
+        }
+        return distribution.toDistribution();
+    }
+}
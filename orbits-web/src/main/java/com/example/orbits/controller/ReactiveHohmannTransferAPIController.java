@@ -0,0 +1,308 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import com.example.orbits.service.HohmannTransferType;
+import com.example.orbits.service.HohmannTransferValidator;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static com.example.orbits.controller.HohmannTransferInputHandler.useCache;
+
+/**
+ * A non-blocking API controller that enables access to a Hohmann transfer calculation service through HTTP requests.
+ * <p>
+ * This controller is used instead of {@link HohmannTransferAPIController} when the application runs
+ * in the {@code reactive} profile, on Spring WebFlux and Netty. It exposes the same request and response
+ * contracts, described in {@link HohmannTransferAPIController}.
+ * <p>
+ * Calculations take only microseconds, so they are performed directly on the event loop threads.
+ * Batch endpoints process their items as reactive streams: the next items are read from the connection
+ * only when the previous results have been written, so a slow client cannot make the server buffer
+ * an unbounded number of results. Sweep and trajectory blocks are calculated on a bounded elastic scheduler instead,
+ * because a single block keeps all cores busy for much longer than a single calculation.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveHohmannTransferAPIController {
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(HohmannTransferBatchStreamer.APPLICATION_NDJSON_VALUE);
+
+    private final HohmannTransferInputHandler inputHandler;
+    private final HohmannTransferBatchStreamer batchStreamer;
+    private final HohmannTransferBinaryBatchProcessor binaryBatchProcessor;
+    private final HohmannTransferSweepWriter sweepWriter;
+    private final HohmannTransferTrajectoryWriter trajectoryWriter;
+
+    public ReactiveHohmannTransferAPIController(HohmannTransferInputHandler inputHandler, HohmannTransferBatchStreamer batchStreamer,
+                                                HohmannTransferBinaryBatchProcessor binaryBatchProcessor,
+                                                HohmannTransferSweepWriter sweepWriter,
+                                                HohmannTransferTrajectoryWriter trajectoryWriter) {
+        this.inputHandler = inputHandler;
+        this.batchStreamer = batchStreamer;
+        this.binaryBatchProcessor = binaryBatchProcessor;
+        this.sweepWriter = sweepWriter;
+        this.trajectoryWriter = trajectoryWriter;
+    }
+
+    /**
+     * Handles an HTTP POST request containing input data for Hohmann transfer calculation.
+     *
+     * @param input        input parameters of a Hohmann transfer.
+     * @param cacheControl the value of the {@code Cache-Control} request header, if present.
+     * @return Calculated parameters for the Hohmann transfer, or the errors of invalid input fields.
+     * @see HohmannTransferAPIController#simpleHohmannTransfer
+     */
+    @PostMapping(path = "/simple", consumes = {MediaType.APPLICATION_JSON_VALUE, HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE})
+    public ResponseEntity<?> simpleHohmannTransfer(@RequestBody SimpleHohmannTransferInput input,
+                                                   @RequestHeader(name = HttpHeaders.CACHE_CONTROL, required = false) String cacheControl) {
+        var validator = inputHandler.validate(input);
+        if (!validator.isValid()) {
+            return inputHandler.reject(validator);
+        }
+        return ResponseEntity.ok(inputHandler.calculate(input, useCache(cacheControl)));
+    }
+
+    /**
+     * Handles an HTTP POST request containing a batch of input data for Hohmann transfer calculation,
+     * as a stream of items.
+     *
+     * @param items    the input items.
+     * @param exchange the current exchange.
+     * @return A response streaming the results.
+     * @see HohmannTransferAPIController#simpleHohmannTransferBatch
+     */
+    @PostMapping(path = "/simple/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, HohmannTransferBatchStreamer.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<DataBuffer>> simpleHohmannTransferBatch(@RequestBody Flux<JsonNode> items,
+                                                                       ServerWebExchange exchange) {
+        boolean useCache = useCache(exchange.getRequest().getHeaders().getCacheControl());
+        return streamBatch(items, exchange, "simple", SimpleHohmannTransferInput.class,
+                inputHandler::validate, input -> inputHandler.calculate(input, useCache));
+    }
+
+    /**
+     * Handles an HTTP POST request containing a batch of binary input records for Hohmann transfer calculation.
+     *
+     * @param exchange the current exchange.
+     * @return A response streaming the output records.
+     * @see HohmannTransferAPIController#simpleHohmannTransferBinaryBatch
+     */
+    @PostMapping(path = "/simple/batch", consumes = HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE)
+    public ResponseEntity<Flux<DataBuffer>> simpleHohmannTransferBinaryBatch(ServerWebExchange exchange) {
+        return streamBinaryBatch(exchange, HohmannTransferType.SAME_BODY, "simple");
+    }
+
+    /**
+     * Handles an HTTP POST request containing a parameter sweep over Hohmann transfers.
+     *
+     * @param input    the ranges of the input parameters.
+     * @param exchange the current exchange.
+     * @return A response streaming the resulting surface.
+     * @see HohmannTransferAPIController#simpleHohmannTransferSweep
+     */
+    @PostMapping(path = "/simple/sweep", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {HohmannTransferSweepWriter.TEXT_CSV_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<Flux<DataBuffer>> simpleHohmannTransferSweep(@RequestBody SimpleHohmannTransferSweepInput input,
+                                                                       ServerWebExchange exchange) {
+        try {
+            return streamSweep(sweepWriter.create(input), exchange);
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+    }
+
+    /**
+     * Handles an HTTP POST request for the trajectories of spacecraft along Hohmann transfer orbits.
+     *
+     * @param input    the transfers and the number of samples.
+     * @param exchange the current exchange.
+     * @return A response streaming the sampled state vectors.
+     * @see HohmannTransferAPIController#simpleHohmannTransferTrajectory
+     */
+    @PostMapping(path = "/simple/trajectory", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {HohmannTransferSweepWriter.TEXT_CSV_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<Flux<DataBuffer>> simpleHohmannTransferTrajectory(@RequestBody SimpleHohmannTransferTrajectoryInput input,
+                                                                            ServerWebExchange exchange) {
+        try {
+            return streamTrajectory(trajectoryWriter.create(input), exchange);
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+    }
+
+    /**
+     * Handles an HTTP POST request containing input data for interplanetary Hohmann transfer calculation.
+     *
+     * @param input        input parameters of an interplanetary Hohmann transfer.
+     * @param cacheControl the value of the {@code Cache-Control} request header, if present.
+     * @return Calculated parameters for the Hohmann transfer, or the errors of invalid input fields.
+     * @see HohmannTransferAPIController#interplanetaryHohmannTransfer
+     */
+    @PostMapping(path = "/interplanetary", consumes = {MediaType.APPLICATION_JSON_VALUE, HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE})
+    public ResponseEntity<?> interplanetaryHohmannTransfer(@RequestBody InterplanetaryHohmannTransferInput input,
+                                                           @RequestHeader(name = HttpHeaders.CACHE_CONTROL, required = false) String cacheControl) {
+        var validator = inputHandler.validate(input);
+        if (!validator.isValid()) {
+            return inputHandler.reject(validator);
+        }
+        return ResponseEntity.ok(inputHandler.calculate(input, useCache(cacheControl)));
+    }
+
+    /**
+     * Handles an HTTP POST request containing a batch of input data for interplanetary Hohmann transfer calculation,
+     * as a stream of items.
+     *
+     * @param items    the input items.
+     * @param exchange the current exchange.
+     * @return A response streaming the results.
+     * @see HohmannTransferAPIController#interplanetaryHohmannTransferBatch
+     */
+    @PostMapping(path = "/interplanetary/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, HohmannTransferBatchStreamer.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<DataBuffer>> interplanetaryHohmannTransferBatch(@RequestBody Flux<JsonNode> items,
+                                                                               ServerWebExchange exchange) {
+        boolean useCache = useCache(exchange.getRequest().getHeaders().getCacheControl());
+        return streamBatch(items, exchange, "interplanetary", InterplanetaryHohmannTransferInput.class,
+                inputHandler::validate, input -> inputHandler.calculate(input, useCache));
+    }
+
+    /**
+     * Handles an HTTP POST request containing a batch of binary input records for interplanetary Hohmann transfer calculation.
+     *
+     * @param exchange the current exchange.
+     * @return A response streaming the output records.
+     * @see HohmannTransferAPIController#interplanetaryHohmannTransferBinaryBatch
+     */
+    @PostMapping(path = "/interplanetary/batch", consumes = HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE)
+    public ResponseEntity<Flux<DataBuffer>> interplanetaryHohmannTransferBinaryBatch(ServerWebExchange exchange) {
+        return streamBinaryBatch(exchange, HohmannTransferType.INTERPLANETARY, "interplanetary");
+    }
+
+    /**
+     * Handles an HTTP POST request containing a parameter sweep over interplanetary Hohmann transfers.
+     *
+     * @param input    the ranges of the input parameters.
+     * @param exchange the current exchange.
+     * @return A response streaming the resulting surface.
+     * @see HohmannTransferAPIController#interplanetaryHohmannTransferSweep
+     */
+    @PostMapping(path = "/interplanetary/sweep", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {HohmannTransferSweepWriter.TEXT_CSV_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<Flux<DataBuffer>> interplanetaryHohmannTransferSweep(@RequestBody InterplanetaryHohmannTransferSweepInput input,
+                                                                               ServerWebExchange exchange) {
+        try {
+            return streamSweep(sweepWriter.create(input), exchange);
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+    }
+
+    /**
+     * Handles an HTTP POST request for the trajectories of spacecraft along interplanetary Hohmann transfer orbits.
+     *
+     * @param input    the transfers and the number of samples.
+     * @param exchange the current exchange.
+     * @return A response streaming the sampled state vectors.
+     * @see HohmannTransferAPIController#interplanetaryHohmannTransferTrajectory
+     */
+    @PostMapping(path = "/interplanetary/trajectory", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {HohmannTransferSweepWriter.TEXT_CSV_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<Flux<DataBuffer>> interplanetaryHohmannTransferTrajectory(@RequestBody InterplanetaryHohmannTransferTrajectoryInput input,
+                                                                                    ServerWebExchange exchange) {
+        try {
+            return streamTrajectory(trajectoryWriter.create(input), exchange);
+        } catch (IllegalArgumentException e) {
+            throw inputHandler.reject(e);
+        }
+    }
+
+    /**
+     * Handles an HTTP POST request containing input data for Hohmann transfer calculation
+     * between orbits around celestial bodies from the catalog.
+     *
+     * @param input        input parameters of a Hohmann transfer between orbits around named celestial bodies.
+     * @param cacheControl the value of the {@code Cache-Control} request header, if present.
+     * @return Calculated parameters for the Hohmann transfer, or the errors of invalid input fields.
+     * @see HohmannTransferAPIController#namedHohmannTransfer
+     */
+    @PostMapping(path = "/named", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> namedHohmannTransfer(@RequestBody NamedHohmannTransferInput input,
+                                                  @RequestHeader(name = HttpHeaders.CACHE_CONTROL, required = false) String cacheControl) {
+        var validator = inputHandler.validate(input);
+        if (!validator.isValid()) {
+            return inputHandler.reject(validator);
+        }
+        return ResponseEntity.ok(inputHandler.calculate(input, useCache(cacheControl)));
+    }
+
+    /**
+     * Handles an HTTP POST request containing a batch of input data for Hohmann transfer calculation
+     * between orbits around celestial bodies from the catalog, as a stream of items.
+     *
+     * @param items    the input items.
+     * @param exchange the current exchange.
+     * @return A response streaming the results.
+     * @see HohmannTransferAPIController#namedHohmannTransferBatch
+     */
+    @PostMapping(path = "/named/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, HohmannTransferBatchStreamer.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<DataBuffer>> namedHohmannTransferBatch(@RequestBody Flux<JsonNode> items,
+                                                                      ServerWebExchange exchange) {
+        boolean useCache = useCache(exchange.getRequest().getHeaders().getCacheControl());
+        return streamBatch(items, exchange, "named", NamedHohmannTransferInput.class,
+                inputHandler::validate, input -> inputHandler.calculate(input, useCache));
+    }
+
+    private <T> ResponseEntity<Flux<DataBuffer>> streamBatch(Flux<JsonNode> items, ServerWebExchange exchange, String endpoint,
+                                                             Class<T> inputType, Function<T, HohmannTransferValidator> validation,
+                                                             Function<T, HohmannTransferOutput> calculation) {
+        MediaType contentType = exchange.getRequest().getHeaders().getContentType();
+        boolean ndjson = contentType != null && contentType.isCompatibleWith(APPLICATION_NDJSON);
+        var count = new AtomicLong();
+        Flux<JsonNode> countedItems = items.doOnNext(item -> count.incrementAndGet());
+        return ResponseEntity.ok()
+                .contentType(ndjson ? APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(batchStreamer.stream(countedItems, exchange.getResponse().bufferFactory(), ndjson, endpoint, inputType,
+                        validation, calculation)
+                        .doFinally(signal -> ReactiveHohmannTransferAdmissionFilter.settle(exchange, count.get())));
+    }
+
+    private ResponseEntity<Flux<DataBuffer>> streamBinaryBatch(ServerWebExchange exchange, HohmannTransferType type,
+                                                               String endpoint) {
+        var count = new AtomicLong();
+        return ResponseEntity.ok()
+                .contentType(HohmannTransferBinaryMessages.MEDIA_TYPE)
+                .body(binaryBatchProcessor.stream(exchange.getRequest().getBody(), exchange.getResponse().bufferFactory(),
+                        type, endpoint)
+                        .doOnNext(output -> count.addAndGet(output.readableByteCount() / HohmannTransferBinaryCodec.OUTPUT_SIZE))
+                        .doFinally(signal -> ReactiveHohmannTransferAdmissionFilter.settle(exchange, count.get())));
+    }
+
+    private ResponseEntity<Flux<DataBuffer>> streamSweep(HohmannTransferSweepWriter.Grid grid, ServerWebExchange exchange) {
+        boolean binary = HohmannTransferSweepWriter.isBinary(exchange.getRequest().getHeaders().getAccept());
+        return ResponseEntity.ok()
+                .headers(sweepWriter.headers(grid, binary))
+                .body(sweepWriter.stream(grid, binary, exchange.getResponse().bufferFactory()));
+    }
+
+    private ResponseEntity<Flux<DataBuffer>> streamTrajectory(HohmannTransferTrajectoryWriter.Request trajectory,
+                                                              ServerWebExchange exchange) {
+        boolean binary = HohmannTransferSweepWriter.isBinary(exchange.getRequest().getHeaders().getAccept());
+        return ResponseEntity.ok()
+                .headers(trajectoryWriter.headers(trajectory, binary))
+                .body(trajectoryWriter.stream(trajectory, binary, exchange.getResponse().bufferFactory()));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.service.HohmannTransferAdmissionProperties;
+import com.example.orbits.service.HohmannTransferAdmissionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * A web filter which admits requests to {@link ReactiveHohmannTransferAPIController} with
+ * {@link HohmannTransferAdmissionService}, before their bodies are read.
+ * Rejected requests receive the same response as described in {@link HohmannTransferAdmissionFilter}.
+ * The concurrency permit of an admitted request is released when its response has been written.
+ *
+ * @see HohmannTransferAdmissionPolicy
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+class ReactiveHohmannTransferAdmissionFilter implements WebFilter {
+
+    private final HohmannTransferAdmissionService admissionService;
+    private final String clientHeader;
+    private final Set<String> trustedProxies;
+    private final byte[] rejectionBody;
+
+    ReactiveHohmannTransferAdmissionFilter(HohmannTransferAdmissionService admissionService,
+                                           HohmannTransferAdmissionProperties properties, ObjectMapper objectMapper) {
+        this.admissionService = admissionService;
+        this.clientHeader = properties.getClientHeader();
+        this.trustedProxies = HohmannTransferAdmissionPolicy.trustedProxies(properties.getTrustedProxies());
+        this.rejectionBody = HohmannTransferAdmissionPolicy.rejectionBody(objectMapper);
+    }
+
+    /**
+     * Charges an admitted request for its actual weight, once it has been processed or has failed.
+     *
+     * @param exchange the exchange of the admitted request.
+     * @param weight   the number of transfers the request contained.
+     */
+    static void settle(ServerWebExchange exchange, long weight) {
+        HohmannTransferAdmissionPolicy.settle(exchange.getAttribute(HohmannTransferAdmissionPolicy.ADMISSION_ATTRIBUTE), weight);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        var request = exchange.getRequest();
+        String path = request.getPath().pathWithinApplication().value();
+        if (!admissionService.isEnabled() || !HohmannTransferAdmissionPolicy.isControlled(request.getMethodValue(), path)) {
+            return chain.filter(exchange);
+        }
+        var headers = request.getHeaders();
+        long weight = HohmannTransferAdmissionPolicy.weight(path, headers.getContentType(), headers.getContentLength());
+        var admission = admissionService.admit(client(exchange), weight);
+        if (!admission.isAdmitted()) {
+            var response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, HohmannTransferAdmissionPolicy.retryAfter(admission));
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            response.getHeaders().setContentLength(rejectionBody.length);
+            return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(rejectionBody)));
+        }
+        exchange.getAttributes().put(HohmannTransferAdmissionPolicy.ADMISSION_ATTRIBUTE, admission);
+        return chain.filter(exchange).doFinally(signal -> admission.release());
+    }
+
+    private String client(ServerWebExchange exchange) {
+        var address = exchange.getRequest().getRemoteAddress();
+        return HohmannTransferAdmissionPolicy.client(
+                address != null && address.getAddress() != null ? address.getAddress().getHostAddress() : null,
+                exchange.getRequest().getHeaders().getFirst(clientHeader), trustedProxies);
+    }
+}
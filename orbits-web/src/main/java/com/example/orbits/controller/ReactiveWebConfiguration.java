@@ -0,0 +1,60 @@
+package com.example.orbits.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Configuration of the reactive deployment mode, activated by the {@code reactive} profile.
+ * <p>
+ * The servlet stack stays on the classpath for the default deployment mode, so Netty has to be selected
+ * explicitly; otherwise Spring Boot would run the reactive application on Tomcat.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfiguration implements WebFluxConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    public ReactiveWebConfiguration(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Replaces the default JSON codecs with ones timing the phases of requests. The customizer is ordered
+     * after the one of Spring Boot, which sets the default JSON codecs itself.
+     */
+    @Bean
+    @Order(1)
+    public CodecCustomizer phaseTimingCodecCustomizer() {
+        return configurer -> {
+            configurer.defaultCodecs().jackson2JsonDecoder(new HohmannTransferJsonCodecs.Decoder(objectMapper));
+            configurer.defaultCodecs().jackson2JsonEncoder(new HohmannTransferJsonCodecs.Encoder(objectMapper));
+        };
+    }
+
+    /**
+     * Registers a JSON decoder for newline-delimited JSON, which is accepted by the batch endpoints,
+     * and the codecs of the binary wire format.
+     */
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().register(new Jackson2JsonDecoder(objectMapper,
+                MimeTypeUtils.parseMimeType(HohmannTransferBatchStreamer.APPLICATION_NDJSON_VALUE)));
+        configurer.customCodecs().register(new HohmannTransferBinaryDecoder());
+        configurer.customCodecs().register(new HohmannTransferBinaryEncoder());
+    }
+}
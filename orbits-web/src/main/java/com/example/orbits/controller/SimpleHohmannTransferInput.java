@@ -0,0 +1,15 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+
+/**
+ * Input data of a Hohmann transfer between two orbits around the same primary body,
+ * as accepted by {@link HohmannTransferAPIController}.
+ */
+@Data
+public class SimpleHohmannTransferInput {
+
+    private double primaryBodyMass;
+    private double startingOrbitRadius;
+    private double destinationOrbitRadius;
+}
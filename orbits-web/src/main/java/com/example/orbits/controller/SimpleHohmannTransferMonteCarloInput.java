@@ -0,0 +1,21 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Input data of a Monte Carlo simulation of Hohmann transfers between two orbits around the same primary body,
+ * as accepted by {@link HohmannTransferMonteCarloController}.
+ */
+@Data
+public class SimpleHohmannTransferMonteCarloInput {
+
+    private ParameterDistribution primaryBodyMass;
+    private ParameterDistribution startingOrbitRadius;
+    private ParameterDistribution destinationOrbitRadius;
+    private long samples = 1_000_000L;
+    private Long seed;
+    private List<Double> percentiles = List.of(1d, 5d, 25d, 50d, 75d, 95d, 99d);
+    private int bins = 50;
+}
@@ -0,0 +1,17 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Input data of transfer plans between pairs of orbits around the same primary body,
+ * as accepted by {@link HohmannTransferPlanController}.
+ */
+@Data
+public class SimpleHohmannTransferPlanInput {
+
+    private List<SimpleHohmannTransferInput> transfers;
+    private double maxRadiusRatio = 1000d;
+    private Double maxTransferTime;
+}
@@ -0,0 +1,15 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+
+/**
+ * Input data of a sweep over Hohmann transfers between two orbits around the same primary body,
+ * as accepted by {@link HohmannTransferAPIController}.
+ */
+@Data
+public class SimpleHohmannTransferSweepInput {
+
+    private SweepRange primaryBodyMass;
+    private SweepRange startingOrbitRadius;
+    private SweepRange destinationOrbitRadius;
+}
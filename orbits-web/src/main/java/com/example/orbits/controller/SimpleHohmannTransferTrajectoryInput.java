@@ -0,0 +1,16 @@
+package com.example.orbits.controller;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Input data of trajectories along Hohmann transfers between two orbits around the same primary body,
+ * as accepted by {@link HohmannTransferAPIController}.
+ */
+@Data
+public class SimpleHohmannTransferTrajectoryInput {
+
+    private List<SimpleHohmannTransferInput> transfers;
+    private int samples = 100;
+}
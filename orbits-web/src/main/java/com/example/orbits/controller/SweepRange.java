@@ -0,0 +1,61 @@
+package com.example.orbits.controller;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.Data;
+
+/**
+ * A range of evenly spaced values of a single sweep parameter, as accepted by the sweep endpoints
+ * of {@link HohmannTransferAPIController}.
+ * <p>
+ * A range is given either as a JSON object, or as a single number, which is equivalent to a range of one value:
+ * <pre>
+ * {@code
+ * {
+ *     "from": Number,
+ *     "to": Number,
+ *     "steps": Number
+ * }
+ * }
+ * </pre>
+ * The values of a range start at {@code from} and end at {@code to}, both inclusive.
+ * When {@code steps} is 1 (the default), the range contains only the {@code from} value.
+ */
+@Data
+public class SweepRange {
+
+    private double from;
+    private double to;
+    private int steps = 1;
+
+    /**
+     * Creates a range of one value.
+     *
+     * @param value the value of the range.
+     * @return A range containing only the given value.
+     */
+    @JsonCreator
+    public static SweepRange of(double value) {
+        var range = new SweepRange();
+        range.setFrom(value);
+        range.setTo(value);
+        return range;
+    }
+
+    /**
+     * Returns all values of this range.
+     *
+     * @return The values of this range, in increasing order of steps.
+     * @throws IllegalArgumentException if the number of steps is not greater than 0.
+     */
+    double[] values() {
+        if (steps <= 0) {
+            throw new IllegalArgumentException("Number of steps must be greater than 0");
+        }
+        double[] values = new double[steps];
+        values[0] = from;
+        for (int i = 1; i < steps; i++) {
+            values[i] = from + (to - from) * i / (steps - 1);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.orbits.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the {@link CelestialBodyCatalog}, read with the application's {@link ObjectMapper}.
+ */
+@Configuration
+public class CelestialBodyCatalogConfiguration {
+
+    @Bean
+    public CelestialBodyCatalog celestialBodyCatalog(ObjectMapper objectMapper) {
+        return load(objectMapper);
+    }
+
+    /**
+     * Loads the celestial body catalog with the given object mapper.
+     *
+     * @param objectMapper the object mapper used to read the catalog file.
+     * @return The loaded catalog.
+     */
+    public static CelestialBodyCatalog load(ObjectMapper objectMapper) {
+        return CelestialBodyCatalog.load(input -> objectMapper.readValue(input, CelestialBodyCatalog.Entry[].class));
+    }
+}
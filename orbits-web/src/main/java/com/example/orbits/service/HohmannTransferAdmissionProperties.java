@@ -0,0 +1,64 @@
+package com.example.orbits.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties of {@link HohmannTransferAdmissionService}.
+ */
+@Data
+@ConfigurationProperties(prefix = "orbits.admission")
+public class HohmannTransferAdmissionProperties {
+
+    /**
+     * Whether requests to the transfer endpoints should be subject to admission control.
+     */
+    private boolean enabled = false;
+
+    /**
+     * The request header identifying the client, set by a trusted proxy. Other requests are identified
+     * by their remote address.
+     */
+    private String clientHeader = "X-Client-Id";
+
+    /**
+     * The IP addresses of the proxies trusted to identify clients with {@code client-header}. The header is ignored
+     * in requests from other addresses, so that clients cannot choose their own quotas.
+     */
+    private List<String> trustedProxies = new ArrayList<>();
+
+    /**
+     * The number of transfers per second every client may request on average. A batch counts as many transfers
+     * as it has items.
+     */
+    private double rate = 1000d;
+
+    /**
+     * The number of transfers a client may request at once, above its average rate.
+     */
+    private long burst = 2000L;
+
+    /**
+     * The maximum number of clients whose quotas are tracked at a time.
+     */
+    private long maxClients = 100_000L;
+
+    /**
+     * The initial number of requests calculated concurrently. The limit adapts to the measured latency
+     * between {@code min-concurrency} and {@code max-concurrency}.
+     */
+    private int initialConcurrency = 64;
+
+    /**
+     * The lowest limit of concurrently calculated requests.
+     */
+    private int minConcurrency = 8;
+
+    /**
+     * The highest limit of concurrently calculated requests.
+     */
+    private int maxConcurrency = 1024;
+}
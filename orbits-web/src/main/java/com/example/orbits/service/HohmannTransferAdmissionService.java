@@ -0,0 +1,171 @@
+package com.example.orbits.service;
+
+import com.example.orbits.service.HohmannTransferMetrics.RejectionCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Decides whether requests for Hohmann transfer calculations are admitted, so that bursts of requests are shed
+ * quickly instead of queuing up in front of the calculation.
+ * <p>
+ * A request is admitted if fewer requests are in flight than the concurrency limit, which adapts to the measured
+ * latency as described in {@link HohmannTransferConcurrencyLimiter}, and if its client has not exceeded its quota
+ * of transfers, as described in {@link HohmannTransferRateLimiter}. The weight of a request is the number of transfers
+ * it requests; the weight of a batch whose size is only known after it has been processed is charged afterwards,
+ * with {@link Admission#settle}. Rejected requests are recorded in {@link HohmannTransferMetrics}.
+ * <p>
+ * Neither limit holds any locks, so the service does not become a point of contention at high request rates.
+ *
+ * @see HohmannTransferAdmissionProperties
+ */
+@Component
+public class HohmannTransferAdmissionService {
+
+    /**
+     * The time after which a request rejected by the concurrency limit may be retried.
+     */
+    static final Duration OVERLOAD_RETRY_AFTER = Duration.ofSeconds(1L);
+
+    /**
+     * The outcome of the admission of a single request.
+     * An admitted request must be released with {@link #release} once it has been processed.
+     */
+    public static final class Admission {
+
+        private final HohmannTransferAdmissionService service;
+        private final String client;
+        private final long retryAfterNanos;
+        private final long startTime;
+        private long weight;
+
+        private Admission(HohmannTransferAdmissionService service, String client, long weight, long retryAfterNanos, long startTime) {
+            this.service = service;
+            this.client = client;
+            this.weight = weight;
+            this.retryAfterNanos = retryAfterNanos;
+            this.startTime = startTime;
+        }
+
+        /**
+         * Returns whether the request was admitted.
+         *
+         * @return {@code true} if the request may be processed.
+         */
+        public boolean isAdmitted() {
+            return retryAfterNanos == 0L;
+        }
+
+        /**
+         * Returns the time after which a rejected request may be retried.
+         *
+         * @return The time to wait before retrying, or zero if the request was admitted.
+         */
+        public Duration getRetryAfter() {
+            return Duration.ofNanos(retryAfterNanos);
+        }
+
+        /**
+         * Charges the client for the difference between the actual weight of a processed request
+         * and the weight it was admitted with. This may leave the client in debt.
+         *
+         * @param actualWeight the number of transfers the request contained.
+         */
+        public void settle(long actualWeight) {
+            if (isAdmitted() && actualWeight > weight) {
+                service.rateLimiter.charge(client, actualWeight - weight);
+                weight = actualWeight;
+            }
+        }
+
+        /**
+         * Releases the concurrency permit of an admitted request, and records the latency of the request per transfer.
+         */
+        public void release() {
+            if (isAdmitted()) {
+                long latency = service.ticker.read() - startTime;
+                service.concurrencyLimiter.release(latency / Math.max(1L, weight));
+            }
+        }
+    }
+
+    private final boolean enabled;
+    private final Ticker ticker;
+    private final HohmannTransferRateLimiter rateLimiter;
+    private final HohmannTransferConcurrencyLimiter concurrencyLimiter;
+    private final HohmannTransferMetrics metrics;
+
+    /**
+     * Creates an admission service with the given configuration.
+     *
+     * @param properties the configuration of the service.
+     * @param metrics    the metrics to record rejections in.
+     */
+    @Autowired
+    public HohmannTransferAdmissionService(HohmannTransferAdmissionProperties properties, HohmannTransferMetrics metrics) {
+        this(properties, metrics, Ticker.systemTicker());
+    }
+
+    HohmannTransferAdmissionService(HohmannTransferAdmissionProperties properties, HohmannTransferMetrics metrics, Ticker ticker) {
+        this.enabled = properties.isEnabled();
+        this.ticker = ticker;
+        this.rateLimiter = new HohmannTransferRateLimiter(properties.getRate(), properties.getBurst(),
+                properties.getMaxClients(), ticker);
+        this.concurrencyLimiter = new HohmannTransferConcurrencyLimiter(properties.getInitialConcurrency(),
+                properties.getMinConcurrency(), properties.getMaxConcurrency(), ticker);
+        this.metrics = metrics;
+        if (enabled) {
+            metrics.bindAdmission(this);
+        }
+    }
+
+    /**
+     * Returns whether admission control is enabled. Requests must not be admitted by a disabled service.
+     *
+     * @return {@code true} if admission control is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Decides whether a request is admitted.
+     *
+     * @param client the identifier of the client which sent the request.
+     * @param weight the number of transfers requested, as far as it is known before processing the request.
+     * @return The outcome of the admission.
+     */
+    public Admission admit(String client, long weight) {
+        if (!concurrencyLimiter.tryAcquire()) {
+            metrics.recordRejection(RejectionCause.OVERLOADED);
+            return new Admission(this, client, weight, OVERLOAD_RETRY_AFTER.toNanos(), 0L);
+        }
+        long waitNanos = rateLimiter.tryAcquire(client, weight);
+        if (waitNanos > 0L) {
+            concurrencyLimiter.cancel();
+            metrics.recordRejection(RejectionCause.QUOTA_EXCEEDED);
+            return new Admission(this, client, weight, waitNanos, 0L);
+        }
+        return new Admission(this, client, weight, 0L, ticker.read());
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return The maximum number of requests in flight.
+     */
+    public int getConcurrencyLimit() {
+        return concurrencyLimiter.getLimit();
+    }
+
+    /**
+     * Returns the number of admitted requests which have not been released yet.
+     *
+     * @return The number of requests in flight.
+     */
+    public int getInFlight() {
+        return concurrencyLimiter.getInFlight();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.HohmannTransfer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * A bounded, concurrent cache of Hohmann transfer calculation results, keyed on canonical input data.
+ * Results are evicted when the cache exceeds its maximum size, or when they have been stored for longer
+ * than the configured time.
+ *
+ * @see HohmannTransferCacheProperties
+ */
+@Component
+public class HohmannTransferCache {
+
+    private final boolean enabled;
+    private final Cache<TransferKey, HohmannTransfer> cache;
+
+    /**
+     * Creates a cache with the given configuration.
+     *
+     * @param properties the configuration of the cache.
+     */
+    public HohmannTransferCache(HohmannTransferCacheProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns whether this cache is enabled.
+     * A disabled cache never stores any results.
+     *
+     * @return {@code true} if this cache is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the statistics of this cache, including the hit, miss and eviction counts.
+     *
+     * @return A snapshot of the statistics of this cache.
+     */
+    public CacheStats getStatistics() {
+        return cache.stats();
+    }
+
+    /**
+     * Returns the approximate number of results stored in this cache.
+     *
+     * @return The approximate number of cached results.
+     */
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    HohmannTransfer get(TransferKey key, Function<TransferKey, HohmannTransfer> calculation) {
+        return cache.get(key, calculation);
+    }
+
+    HohmannTransfer getIfPresent(TransferKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    void put(TransferKey key, HohmannTransfer transfer) {
+        cache.put(key, transfer);
+    }
+
+    void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "hohmannTransfers");
+    }
+}
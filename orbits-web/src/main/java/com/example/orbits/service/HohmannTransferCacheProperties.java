@@ -0,0 +1,29 @@
+package com.example.orbits.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of {@link HohmannTransferCache}.
+ */
+@Data
+@ConfigurationProperties(prefix = "orbits.cache")
+public class HohmannTransferCacheProperties {
+
+    /**
+     * Whether calculation results should be cached.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The maximum number of cached results.
+     */
+    private long maximumSize = 10_000L;
+
+    /**
+     * The time after which a cached result is evicted.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10L);
+}
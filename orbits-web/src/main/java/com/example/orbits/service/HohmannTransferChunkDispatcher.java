@@ -0,0 +1,301 @@
+package com.example.orbits.service;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calculates the groups of chunks of a distributed job on the workers of a {@link HohmannTransferClusterService},
+ * by sending every chunk to the binary batch endpoint of a worker.
+ * <p>
+ * Chunks wait in a queue, and are dispatched to the available worker with the fewest chunks in flight, so faster
+ * workers are dispatched more chunks. Requests are sent asynchronously; their results are written into the output
+ * buffers by the thread calculating the group, at the position of their chunk, so they are merged in order
+ * no matter which worker answers first.
+ * <p>
+ * A chunk which fails, because of an error response, a connection failure or a timeout, goes back to the head
+ * of the queue, and its worker is not dispatched any chunks for the backoff time. Once the queue is empty,
+ * a chunk which has been in flight for longer than the hedge delay is dispatched to another worker as well,
+ * so a single slow worker does not hold up the checkpoint of the whole group. The request which loses the race
+ * is cancelled.
+ * <p>
+ * The output of a worker is only accepted if it has a record per input record, and every record is either
+ * finite and non-negative, or NaN for an invalid input record, like the output of {@link HohmannTransferRecordCalculator}.
+ * While no workers are registered, for example until they have registered again after the coordinator restarted,
+ * a group waits for the worker wait time before it fails.
+ */
+final class HohmannTransferChunkDispatcher implements HohmannTransferFileProcessor.GroupCalculator {
+
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+
+    private final Collection<HohmannTransferWorker> workers;
+    private final HttpClient client;
+    private final String path;
+    private final int inputSize;
+    private final int inputFields;
+    private final int maxInFlight;
+    private final Duration timeout;
+    private final long hedgeDelayNanos;
+    private final int maxAttempts;
+    private final long backoffNanos;
+    private final long workerWaitNanos;
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param workers    the workers to dispatch chunks to, which may change while groups are calculated.
+     * @param client     the client to send the chunks with.
+     * @param properties the configuration of the dispatching.
+     * @param type       the type of transfers described by the input records.
+     */
+    HohmannTransferChunkDispatcher(Collection<HohmannTransferWorker> workers, HttpClient client,
+                                   HohmannTransferClusterProperties properties, HohmannTransferType type) {
+        this.workers = workers;
+        this.client = client;
+        this.path = (type == HohmannTransferType.INTERPLANETARY ? "interplanetary" : "simple") + "/batch";
+        this.inputSize = HohmannTransferRecordCalculator.inputSize(type);
+        this.inputFields = inputSize / Double.BYTES;
+        this.maxInFlight = properties.getMaxInFlight();
+        this.timeout = properties.getTimeout();
+        this.hedgeDelayNanos = properties.getHedgeDelay().toNanos();
+        this.maxAttempts = properties.getMaxAttempts();
+        this.backoffNanos = properties.getBackoff().toNanos();
+        this.workerWaitNanos = properties.getWorkerWait().toNanos();
+    }
+
+    @Override
+    public void calculate(ByteBuffer[] inputs, ByteBuffer[] outputs) throws IOException {
+        new Group(inputs, outputs).run();
+    }
+
+    /**
+     * The answer of a worker to a chunk: either its output records or the reason of its failure.
+     */
+    private static final class Answer {
+
+        final int chunk;
+        final byte[] output;
+        final String error;
+
+        Answer(int chunk, byte[] output, String error) {
+            this.chunk = chunk;
+            this.output = output;
+            this.error = error;
+        }
+    }
+
+    /**
+     * The state of the calculation of a single group, which is only accessed by the thread calculating the group.
+     * Answers are handed over to it through a queue.
+     */
+    private final class Group {
+
+        private final ByteBuffer[] inputs;
+        private final ByteBuffer[] outputs;
+        private final boolean[] completed;
+        private final boolean[] hedged;
+        private final int[] running;
+        private final int[] failures;
+        private final long[] dispatchedAt;
+        private final HohmannTransferWorker[] dispatchedTo;
+        private final List<List<CompletableFuture<?>>> requests;
+        private final Deque<Integer> pending = new ArrayDeque<>();
+        private final BlockingQueue<Answer> answers = new LinkedBlockingQueue<>();
+        private int remaining;
+        private int inFlight;
+
+        Group(ByteBuffer[] inputs, ByteBuffer[] outputs) {
+            int chunks = inputs.length;
+            this.inputs = inputs;
+            this.outputs = outputs;
+            this.completed = new boolean[chunks];
+            this.hedged = new boolean[chunks];
+            this.running = new int[chunks];
+            this.failures = new int[chunks];
+            this.dispatchedAt = new long[chunks];
+            this.dispatchedTo = new HohmannTransferWorker[chunks];
+            this.requests = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                pending.add(chunk);
+                requests.add(new ArrayList<>(2));
+            }
+            this.remaining = chunks;
+        }
+
+        void run() throws IOException {
+            long idleSince = System.nanoTime();
+            while (remaining > 0) {
+                long now = System.nanoTime();
+                dispatchPending(now);
+                hedge(now);
+                if (inFlight > 0 || !workers.isEmpty()) {
+                    idleSince = now;
+                } else if (now - idleSince >= workerWaitNanos) {
+                    throw new IOException("No workers are registered");
+                }
+                Answer answer;
+                try {
+                    answer = answers.poll(POLL_NANOS, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for workers");
+                }
+                if (answer != null) {
+                    handle(answer);
+                }
+            }
+        }
+
+        private void dispatchPending(long now) {
+            while (!pending.isEmpty()) {
+                var worker = selectWorker(null, now);
+                if (worker == null) {
+                    return;
+                }
+                dispatch(pending.poll(), worker, now);
+            }
+        }
+
+        private void hedge(long now) {
+            if (!pending.isEmpty()) {
+                return;
+            }
+            for (int chunk = 0; chunk < running.length; chunk++) {
+                if (!completed[chunk] && !hedged[chunk] && running[chunk] == 1 && now - dispatchedAt[chunk] >= hedgeDelayNanos) {
+                    var worker = selectWorker(dispatchedTo[chunk], now);
+                    if (worker == null) {
+                        return;
+                    }
+                    hedged[chunk] = true;
+                    dispatch(chunk, worker, now);
+                }
+            }
+        }
+
+        private void handle(Answer answer) throws IOException {
+            int chunk = answer.chunk;
+            running[chunk]--;
+            inFlight--;
+            if (completed[chunk]) {
+                return;
+            }
+            if (answer.output != null) {
+                outputs[chunk].duplicate().put(answer.output);
+                completed[chunk] = true;
+                remaining--;
+                // The answers of cancelled requests are still handed over, to keep the counts of running requests
+                var losers = List.copyOf(requests.get(chunk));
+                requests.get(chunk).clear();
+                losers.forEach(request -> request.cancel(true));
+            } else if (running[chunk] == 0) {
+                requests.get(chunk).clear();
+                if (++failures[chunk] >= maxAttempts) {
+                    throw new IOException("Chunk failed " + failures[chunk] + " times, last with: " + answer.error);
+                }
+                pending.addFirst(chunk);
+            }
+        }
+
+        private HohmannTransferWorker selectWorker(HohmannTransferWorker excluded, long now) {
+            HohmannTransferWorker selected = null;
+            int selectedInFlight = Integer.MAX_VALUE;
+            for (var worker : workers) {
+                if (worker != excluded && worker.isAvailable(maxInFlight, now)) {
+                    int workerInFlight = worker.getInFlight();
+                    if (workerInFlight < selectedInFlight) {
+                        selected = worker;
+                        selectedInFlight = workerInFlight;
+                    }
+                }
+            }
+            return selected;
+        }
+
+        private void dispatch(int chunk, HohmannTransferWorker worker, long now) {
+            byte[] input = new byte[inputs[chunk].remaining()];
+            inputs[chunk].duplicate().get(input);
+            long records = input.length / inputSize;
+            var request = HttpRequest.newBuilder(worker.getUrl().resolve(path))
+                    .timeout(timeout)
+                    .header("Content-Type", HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(input))
+                    .build();
+            worker.dispatched(now);
+            running[chunk]++;
+            inFlight++;
+            dispatchedAt[chunk] = now;
+            dispatchedTo[chunk] = worker;
+            var future = client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+            requests.get(chunk).add(future);
+            future.whenComplete((response, failure) -> {
+                if (failure instanceof CancellationException) {
+                    worker.cancelled(System.nanoTime());
+                    answers.add(new Answer(chunk, null, "Cancelled"));
+                    return;
+                }
+                String error = failure != null ? describe(failure)
+                        : response.statusCode() != 200 ? "Status " + response.statusCode()
+                        : response.body().length != records * HohmannTransferBinaryCodec.OUTPUT_SIZE ? "Incomplete response"
+                        : !isValidOutput(input, response.body()) ? "Invalid response"
+                        : null;
+                if (error == null) {
+                    worker.completed(records, System.nanoTime());
+                    answers.add(new Answer(chunk, response.body(), null));
+                } else {
+                    worker.failed(error, backoffNanos, System.nanoTime());
+                    answers.add(new Answer(chunk, null, error));
+                }
+            });
+        }
+    }
+
+    /**
+     * Checks that every output record is finite and non-negative if its input record is valid, and NaN otherwise.
+     */
+    private boolean isValidOutput(byte[] input, byte[] output) {
+        var inputs = ByteBuffer.wrap(input).order(ByteOrder.LITTLE_ENDIAN);
+        var outputs = ByteBuffer.wrap(output).order(ByteOrder.LITTLE_ENDIAN);
+        int records = input.length / inputSize;
+        for (int i = 0; i < records; i++) {
+            boolean valid = true;
+            for (int field = 0; field < inputFields; field++) {
+                double value = inputs.getDouble((i * inputFields + field) * Double.BYTES);
+                valid &= value > 0d && !Double.isInfinite(value);
+            }
+            for (int field = 0; field < HohmannTransferBinaryCodec.OUTPUT_FIELDS; field++) {
+                double value = outputs.getDouble((i * HohmannTransferBinaryCodec.OUTPUT_FIELDS + field) * Double.BYTES);
+                if (valid ? !(value >= 0d) || Double.isInfinite(value) : !Double.isNaN(value)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static String describe(Throwable failure) {
+        var cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof HttpTimeoutException) {
+            return "Timeout";
+        }
+        return cause.getMessage() != null ? cause.getClass().getSimpleName() + ": " + cause.getMessage() : cause.toString();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.orbits.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties of {@link HohmannTransferClusterService}, and of the registration of an instance
+ * as a worker of a coordinator.
+ */
+@Data
+@ConfigurationProperties(prefix = "orbits.cluster")
+public class HohmannTransferClusterProperties {
+
+    /**
+     * The base URLs of the workers which distributed jobs are dispatched to, in addition to the workers
+     * registered at runtime.
+     */
+    private List<URI> workers = new ArrayList<>();
+
+    /**
+     * Whether workers may register and deregister themselves at runtime. Registration requests must carry
+     * the {@code registration-token} in the {@value HohmannTransferClusterService#TOKEN_HEADER} header.
+     */
+    private boolean registrationEnabled = false;
+
+    /**
+     * The secret shared by the coordinator and its workers, which authorizes registrations. The coordinator refuses
+     * all registrations while it is not set, and workers send it to their coordinator.
+     */
+    private String registrationToken;
+
+    /**
+     * The time a distributed job waits for a worker to register when there is none, for example while workers
+     * are registering again after the coordinator has restarted, before it fails.
+     */
+    private Duration workerWait = Duration.ofSeconds(30L);
+
+    /**
+     * The number of records sent to a worker in a single request.
+     */
+    private int chunkSize = 1 << 16;
+
+    /**
+     * The number of chunks dispatched between two checkpoints of a distributed job.
+     */
+    private int parallelism = 32;
+
+    /**
+     * The maximum number of chunks a worker calculates at the same time.
+     */
+    private int maxInFlight = 2;
+
+    /**
+     * The time after which an unanswered chunk is given up on and dispatched to another worker.
+     */
+    private Duration timeout = Duration.ofSeconds(30L);
+
+    /**
+     * The time after which a chunk still in flight is also dispatched to an idle worker, once no other chunks
+     * of its group are waiting. Whichever result arrives first is used.
+     */
+    private Duration hedgeDelay = Duration.ofSeconds(2L);
+
+    /**
+     * The number of times a chunk may fail before its job fails.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * The time for which a worker that has failed a chunk is not dispatched any chunks.
+     */
+    private Duration backoff = Duration.ofSeconds(1L);
+
+    /**
+     * The base URL of a coordinator which this instance registers with as a worker, or null if it does not register.
+     */
+    private URI coordinator;
+
+    /**
+     * The base URL under which the coordinator reaches this instance. By default, {@code http://localhost}
+     * with the port of the web server.
+     */
+    private URI advertisedUrl;
+
+    /**
+     * The interval at which this instance renews its registration with the coordinator, so that it is registered
+     * again after the coordinator restarts.
+     */
+    private Duration heartbeat = Duration.ofSeconds(10L);
+}
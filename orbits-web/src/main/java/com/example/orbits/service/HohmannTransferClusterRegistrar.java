@@ -0,0 +1,94 @@
+package com.example.orbits.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registers this instance as a worker with the {@linkplain HohmannTransferClusterProperties#getCoordinator() coordinator}
+ * once the web server has started, and renews the registration at every heartbeat, so that the worker is registered
+ * again after the coordinator restarts, or if the coordinator was not running yet. The worker is deregistered
+ * when the application stops. Both requests carry the
+ * {@linkplain HohmannTransferClusterProperties#getRegistrationToken() registration token}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "orbits.cluster", name = "coordinator")
+class HohmannTransferClusterRegistrar implements ApplicationListener<WebServerInitializedEvent> {
+
+    private static final Duration DEREGISTRATION_TIMEOUT = Duration.ofSeconds(1L);
+
+    private final HohmannTransferClusterProperties properties;
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "hohmann-transfer-cluster-registrar");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile URI registration;
+
+    HohmannTransferClusterRegistrar(HohmannTransferClusterProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        if (event.getApplicationContext().getServerNamespace() != null) {
+            return;
+        }
+        URI url = properties.getAdvertisedUrl() != null ? properties.getAdvertisedUrl()
+                : URI.create("http://localhost:" + event.getWebServer().getPort());
+        var request = authorize(HttpRequest.newBuilder(workers()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"url\": \"" + url + "\"}"))
+                .build();
+        scheduler.scheduleWithFixedDelay(() -> register(request), 0L, properties.getHeartbeat().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.shutdownNow();
+        var registration = this.registration;
+        if (registration != null) {
+            var request = authorize(HttpRequest.newBuilder(registration)).timeout(DEREGISTRATION_TIMEOUT).DELETE().build();
+            try {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+            } catch (IOException e) {
+                // The coordinator stops dispatching to the worker once its chunks fail
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void register(HttpRequest request) {
+        try {
+            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            response.headers().firstValue("Location").ifPresent(location -> registration = workers().resolve(location));
+        } catch (IOException e) {
+            // The coordinator is not reachable; the registration is retried at the next heartbeat
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HttpRequest.Builder authorize(HttpRequest.Builder request) {
+        String token = properties.getRegistrationToken();
+        return token != null ? request.header(HohmannTransferClusterService.TOKEN_HEADER, token) : request;
+    }
+
+    private URI workers() {
+        return properties.getCoordinator().resolve("/cluster/workers");
+    }
+}
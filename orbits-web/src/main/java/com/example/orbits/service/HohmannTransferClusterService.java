@@ -0,0 +1,173 @@
+package com.example.orbits.service;
+
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.net.http.HttpClient;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Coordinates a cluster of workers, which calculate distributed jobs of {@link HohmannTransferJobService}.
+ * <p>
+ * A worker is any instance of the application reachable over HTTP: a distributed job splits its input file into chunks
+ * of {@linkplain HohmannTransferClusterProperties#getChunkSize() chunk size} records and sends them to the binary batch
+ * endpoints of the workers, as described in {@link HohmannTransferChunkDispatcher}. Workers are configured
+ * with {@link HohmannTransferClusterProperties#getWorkers()}, or register themselves at runtime
+ * (see {@link HohmannTransferClusterProperties#getCoordinator()}), so several workers can be started on one machine
+ * on different ports. Registration at runtime is only possible when it is
+ * {@linkplain HohmannTransferClusterProperties#isRegistrationEnabled() enabled}, with the
+ * {@linkplain HohmannTransferClusterProperties#getRegistrationToken() token} shared by the coordinator and its workers,
+ * because the coordinator sends job input to every registered URL.
+ * <p>
+ * The job stores a checkpoint after every {@linkplain HohmannTransferClusterProperties#getParallelism() group}
+ * of chunks, like a local job, so a distributed job can be resumed locally and the other way round.
+ *
+ * @see HohmannTransferClusterProperties
+ */
+@Service
+public class HohmannTransferClusterService {
+
+    /**
+     * The request header carrying the registration token.
+     */
+    public static final String TOKEN_HEADER = "X-Cluster-Token";
+
+    private final HohmannTransferClusterProperties properties;
+    private final HttpClient client;
+    private final List<HohmannTransferWorker> workers = new CopyOnWriteArrayList<>();
+    private final AtomicInteger workerCount = new AtomicInteger();
+
+    /**
+     * Creates the service, and registers the configured workers.
+     *
+     * @param properties the configuration of the service.
+     * @throws IllegalArgumentException if a configured worker URL or a size or limit of the configuration is invalid.
+     */
+    public HohmannTransferClusterService(HohmannTransferClusterProperties properties) {
+        if (properties.getChunkSize() <= 0 || properties.getParallelism() <= 0 || properties.getMaxInFlight() <= 0
+                || properties.getMaxAttempts() <= 0) {
+            throw new IllegalArgumentException("Chunk size, parallelism, maximum in-flight chunks and attempts must be greater than 0");
+        }
+        this.properties = properties;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getTimeout())
+                .build();
+        properties.getWorkers().forEach(this::register);
+    }
+
+    /**
+     * Checks whether workers may register and deregister themselves at runtime.
+     *
+     * @return True if registration is enabled.
+     */
+    public boolean isRegistrationEnabled() {
+        return properties.isRegistrationEnabled();
+    }
+
+    /**
+     * Checks whether a registration request carries the configured token.
+     *
+     * @param token the token of the request, or null if it is absent.
+     * @return True if registration is enabled, a token is configured and the given token matches it.
+     */
+    public boolean isAuthorized(String token) {
+        String expected = properties.getRegistrationToken();
+        return properties.isRegistrationEnabled() && expected != null && !expected.isEmpty() && token != null
+                && MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Registers a worker. Registering the URL of a registered worker returns that worker, so workers may renew
+     * their registration periodically.
+     *
+     * @param url the base URL of the worker.
+     * @return The registered worker.
+     * @throws IllegalArgumentException if the URL is not an absolute HTTP URL.
+     */
+    public HohmannTransferWorker register(URI url) {
+        if (url == null || url.getHost() == null || !("http".equals(url.getScheme()) || "https".equals(url.getScheme()))) {
+            throw new IllegalArgumentException("Worker URL must be an absolute HTTP URL: " + url);
+        }
+        URI base = url.getPath() == null || !url.getPath().endsWith("/") ? URI.create(url + "/") : url;
+        synchronized (workers) {
+            return findWorker(worker -> worker.getUrl().equals(base)).orElseGet(() -> {
+                var worker = new HohmannTransferWorker("worker-" + workerCount.incrementAndGet(), base, Instant.now());
+                workers.add(worker);
+                return worker;
+            });
+        }
+    }
+
+    /**
+     * Deregisters a worker. Chunks in flight on the worker are still accepted, but it is not dispatched new chunks.
+     *
+     * @param id the identifier of the worker.
+     * @return The deregistered worker, or an empty optional if there is no worker with the given identifier.
+     */
+    public Optional<HohmannTransferWorker> deregister(String id) {
+        synchronized (workers) {
+            var worker = find(id);
+            worker.ifPresent(workers::remove);
+            return worker;
+        }
+    }
+
+    /**
+     * Finds a registered worker.
+     *
+     * @param id the identifier of the worker.
+     * @return The worker, or an empty optional if there is no worker with the given identifier.
+     */
+    public Optional<HohmannTransferWorker> find(String id) {
+        return findWorker(worker -> worker.getId().equals(id));
+    }
+
+    /**
+     * Returns the registered workers, in the order of registration.
+     *
+     * @return All registered workers.
+     */
+    public List<HohmannTransferWorker> getWorkers() {
+        return List.copyOf(workers);
+    }
+
+    /**
+     * Returns the number of records in a chunk of a distributed job.
+     *
+     * @return The chunk size.
+     */
+    public int getChunkSize() {
+        return properties.getChunkSize();
+    }
+
+    /**
+     * Returns the number of chunks of a distributed job dispatched between two checkpoints.
+     *
+     * @return The number of chunks in a group.
+     */
+    public int getParallelism() {
+        return properties.getParallelism();
+    }
+
+    /**
+     * Returns a calculator which dispatches the chunks of a file processor to the registered workers.
+     *
+     * @param type the type of transfers described by the input records.
+     * @return The calculator of groups of chunks.
+     */
+    public HohmannTransferFileProcessor.GroupCalculator calculator(HohmannTransferType type) {
+        return new HohmannTransferChunkDispatcher(workers, client, properties, type);
+    }
+
+    private Optional<HohmannTransferWorker> findWorker(Predicate<HohmannTransferWorker> predicate) {
+        return workers.stream().filter(predicate).findFirst();
+    }
+}
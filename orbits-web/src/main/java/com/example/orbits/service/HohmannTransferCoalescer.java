@@ -0,0 +1,266 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.HohmannTransfer;
+import com.example.orbits.model.Orbit;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces concurrent Hohmann transfer calculations into batches, which are calculated by
+ * {@link HohmannTransferKernel} as one unit.
+ * <p>
+ * The first calculation submitted to an empty batch opens a window of {@link HohmannTransferCoalescerProperties#getMaxDelay()};
+ * calculations submitted within the window join the same batch. The batch is calculated when the window closes,
+ * on the coalescer's own thread, or as soon as it reaches {@link HohmannTransferCoalescerProperties#getMaxBatchSize()}
+ * calculations, on the thread which submitted the last one. Each caller then receives its own result through
+ * a future, so the latency added to a calculation never exceeds the configured delay
+ * (plus the time needed to calculate the batch).
+ * <p>
+ * Batched results are identical to the results of {@link HohmannTransferCalculator}, because both use the same
+ * per-element methods of the kernel. The size of every batch is recorded in {@link HohmannTransferMetrics}.
+ *
+ * @see HohmannTransferCoalescerProperties
+ */
+@Component
+public class HohmannTransferCoalescer {
+
+    private final boolean enabled;
+    private final long maxDelayNanos;
+    private final int maxBatchSize;
+    private final HohmannTransferMetrics metrics;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Object lock = new Object();
+    private Batch currentBatch;
+
+    /**
+     * Creates a coalescer with the given configuration.
+     *
+     * @param properties the configuration of the coalescer.
+     * @param metrics    the metrics to record batch sizes in.
+     */
+    public HohmannTransferCoalescer(HohmannTransferCoalescerProperties properties, HohmannTransferMetrics metrics) {
+        this.enabled = properties.isEnabled();
+        this.maxDelayNanos = properties.getMaxDelay().toNanos();
+        this.maxBatchSize = Math.max(1, properties.getMaxBatchSize());
+        this.metrics = metrics;
+        if (enabled) {
+            this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                var thread = new Thread(runnable, "hohmann-transfer-coalescer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scheduler.setRemoveOnCancelPolicy(true);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * Returns whether this coalescer is enabled. A disabled coalescer must not be used.
+     *
+     * @return {@code true} if this coalescer is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Submits a calculation of a Hohmann transfer of an already determined type, to be calculated in a batch.
+     *
+     * @param type             the type of the Hohmann transfer, as returned by {@link HohmannTransferCalculator#classify}.
+     * @param startingOrbit    the starting orbit of the Hohmann transfer.
+     * @param destinationOrbit the destination orbit of the Hohmann transfer.
+     * @return A future completed with the calculated parameters of the Hohmann transfer.
+     */
+    public CompletableFuture<HohmannTransfer> submit(HohmannTransferType type, Orbit startingOrbit, Orbit destinationOrbit) {
+        var future = new CompletableFuture<HohmannTransfer>();
+        Batch newBatch = null;
+        Batch fullBatch = null;
+        synchronized (lock) {
+            if (currentBatch == null) {
+                newBatch = new Batch(maxBatchSize);
+                currentBatch = newBatch;
+            }
+            currentBatch.add(type, startingOrbit, destinationOrbit, future);
+            if (currentBatch.size == maxBatchSize) {
+                fullBatch = currentBatch;
+                currentBatch = null;
+            }
+        }
+        if (fullBatch != null) {
+            ScheduledFuture<?> timeout = fullBatch.timeout;
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            calculate(fullBatch, true);
+        } else if (newBatch != null) {
+            schedule(newBatch);
+        }
+        return future;
+    }
+
+    /**
+     * Calculates a Hohmann transfer of an already determined type in a batch, and waits for the result.
+     *
+     * @param type             the type of the Hohmann transfer, as returned by {@link HohmannTransferCalculator#classify}.
+     * @param startingOrbit    the starting orbit of the Hohmann transfer.
+     * @param destinationOrbit the destination orbit of the Hohmann transfer.
+     * @return Calculated parameters of the Hohmann transfer.
+     */
+    public HohmannTransfer calculate(HohmannTransferType type, Orbit startingOrbit, Orbit destinationOrbit) {
+        return submit(type, startingOrbit, destinationOrbit).join();
+    }
+
+    /**
+     * Stops the thread which calculates batches after their maximum delay. Pending batches are still calculated
+     * when their delay elapses, and calculations submitted afterwards are calculated without delay
+     * on the submitting thread.
+     */
+    @PreDestroy
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    private void schedule(Batch batch) {
+        // Scheduled outside the lock, so that a batch which has become full in the meantime is still timed out
+        // harmlessly, and a rejection after shutdown does not fail the calculations of other threads
+        try {
+            batch.timeout = scheduler.schedule(() -> flush(batch), maxDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            flush(batch);
+        }
+    }
+
+    private void flush(Batch batch) {
+        synchronized (lock) {
+            if (currentBatch != batch) {
+                // The batch became full and has already been calculated
+                return;
+            }
+            currentBatch = null;
+        }
+        calculate(batch, false);
+    }
+
+    private void calculate(Batch batch, boolean full) {
+        metrics.recordCoalescedBatch(batch.size, full);
+        try {
+            batch.calculate();
+        } catch (RuntimeException e) {
+            for (int i = 0; i < batch.size; i++) {
+                batch.futures[i].completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Calculations submitted within a single window. Once a batch is removed from {@link #currentBatch},
+     * it is only accessed by the thread which calculates it.
+     */
+    private static class Batch {
+
+        private final HohmannTransferType[] types;
+        private final Orbit[] startingOrbits;
+        private final Orbit[] destinationOrbits;
+        @SuppressWarnings("unchecked")
+        private final CompletableFuture<HohmannTransfer>[] futures;
+        private int size;
+        private volatile ScheduledFuture<?> timeout;
+
+        @SuppressWarnings("unchecked")
+        Batch(int capacity) {
+            this.types = new HohmannTransferType[capacity];
+            this.startingOrbits = new Orbit[capacity];
+            this.destinationOrbits = new Orbit[capacity];
+            this.futures = new CompletableFuture[capacity];
+        }
+
+        void add(HohmannTransferType type, Orbit startingOrbit, Orbit destinationOrbit, CompletableFuture<HohmannTransfer> future) {
+            types[size] = type;
+            startingOrbits[size] = startingOrbit;
+            destinationOrbits[size] = destinationOrbit;
+            futures[size] = future;
+            size++;
+        }
+
+        void calculate() {
+            int sameBodyCount = 0;
+            for (int i = 0; i < size; i++) {
+                if (types[i] == HohmannTransferType.SAME_BODY) {
+                    sameBodyCount++;
+                }
+            }
+            if (sameBodyCount > 0) {
+                calculateSameBody(sameBodyCount);
+            }
+            if (sameBodyCount < size) {
+                calculateInterplanetary(size - sameBodyCount);
+            }
+        }
+
+        private void calculateSameBody(int count) {
+            double[] mu = new double[count];
+            double[] r1 = new double[count];
+            double[] r2 = new double[count];
+            for (int i = 0, j = 0; i < size; i++) {
+                if (types[i] == HohmannTransferType.SAME_BODY) {
+                    mu[j] = startingOrbits[i].getStandardGravitationalParameter();
+                    r1[j] = startingOrbits[i].getRadius();
+                    r2[j] = destinationOrbits[i].getRadius();
+                    j++;
+                }
+            }
+            double[] transferTime = new double[count];
+            double[] insertionDeltaV = new double[count];
+            double[] arrivalDeltaV = new double[count];
+            HohmannTransferKernel.calculateOrbitTransfers(0, count, mu, r1, r2, transferTime, insertionDeltaV, arrivalDeltaV);
+            complete(HohmannTransferType.SAME_BODY, transferTime, insertionDeltaV, arrivalDeltaV);
+        }
+
+        private void calculateInterplanetary(int count) {
+            double[] mu = new double[count];
+            double[] planetR1 = new double[count];
+            double[] planetR2 = new double[count];
+            double[] planetMu1 = new double[count];
+            double[] planetMu2 = new double[count];
+            double[] r1 = new double[count];
+            double[] r2 = new double[count];
+            for (int i = 0, j = 0; i < size; i++) {
+                if (types[i] == HohmannTransferType.INTERPLANETARY) {
+                    Orbit startingPlanetOrbit = startingOrbits[i].getPrimaryBody().getOrbit();
+                    mu[j] = startingPlanetOrbit.getStandardGravitationalParameter();
+                    planetR1[j] = startingPlanetOrbit.getRadius();
+                    planetR2[j] = destinationOrbits[i].getPrimaryBody().getOrbit().getRadius();
+                    planetMu1[j] = startingOrbits[i].getStandardGravitationalParameter();
+                    planetMu2[j] = destinationOrbits[i].getStandardGravitationalParameter();
+                    r1[j] = startingOrbits[i].getRadius();
+                    r2[j] = destinationOrbits[i].getRadius();
+                    j++;
+                }
+            }
+            double[] transferTime = new double[count];
+            double[] insertionDeltaV = new double[count];
+            double[] arrivalDeltaV = new double[count];
+            HohmannTransferKernel.calculateInterplanetaryTransfers(0, count, mu, planetR1, planetR2, planetMu1, planetMu2,
+                    r1, r2, transferTime, insertionDeltaV, arrivalDeltaV);
+            complete(HohmannTransferType.INTERPLANETARY, transferTime, insertionDeltaV, arrivalDeltaV);
+        }
+
+        private void complete(HohmannTransferType type, double[] transferTime, double[] insertionDeltaV, double[] arrivalDeltaV) {
+            for (int i = 0, j = 0; i < size; i++) {
+                if (types[i] == type) {
+                    futures[i].complete(new HohmannTransfer(transferTime[j], insertionDeltaV[j], arrivalDeltaV[j]));
+                    j++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.orbits.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of {@link HohmannTransferCoalescer}.
+ */
+@Data
+@ConfigurationProperties(prefix = "orbits.coalescer")
+public class HohmannTransferCoalescerProperties {
+
+    /**
+     * Whether concurrent calculations should be coalesced into batches.
+     */
+    private boolean enabled = false;
+
+    /**
+     * The maximum time a calculation waits for other calculations to join its batch.
+     * This is the maximum latency added to a calculation by the coalescer.
+     */
+    private Duration maxDelay = Duration.ofNanos(200_000L);
+
+    /**
+     * The maximum number of calculations in a batch. A full batch is calculated immediately.
+     */
+    private int maxBatchSize = 64;
+}
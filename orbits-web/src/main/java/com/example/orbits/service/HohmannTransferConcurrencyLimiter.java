@@ -0,0 +1,179 @@
+package com.example.orbits.service;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A limit of concurrently processed requests, which adapts to their measured latency.
+ * <p>
+ * Latencies are averaged over short windows and compared with their long-term average. While the short-term
+ * average stays within a tolerance of the long-term one, the limit grows by about its square root per window,
+ * as long as the load actually reaches it. When requests start queuing and latency rises above the tolerance,
+ * the limit shrinks in proportion, by at most a half per window. This follows the gradient algorithm
+ * of Netflix's concurrency-limits library.
+ * <p>
+ * Acquiring and releasing a permit costs a compare-and-set on the number of requests in flight, and latencies
+ * are added to striped {@link LongAdder}s. The limit is recalculated by whichever thread releases a permit first
+ * after a window has ended, so no locks are held and no background thread is needed.
+ */
+final class HohmannTransferConcurrencyLimiter {
+
+    /**
+     * The length of the windows in which latencies are averaged.
+     */
+    static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+
+    /**
+     * The smallest number of latencies needed to recalculate the limit.
+     */
+    static final int MIN_WINDOW_SAMPLES = 10;
+
+    /**
+     * The ratio of the short-term to the long-term average latency which is tolerated without reducing the limit.
+     */
+    private static final double TOLERANCE = 1.5;
+
+    /**
+     * The number of windows over which the long-term average latency is taken.
+     */
+    private static final int LONG_TERM_WINDOWS = 100;
+
+    /**
+     * The weight of a new limit in the smoothed limit.
+     */
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final Ticker ticker;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder latencySum = new LongAdder();
+    private final LongAdder latencyCount = new LongAdder();
+    private final AtomicLong windowEnd;
+    private volatile int limit;
+    private volatile boolean limitReached;
+
+    // Only accessed by the thread which ends a window
+    private double estimatedLimit;
+    private double longTermLatency;
+
+    /**
+     * Creates a concurrency limiter.
+     *
+     * @param initialLimit the initial limit.
+     * @param minLimit     the lowest limit.
+     * @param maxLimit     the highest limit.
+     * @param ticker       the source of time, in nanoseconds.
+     */
+    HohmannTransferConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Ticker ticker) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("The limits must be positive and ordered");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.ticker = ticker;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+        this.windowEnd = new AtomicLong(ticker.read() + WINDOW_NANOS);
+    }
+
+    /**
+     * Takes a permit, if fewer requests than the limit are in flight.
+     * A taken permit must be returned with {@link #release} or {@link #cancel}.
+     *
+     * @return {@code true} if the permit was taken.
+     */
+    boolean tryAcquire() {
+        int limit = this.limit;
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                markLimitReached();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                if (2 * (current + 1) > limit) {
+                    markLimitReached();
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns a permit of a processed request and records its latency.
+     *
+     * @param latencyNanos the time it took to process the request.
+     */
+    void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        latencySum.add(latencyNanos);
+        latencyCount.increment();
+        long now = ticker.read();
+        long end = windowEnd.get();
+        if (now >= end && windowEnd.compareAndSet(end, now + WINDOW_NANOS)) {
+            update();
+        }
+    }
+
+    /**
+     * Returns a permit of a request which was not processed, without recording a latency.
+     */
+    void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Returns the current limit.
+     *
+     * @return The maximum number of requests in flight.
+     */
+    int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of requests in flight.
+     *
+     * @return The number of taken permits.
+     */
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void markLimitReached() {
+        // Read before writing, so that the flag's cache line is not written on every request
+        if (!limitReached) {
+            limitReached = true;
+        }
+    }
+
+    private void update() {
+        long count = latencyCount.sumThenReset();
+        long sum = latencySum.sumThenReset();
+        if (count < MIN_WINDOW_SAMPLES) {
+            latencySum.add(sum);
+            latencyCount.add(count);
+            return;
+        }
+        boolean reached = limitReached;
+        limitReached = false;
+
+        double shortTermLatency = Math.max(1d, (double) sum / count);
+        longTermLatency = longTermLatency == 0d
+                ? shortTermLatency
+                : longTermLatency + (shortTermLatency - longTermLatency) / LONG_TERM_WINDOWS;
+        double gradient = Math.max(0.5, Math.min(1d, TOLERANCE * longTermLatency / shortTermLatency));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        if (!reached) {
+            // A limit which the load does not reach cannot be shown to be safe, so it is not raised
+            newLimit = Math.min(newLimit, estimatedLimit);
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit * (1d - SMOOTHING) + newLimit * SMOOTHING));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.orbits.service;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * A bulk calculation job managed by {@link HohmannTransferJobService}, which calculates all records of an input file
+ * with a {@link HohmannTransferFileProcessor}.
+ * <p>
+ * The parameters of a job are immutable; its state and progress are updated by the thread running the job
+ * and can be read from any thread.
+ */
+public class HohmannTransferJob {
+
+    /**
+     * The states of a job.
+     */
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    private final String id;
+    private final HohmannTransferType type;
+    private final Path input;
+    private final Path output;
+    private final boolean csv;
+    private final boolean distributed;
+    private final Instant submitted;
+    private volatile State state = State.QUEUED;
+    private volatile String error;
+    private volatile boolean cancelRequested;
+    private volatile HohmannTransferFileProcessor processor;
+
+    HohmannTransferJob(String id, HohmannTransferType type, Path input, Path output, boolean csv, boolean distributed,
+                       Instant submitted) {
+        this.id = id;
+        this.type = type;
+        this.input = input;
+        this.output = output;
+        this.csv = csv;
+        this.distributed = distributed;
+        this.submitted = submitted;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public HohmannTransferType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the input file of this job, which contains either binary input records or CSV records.
+     *
+     * @return The path of the input file.
+     */
+    public Path getInput() {
+        return input;
+    }
+
+    public Path getOutput() {
+        return output;
+    }
+
+    /**
+     * Checks whether the input file contains CSV records, which are converted to binary records before calculation.
+     *
+     * @return True if the input file is a CSV file, false if it contains binary records.
+     */
+    public boolean isCsv() {
+        return csv;
+    }
+
+    /**
+     * Checks whether the records of this job are calculated by the workers of {@link HohmannTransferClusterService}.
+     *
+     * @return True if the job is distributed, false if it is calculated locally.
+     */
+    public boolean isDistributed() {
+        return distributed;
+    }
+
+    public Instant getSubmitted() {
+        return submitted;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the reason of the failure of this job.
+     *
+     * @return The error message, or null if the job has not failed.
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Returns the number of input records, which is known once the job has started.
+     *
+     * @return The number of input records, or 0 if the job has not started yet.
+     */
+    public long getRecordCount() {
+        var processor = this.processor;
+        return processor != null ? processor.getRecordCount() : 0;
+    }
+
+    /**
+     * Returns the number of records which have been calculated and stored in a checkpoint.
+     *
+     * @return The number of completed records.
+     */
+    public long getCompletedRecords() {
+        var processor = this.processor;
+        return processor != null ? processor.getCompletedRecords() : 0;
+    }
+
+    boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    void requestCancel() {
+        cancelRequested = true;
+    }
+
+    void setState(State state) {
+        this.state = state;
+    }
+
+    void setError(String error) {
+        this.error = error;
+    }
+
+    void setProcessor(HohmannTransferFileProcessor processor) {
+        this.processor = processor;
+    }
+}
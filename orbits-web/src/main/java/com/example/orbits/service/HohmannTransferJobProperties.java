@@ -0,0 +1,35 @@
+package com.example.orbits.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration properties of {@link HohmannTransferJobService}.
+ */
+@Data
+@ConfigurationProperties(prefix = "orbits.jobs")
+public class HohmannTransferJobProperties {
+
+    /**
+     * The directory containing the input and output files of jobs. Paths of job files are resolved against
+     * this directory and must not point outside of it. Job descriptors and checkpoints are stored here as well.
+     */
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "orbits-jobs");
+
+    /**
+     * The number of records calculated at once by a single thread.
+     */
+    private int chunkSize = 1 << 16;
+
+    /**
+     * The number of chunks calculated in parallel between two checkpoints.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The maximum number of jobs running at the same time. Further jobs wait in a queue.
+     */
+    private int maxConcurrentJobs = 1;
+}
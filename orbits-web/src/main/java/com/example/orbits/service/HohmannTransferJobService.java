@@ -0,0 +1,329 @@
+package com.example.orbits.service;
+
+import com.example.orbits.service.HohmannTransferJob.State;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Runs bulk calculation jobs in the background. Each job calculates all records of an input file with
+ * a {@link HohmannTransferFileProcessor} and writes the results to an output file, both inside the configured
+ * {@linkplain HohmannTransferJobProperties#getDirectory() job directory}.
+ * <p>
+ * Input files contain either binary input records in the format described in
+ * {@link com.example.orbits.codec.HohmannTransferBinaryCodec}, or CSV records with the same fields. A CSV file
+ * is converted once into a binary file next to it (with the {@value #CONVERTED_SUFFIX} suffix), which is reused
+ * as long as it is newer than the CSV file.
+ * <p>
+ * Every job is described by a file in the {@value #DESCRIPTOR_DIRECTORY} subdirectory of the job directory.
+ * Jobs which were queued or running when the application stopped are resumed when it starts again, and continue
+ * from their last checkpoint. A cancelled or failed job can be resumed by submitting it again with the same files.
+ * Descriptors are replaced atomically, and a descriptor which cannot be read, e.g. because it was edited by hand,
+ * is skipped.
+ * <p>
+ * Distributed jobs send their chunks to the workers of {@link HohmannTransferClusterService} instead of calculating them
+ * on this machine, and use the chunk size and parallelism of the cluster.
+ */
+@Service
+public class HohmannTransferJobService {
+
+    static final String DESCRIPTOR_DIRECTORY = ".jobs";
+    static final String CONVERTED_SUFFIX = ".f64";
+
+    private final Path directory;
+    private final Path descriptors;
+    private final int chunkSize;
+    private final int parallelism;
+    private final HohmannTransferClusterService cluster;
+    private final Map<String, HohmannTransferJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private volatile boolean closed;
+
+    /**
+     * Creates the service, and resumes the jobs which have not been finished before the application stopped.
+     *
+     * @param properties the configuration of the service.
+     * @param cluster    the cluster calculating distributed jobs.
+     * @throws UncheckedIOException if the job directory cannot be created or read.
+     */
+    public HohmannTransferJobService(HohmannTransferJobProperties properties, HohmannTransferClusterService cluster) {
+        this.directory = properties.getDirectory().toAbsolutePath().normalize();
+        this.descriptors = directory.resolve(DESCRIPTOR_DIRECTORY);
+        this.chunkSize = properties.getChunkSize();
+        this.parallelism = properties.getParallelism();
+        this.cluster = cluster;
+        var threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getMaxConcurrentJobs()), runnable -> {
+            var thread = new Thread(runnable, "hohmann-transfer-job-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Files.createDirectories(descriptors);
+            resumeJobs();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read job directory " + directory, e);
+        }
+    }
+
+    /**
+     * Submits a job, which is started as soon as fewer than the maximum number of jobs are running.
+     *
+     * @param type        the type of transfers described by the input records.
+     * @param input       the path of the input file, relative to the job directory.
+     * @param output      the path of the output file, relative to the job directory.
+     * @param csv         whether the input file contains CSV records instead of binary records.
+     * @param distributed whether the records should be calculated by the workers of the cluster.
+     * @return The submitted job.
+     * @throws IllegalArgumentException if a path points outside of the job directory, the input file does not exist,
+     *                                  or the output file is the input file or is used by another unfinished job.
+     */
+    public HohmannTransferJob submit(HohmannTransferType type, String input, String output, boolean csv,
+                                     boolean distributed) {
+        Path inputPath = resolve(input);
+        Path outputPath = resolve(output);
+        if (!Files.isRegularFile(inputPath)) {
+            throw new IllegalArgumentException("Input file does not exist: " + input);
+        }
+        if (inputPath.equals(outputPath)) {
+            throw new IllegalArgumentException("Output file must be different from the input file");
+        }
+        var job = new HohmannTransferJob(UUID.randomUUID().toString(), type, inputPath, outputPath, csv, distributed,
+                Instant.now());
+        synchronized (jobs) {
+            if (jobs.values().stream().anyMatch(other -> other.getOutput().equals(outputPath) && !isFinished(other))) {
+                throw new IllegalArgumentException("Output file is used by another job: " + output);
+            }
+            jobs.put(job.getId(), job);
+        }
+        writeDescriptor(job);
+        executor.execute(() -> run(job));
+        return job;
+    }
+
+    /**
+     * Returns the job directory, which the paths of job files are relative to.
+     *
+     * @return The absolute path of the job directory.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public Optional<HohmannTransferJob> find(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * Returns all jobs known to this service, in the order of submission.
+     *
+     * @return All jobs.
+     */
+    public Collection<HohmannTransferJob> getJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(HohmannTransferJob::getSubmitted))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Cancels a job. A queued job is cancelled immediately; a running job stops after its current group of chunks,
+     * and keeps its last checkpoint.
+     *
+     * @param id the identifier of the job.
+     * @return The job, or an empty optional if there is no job with the given identifier.
+     */
+    public Optional<HohmannTransferJob> cancel(String id) {
+        var job = jobs.get(id);
+        if (job != null) {
+            synchronized (job) {
+                if (!isFinished(job)) {
+                    job.requestCancel();
+                    if (job.getState() == State.QUEUED) {
+                        finish(job, State.CANCELLED, null);
+                    }
+                }
+            }
+        }
+        return Optional.ofNullable(job);
+    }
+
+    /**
+     * Stops the running jobs after their current groups of chunks. They are not marked as cancelled,
+     * so they are resumed from their checkpoints when the application starts again.
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run(HohmannTransferJob job) {
+        if (closed) {
+            return;
+        }
+        synchronized (job) {
+            if (job.isCancelRequested()) {
+                finish(job, State.CANCELLED, null);
+                return;
+            }
+            job.setState(State.RUNNING);
+            writeDescriptor(job);
+        }
+        try {
+            var processor = job.isDistributed()
+                    ? new HohmannTransferFileProcessor(binaryInput(job), job.getOutput(), job.getType(),
+                    cluster.getChunkSize(), cluster.getParallelism(), cluster.calculator(job.getType()))
+                    : new HohmannTransferFileProcessor(binaryInput(job), job.getOutput(), job.getType(),
+                    chunkSize, parallelism);
+            job.setProcessor(processor);
+            if (processor.run(() -> job.isCancelRequested() || closed)) {
+                finish(job, State.COMPLETED, null);
+            } else if (job.isCancelRequested()) {
+                finish(job, State.CANCELLED, null);
+            }
+        } catch (IOException | RuntimeException e) {
+            finish(job, State.FAILED, e.getMessage() != null ? e.getMessage() : e.toString());
+        }
+    }
+
+    private void finish(HohmannTransferJob job, State state, String error) {
+        synchronized (job) {
+            job.setError(error);
+            job.setState(state);
+            writeDescriptor(job);
+        }
+    }
+
+    /**
+     * Returns the file of binary input records of a job, converting its CSV input file if necessary.
+     */
+    private static Path binaryInput(HohmannTransferJob job) throws IOException {
+        if (!job.isCsv()) {
+            return job.getInput();
+        }
+        Path converted = job.getInput().resolveSibling(job.getInput().getFileName() + CONVERTED_SUFFIX);
+        if (!Files.exists(converted)
+                || Files.getLastModifiedTime(converted).compareTo(Files.getLastModifiedTime(job.getInput())) < 0) {
+            HohmannTransferFileProcessor.convertCsv(job.getInput(), converted, job.getType());
+        }
+        return converted;
+    }
+
+    private static boolean isFinished(HohmannTransferJob job) {
+        var state = job.getState();
+        return state == State.COMPLETED || state == State.CANCELLED || state == State.FAILED;
+    }
+
+    private Path resolve(String path) {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("File path must not be empty");
+        }
+        Path resolved = directory.resolve(path).normalize();
+        if (!resolved.startsWith(directory) || resolved.startsWith(descriptors)) {
+            throw new IllegalArgumentException("File path must point inside the job directory: " + path);
+        }
+        return resolved;
+    }
+
+    private void resumeJobs() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(descriptors, "*.properties")) {
+            for (Path file : files) {
+                HohmannTransferJob job;
+                State state;
+                try {
+                    var properties = new Properties();
+                    try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                        properties.load(reader);
+                    }
+                    job = new HohmannTransferJob(required(properties, "id"),
+                            HohmannTransferType.valueOf(required(properties, "type")),
+                            resolve(required(properties, "input")),
+                            resolve(required(properties, "output")),
+                            Boolean.parseBoolean(properties.getProperty("csv")),
+                            Boolean.parseBoolean(properties.getProperty("distributed")),
+                            Instant.parse(required(properties, "submitted")));
+                    if (!file.getFileName().toString().equals(job.getId() + ".properties")) {
+                        throw new IllegalArgumentException("Descriptor does not match its file name");
+                    }
+                    state = State.valueOf(required(properties, "state"));
+                    job.setError(properties.getProperty("error"));
+                } catch (IOException | RuntimeException e) {
+                    // An unreadable descriptor must not prevent the other jobs from being resumed
+                    continue;
+                }
+                jobs.put(job.getId(), job);
+                if (state == State.QUEUED || state == State.RUNNING) {
+                    executor.execute(() -> run(job));
+                } else {
+                    job.setState(state);
+                }
+            }
+        }
+    }
+
+    private static String required(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Descriptor does not contain " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Writes the descriptor of a job to a temporary file, which then replaces the previous descriptor atomically.
+     * Writes are synchronized on the job, since it may be cancelled while its thread updates its state.
+     */
+    private void writeDescriptor(HohmannTransferJob job) {
+        synchronized (job) {
+            var properties = new Properties();
+            properties.setProperty("id", job.getId());
+            properties.setProperty("type", job.getType().name());
+            properties.setProperty("input", job.getInput().toString());
+            properties.setProperty("output", job.getOutput().toString());
+            properties.setProperty("csv", Boolean.toString(job.isCsv()));
+            properties.setProperty("distributed", Boolean.toString(job.isDistributed()));
+            properties.setProperty("submitted", job.getSubmitted().toString());
+            properties.setProperty("state", job.getState().name());
+            if (job.getError() != null) {
+                properties.setProperty("error", job.getError());
+            }
+            Path descriptor = descriptors.resolve(job.getId() + ".properties");
+            Path temporary = descriptors.resolve(job.getId() + ".properties.tmp");
+            try {
+                try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                    properties.store(writer, null);
+                }
+                Files.move(temporary, descriptor, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write descriptor of job " + job.getId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A service providing the {@linkplain HohmannTransferLaunchWindows launch window tables} of pairs of bodies.
+ * <p>
+ * The tables of all pairs of bodies in the catalog which orbit the same primary body are calculated once, at startup,
+ * so requests for catalog bodies never calculate them again. Tables of orbits given by their parameters are kept
+ * in a bounded cache configured like {@link HohmannTransferCache}.
+ */
+@Service
+public class HohmannTransferLaunchWindowService {
+
+    private final CelestialBodyCatalog catalog;
+    private final Map<String, Map<String, HohmannTransferLaunchWindows>> catalogWindows;
+    private final boolean cacheEnabled;
+    private final Cache<TransferKey, HohmannTransferLaunchWindows> cache;
+
+    /**
+     * Creates the service and calculates the launch windows of all pairs of bodies in the catalog.
+     *
+     * @param catalog         the catalog of celestial bodies.
+     * @param cacheProperties the configuration of the cache of launch windows of other orbits.
+     */
+    public HohmannTransferLaunchWindowService(CelestialBodyCatalog catalog, HohmannTransferCacheProperties cacheProperties) {
+        this.catalog = catalog;
+        this.catalogWindows = calculateCatalogWindows(catalog);
+        this.cacheEnabled = cacheProperties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .expireAfterWrite(cacheProperties.getExpireAfterWrite())
+                .build();
+    }
+
+    /**
+     * Returns the launch windows of transfers between two bodies from the catalog. Names are not case-sensitive.
+     *
+     * @param startingBody    the name of the body the transfers depart from.
+     * @param destinationBody the name of the body the transfers arrive at.
+     * @return The launch windows of transfers between the bodies.
+     * @throws UnknownCelestialBodyException if the catalog does not contain a body with either name.
+     * @throws IllegalStateException         if the bodies are the same, or they do not orbit the same primary body.
+     * @throws IllegalArgumentException      if the orbits of the bodies have the same radius.
+     */
+    public HohmannTransferLaunchWindows windows(String startingBody, String destinationBody) {
+        var start = catalog.get(startingBody);
+        var destination = catalog.get(destinationBody);
+        var windows = catalogWindows.getOrDefault(key(start), Map.of()).get(key(destination));
+        // Only valid pairs are precalculated; calculating any other pair throws the exception describing the problem
+        return windows != null ? windows : HohmannTransferLaunchWindows.of(start, destination);
+    }
+
+    /**
+     * Returns the launch windows of transfers between two circular orbits around the same primary body.
+     *
+     * @param primaryBodyMass        the mass of the primary body.
+     * @param startingOrbitRadius    the orbit radius of the starting body.
+     * @param destinationOrbitRadius the orbit radius of the destination body.
+     * @return The launch windows of transfers between the orbits.
+     * @throws IllegalArgumentException if any value is not finite and greater than 0, or the radii are equal.
+     */
+    public HohmannTransferLaunchWindows windows(double primaryBodyMass, double startingOrbitRadius, double destinationOrbitRadius) {
+        var key = new TransferKey(CelestialBody.standardGravitationalParameter(primaryBodyMass),
+                startingOrbitRadius, destinationOrbitRadius, 0d, 0d, 0d, 0d);
+        if (!cacheEnabled) {
+            return calculate(key);
+        }
+        return cache.get(key, HohmannTransferLaunchWindowService::calculate);
+    }
+
+    /**
+     * Returns the number of pairs of bodies in the catalog with precalculated launch windows.
+     *
+     * @return The number of precalculated pairs.
+     */
+    public int getCatalogPairCount() {
+        return catalogWindows.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private static HohmannTransferLaunchWindows calculate(TransferKey key) {
+        return HohmannTransferLaunchWindows.of(key.getMu(), key.getR1(), key.getR2());
+    }
+
+    private static Map<String, Map<String, HohmannTransferLaunchWindows>> calculateCatalogWindows(CelestialBodyCatalog catalog) {
+        Map<String, Map<String, HohmannTransferLaunchWindows>> windows = new HashMap<>();
+        for (var start : catalog.getBodies()) {
+            Map<String, HohmannTransferLaunchWindows> destinations = new HashMap<>();
+            for (var destination : catalog.getBodies()) {
+                if (start != destination && start.getOrbit() != null && destination.getOrbit() != null
+                        && start.getOrbit().getPrimaryBody() == destination.getOrbit().getPrimaryBody()
+                        && start.getOrbit().getRadius() != destination.getOrbit().getRadius()) {
+                    destinations.put(key(destination), HohmannTransferLaunchWindows.of(start, destination));
+                }
+            }
+            if (!destinations.isEmpty()) {
+                windows.put(key(start), Map.copyOf(destinations));
+            }
+        }
+        return Map.copyOf(windows);
+    }
+
+    private static String key(CelestialBody body) {
+        return body.getName().toLowerCase(Locale.ROOT);
+    }
+}
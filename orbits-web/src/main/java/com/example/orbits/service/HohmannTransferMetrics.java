@@ -0,0 +1,433 @@
+package com.example.orbits.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records metrics of Hohmann transfer calculations:
+ * <ul>
+ * <li>{@code orbits.transfer.calculations} - a counter of calculations, tagged with the transfer type;</li>
+ * <li>{@code orbits.transfer.calculation} - a timer of sampled calculations, tagged with the transfer type,
+ * with a percentile histogram;</li>
+ * <li>{@code orbits.transfer.rejections} - a counter of rejected requests, tagged with the cause of rejection;</li>
+ * <li>{@code orbits.batch.items} - a counter of processed batch items, tagged with the endpoint and the result,
+ * which is either {@code calculated} or the cause of rejecting the item; rejected items are not counted
+ * as rejected requests, since the batch itself is accepted;</li>
+ * <li>{@code orbits.sweep.points} - a counter of calculated sweep points, tagged with the endpoint;</li>
+ * <li>{@code orbits.trajectory.samples} - a counter of calculated trajectory samples, tagged with the endpoint;</li>
+ * <li>{@code orbits.coalescer.batch.size} - a distribution of the sizes of batches formed by {@link HohmannTransferCoalescer},
+ * tagged with the trigger which closed the batch ({@code size} or {@code delay}), with a percentile histogram
+ * up to the configured batch size, if the coalescer is enabled;</li>
+ * <li>{@code orbits.admission.limit} and {@code orbits.admission.in-flight} - gauges of the concurrency limit
+ * of {@link HohmannTransferAdmissionService} and of the requests it has admitted, if admission control is enabled.</li>
+ * </ul>
+ * All meters are registered up front, including the counters of every endpoint in {@link #BATCH_ENDPOINTS}
+ * and {@link #SAMPLING_ENDPOINTS}, so recording a value never registers a meter. Per-endpoint counters are found
+ * in maps which are not modified after construction.
+ * Since a calculation takes less time than reading the clock twice, only a random sample of calculations is timed,
+ * as configured by {@link HohmannTransferMetricsProperties#getTimingSampleInterval()}.
+ * When metrics are disabled, no meters are registered and all recording methods return immediately.
+ *
+ * @see HohmannTransferMetricsProperties
+ */
+@Component
+public class HohmannTransferMetrics {
+
+    /**
+     * Causes of rejecting Hohmann transfer input data.
+     */
+    public enum RejectionCause {
+
+        /**
+         * Some input values are out of their valid ranges.
+         */
+        INVALID_INPUT("invalid-input"),
+
+        /**
+         * The orbits do not meet the conditions described in {@link HohmannTransferCalculator}.
+         */
+        INCOMPATIBLE_ORBITS("incompatible-orbits"),
+
+        /**
+         * A celestial body is not in the catalog.
+         */
+        UNKNOWN_BODY("unknown-body"),
+
+        /**
+         * A batch item could not be parsed.
+         */
+        MALFORMED_INPUT("malformed-input"),
+
+        /**
+         * The client has requested more transfers than its quota allows.
+         */
+        QUOTA_EXCEEDED("quota-exceeded"),
+
+        /**
+         * The concurrency limit of {@link HohmannTransferAdmissionService} has been reached.
+         */
+        OVERLOADED("overloaded");
+
+        private final String tagValue;
+
+        RejectionCause(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        /**
+         * Determines the cause of rejection from an exception thrown while processing input data.
+         *
+         * @param e the exception thrown while processing input data.
+         * @return The cause of rejection.
+         */
+        public static RejectionCause of(RuntimeException e) {
+            if (e instanceof UnknownCelestialBodyException) {
+                return UNKNOWN_BODY;
+            } else if (e instanceof IllegalStateException) {
+                return INCOMPATIBLE_ORBITS;
+            } else {
+                return INVALID_INPUT;
+            }
+        }
+
+        /**
+         * Determines the cause of rejection from an error found by {@link HohmannTransferValidator}.
+         *
+         * @param code the code of the error.
+         * @return The cause of rejection.
+         */
+        public static RejectionCause of(HohmannTransferValidator.ErrorCode code) {
+            switch (code) {
+                case UNKNOWN_BODY:
+                    return UNKNOWN_BODY;
+                case INCOMPATIBLE_ORBITS:
+                    return INCOMPATIBLE_ORBITS;
+                default:
+                    return INVALID_INPUT;
+            }
+        }
+    }
+
+    /**
+     * The endpoints which process batches.
+     */
+    public static final List<String> BATCH_ENDPOINTS = List.of("simple", "interplanetary", "named");
+
+    /**
+     * The endpoints which calculate sweeps and trajectories.
+     */
+    public static final List<String> SAMPLING_ENDPOINTS = List.of("simple", "interplanetary");
+
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private final boolean enabled;
+    private final int timingSampleInterval;
+    private final MeterRegistry registry;
+    private final Counter[] calculationCounters;
+    private final Timer[] calculationTimers;
+    private final Counter[] rejectionCounters;
+    private final DistributionSummary fullBatchSizes;
+    private final DistributionSummary delayedBatchSizes;
+    private final Map<String, Counter[]> batchItemCounters;
+    private final Map<String, Counter> sweepPointCounters;
+    private final Map<String, Counter> trajectorySampleCounters;
+
+    /**
+     * Creates the metrics and registers all their meters, unless metrics are disabled.
+     *
+     * @param registry            the registry to register the meters with.
+     * @param properties          the configuration of the metrics.
+     * @param coalescerProperties the configuration of {@link HohmannTransferCoalescer}; the batch size distributions
+     *                            are only registered if the coalescer is enabled.
+     * @param cache               the cache to register the metrics of.
+     */
+    @Autowired
+    public HohmannTransferMetrics(MeterRegistry registry, HohmannTransferMetricsProperties properties,
+                                  HohmannTransferCoalescerProperties coalescerProperties, HohmannTransferCache cache) {
+        this.enabled = properties.isEnabled();
+        this.timingSampleInterval = Math.max(1, properties.getTimingSampleInterval());
+        this.registry = registry;
+        if (!enabled) {
+            this.calculationCounters = null;
+            this.calculationTimers = null;
+            this.rejectionCounters = null;
+            this.fullBatchSizes = null;
+            this.delayedBatchSizes = null;
+            this.batchItemCounters = null;
+            this.sweepPointCounters = null;
+            this.trajectorySampleCounters = null;
+            return;
+        }
+
+        var types = HohmannTransferType.values();
+        this.calculationCounters = new Counter[types.length];
+        this.calculationTimers = new Timer[types.length];
+        for (var type : types) {
+            calculationCounters[type.ordinal()] = Counter.builder("orbits.transfer.calculations")
+                    .description("Number of Hohmann transfer calculations")
+                    .tag("branch", type.getTagValue())
+                    .register(registry);
+            calculationTimers[type.ordinal()] = Timer.builder("orbits.transfer.calculation")
+                    .description("Duration of sampled Hohmann transfer calculations")
+                    .tag("branch", type.getTagValue())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(100L))
+                    .maximumExpectedValue(Duration.ofMillis(10L))
+                    .register(registry);
+        }
+        var causes = RejectionCause.values();
+        this.rejectionCounters = new Counter[causes.length];
+        for (var cause : causes) {
+            rejectionCounters[cause.ordinal()] = Counter.builder("orbits.transfer.rejections")
+                    .description("Number of rejected Hohmann transfer inputs")
+                    .tag("cause", cause.tagValue)
+                    .register(registry);
+        }
+        if (coalescerProperties.isEnabled()) {
+            int maxBatchSize = Math.max(1, coalescerProperties.getMaxBatchSize());
+            this.fullBatchSizes = coalescedBatchSizes("size", maxBatchSize, registry);
+            this.delayedBatchSizes = coalescedBatchSizes("delay", maxBatchSize, registry);
+        } else {
+            this.fullBatchSizes = null;
+            this.delayedBatchSizes = null;
+        }
+        this.batchItemCounters = new HashMap<>();
+        for (var endpoint : BATCH_ENDPOINTS) {
+            var counters = new Counter[causes.length + 1];
+            counters[0] = batchItemCounter(endpoint, "calculated", registry);
+            for (var cause : causes) {
+                counters[cause.ordinal() + 1] = batchItemCounter(endpoint, cause.tagValue, registry);
+            }
+            batchItemCounters.put(endpoint, counters);
+        }
+        this.sweepPointCounters = new HashMap<>();
+        this.trajectorySampleCounters = new HashMap<>();
+        for (var endpoint : SAMPLING_ENDPOINTS) {
+            sweepPointCounters.put(endpoint, Counter.builder("orbits.sweep.points")
+                    .description("Number of calculated sweep points")
+                    .tag("endpoint", endpoint)
+                    .register(registry));
+            trajectorySampleCounters.put(endpoint, Counter.builder("orbits.trajectory.samples")
+                    .description("Number of calculated trajectory samples")
+                    .tag("endpoint", endpoint)
+                    .register(registry));
+        }
+        cache.bindTo(registry);
+    }
+
+    private HohmannTransferMetrics() {
+        this.enabled = false;
+        this.timingSampleInterval = 1;
+        this.registry = null;
+        this.calculationCounters = null;
+        this.calculationTimers = null;
+        this.rejectionCounters = null;
+        this.fullBatchSizes = null;
+        this.delayedBatchSizes = null;
+        this.batchItemCounters = null;
+        this.sweepPointCounters = null;
+        this.trajectorySampleCounters = null;
+    }
+
+    /**
+     * Creates a metrics object which does not record anything.
+     *
+     * @return A disabled metrics object.
+     */
+    public static HohmannTransferMetrics disabled() {
+        return new HohmannTransferMetrics();
+    }
+
+    /**
+     * Returns whether metrics are recorded.
+     *
+     * @return {@code true} if metrics are recorded.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the start time of a measurement, to be passed to {@link #recordCalculation}.
+     * The clock is only read if the measurement is sampled.
+     *
+     * @return The current value of the high-resolution time source,
+     * or a special value if metrics are disabled or the measurement is not sampled.
+     */
+    public long startTime() {
+        if (!enabled || (timingSampleInterval > 1 && ThreadLocalRandom.current().nextInt(timingSampleInterval) != 0)) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a calculation which started at the given time.
+     *
+     * @param type      the type of the calculated Hohmann transfer.
+     * @param startTime the start time of the calculation, as returned by {@link #startTime}.
+     */
+    public void recordCalculation(HohmannTransferType type, long startTime) {
+        if (enabled) {
+            calculationCounters[type.ordinal()].increment();
+            if (startTime != NOT_SAMPLED) {
+                calculationTimers[type.ordinal()].record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Records a rejection of input data.
+     *
+     * @param cause the cause of the rejection.
+     */
+    public void recordRejection(RejectionCause cause) {
+        if (enabled) {
+            rejectionCounters[cause.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Records a calculated batch item.
+     *
+     * @param endpoint the name of the endpoint which processed the item, one of {@link #BATCH_ENDPOINTS}.
+     */
+    public void recordBatchItem(String endpoint) {
+        if (enabled) {
+            batchItemCounters(endpoint)[0].increment();
+        }
+    }
+
+    /**
+     * Records batch items which were calculated together, without timing them individually.
+     *
+     * @param endpoint the name of the endpoint which processed the items, one of {@link #BATCH_ENDPOINTS}.
+     * @param type     the type of the calculated Hohmann transfers.
+     * @param count    the number of calculated items.
+     */
+    public void recordBatchItems(String endpoint, HohmannTransferType type, int count) {
+        if (enabled) {
+            calculationCounters[type.ordinal()].increment(count);
+            batchItemCounters(endpoint)[0].increment(count);
+        }
+    }
+
+    /**
+     * Records a rejected batch item.
+     *
+     * @param endpoint the name of the endpoint which processed the item, one of {@link #BATCH_ENDPOINTS}.
+     * @param cause    the cause of the rejection.
+     */
+    public void recordRejectedBatchItem(String endpoint, RejectionCause cause) {
+        recordRejectedBatchItems(endpoint, cause, 1);
+    }
+
+    /**
+     * Records rejected batch items.
+     *
+     * @param endpoint the name of the endpoint which processed the items, one of {@link #BATCH_ENDPOINTS}.
+     * @param cause    the cause of the rejection.
+     * @param count    the number of rejected items.
+     */
+    public void recordRejectedBatchItems(String endpoint, RejectionCause cause, int count) {
+        if (enabled) {
+            batchItemCounters(endpoint)[cause.ordinal() + 1].increment(count);
+        }
+    }
+
+    private Counter[] batchItemCounters(String endpoint) {
+        return endpointMeter(batchItemCounters, endpoint);
+    }
+
+    private static Counter batchItemCounter(String endpoint, String result, MeterRegistry registry) {
+        return Counter.builder("orbits.batch.items")
+                .description("Number of processed batch items")
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Records calculated points of a parameter sweep.
+     *
+     * @param endpoint the name of the endpoint which calculated the points, one of {@link #SAMPLING_ENDPOINTS}.
+     * @param count    the number of calculated points.
+     */
+    public void recordSweepPoints(String endpoint, int count) {
+        if (enabled) {
+            endpointMeter(sweepPointCounters, endpoint).increment(count);
+        }
+    }
+
+    /**
+     * Records calculated samples of a transfer trajectory.
+     *
+     * @param endpoint the name of the endpoint which calculated the samples, one of {@link #SAMPLING_ENDPOINTS}.
+     * @param count    the number of calculated samples.
+     */
+    public void recordTrajectorySamples(String endpoint, int count) {
+        if (enabled) {
+            endpointMeter(trajectorySampleCounters, endpoint).increment(count);
+        }
+    }
+
+    private static <T> T endpointMeter(Map<String, T> meters, String endpoint) {
+        T meter = meters.get(endpoint);
+        if (meter == null) {
+            throw new IllegalArgumentException("Unknown endpoint " + endpoint);
+        }
+        return meter;
+    }
+
+    /**
+     * Records a batch of calculations formed by {@link HohmannTransferCoalescer}. Must only be called
+     * if the coalescer is enabled in the configuration these metrics were created with.
+     *
+     * @param size the number of calculations in the batch.
+     * @param full {@code true} if the batch was closed because it reached its maximum size,
+     *             {@code false} if it was closed because its maximum delay elapsed.
+     */
+    public void recordCoalescedBatch(int size, boolean full) {
+        if (enabled) {
+            (full ? fullBatchSizes : delayedBatchSizes).record(size);
+        }
+    }
+
+    /**
+     * Registers the gauges of {@link HohmannTransferAdmissionService}.
+     *
+     * @param admission the admission service to report the concurrency limit of.
+     */
+    public void bindAdmission(HohmannTransferAdmissionService admission) {
+        if (enabled) {
+            Gauge.builder("orbits.admission.limit", admission, HohmannTransferAdmissionService::getConcurrencyLimit)
+                    .description("Maximum number of admitted requests in flight")
+                    .register(registry);
+            Gauge.builder("orbits.admission.in-flight", admission, HohmannTransferAdmissionService::getInFlight)
+                    .description("Number of admitted requests in flight")
+                    .register(registry);
+        }
+    }
+
+    private static DistributionSummary coalescedBatchSizes(String trigger, int maxBatchSize, MeterRegistry registry) {
+        return DistributionSummary.builder("orbits.coalescer.batch.size")
+                .description("Number of calculations in coalesced batches")
+                .tag("trigger", trigger)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1L)
+                .maximumExpectedValue((long) maxBatchSize)
+                .register(registry);
+    }
+}
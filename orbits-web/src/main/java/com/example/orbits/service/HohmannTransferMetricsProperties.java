@@ -0,0 +1,23 @@
+package com.example.orbits.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of {@link HohmannTransferMetrics}.
+ */
+@Data
+@ConfigurationProperties(prefix = "orbits.metrics")
+public class HohmannTransferMetricsProperties {
+
+    /**
+     * Whether the calculation service should record metrics.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Only one in this many calculations is timed, to keep the cost of reading the clock off most calculations.
+     * All calculations are still counted.
+     */
+    private int timingSampleInterval = 1000;
+}
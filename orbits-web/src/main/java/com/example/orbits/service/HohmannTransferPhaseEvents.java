@@ -0,0 +1,99 @@
+package com.example.orbits.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events timing the phases of a request for a Hohmann transfer calculation:
+ * binding of the JSON input, building of the model, calculation and serialization of the JSON output.
+ * The events can be recorded by any JFR recording, e.g. one started with {@code jcmd <pid> JFR.start},
+ * or by {@link HohmannTransferProfiler}, which aggregates them into a per-phase latency breakdown.
+ * <p>
+ * An event is timed with {@link PhaseEvent#begin()} and {@link PhaseEvent#end(String)}.
+ * Until a recording enables the event, both methods are empty and the allocation of the event is eliminated
+ * by the JIT compiler, so instrumented code costs nothing while no recording is running.
+ */
+public final class HohmannTransferPhaseEvents {
+
+    /**
+     * The phases of a request, identified by the names of their events.
+     */
+    public enum Phase {
+        BINDING("binding", "com.example.orbits.Binding"),
+        MODEL("model", "com.example.orbits.ModelBuilding"),
+        CALCULATION("calculation", "com.example.orbits.Calculation"),
+        SERIALIZATION("serialization", "com.example.orbits.Serialization");
+
+        private final String label;
+        private final String eventName;
+
+        Phase(String label, String eventName) {
+            this.label = label;
+            this.eventName = eventName;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public String getEventName() {
+            return eventName;
+        }
+    }
+
+    /**
+     * The common structure of phase events.
+     */
+    @Category({"Orbits", "Request Phases"})
+    @StackTrace(false)
+    public abstract static class PhaseEvent extends Event {
+
+        @Label("Type")
+        @Description("The type of the input or output, or of the transfer")
+        String type;
+
+        /**
+         * Ends the timing of this event and commits it, if it is enabled and exceeds its threshold.
+         *
+         * @param type the type of the input or output, or of the transfer.
+         */
+        public final void end(String type) {
+            end();
+            if (shouldCommit()) {
+                this.type = type;
+                commit();
+            }
+        }
+    }
+
+    @Name("com.example.orbits.Binding")
+    @Label("Input Binding")
+    @Description("Reading of a JSON request body into an input object")
+    public static final class Binding extends PhaseEvent {
+    }
+
+    @Name("com.example.orbits.ModelBuilding")
+    @Label("Model Building")
+    @Description("Building of the celestial bodies and orbits of a transfer from an input object")
+    public static final class ModelBuilding extends PhaseEvent {
+    }
+
+    @Name("com.example.orbits.Calculation")
+    @Label("Calculation")
+    @Description("Calculation of a transfer, including the result cache")
+    public static final class Calculation extends PhaseEvent {
+    }
+
+    @Name("com.example.orbits.Serialization")
+    @Label("Output Serialization")
+    @Description("Writing of an output object as a JSON response body")
+    public static final class Serialization extends PhaseEvent {
+    }
+
+    private HohmannTransferPhaseEvents() {
+    }
+}
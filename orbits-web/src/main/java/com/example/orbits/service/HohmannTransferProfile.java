@@ -0,0 +1,39 @@
+package com.example.orbits.service;
+
+import com.example.orbits.service.HohmannTransferPhaseEvents.Phase;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The latency breakdown of requests by phase, aggregated from a recording of {@link HohmannTransferPhaseEvents}
+ * by {@link HohmannTransferProfiler}.
+ */
+@Value
+public class HohmannTransferProfile {
+
+    /**
+     * The latency statistics of a single phase, in nanoseconds.
+     */
+    @Value
+    public static class PhaseStatistics {
+
+        Phase phase;
+        long count;
+        double mean;
+        double max;
+
+        /**
+         * The approximate latencies at {@link HohmannTransferProfiler#PERCENTILES}, in the same order.
+         */
+        double[] percentiles;
+    }
+
+    Duration duration;
+
+    /**
+     * The statistics of every phase, in the order of {@link Phase}.
+     */
+    List<PhaseStatistics> phases;
+}
@@ -0,0 +1,205 @@
+package com.example.orbits.service;
+
+import com.example.orbits.service.HohmannTransferPhaseEvents.Phase;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Records {@link HohmannTransferPhaseEvents} with Java Flight Recorder for a bounded time, and aggregates them into
+ * the count, mean, maximum and percentiles of the latency of every phase, so that the time of slow requests
+ * can be attributed to a phase without attaching external tools.
+ * <p>
+ * Only the phase events are enabled, without a threshold, and the recording is limited
+ * to {@linkplain HohmannTransferProfilingProperties#getMaxDuration() a maximum duration} and
+ * {@linkplain HohmannTransferProfilingProperties#getMaxSize() size}. It is written to a temporary file, which is read
+ * event by event into {@link QuantileSketch}es and deleted, so the heap used does not grow with the number of events.
+ * Only one recording runs at a time. When the profiler is closed, a running recording is closed
+ * and its future is completed exceptionally.
+ *
+ * @see HohmannTransferProfilingProperties
+ */
+@Service
+public class HohmannTransferProfiler {
+
+    /**
+     * The percentiles of the latency reported for every phase.
+     */
+    public static final double[] PERCENTILES = {50d, 90d, 99d, 99.9};
+
+    private static final Map<String, Phase> PHASES = Arrays.stream(Phase.values())
+            .collect(Collectors.toMap(Phase::getEventName, Function.identity()));
+
+    private final HohmannTransferProfilingProperties properties;
+    /**
+     * The running recording, or null. Guarded by this profiler.
+     */
+    private Session session;
+    private boolean closed;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "hohmann-transfer-profiler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a profiler with the given configuration.
+     *
+     * @param properties the configuration of the profiler, which bounds the duration and size of recordings.
+     */
+    public HohmannTransferProfiler(HohmannTransferProfilingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Checks whether recordings may be requested through the API.
+     *
+     * @return True if profiling is enabled.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Starts a recording of the phase events.
+     *
+     * @param duration the duration of the recording.
+     * @return A future completed with the latency breakdown when the recording has ended.
+     * @throws IllegalArgumentException if the duration is not positive or exceeds the maximum duration.
+     * @throws IllegalStateException    if another recording is running, the profiler has been closed,
+     *                                  or Java Flight Recorder is not available.
+     */
+    public synchronized CompletableFuture<HohmannTransferProfile> record(Duration duration) {
+        if (duration == null || duration.isNegative() || duration.isZero() || duration.compareTo(properties.getMaxDuration()) > 0) {
+            throw new IllegalArgumentException("Duration must be positive and at most " + properties.getMaxDuration());
+        }
+        if (closed) {
+            throw new IllegalStateException("The profiler has been closed");
+        }
+        if (session != null) {
+            throw new IllegalStateException("A recording is already running");
+        }
+        var jfrRecording = new Recording();
+        try {
+            jfrRecording.setName("orbits-profile");
+            jfrRecording.setToDisk(true);
+            jfrRecording.setMaxSize(properties.getMaxSize().toBytes());
+            for (Phase phase : Phase.values()) {
+                jfrRecording.enable(phase.getEventName()).withoutThreshold();
+            }
+            jfrRecording.start();
+        } catch (RuntimeException e) {
+            jfrRecording.close();
+            throw e;
+        }
+        var started = new Session(jfrRecording, new CompletableFuture<>());
+        session = started;
+        scheduler.schedule(() -> finish(started, duration), duration.toNanos(), TimeUnit.NANOSECONDS);
+        return started.profile;
+    }
+
+    @PreDestroy
+    public void close() {
+        Session running;
+        synchronized (this) {
+            closed = true;
+            running = session;
+            session = null;
+        }
+        scheduler.shutdownNow();
+        if (running != null && running.claim()) {
+            running.recording.close();
+            running.profile.completeExceptionally(new IllegalStateException("The profiler has been closed"));
+        }
+    }
+
+    private void finish(Session finished, Duration duration) {
+        if (!finished.claim()) {
+            return;
+        }
+        try {
+            HohmannTransferProfile result;
+            try {
+                result = stop(finished.recording, duration);
+            } finally {
+                // The next recording may be started as soon as the future is completed
+                synchronized (this) {
+                    if (session == finished) {
+                        session = null;
+                    }
+                }
+            }
+            finished.profile.complete(result);
+        } catch (Throwable e) {
+            finished.profile.completeExceptionally(e);
+        }
+    }
+
+    private HohmannTransferProfile stop(Recording jfrRecording, Duration duration) throws IOException {
+        var sketches = new QuantileSketch[Phase.values().length];
+        for (int i = 0; i < sketches.length; i++) {
+            sketches[i] = new QuantileSketch(properties.getRelativeAccuracy());
+        }
+        Path file = Files.createTempFile("orbits-profile", ".jfr");
+        try (jfrRecording) {
+            jfrRecording.stop();
+            jfrRecording.dump(file);
+            try (var events = new RecordingFile(file)) {
+                while (events.hasMoreEvents()) {
+                    RecordedEvent event = events.readEvent();
+                    Phase phase = PHASES.get(event.getEventType().getName());
+                    if (phase != null) {
+                        sketches[phase.ordinal()].add(event.getDuration().toNanos());
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        List<HohmannTransferProfile.PhaseStatistics> phases = new ArrayList<>();
+        for (Phase phase : Phase.values()) {
+            var sketch = sketches[phase.ordinal()];
+            double[] percentiles = Arrays.stream(PERCENTILES).map(percentile -> sketch.quantile(percentile / 100d)).toArray();
+            phases.add(new HohmannTransferProfile.PhaseStatistics(phase, sketch.getCount(), sketch.getMean(), sketch.getMax(), percentiles));
+        }
+        return new HohmannTransferProfile(duration, phases);
+    }
+
+    /**
+     * A running recording and the future of its profile, which is either finished when the recording ends
+     * or abandoned when the profiler is closed, whichever claims it first.
+     */
+    private static final class Session {
+
+        private final Recording recording;
+        private final CompletableFuture<HohmannTransferProfile> profile;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        Session(Recording recording, CompletableFuture<HohmannTransferProfile> profile) {
+            this.recording = recording;
+            this.profile = profile;
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.orbits.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of {@link HohmannTransferProfiler}.
+ */
+@Data
+@ConfigurationProperties(prefix = "orbits.profiling")
+public class HohmannTransferProfilingProperties {
+
+    /**
+     * Whether recordings may be requested through {@code /profiling}. The endpoint is on the public port,
+     * so it is disabled by default.
+     */
+    private boolean enabled = false;
+
+    /**
+     * The longest recording which may be requested. The response to a request for a recording is only sent
+     * when the recording ends, so this should stay below the timeout of asynchronous requests
+     * ({@code spring.mvc.async.request-timeout}, 30 seconds on Tomcat by default).
+     */
+    private Duration maxDuration = Duration.ofSeconds(20L);
+
+    /**
+     * The maximum size of the recording on disk. When it is reached, the oldest events are discarded.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(64L);
+
+    /**
+     * The maximum relative error of the reported percentiles.
+     */
+    private double relativeAccuracy = 0.01;
+}
@@ -0,0 +1,142 @@
+package com.example.orbits.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client quotas of requested transfers, enforced with the generic cell rate algorithm (GCRA).
+ * It is equivalent to a token bucket which is refilled at a fixed rate and holds at most {@code burst} tokens.
+ * <p>
+ * Instead of a token count and the time of the last refill, the state of a client is a single number:
+ * the theoretical arrival time (TAT), at which its bucket will be full again. Taking tokens moves the TAT
+ * forward by the emission interval ({@code 1 / rate}) per token, in a single compare-and-set, so no locks are held.
+ * Client states are kept in a Caffeine cache, which is striped internally, and expire after their bucket is full again,
+ * because a fresh state is then equivalent.
+ * <p>
+ * A request is admitted if the bucket holds as many tokens as the request weighs, or is full if the request weighs
+ * more than the burst, and then its whole weight is taken. A large batch may therefore leave its client in debt,
+ * and further requests of the client are rejected until the debt has been repaid.
+ * <p>
+ * Weights are estimated from values supplied by clients, such as the length of a request body, so they may be
+ * arbitrarily large. A debt is therefore capped at {@link #MAX_DEBT_NANOS}, and a request weighing more than that
+ * is rejected, which also keeps all arithmetic on times within the range of {@code long}.
+ */
+final class HohmannTransferRateLimiter {
+
+    /**
+     * The longest time by which the TAT of a client may be ahead of the current time, about 73 years.
+     */
+    static final long MAX_DEBT_NANOS = Long.MAX_VALUE / 4L;
+
+    private final long emissionIntervalNanos;
+    private final long burst;
+    private final long capacityNanos;
+    private final Ticker ticker;
+    private final Cache<String, AtomicLong> clients;
+
+    /**
+     * Creates a rate limiter.
+     *
+     * @param rate       the number of tokens added to every bucket per second.
+     * @param burst      the capacity of every bucket.
+     * @param maxClients the maximum number of client states kept at a time.
+     * @param ticker     the source of time, in nanoseconds.
+     */
+    HohmannTransferRateLimiter(double rate, long burst, long maxClients, Ticker ticker) {
+        if (!(rate > 0d) || burst < 1L) {
+            throw new IllegalArgumentException("The rate and the burst must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1L, Math.round(1e9 / rate));
+        if (burst > MAX_DEBT_NANOS / emissionIntervalNanos) {
+            throw new IllegalArgumentException("The burst must not last longer than " + MAX_DEBT_NANOS + " ns");
+        }
+        this.burst = burst;
+        this.capacityNanos = burst * emissionIntervalNanos;
+        this.ticker = ticker;
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfter(new FullBucketExpiry())
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Takes tokens from the bucket of a client, if there are enough of them.
+     *
+     * @param client the identifier of the client.
+     * @param weight the number of tokens to take.
+     * @return 0 if the tokens were taken, otherwise the number of nanoseconds until there are enough of them,
+     * or {@link Long#MAX_VALUE} if the weight exceeds the maximum debt.
+     */
+    long tryAcquire(String client, long weight) {
+        if (weight > MAX_DEBT_NANOS / emissionIntervalNanos) {
+            return Long.MAX_VALUE;
+        }
+        long now = ticker.read();
+        var tat = clients.get(client, c -> new AtomicLong(now));
+        long requiredNanos = Math.min(weight, burst) * emissionIntervalNanos;
+        while (true) {
+            long current = tat.get();
+            long start = Math.max(current, now);
+            long waitNanos = start + requiredNanos - now - capacityNanos;
+            if (waitNanos > 0L) {
+                return waitNanos;
+            }
+            long next = start + Math.min(weight * emissionIntervalNanos, now + MAX_DEBT_NANOS - start);
+            if (tat.compareAndSet(current, next)) {
+                refreshExpiry(client, tat, next - now);
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Takes tokens from the bucket of a client unconditionally, possibly leaving the client in debt.
+     *
+     * @param client the identifier of the client.
+     * @param weight the number of tokens to take.
+     */
+    void charge(String client, long weight) {
+        if (weight <= 0L) {
+            return;
+        }
+        long weightNanos = Math.min(weight, MAX_DEBT_NANOS / emissionIntervalNanos) * emissionIntervalNanos;
+        long now = ticker.read();
+        var tat = clients.get(client, c -> new AtomicLong(now));
+        long next = tat.accumulateAndGet(now, (current, time) -> {
+            long start = Math.max(current, time);
+            return start + Math.min(weightNanos, time + MAX_DEBT_NANOS - start);
+        });
+        refreshExpiry(client, tat, next - now);
+    }
+
+    private void refreshExpiry(String client, AtomicLong tat, long remainingNanos) {
+        // The expiry set when the state was read lasts for at least the capacity of the bucket,
+        // so it only has to be extended when the client was left in debt
+        if (remainingNanos > capacityNanos) {
+            clients.put(client, tat);
+        }
+    }
+
+    private final class FullBucketExpiry implements Expiry<String, AtomicLong> {
+
+        @Override
+        public long expireAfterCreate(String client, AtomicLong tat, long currentTime) {
+            return Math.max(tat.get() - currentTime, 0L) + capacityNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String client, AtomicLong tat, long currentTime, long currentDuration) {
+            return expireAfterCreate(client, tat, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String client, AtomicLong tat, long currentTime, long currentDuration) {
+            return expireAfterCreate(client, tat, currentTime);
+        }
+    }
+}
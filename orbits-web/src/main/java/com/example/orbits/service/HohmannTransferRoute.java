@@ -0,0 +1,47 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.HohmannTransfer;
+import com.example.orbits.model.Orbit;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * The cheapest route of chained Hohmann transfers between two orbits, as found by {@link HohmannTransferRouteService}.
+ */
+@Value
+public class HohmannTransferRoute {
+
+    /**
+     * The identifiers of all orbits of the route, including the starting and destination orbits.
+     */
+    List<Integer> orbitIds;
+
+    /**
+     * All orbits of the route, including the starting and destination orbits.
+     */
+    List<Orbit> orbits;
+
+    /**
+     * The transfers between consecutive orbits of the route.
+     */
+    List<HohmannTransfer> legs;
+
+    /**
+     * Returns the total delta-V needed for all transfers of the route.
+     *
+     * @return The total delta-V of the route.
+     */
+    public double getTotalDeltaV() {
+        return legs.stream().mapToDouble(HohmannTransfer::getTotalDeltaV).sum();
+    }
+
+    /**
+     * Returns the total duration of all transfers of the route.
+     *
+     * @return The duration of the route.
+     */
+    public double getTransferTime() {
+        return legs.stream().mapToDouble(HohmannTransfer::getTransferTime).sum();
+    }
+}
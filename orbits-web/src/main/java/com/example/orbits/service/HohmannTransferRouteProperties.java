@@ -0,0 +1,18 @@
+package com.example.orbits.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of {@link HohmannTransferRouteService}.
+ */
+@Data
+@ConfigurationProperties(prefix = "orbits.routes")
+public class HohmannTransferRouteProperties {
+
+    /**
+     * The maximum number of orbits in the route graph. The memory needed by the graph grows with the square
+     * of the number of orbits, by about 24 bytes per pair. It cannot exceed {@link HohmannTransferRoutePlanner#MAX_ORBITS}.
+     */
+    private int maxOrbits = 2048;
+}
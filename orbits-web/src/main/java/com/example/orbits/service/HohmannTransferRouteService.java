@@ -0,0 +1,120 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.HohmannTransfer;
+import com.example.orbits.model.Orbit;
+import com.example.orbits.service.HohmannTransferRoutePlanner.Cost;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * A service which plans routes of chained Hohmann transfers through a shared graph of orbits around bodies
+ * from the catalog. The graph keeps a {@link HohmannTransferRoutePlanner} for every {@linkplain Cost cost},
+ * so routes minimizing either cost are answered without any search.
+ * <p>
+ * Orbits are added one at a time and identified by consecutive numbers. Queries run concurrently with each other,
+ * and wait only while an orbit is being added.
+ */
+@Service
+public class HohmannTransferRouteService {
+
+    private final CelestialBodyCatalog catalog;
+    private final int maxOrbits;
+    private final Map<Cost, HohmannTransferRoutePlanner> planners = new EnumMap<>(Cost.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public HohmannTransferRouteService(CelestialBodyCatalog catalog, HohmannTransferRouteProperties properties) {
+        this.catalog = catalog;
+        if (properties.getMaxOrbits() > HohmannTransferRoutePlanner.MAX_ORBITS) {
+            throw new IllegalArgumentException("Route graph cannot contain more than "
+                    + HohmannTransferRoutePlanner.MAX_ORBITS + " orbits");
+        }
+        this.maxOrbits = properties.getMaxOrbits();
+        for (var cost : Cost.values()) {
+            planners.put(cost, new HohmannTransferRoutePlanner(cost));
+        }
+    }
+
+    /**
+     * Adds an orbit around a body from the catalog to the graph.
+     *
+     * @param body   the name of the primary body of the orbit.
+     * @param radius the radius of the orbit.
+     * @return The identifier of the added orbit.
+     * @throws UnknownCelestialBodyException if the catalog does not contain a body with the given name.
+     * @throws IllegalArgumentException      if the radius is not greater than 0, or the graph is full.
+     */
+    public int addOrbit(String body, double radius) {
+        var orbit = new Orbit(radius, catalog.get(body));
+        lock.writeLock().lock();
+        try {
+            int id = planners.get(Cost.DELTA_V).size();
+            if (id >= maxOrbits) {
+                throw new IllegalArgumentException("Route graph already contains " + maxOrbits + " orbits");
+            }
+            planners.values().forEach(planner -> planner.add(orbit));
+            return id;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns all orbits of the graph, in the order of their identifiers.
+     *
+     * @return The orbits of the graph.
+     */
+    public List<Orbit> getOrbits() {
+        lock.readLock().lock();
+        try {
+            var planner = planners.get(Cost.DELTA_V);
+            List<Orbit> orbits = new ArrayList<>(planner.size());
+            for (int i = 0; i < planner.size(); i++) {
+                orbits.add(planner.getOrbit(i));
+            }
+            return orbits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the cheapest route between two orbits of the graph.
+     *
+     * @param from the identifier of the starting orbit.
+     * @param to   the identifier of the destination orbit.
+     * @param cost the quantity minimized by the route.
+     * @return The cheapest route, or an empty optional if the destination orbit cannot be reached.
+     * @throws IndexOutOfBoundsException if there is no orbit with either identifier.
+     */
+    public Optional<HohmannTransferRoute> route(int from, int to, Cost cost) {
+        int[] ids;
+        List<Orbit> orbits;
+        lock.readLock().lock();
+        try {
+            var planner = planners.get(cost);
+            ids = planner.route(from, to);
+            orbits = Arrays.stream(ids).mapToObj(planner::getOrbit).collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (ids.length == 0) {
+            return Optional.empty();
+        }
+        List<HohmannTransfer> legs = new ArrayList<>(ids.length - 1);
+        for (int i = 1; i < orbits.size(); i++) {
+            legs.add(HohmannTransferRoutePlanner.calculateLeg(orbits.get(i - 1), orbits.get(i)));
+        }
+        return Optional.of(new HohmannTransferRoute(
+                Arrays.stream(ids).boxed().collect(Collectors.toUnmodifiableList()),
+                List.copyOf(orbits), List.copyOf(legs)));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.HohmannTransfer;
+import com.example.orbits.model.Orbit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * A stateless service which provides Hohmann transfer calculations to the rest of the application.
+ * Unlike {@link HohmannTransferCalculator} instances, this service keeps no per-calculation state,
+ * so a single instance can be shared between all concurrently handled requests.
+ * <p>
+ * Calculation results are stored in a {@link HohmannTransferCache}, unless the cache is disabled
+ * or bypassed for a particular calculation. The duration of every calculation is recorded
+ * in {@link HohmannTransferMetrics}.
+ * <p>
+ * When the {@link HohmannTransferCoalescer} is enabled, calculations which miss the cache are coalesced
+ * with concurrent calculations from other threads and calculated in batches.
+ */
+@Service
+public class HohmannTransferService {
+
+    private final HohmannTransferCache cache;
+    private final HohmannTransferCoalescer coalescer;
+    private final HohmannTransferMetrics metrics;
+
+    /**
+     * Creates a service which calculates every transfer in the calling thread.
+     *
+     * @param cache   the result cache.
+     * @param metrics the metrics to record calculations in.
+     */
+    public HohmannTransferService(HohmannTransferCache cache, HohmannTransferMetrics metrics) {
+        this(cache, null, metrics);
+    }
+
+    /**
+     * Creates a service which coalesces concurrent calculations, if the given coalescer is enabled.
+     *
+     * @param cache     the result cache.
+     * @param coalescer the coalescer of concurrent calculations, or null to calculate every transfer in the calling thread.
+     * @param metrics   the metrics to record calculations in.
+     */
+    @Autowired
+    public HohmannTransferService(HohmannTransferCache cache, HohmannTransferCoalescer coalescer, HohmannTransferMetrics metrics) {
+        this.cache = cache;
+        this.coalescer = coalescer != null && coalescer.isEnabled() ? coalescer : null;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Calculates the parameters of the Hohmann transfer defined by the given starting and destination orbits.
+     *
+     * @param startingOrbit    the starting orbit of the Hohmann transfer.
+     * @param destinationOrbit the destination orbit of the Hohmann transfer.
+     * @return Calculated parameters of the Hohmann transfer.
+     * @throws IllegalStateException if the orbits do not meet the conditions described in {@link HohmannTransferCalculator}.
+     * @see HohmannTransferCalculator#calculateTransfer
+     */
+    public HohmannTransfer calculate(Orbit startingOrbit, Orbit destinationOrbit) {
+        return calculate(startingOrbit, destinationOrbit, true);
+    }
+
+    /**
+     * Calculates the parameters of the Hohmann transfer defined by the given starting and destination orbits,
+     * optionally bypassing the cache.
+     *
+     * @param startingOrbit    the starting orbit of the Hohmann transfer.
+     * @param destinationOrbit the destination orbit of the Hohmann transfer.
+     * @param useCache         whether a cached result may be returned, and the calculated result stored in the cache.
+     * @return Calculated parameters of the Hohmann transfer.
+     * @throws IllegalStateException if the orbits do not meet the conditions described in {@link HohmannTransferCalculator}.
+     */
+    public HohmannTransfer calculate(Orbit startingOrbit, Orbit destinationOrbit, boolean useCache) {
+        long startTime = metrics.startTime();
+        var type = HohmannTransferCalculator.classify(startingOrbit, destinationOrbit);
+        HohmannTransfer transfer;
+        if (!useCache || !cache.isEnabled()) {
+            transfer = calculate(type, startingOrbit, destinationOrbit);
+        } else if (coalescer != null) {
+            // The coalescer waits for other calculations, which must not happen inside the cache loader,
+            // since the loader blocks other lookups of the same hash bin
+            var key = TransferKey.of(type, startingOrbit, destinationOrbit);
+            transfer = cache.getIfPresent(key);
+            if (transfer == null) {
+                transfer = coalescer.calculate(type, startingOrbit, destinationOrbit);
+                cache.put(key, transfer);
+            }
+        } else {
+            transfer = cache.get(TransferKey.of(type, startingOrbit, destinationOrbit),
+                    key -> HohmannTransferCalculator.calculateTransfer(type, startingOrbit, destinationOrbit));
+        }
+        metrics.recordCalculation(type, startTime);
+        return transfer;
+    }
+
+    private HohmannTransfer calculate(HohmannTransferType type, Orbit startingOrbit, Orbit destinationOrbit) {
+        if (coalescer != null) {
+            return coalescer.calculate(type, startingOrbit, destinationOrbit);
+        }
+        return HohmannTransferCalculator.calculateTransfer(type, startingOrbit, destinationOrbit);
+    }
+}
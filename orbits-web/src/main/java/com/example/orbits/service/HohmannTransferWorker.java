@@ -0,0 +1,148 @@
+package com.example.orbits.service;
+
+import java.net.URI;
+import java.time.Instant;
+
+/**
+ * An instance of the application which calculates chunks of distributed jobs for {@link HohmannTransferClusterService},
+ * through its binary batch endpoints.
+ * <p>
+ * Besides its address, a worker keeps statistics of the chunks dispatched to it. Its throughput is the number of records
+ * it has calculated per second of the time in which it had at least one chunk in flight, so it is not diluted
+ * by the time the worker spent idle. The statistics are updated as chunks complete and can be read from any thread.
+ */
+public class HohmannTransferWorker {
+
+    private final String id;
+    private final URI url;
+    private final Instant registered;
+    private int inFlight;
+    private long chunks;
+    private long records;
+    private long failures;
+    private long activeNanos;
+    private long activeSince;
+    private long unavailableUntil;
+    private String lastError;
+
+    HohmannTransferWorker(String id, URI url, Instant registered) {
+        this.id = id;
+        this.url = url;
+        this.registered = registered;
+        this.unavailableUntil = System.nanoTime();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the base URL of this worker, which the paths of the batch endpoints are resolved against.
+     *
+     * @return The base URL.
+     */
+    public URI getUrl() {
+        return url;
+    }
+
+    public Instant getRegistered() {
+        return registered;
+    }
+
+    /**
+     * Returns the number of chunks dispatched to this worker and not answered yet.
+     *
+     * @return The number of chunks in flight.
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Returns the number of chunks this worker has calculated, including chunks whose results arrived
+     * after another worker had already calculated them.
+     *
+     * @return The number of calculated chunks.
+     */
+    public synchronized long getChunks() {
+        return chunks;
+    }
+
+    /**
+     * Returns the number of records this worker has calculated.
+     *
+     * @return The number of calculated records.
+     */
+    public synchronized long getRecords() {
+        return records;
+    }
+
+    /**
+     * Returns the number of chunks this worker has failed to calculate, because of an error response,
+     * a connection failure or a timeout.
+     *
+     * @return The number of failed chunks.
+     */
+    public synchronized long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns the reason of the last failure of this worker.
+     *
+     * @return The error message, or null if the worker has not failed.
+     */
+    public synchronized String getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Returns the number of records this worker has calculated per second in which it had chunks in flight.
+     *
+     * @return The throughput in records per second, or 0 if the worker has not calculated any records yet.
+     */
+    public synchronized double getThroughput() {
+        long active = activeNanos + (inFlight > 0 ? System.nanoTime() - activeSince : 0L);
+        return active > 0L ? records * 1e9 / active : 0d;
+    }
+
+    /**
+     * Checks whether this worker may be dispatched another chunk.
+     *
+     * @param maxInFlight the maximum number of chunks in flight.
+     * @param now         the current {@linkplain System#nanoTime() time}.
+     * @return True if the worker has not failed recently and has fewer than the maximum number of chunks in flight.
+     */
+    synchronized boolean isAvailable(int maxInFlight, long now) {
+        return inFlight < maxInFlight && now - unavailableUntil >= 0L;
+    }
+
+    synchronized void dispatched(long now) {
+        if (inFlight++ == 0) {
+            activeSince = now;
+        }
+    }
+
+    synchronized void completed(long chunkRecords, long now) {
+        chunks++;
+        records += chunkRecords;
+        answered(now);
+    }
+
+    synchronized void failed(String error, long backoffNanos, long now) {
+        failures++;
+        lastError = error;
+        unavailableUntil = now + backoffNanos;
+        answered(now);
+    }
+
+    synchronized void cancelled(long now) {
+        answered(now);
+    }
+
+    private void answered(long now) {
+        if (--inFlight == 0) {
+            activeNanos += now - activeSince;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.Orbit;
+import lombok.Value;
+
+/**
+ * A canonical representation of Hohmann transfer input data, used as a key of {@link HohmannTransferCache}.
+ * <p>
+ * Unlike {@link Orbit} and {@link com.example.orbits.model.CelestialBody}, a key only consists of the values
+ * which affect the calculation results: standard gravitational parameters and orbit radii.
+ * Keys of transfers between orbits around the same primary body have all planet values equal to 0.
+ */
+@Value
+class TransferKey {
+
+    double mu;
+    double r1;
+    double r2;
+    double planetR1;
+    double planetR2;
+    double planetMu1;
+    double planetMu2;
+
+    /**
+     * Creates a key for the Hohmann transfer between the given orbits.
+     *
+     * @param type             the type of the Hohmann transfer, as returned by {@link HohmannTransferCalculator#classify}.
+     * @param startingOrbit    the starting orbit of the Hohmann transfer.
+     * @param destinationOrbit the destination orbit of the Hohmann transfer.
+     * @return The key of the Hohmann transfer.
+     */
+    static TransferKey of(HohmannTransferType type, Orbit startingOrbit, Orbit destinationOrbit) {
+        if (type == HohmannTransferType.SAME_BODY) {
+            return new TransferKey(startingOrbit.getStandardGravitationalParameter(),
+                    startingOrbit.getRadius(), destinationOrbit.getRadius(), 0d, 0d, 0d, 0d);
+        }
+        var startingPlanet = startingOrbit.getPrimaryBody();
+        var destinationPlanet = destinationOrbit.getPrimaryBody();
+        return new TransferKey(startingPlanet.getOrbit().getStandardGravitationalParameter(),
+                startingOrbit.getRadius(), destinationOrbit.getRadius(),
+                startingPlanet.getOrbit().getRadius(), destinationPlanet.getOrbit().getRadius(),
+                startingPlanet.getStandardGravitationalParameter(), destinationPlanet.getStandardGravitationalParameter());
+    }
+}
@@ -0,0 +1,503 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.service.HohmannTransferKernel;
+import com.example.orbits.service.HohmannTransferProfilingProperties;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class HohmannTransferAPIControllerTest {
+
+    private static final String SIMPLE_INPUT =
+            "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 1.496e11, \"destinationOrbitRadius\": 2.289e11}";
+    private static final String INVALID_SIMPLE_INPUT =
+            "{\"primaryBodyMass\": -1, \"startingOrbitRadius\": 1.496e11, \"destinationOrbitRadius\": 2.289e11}";
+    private static final String INTERPLANETARY_INPUT =
+            "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 6.671e6, \"destinationOrbitRadius\": 3.69e6,"
+                    + " \"startingPlanetMass\": 5.972e24, \"startingPlanetOrbitRadius\": 1.496e11,"
+                    + " \"destinationPlanetMass\": 6.417e23, \"destinationPlanetOrbitRadius\": 2.289e11}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HohmannTransferProfilingProperties profilingProperties;
+
+    @Test
+    void testSimpleHohmannTransfer() throws Exception {
+        mockMvc.perform(post("/simple").contentType(MediaType.APPLICATION_JSON).content(SIMPLE_INPUT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalDeltaV", closeTo(5642d, 2d)));
+    }
+
+    @Test
+    void testSimpleHohmannTransferWithInvalidInput() throws Exception {
+        mockMvc.perform(post("/simple").contentType(MediaType.APPLICATION_JSON).content(INVALID_SIMPLE_INPUT))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].field").value("primaryBodyMass"))
+                .andExpect(jsonPath("$.errors[0].code").value("not-positive"));
+        String content = "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 0, \"destinationOrbitRadius\": -2.289e11}";
+        mockMvc.perform(post("/simple").contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON, MediaType.parseMediaType(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE)).content(content))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.errors[*].field", contains("startingOrbitRadius", "destinationOrbitRadius")));
+    }
+
+    @Test
+    void testInterplanetaryHohmannTransfer() throws Exception {
+        mockMvc.perform(post("/interplanetary").contentType(MediaType.APPLICATION_JSON).content(INTERPLANETARY_INPUT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalDeltaV", closeTo(5700d, 2d)));
+    }
+
+    @Test
+    void testSimpleHohmannTransferBatchWithJsonArray() throws Exception {
+        String content = "[" + SIMPLE_INPUT + "," + INVALID_SIMPLE_INPUT + ", 42, " + SIMPLE_INPUT + "]";
+        mockMvc.perform(post("/simple/batch").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[0].totalDeltaV", closeTo(5642d, 2d)))
+                .andExpect(jsonPath("$[1].error").value(HohmannTransferBatchStreamer.INVALID_ITEM_MESSAGE))
+                .andExpect(jsonPath("$[1].errors[0].field").value("primaryBodyMass"))
+                .andExpect(jsonPath("$[1].errors[0].code").value("not-positive"))
+                .andExpect(jsonPath("$[2].error").value(HohmannTransferBatchStreamer.MALFORMED_ITEM_MESSAGE))
+                .andExpect(jsonPath("$[2].errors").doesNotExist())
+                .andExpect(jsonPath("$[3].totalDeltaV", closeTo(5642d, 2d)));
+    }
+
+    @Test
+    void testSimpleHohmannTransferBatchWithMalformedInput() throws Exception {
+        String content = "[" + SIMPLE_INPUT + ", {\"primaryBodyMass\": ";
+        mockMvc.perform(post("/simple/batch").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].totalDeltaV", closeTo(5642d, 2d)))
+                .andExpect(jsonPath("$[1].error").value(HohmannTransferBatchStreamer.MALFORMED_INPUT_MESSAGE));
+    }
+
+    @Test
+    void testInterplanetaryHohmannTransferBatchWithNdjson() throws Exception {
+        String content = INTERPLANETARY_INPUT + "\n" + INVALID_SIMPLE_INPUT + "\n" + INTERPLANETARY_INPUT + "\n";
+        String ndjson = HohmannTransferBatchStreamer.APPLICATION_NDJSON_VALUE;
+        mockMvc.perform(post("/interplanetary/batch").contentType(ndjson).content(content))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ndjson))
+                .andExpect(content().string(matchesPattern(
+                        "\\{\"transferTime\":.*}\n\\{\"error\":\"Input parameters are invalid\",\"errors\":\\[.*]}\n\\{\"transferTime\":.*}\n")));
+    }
+
+    @Test
+    void testSimpleHohmannTransferInBinaryFormat() throws Exception {
+        var input = ByteBuffer.allocate(HohmannTransferBinaryCodec.SIMPLE_INPUT_SIZE);
+        HohmannTransferBinaryCodec.writeRecord(input, 1.988e30, 1.496e11, 2.289e11);
+        byte[] output = mockMvc.perform(post("/simple").contentType(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE)
+                .accept(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE).content(input.array()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+        double[] values = new double[HohmannTransferBinaryCodec.OUTPUT_FIELDS];
+        HohmannTransferBinaryCodec.readRecord(ByteBuffer.wrap(output), values);
+        assertEquals(5642d, values[HohmannTransferBinaryCodec.TOTAL_DELTA_V], 2d);
+
+        mockMvc.perform(post("/simple").contentType(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE).content(new byte[10]))
+                .andExpect(status().isBadRequest());
+        input.clear();
+        HohmannTransferBinaryCodec.writeRecord(input, 1.988e30, 1.496e11, Double.POSITIVE_INFINITY);
+        mockMvc.perform(post("/simple").contentType(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE).content(input.array()))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/simple").contentType(MediaType.APPLICATION_JSON).content(SIMPLE_INPUT))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void testInterplanetaryHohmannTransferBatchInBinaryFormat() throws Exception {
+        int count = 3000;
+        var input = ByteBuffer.allocate(count * HohmannTransferBinaryCodec.INTERPLANETARY_INPUT_SIZE + 5);
+        for (int i = 0; i < count; i++) {
+            double destinationOrbitRadius = i == 1 ? -1 : i == 2 ? Double.POSITIVE_INFINITY : 3.69e6 + i;
+            HohmannTransferBinaryCodec.writeRecord(input, 1.988e30, 6.671e6, destinationOrbitRadius,
+                    5.972e24, 1.496e11, 6.417e23, 2.289e11);
+        }
+        byte[] output = mockMvc.perform(post("/interplanetary/batch").contentType(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE)
+                .content(input.array()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(count * HohmannTransferBinaryCodec.OUTPUT_SIZE, output.length);
+        double[][] results = new double[HohmannTransferBinaryCodec.OUTPUT_FIELDS][count];
+        HohmannTransferBinaryCodec.readRecords(ByteBuffer.wrap(output), results, 0, count);
+
+        String json = mockMvc.perform(post("/interplanetary").contentType(MediaType.APPLICATION_JSON).content(INTERPLANETARY_INPUT))
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(((Number) JsonPath.read(json, "$.totalDeltaV")).doubleValue(), results[HohmannTransferBinaryCodec.TOTAL_DELTA_V][0]);
+        assertEquals(((Number) JsonPath.read(json, "$.transferTime")).doubleValue(), results[HohmannTransferBinaryCodec.TRANSFER_TIME][0]);
+        assertTrue(Double.isNaN(results[HohmannTransferBinaryCodec.TOTAL_DELTA_V][1]));
+        assertTrue(Double.isNaN(results[HohmannTransferBinaryCodec.TOTAL_DELTA_V][2]));
+        assertEquals(5700d, results[HohmannTransferBinaryCodec.TOTAL_DELTA_V][count - 1], 2d);
+    }
+
+    @Test
+    void testSimpleHohmannTransferSweepAsCsv() throws Exception {
+        String content = "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 1.496e11,"
+                + " \"destinationOrbitRadius\": {\"from\": 2.289e11, \"to\": 4.578e11, \"steps\": 3}}";
+        String csv = mockMvc.perform(post("/simple/sweep").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(HohmannTransferSweepWriter.TEXT_CSV_VALUE))
+                .andExpect(header().string(HohmannTransferSweepWriter.SHAPE_HEADER, "1,1,3"))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = csv.split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("destinationOrbitRadius,transferTime,totalDeltaV", lines[0]);
+        assertEquals(2.289e11, Double.parseDouble(lines[1].split(",")[0]));
+        assertEquals(5642d, Double.parseDouble(lines[1].split(",")[2]), 2d);
+        assertEquals(4.578e11, Double.parseDouble(lines[3].split(",")[0]));
+    }
+
+    @Test
+    void testInterplanetaryHohmannTransferSweepAsBinary() throws Exception {
+        String content = "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": {\"from\": 6.671e6, \"to\": 7e6, \"steps\": 4},"
+                + " \"destinationOrbitRadius\": {\"from\": 3.69e6, \"to\": 4e6, \"steps\": 5},"
+                + " \"startingPlanetMass\": 5.972e24, \"startingPlanetOrbitRadius\": 1.496e11,"
+                + " \"destinationPlanetMass\": 6.417e23, \"destinationPlanetOrbitRadius\": 2.289e11}";
+        byte[] matrix = mockMvc.perform(post("/interplanetary/sweep").contentType(MediaType.APPLICATION_JSON).content(content)
+                .accept(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(header().string(HohmannTransferSweepWriter.SHAPE_HEADER, "1,1,1,1,1,4,5"))
+                .andExpect(header().string(HohmannTransferSweepWriter.COLUMNS_HEADER, "transferTime,totalDeltaV"))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(20 * 2 * Double.BYTES, matrix.length);
+        var values = ByteBuffer.wrap(matrix).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(5700d, values.getDouble(Double.BYTES), 2d);
+    }
+
+    @Test
+    void testHohmannTransferSweepWithInvalidRange() throws Exception {
+        String content = "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": {\"from\": -1, \"to\": 1e11, \"steps\": 10},"
+                + " \"destinationOrbitRadius\": 2.289e11}";
+        mockMvc.perform(post("/simple/sweep").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(post("/simple/sweep").contentType(MediaType.APPLICATION_JSON).content("{\"primaryBodyMass\": 1.988e30}"))
+                .andExpect(status().isUnprocessableEntity());
+
+        String tooManySteps = "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": {\"from\": 1e11, \"to\": 2e11, \"steps\": 2000000000},"
+                + " \"destinationOrbitRadius\": 2.289e11}";
+        mockMvc.perform(post("/simple/sweep").contentType(MediaType.APPLICATION_JSON).content(tooManySteps))
+                .andExpect(status().isUnprocessableEntity());
+        String tooManyPoints = "{\"primaryBodyMass\": {\"from\": 1e30, \"to\": 2e30, \"steps\": 1000000},"
+                + " \"startingOrbitRadius\": {\"from\": 1e11, \"to\": 2e11, \"steps\": 1000000},"
+                + " \"destinationOrbitRadius\": {\"from\": 1e11, \"to\": 5e11, \"steps\": 1000000}}";
+        mockMvc.perform(post("/simple/sweep").contentType(MediaType.APPLICATION_JSON).content(tooManyPoints))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void testSimpleHohmannTransferTrajectory() throws Exception {
+        String content = "{\"transfers\": [" + SIMPLE_INPUT + ", " + SIMPLE_INPUT + "], \"samples\": 3}";
+        String csv = mockMvc.perform(post("/simple/trajectory").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(HohmannTransferSweepWriter.TEXT_CSV_VALUE))
+                .andExpect(header().string(HohmannTransferTrajectoryWriter.SHAPE_HEADER, "2,3"))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = csv.split("\n");
+        assertEquals(7, lines.length);
+        assertEquals("transfer,time,x,y,vx,vy", lines[0]);
+        assertEquals("0", lines[1].split(",")[0]);
+        assertEquals(1.496e11, Double.parseDouble(lines[1].split(",")[2]), 1d);
+        assertEquals(-2.289e11, Double.parseDouble(lines[3].split(",")[2]), 1d);
+        assertEquals("1", lines[4].split(",")[0]);
+    }
+
+    @Test
+    void testInterplanetaryHohmannTransferTrajectoryAsBinary() throws Exception {
+        String content = "{\"transfers\": [" + INTERPLANETARY_INPUT + "], \"samples\": 10000}";
+        byte[] matrix = mockMvc.perform(post("/interplanetary/trajectory").contentType(MediaType.APPLICATION_JSON).content(content)
+                .accept(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(header().string(HohmannTransferTrajectoryWriter.COLUMNS_HEADER, "time,x,y,vx,vy"))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(10000 * 5 * Double.BYTES, matrix.length);
+        var values = ByteBuffer.wrap(matrix).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(1.496e11, values.getDouble(Double.BYTES), 1d);
+        int last = (10000 - 1) * 5 * Double.BYTES;
+        double mu = new CelestialBody(null, 1.988e30).getStandardGravitationalParameter();
+        assertEquals(HohmannTransferKernel.transferTime(mu, 1.496e11, 2.289e11), values.getDouble(last), 1e-3);
+        assertEquals(-2.289e11, values.getDouble(last + Double.BYTES), 1d);
+    }
+
+    @Test
+    void testHohmannTransferTrajectoryWithInvalidInput() throws Exception {
+        mockMvc.perform(post("/simple/trajectory").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"transfers\": [" + INVALID_SIMPLE_INPUT + "]}"))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(post("/simple/trajectory").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"transfers\": [" + SIMPLE_INPUT + "], \"samples\": 0}"))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(post("/simple/trajectory").contentType(MediaType.APPLICATION_JSON).content("{\"transfers\": []}"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void testNamedHohmannTransfer() throws Exception {
+        String content = "{\"startingBody\": \"Earth\", \"startingOrbitRadius\": 6.671e6,"
+                + " \"destinationBody\": \"Mars\", \"destinationOrbitRadius\": 3.69e6}";
+        mockMvc.perform(post("/named").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalDeltaV", closeTo(5700d, 50d)));
+    }
+
+    @Test
+    void testNamedHohmannTransferWithUnknownBody() throws Exception {
+        String content = "{\"startingBody\": \"Earth\", \"startingOrbitRadius\": 6.671e6,"
+                + " \"destinationBody\": \"Vulcan\", \"destinationOrbitRadius\": 3.69e6}";
+        mockMvc.perform(post("/named").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].field").value("destinationBody"))
+                .andExpect(jsonPath("$.errors[0].code").value("unknown-body"));
+    }
+
+    @Test
+    void testNamedHohmannTransferWithIncompatibleBodies() throws Exception {
+        String content = "{\"startingBody\": \"Earth\", \"startingOrbitRadius\": 6.671e6,"
+                + " \"destinationBody\": \"Moon\", \"destinationOrbitRadius\": 2.0e6}";
+        mockMvc.perform(post("/named").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].field").value("destinationBody"))
+                .andExpect(jsonPath("$.errors[0].code").value("incompatible-orbits"));
+    }
+
+    @Test
+    void testBodies() throws Exception {
+        mockMvc.perform(get("/bodies"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.name == 'Moon')].parent").value("Earth"));
+    }
+
+    @Test
+    void testMetricsAreExported() throws Exception {
+        mockMvc.perform(post("/simple").contentType(MediaType.APPLICATION_JSON).content(SIMPLE_INPUT))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/simple").contentType(MediaType.APPLICATION_JSON).content(INVALID_SIMPLE_INPUT))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("orbits_transfer_calculation_seconds_count{branch=\"same-body\",}")))
+                .andExpect(content().string(containsString("orbits_transfer_rejections_total{cause=\"invalid-input\",}")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")));
+    }
+
+    @Test
+    void testCacheBypass() throws Exception {
+        String content = "{\"primaryBodyMass\": 5.972e24, \"startingOrbitRadius\": 6.671e6, \"destinationOrbitRadius\": 4.2164e7}";
+        mockMvc.perform(post("/simple").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isOk());
+        long hitCount = cacheHitCount();
+        mockMvc.perform(post("/simple").contentType(MediaType.APPLICATION_JSON).content(content)
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(status().isOk());
+        assertEquals(hitCount, cacheHitCount());
+        mockMvc.perform(post("/simple").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isOk());
+        assertEquals(hitCount + 1, cacheHitCount());
+    }
+
+    @Test
+    void testJobs() throws Exception {
+        mockMvc.perform(post("/jobs").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"type\": \"simple\", \"input\": \"missing.f64\", \"output\": \"output.f64\"}"))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(post("/jobs").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"type\": \"simple\", \"input\": \"../input.f64\", \"output\": \"output.f64\"}"))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(get("/jobs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+        mockMvc.perform(get("/jobs/unknown"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/jobs/unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testLaunchWindows() throws Exception {
+        double year = 365.25 * 86400d;
+        String content = "{\"horizon\": " + 10d * year + ", \"pairs\": ["
+                + "{\"startingBody\": \"Earth\", \"destinationBody\": \"Mars\", \"initialPhaseAngle\": 0.5},"
+                + "{\"primaryBodyMass\": 1.9885e30, \"startingOrbitRadius\": 1.49598e11, \"destinationOrbitRadius\": 1.08209e11}]}";
+        mockMvc.perform(post("/windows").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].startingBody", is("Earth")))
+                .andExpect(jsonPath("$[0].phaseAngle", closeTo(0.773, 0.002)))
+                .andExpect(jsonPath("$[0].synodicPeriod", closeTo(780d * 86400d, 86400d), Double.class))
+                .andExpect(jsonPath("$[0].departures", hasSize(4)))
+                .andExpect(jsonPath("$[1].startingBody").value(nullValue()))
+                .andExpect(jsonPath("$[1].departures", hasSize(either(is(6)).or(is(7)))));
+        mockMvc.perform(post("/windows").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"horizon\": 1e9, \"pairs\": [{\"startingBody\": \"Earth\", \"destinationBody\": \"Moon\"}]}"))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(post("/windows").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"horizon\": 1e15, \"pairs\": [{\"startingBody\": \"Io\", \"destinationBody\": \"Europa\"}]}"))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(post("/windows").contentType(MediaType.APPLICATION_JSON).content("{\"horizon\": 1e9, \"pairs\": []}"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void testRoutes() throws Exception {
+        String orbits = mockMvc.perform(post("/routes/orbits").contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"body\": \"Earth\", \"radius\": 6.671e6}, {\"body\": \"Earth\", \"radius\": 6.671e8},"
+                        + " {\"body\": \"Earth\", \"radius\": 1e11}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andReturn().getResponse().getContentAsString();
+        int low = JsonPath.read(orbits, "$[0].id");
+        int far = JsonPath.read(orbits, "$[1].id");
+        mockMvc.perform(get("/routes").param("from", String.valueOf(low)).param("to", String.valueOf(far)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orbits", hasSize(3)))
+                .andExpect(jsonPath("$.orbits[1].radius", is(1e11)))
+                .andExpect(jsonPath("$.legs", hasSize(2)));
+        mockMvc.perform(get("/routes").param("from", String.valueOf(low)).param("to", String.valueOf(far)).param("cost", "transfer-time"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orbits", hasSize(2)));
+        mockMvc.perform(get("/routes").param("from", String.valueOf(low)).param("to", "100000"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/routes").param("from", String.valueOf(low)).param("to", String.valueOf(far)).param("cost", "fuel"))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(post("/routes/orbits").contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"body\": \"Vulcan\", \"radius\": 1e7}]"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void testTransferPlans() throws Exception {
+        String content = "{\"transfers\": [" + SIMPLE_INPUT + ","
+                + " {\"primaryBodyMass\": 5.972e24, \"startingOrbitRadius\": 6.671e6, \"destinationOrbitRadius\": 6.671e8}],"
+                + " \"maxRadiusRatio\": 100}";
+        mockMvc.perform(post("/simple/plan").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].strategy", is("hohmann")))
+                .andExpect(jsonPath("$[0].totalDeltaV", closeTo(5642d, 2d)))
+                .andExpect(jsonPath("$[1].strategy", is("bi-elliptic")))
+                .andExpect(jsonPath("$[1].intermediateRadius", closeTo(6.671e10, 1d)));
+        mockMvc.perform(post("/simple/plan").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"transfers\": [" + SIMPLE_INPUT + "], \"maxTransferTime\": 1000}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].strategy", is("none")))
+                .andExpect(jsonPath("$[0].totalDeltaV").doesNotExist());
+        mockMvc.perform(post("/simple/plan").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"transfers\": [" + INVALID_SIMPLE_INPUT + "]}"))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(post("/simple/plan").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"transfers\": [" + SIMPLE_INPUT + "], \"maxRadiusRatio\": 0.5}"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void testMonteCarlo() throws Exception {
+        String content = "{\"primaryBodyMass\": 5.972e24, \"startingOrbitRadius\": {\"mean\": 6.671e6, \"standardDeviation\": 1e3},"
+                + " \"destinationOrbitRadius\": {\"from\": 4.2e7, \"to\": 4.3e7}, \"samples\": 100000, \"seed\": 7,"
+                + " \"percentiles\": [50, 99.9], \"bins\": 10}";
+        String result = mockMvc.perform(post("/simple/monte-carlo").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.seed", is(7)))
+                .andExpect(jsonPath("$.samples", is(100000)))
+                .andExpect(jsonPath("$.invalidSamples", is(0)))
+                .andExpect(jsonPath("$.totalDeltaV.percentiles.50", closeTo(3.9e3, 100d)))
+                .andExpect(jsonPath("$.totalDeltaV.percentiles['99.9']").exists())
+                .andExpect(jsonPath("$.transferTime.histogram.counts", hasSize(10)))
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(post("/simple/monte-carlo").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isOk())
+                .andExpect(content().json(result, true));
+        mockMvc.perform(post("/interplanetary/monte-carlo").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"primaryBodyMass\": {\"mean\": 1.989e30, \"standardDeviation\": 1e26},"
+                        + " \"startingPlanetOrbitRadius\": 1.496e11, \"startingPlanetMass\": 5.972e24, \"startingOrbitRadius\": 6.671e6,"
+                        + " \"destinationPlanetOrbitRadius\": {\"from\": 2.27e11, \"to\": 2.29e11},"
+                        + " \"destinationPlanetMass\": 6.417e23, \"destinationOrbitRadius\": 3.7e6, \"samples\": 10000}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.seed").isNumber())
+                .andExpect(jsonPath("$.totalDeltaV.percentiles.50", closeTo(5.7e3, 300d)))
+                .andExpect(jsonPath("$.totalDeltaV.percentiles.*", hasSize(7)));
+        mockMvc.perform(post("/simple/monte-carlo").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"primaryBodyMass\": 5.972e24, \"startingOrbitRadius\": 6.671e6, \"destinationOrbitRadius\": 4.2e7, \"samples\": 0}"))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(post("/simple/monte-carlo").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"primaryBodyMass\": 5.972e24, \"startingOrbitRadius\": {\"mean\": 6.671e6, \"from\": 1},"
+                        + " \"destinationOrbitRadius\": 4.2e7}"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void testProfiling() throws Exception {
+        mockMvc.perform(post("/profiling").param("seconds", "1"))
+                .andExpect(status().isNotFound());
+        profilingProperties.setEnabled(true);
+        try {
+            profile();
+        } finally {
+            profilingProperties.setEnabled(false);
+        }
+    }
+
+    private void profile() throws Exception {
+        MvcResult profiling = mockMvc.perform(post("/profiling").param("seconds", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(post("/profiling").param("seconds", "1"))
+                .andExpect(status().isConflict());
+        for (int i = 0; i < 10; i++) {
+            mockMvc.perform(post("/simple").contentType(MediaType.APPLICATION_JSON).content(SIMPLE_INPUT))
+                    .andExpect(status().isOk());
+        }
+        profiling.getAsyncResult(10_000L);
+        mockMvc.perform(asyncDispatch(profiling))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.duration").value(1d))
+                .andExpect(jsonPath("$.phases[*].phase", contains("binding", "model", "calculation", "serialization")))
+                .andExpect(jsonPath("$.phases[*].count", everyItem(greaterThanOrEqualTo(10))))
+                .andExpect(jsonPath("$.phases[2].percentiles.*", hasSize(4)))
+                .andExpect(jsonPath("$.phases[2].percentiles.['99.9']", greaterThan(0d)));
+        mockMvc.perform(post("/profiling").param("seconds", "0"))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(post("/profiling").param("seconds", "3600"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    private long cacheHitCount() throws Exception {
+        String statistics = mockMvc.perform(get("/cache/statistics"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(statistics, "$.hitCount")).longValue();
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import com.example.orbits.service.HohmannTransferAdmissionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequestWrapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"orbits.admission.enabled=true", "orbits.admission.rate=1", "orbits.admission.burst=2",
+        "orbits.admission.trusted-proxies=127.0.0.1"})
+@AutoConfigureMockMvc
+class HohmannTransferAdmissionFilterTest {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+    private static final String SIMPLE_INPUT =
+            "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 1.496e11, \"destinationOrbitRadius\": 2.289e11}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HohmannTransferAPIController controller;
+
+    @Autowired
+    private HohmannTransferAdmissionService admissionService;
+
+    @Test
+    void testRequestsAboveQuotaAreRejected() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/simple").header(CLIENT_HEADER, "quota").contentType(MediaType.APPLICATION_JSON).content(SIMPLE_INPUT))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(post("/simple").header(CLIENT_HEADER, "quota").contentType(MediaType.APPLICATION_JSON).content(SIMPLE_INPUT))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.error").value(HohmannTransferAdmissionPolicy.REJECTION_MESSAGE));
+        mockMvc.perform(post("/simple").header(CLIENT_HEADER, "other").contentType(MediaType.APPLICATION_JSON).content(SIMPLE_INPUT))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/bodies").header(CLIENT_HEADER, "quota"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testClientHeaderIsOnlyTrustedFromProxies() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/simple").header(CLIENT_HEADER, "spoofed-" + i).with(remoteAddress("192.0.2.1"))
+                    .contentType(MediaType.APPLICATION_JSON).content(SIMPLE_INPUT))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(post("/simple").header(CLIENT_HEADER, "spoofed-2").with(remoteAddress("192.0.2.1"))
+                .contentType(MediaType.APPLICATION_JSON).content(SIMPLE_INPUT))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(post("/simple").with(remoteAddress("192.0.2.2"))
+                .contentType(MediaType.APPLICATION_JSON).content(SIMPLE_INPUT))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testBatchesAreWeightedByItemCount() throws Exception {
+        String content = "[" + SIMPLE_INPUT + "," + SIMPLE_INPUT + "," + SIMPLE_INPUT + "," + SIMPLE_INPUT + "]";
+        mockMvc.perform(post("/simple/batch").header(CLIENT_HEADER, "json").contentType(MediaType.APPLICATION_JSON).content(content))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/simple").header(CLIENT_HEADER, "json").contentType(MediaType.APPLICATION_JSON).content(SIMPLE_INPUT))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"));
+
+        var input = ByteBuffer.allocate(3 * HohmannTransferBinaryCodec.SIMPLE_INPUT_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < 3; i++) {
+            HohmannTransferBinaryCodec.writeRecord(input, 1.988e30, 1.496e11, 2.289e11);
+        }
+        mockMvc.perform(post("/simple/batch").header(CLIENT_HEADER, "binary")
+                .contentType(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE).content(input.array()))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/simple/batch").header(CLIENT_HEADER, "binary")
+                .contentType(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE).content(input.array()))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"));
+    }
+
+    @Test
+    void testBatchesEndingInMalformedInputAreCharged() throws Exception {
+        String content = "[" + SIMPLE_INPUT + "," + SIMPLE_INPUT + "," + SIMPLE_INPUT + "," + SIMPLE_INPUT
+                + ",{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius";
+        mockMvc.perform(post("/simple/batch").header(CLIENT_HEADER, "malformed").contentType(MediaType.APPLICATION_JSON)
+                .content(content))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[4].error").value(HohmannTransferBatchStreamer.MALFORMED_INPUT_MESSAGE));
+        mockMvc.perform(post("/simple").header(CLIENT_HEADER, "malformed").contentType(MediaType.APPLICATION_JSON).content(SIMPLE_INPUT))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"));
+    }
+
+    @Test
+    void testBatchesFailingToBeReadAreCharged() {
+        byte[] content = ("[" + SIMPLE_INPUT + "," + SIMPLE_INPUT + "," + SIMPLE_INPUT + "," + SIMPLE_INPUT + ",")
+                .getBytes(StandardCharsets.UTF_8);
+        var request = new MockHttpServletRequest("POST", "/simple/batch");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        var admission = admissionService.admit("aborted", 1L);
+        request.setAttribute(HohmannTransferAdmissionPolicy.ADMISSION_ATTRIBUTE, admission);
+        var abortedRequest = new HttpServletRequestWrapper(request) {
+            @Override
+            public ServletInputStream getInputStream() {
+                return new DelegatingServletInputStream(new SequenceInputStream(new ByteArrayInputStream(content),
+                        new InputStream() {
+                            @Override
+                            public int read() throws IOException {
+                                throw new IOException("Connection reset");
+                            }
+                        }));
+            }
+        };
+
+        assertThrows(IOException.class, () -> controller.simpleHohmannTransferBatch(abortedRequest, new MockHttpServletResponse()));
+        admission.release();
+        assertFalse(admissionService.admit("aborted", 1L).isAdmitted());
+    }
+
+    @Test
+    void testRejectionsAreCounted() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/simple").header(CLIENT_HEADER, "metrics").contentType(MediaType.APPLICATION_JSON).content(SIMPLE_INPUT));
+        }
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("orbits_transfer_rejections_total{cause=\"quota-exceeded\",}")))
+                .andExpect(content().string(containsString("orbits_admission_limit ")));
+    }
+
+    private static RequestPostProcessor remoteAddress(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
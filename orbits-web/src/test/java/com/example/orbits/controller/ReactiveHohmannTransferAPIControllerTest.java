@@ -0,0 +1,241 @@
+package com.example.orbits.controller;
+
+import com.example.orbits.codec.HohmannTransferBinaryCodec;
+import com.example.orbits.service.HohmannTransferProfiler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+class ReactiveHohmannTransferAPIControllerTest {
+
+    private static final String SIMPLE_INPUT =
+            "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 1.496e11, \"destinationOrbitRadius\": 2.289e11}";
+    private static final String INVALID_SIMPLE_INPUT =
+            "{\"primaryBodyMass\": -1, \"startingOrbitRadius\": 1.496e11, \"destinationOrbitRadius\": 2.289e11}";
+    private static final String INTERPLANETARY_INPUT =
+            "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 6.671e6, \"destinationOrbitRadius\": 3.69e6,"
+                    + " \"startingPlanetMass\": 5.972e24, \"startingPlanetOrbitRadius\": 1.496e11,"
+                    + " \"destinationPlanetMass\": 6.417e23, \"destinationPlanetOrbitRadius\": 2.289e11}";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+
+    @Autowired
+    private HohmannTransferProfiler profiler;
+
+    @Test
+    void testServerIsNetty() {
+        assertTrue(context.getWebServer() instanceof NettyWebServer);
+    }
+
+    @Test
+    void testSimpleHohmannTransfer() {
+        webTestClient.post().uri("/simple").contentType(MediaType.APPLICATION_JSON).bodyValue(SIMPLE_INPUT)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.totalDeltaV").value(closeTo(5642d, 2d));
+    }
+
+    @Test
+    void testPhasesAreProfiled() throws Exception {
+        webTestClient.post().uri("/simple").contentType(MediaType.APPLICATION_JSON).bodyValue(SIMPLE_INPUT)
+                .exchange()
+                .expectStatus().isOk();
+        var profile = profiler.record(Duration.ofSeconds(2L));
+        for (int i = 0; i < 10; i++) {
+            webTestClient.post().uri("/simple").contentType(MediaType.APPLICATION_JSON).bodyValue(SIMPLE_INPUT)
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+        for (var phase : profile.get(10L, TimeUnit.SECONDS).getPhases()) {
+            assertEquals(10L, phase.getCount(), phase.getPhase().getLabel());
+        }
+    }
+
+    @Test
+    void testSimpleHohmannTransferWithInvalidInput() {
+        webTestClient.post().uri("/simple").contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON, MediaType.parseMediaType(HohmannTransferBinaryCodec.MEDIA_TYPE_VALUE)).bodyValue(INVALID_SIMPLE_INPUT)
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.errors[0].field").isEqualTo("primaryBodyMass")
+                .jsonPath("$.errors[0].code").isEqualTo("not-positive");
+    }
+
+    @Test
+    void testInterplanetaryHohmannTransfer() {
+        webTestClient.post().uri("/interplanetary").contentType(MediaType.APPLICATION_JSON).bodyValue(INTERPLANETARY_INPUT)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.totalDeltaV").value(closeTo(5700d, 2d));
+    }
+
+    @Test
+    void testSimpleHohmannTransferBatchWithJsonArray() {
+        String content = "[" + SIMPLE_INPUT + "," + INVALID_SIMPLE_INPUT + ", 42, " + SIMPLE_INPUT + "]";
+        webTestClient.post().uri("/simple/batch").contentType(MediaType.APPLICATION_JSON).bodyValue(content)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(4)
+                .jsonPath("$[0].totalDeltaV").value(closeTo(5642d, 2d))
+                .jsonPath("$[1].error").isEqualTo(HohmannTransferBatchStreamer.INVALID_ITEM_MESSAGE)
+                .jsonPath("$[2].error").isEqualTo(HohmannTransferBatchStreamer.MALFORMED_ITEM_MESSAGE)
+                .jsonPath("$[3].totalDeltaV").value(closeTo(5642d, 2d));
+    }
+
+    @Test
+    void testSimpleHohmannTransferBatchWithMalformedInput() {
+        String content = "[" + SIMPLE_INPUT + ", {\"primaryBodyMass\": }]";
+        webTestClient.post().uri("/simple/batch").contentType(MediaType.APPLICATION_JSON).bodyValue(content)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[-1:].error").isEqualTo(HohmannTransferBatchStreamer.MALFORMED_INPUT_MESSAGE);
+    }
+
+    @Test
+    void testInterplanetaryHohmannTransferBatchWithNdjson() {
+        String content = INTERPLANETARY_INPUT + "\n" + INVALID_SIMPLE_INPUT + "\n" + INTERPLANETARY_INPUT + "\n";
+        String ndjson = HohmannTransferBatchStreamer.APPLICATION_NDJSON_VALUE;
+        webTestClient.post().uri("/interplanetary/batch").contentType(MediaType.parseMediaType(ndjson)).bodyValue(content)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(ndjson)
+                .expectBody(String.class).value(matchesPattern(
+                        "\\{\"transferTime\":.*}\n\\{\"error\":\"Input parameters are invalid\",\"errors\":\\[.*]}\n\\{\"transferTime\":.*}\n"));
+    }
+
+    @Test
+    void testLargeNdjsonBatchIsStreamed() {
+        int count = 20_000;
+        String content = IntStream.range(0, count).mapToObj(i -> SIMPLE_INPUT).collect(Collectors.joining("\n"));
+        Flux<String> results = webTestClient.post().uri("/simple/batch")
+                .contentType(MediaType.parseMediaType(HohmannTransferBatchStreamer.APPLICATION_NDJSON_VALUE))
+                .bodyValue(content)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class).getResponseBody();
+        assertEquals(count, results.filter(line -> line.startsWith("{\"transferTime\":")).count().block());
+    }
+
+    @Test
+    void testSimpleHohmannTransferInBinaryFormat() {
+        var input = ByteBuffer.allocate(HohmannTransferBinaryCodec.SIMPLE_INPUT_SIZE);
+        HohmannTransferBinaryCodec.writeRecord(input, 1.988e30, 1.496e11, 2.289e11);
+        byte[] output = webTestClient.post().uri("/simple").contentType(HohmannTransferBinaryMessages.MEDIA_TYPE)
+                .accept(HohmannTransferBinaryMessages.MEDIA_TYPE).bodyValue(input.array())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(byte[].class).returnResult().getResponseBody();
+        double[] values = new double[HohmannTransferBinaryCodec.OUTPUT_FIELDS];
+        HohmannTransferBinaryCodec.readRecord(ByteBuffer.wrap(output), values);
+        assertEquals(5642d, values[HohmannTransferBinaryCodec.TOTAL_DELTA_V], 2d);
+
+        input.clear();
+        HohmannTransferBinaryCodec.writeRecord(input, 1.988e30, Double.NEGATIVE_INFINITY, 2.289e11);
+        webTestClient.post().uri("/simple").contentType(HohmannTransferBinaryMessages.MEDIA_TYPE).bodyValue(input.array())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testSimpleHohmannTransferBatchInBinaryFormat() {
+        int count = 20_000;
+        var input = ByteBuffer.allocate(count * HohmannTransferBinaryCodec.SIMPLE_INPUT_SIZE);
+        for (int i = 0; i < count; i++) {
+            HohmannTransferBinaryCodec.writeRecord(input, 1.988e30, 1.496e11, i == 7 ? 0 : 2.289e11);
+        }
+        byte[] output = webTestClient.post().uri("/simple/batch").contentType(HohmannTransferBinaryMessages.MEDIA_TYPE)
+                .bodyValue(input.array())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(HohmannTransferBinaryMessages.MEDIA_TYPE)
+                .returnResult(byte[].class).getResponseBody()
+                .reduce(new ByteArrayOutputStream(), (stream, bytes) -> {
+                    stream.writeBytes(bytes);
+                    return stream;
+                })
+                .block().toByteArray();
+        assertEquals(count * HohmannTransferBinaryCodec.OUTPUT_SIZE, output.length);
+        double[][] results = new double[HohmannTransferBinaryCodec.OUTPUT_FIELDS][count];
+        HohmannTransferBinaryCodec.readRecords(ByteBuffer.wrap(output), results, 0, count);
+        assertTrue(Double.isNaN(results[HohmannTransferBinaryCodec.TOTAL_DELTA_V][7]));
+        assertEquals(5642d, results[HohmannTransferBinaryCodec.TOTAL_DELTA_V][count - 1], 2d);
+    }
+
+    @Test
+    void testSimpleHohmannTransferSweep() {
+        String content = "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 1.496e11,"
+                + " \"destinationOrbitRadius\": {\"from\": 2.289e11, \"to\": 4.578e11, \"steps\": 1000}}";
+        byte[] matrix = webTestClient.post().uri("/simple/sweep").contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_OCTET_STREAM).bodyValue(content)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HohmannTransferSweepWriter.SHAPE_HEADER, "1,1,1000")
+                .expectBody(byte[].class).returnResult().getResponseBody();
+        assertEquals(1000 * 2 * Double.BYTES, matrix.length);
+        assertEquals(5642d, ByteBuffer.wrap(matrix).order(ByteOrder.LITTLE_ENDIAN).getDouble(Double.BYTES), 2d);
+    }
+
+    @Test
+    void testSimpleHohmannTransferTrajectory() {
+        String content = "{\"transfers\": [{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 1.496e11,"
+                + " \"destinationOrbitRadius\": 2.289e11}], \"samples\": 5000}";
+        byte[] matrix = webTestClient.post().uri("/simple/trajectory").contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_OCTET_STREAM).bodyValue(content)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HohmannTransferTrajectoryWriter.SHAPE_HEADER, "1,5000")
+                .expectBody(byte[].class).returnResult().getResponseBody();
+        assertEquals(5000 * 5 * Double.BYTES, matrix.length);
+        assertEquals(-2.289e11, ByteBuffer.wrap(matrix).order(ByteOrder.LITTLE_ENDIAN)
+                .getDouble(matrix.length - 4 * Double.BYTES), 1d);
+    }
+
+    @Test
+    void testNamedHohmannTransfer() {
+        String content = "{\"startingBody\": \"Earth\", \"startingOrbitRadius\": 6.671e6,"
+                + " \"destinationBody\": \"Mars\", \"destinationOrbitRadius\": 3.69e6}";
+        webTestClient.post().uri("/named").contentType(MediaType.APPLICATION_JSON).bodyValue(content)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.totalDeltaV").value(closeTo(5700d, 50d));
+    }
+
+    @Test
+    void testBodies() {
+        webTestClient.get().uri("/bodies")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[?(@.name == 'Moon')].parent").isEqualTo("Earth");
+    }
+}
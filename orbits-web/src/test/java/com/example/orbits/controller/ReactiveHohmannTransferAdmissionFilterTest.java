@@ -0,0 +1,56 @@
+package com.example.orbits.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.main.web-application-type=reactive",
+                "orbits.admission.enabled=true", "orbits.admission.rate=1", "orbits.admission.burst=2",
+                "orbits.admission.trusted-proxies=127.0.0.1,::1"})
+@ActiveProfiles("reactive")
+class ReactiveHohmannTransferAdmissionFilterTest {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+    private static final String SIMPLE_INPUT =
+            "{\"primaryBodyMass\": 1.988e30, \"startingOrbitRadius\": 1.496e11, \"destinationOrbitRadius\": 2.289e11}";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void testRequestsAboveQuotaAreRejected() {
+        for (int i = 0; i < 2; i++) {
+            webTestClient.post().uri("/simple").header(CLIENT_HEADER, "quota").contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(SIMPLE_INPUT)
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+        webTestClient.post().uri("/simple").header(CLIENT_HEADER, "quota").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(SIMPLE_INPUT)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1")
+                .expectBody().jsonPath("$.error").isEqualTo(HohmannTransferAdmissionPolicy.REJECTION_MESSAGE);
+    }
+
+    @Test
+    void testBatchesAreWeightedByItemCount() {
+        String content = "[" + SIMPLE_INPUT + "," + SIMPLE_INPUT + "," + SIMPLE_INPUT + "," + SIMPLE_INPUT + "]";
+        webTestClient.post().uri("/simple/batch").header(CLIENT_HEADER, "json").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(content)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(4);
+        webTestClient.post().uri("/simple").header(CLIENT_HEADER, "json").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(SIMPLE_INPUT)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "3");
+    }
+}
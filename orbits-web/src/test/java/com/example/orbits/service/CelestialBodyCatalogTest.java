@@ -0,0 +1,64 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.Orbit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CelestialBodyCatalogTest {
+
+    private CelestialBodyCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = CelestialBodyCatalogConfiguration.load(new ObjectMapper());
+    }
+
+    @Test
+    void testFindIsCaseInsensitive() {
+        var earth = catalog.find("earth").orElseThrow();
+        assertEquals("Earth", earth.getName());
+        assertSame(earth, catalog.find("EARTH").orElseThrow());
+    }
+
+    @Test
+    void testFindUnknownBody() {
+        assertTrue(catalog.find("Vulcan").isEmpty());
+        assertTrue(catalog.find(null).isEmpty());
+    }
+
+    @Test
+    void testBodiesOrbitTheirParents() {
+        var sun = catalog.find("Sun").orElseThrow();
+        var earth = catalog.find("Earth").orElseThrow();
+        var moon = catalog.find("Moon").orElseThrow();
+        assertNull(sun.getOrbit());
+        assertSame(sun, earth.getOrbit().getPrimaryBody());
+        assertSame(earth, moon.getOrbit().getPrimaryBody());
+    }
+
+    @Test
+    void testBodiesAreReadOnly() {
+        var sun = catalog.find("Sun").orElseThrow();
+        var earth = catalog.find("Earth").orElseThrow();
+        assertThrows(UnsupportedOperationException.class, () -> earth.setOrbit(new Orbit(1e11, sun)));
+        assertThrows(UnsupportedOperationException.class, () -> sun.setOrbit(new Orbit(1e11, earth)));
+        assertEquals(1.496e11, earth.getOrbit().getRadius(), 1e9);
+
+        var copy = new CelestialBody(sun.getName(), sun.getMass());
+        assertEquals(copy, sun);
+        assertEquals(sun, copy);
+        assertEquals(copy.getStandardGravitationalParameter(), sun.getStandardGravitationalParameter());
+    }
+
+    @Test
+    void testCatalogBodiesCanBeUsedForInterplanetaryTransfers() {
+        var earth = catalog.find("Earth").orElseThrow();
+        var mars = catalog.find("Mars").orElseThrow();
+        var transfer = HohmannTransferCalculator.calculateTransfer(new Orbit(6.671e6, earth), new Orbit(3.69e6, mars));
+        assertEquals(5700d, transfer.getTotalDeltaV(), 50d);
+    }
+}
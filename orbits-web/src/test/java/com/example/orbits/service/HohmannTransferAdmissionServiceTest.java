@@ -0,0 +1,134 @@
+package com.example.orbits.service;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferAdmissionServiceTest {
+
+    private long time;
+    private Ticker ticker;
+    private HohmannTransferAdmissionProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        time = 0L;
+        ticker = () -> time;
+        properties = new HohmannTransferAdmissionProperties();
+        properties.setEnabled(true);
+        properties.setRate(10d);
+        properties.setBurst(5L);
+    }
+
+    @Test
+    void testQuotasAreEnforcedPerClient() {
+        var service = new HohmannTransferAdmissionService(properties, HohmannTransferMetrics.disabled(), ticker);
+        for (int i = 0; i < 5; i++) {
+            admitAndRelease(service, "a", 1L);
+        }
+        var rejected = service.admit("a", 1L);
+        assertFalse(rejected.isAdmitted());
+        assertEquals(Duration.ofMillis(100L), rejected.getRetryAfter());
+        assertTrue(service.admit("b", 1L).isAdmitted());
+
+        time += TimeUnit.MILLISECONDS.toNanos(100L);
+        admitAndRelease(service, "a", 1L);
+        assertFalse(service.admit("a", 1L).isAdmitted());
+        assertEquals(1, service.getInFlight());
+    }
+
+    @Test
+    void testHeavyRequestsLeaveTheClientInDebt() {
+        var service = new HohmannTransferAdmissionService(properties, HohmannTransferMetrics.disabled(), ticker);
+        var batch = service.admit("a", 20L);
+        assertTrue(batch.isAdmitted());
+        batch.release();
+        // 20 tokens were taken from a bucket of 5, so 15 tokens (1.5 s) have to be repaid, and 1 more added
+        assertEquals(Duration.ofMillis(1600L), service.admit("a", 1L).getRetryAfter());
+
+        var settled = service.admit("b", 1L);
+        settled.settle(10L);
+        settled.release();
+        assertEquals(Duration.ofMillis(600L), service.admit("b", 1L).getRetryAfter());
+    }
+
+    @Test
+    void testOverflowingWeightsAreBounded() {
+        var service = new HohmannTransferAdmissionService(properties, HohmannTransferMetrics.disabled(), ticker);
+        var rejected = service.admit("a", Long.MAX_VALUE / 24L);
+        assertFalse(rejected.isAdmitted());
+        rejected.release();
+        admitAndRelease(service, "a", 1L);
+
+        var settled = service.admit("b", 1L);
+        settled.settle(Long.MAX_VALUE);
+        settled.release();
+        settled = service.admit("b", 1L);
+        assertFalse(settled.isAdmitted());
+        assertTrue(settled.getRetryAfter().toNanos() > 0L);
+        settled.release();
+    }
+
+    @Test
+    void testConcurrencyIsLimited() {
+        properties.setRate(1e6);
+        properties.setBurst(1_000_000L);
+        properties.setInitialConcurrency(2);
+        properties.setMinConcurrency(1);
+        var service = new HohmannTransferAdmissionService(properties, HohmannTransferMetrics.disabled(), ticker);
+        var first = service.admit("a", 1L);
+        assertTrue(first.isAdmitted());
+        assertTrue(service.admit("b", 1L).isAdmitted());
+        var rejected = service.admit("c", 1L);
+        assertFalse(rejected.isAdmitted());
+        assertEquals(HohmannTransferAdmissionService.OVERLOAD_RETRY_AFTER, rejected.getRetryAfter());
+        first.release();
+        assertTrue(service.admit("c", 1L).isAdmitted());
+    }
+
+    @Test
+    void testConcurrencyLimitAdaptsToLatency() {
+        var limiter = new HohmannTransferConcurrencyLimiter(20, 4, 100, ticker);
+        // While latency is stable and the load reaches the limit, the limit grows
+        for (int window = 0; window < 20; window++) {
+            runWindow(limiter, 20, TimeUnit.MILLISECONDS.toNanos(1L));
+        }
+        int grownLimit = limiter.getLimit();
+        assertTrue(grownLimit > 20, "The limit did not grow: " + grownLimit);
+
+        // When requests start queuing and latency rises, the limit shrinks
+        for (int window = 0; window < 20; window++) {
+            runWindow(limiter, 20, TimeUnit.MILLISECONDS.toNanos(10L));
+        }
+        int shrunkLimit = limiter.getLimit();
+        assertTrue(shrunkLimit < grownLimit / 2, "The limit did not shrink: " + shrunkLimit);
+        assertTrue(shrunkLimit >= 4);
+    }
+
+    private void admitAndRelease(HohmannTransferAdmissionService service, String client, long weight) {
+        var admission = service.admit(client, weight);
+        assertTrue(admission.isAdmitted());
+        admission.release();
+    }
+
+    private void runWindow(HohmannTransferConcurrencyLimiter limiter, int requests, long latency) {
+        int admitted = 0;
+        for (int i = 0; i < requests; i++) {
+            if (limiter.tryAcquire()) {
+                admitted++;
+            }
+        }
+        for (int i = 0; i < admitted; i++) {
+            limiter.release(latency);
+        }
+        // The first request released after the end of the window recalculates the limit
+        time += HohmannTransferConcurrencyLimiter.WINDOW_NANOS;
+        assertTrue(limiter.tryAcquire());
+        limiter.release(latency);
+    }
+}
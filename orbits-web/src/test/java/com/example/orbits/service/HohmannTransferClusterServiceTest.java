@@ -0,0 +1,230 @@
+package com.example.orbits.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.orbits.codec.HohmannTransferBinaryCodec.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferClusterServiceTest {
+
+    private static final int RECORDS = 5000;
+
+    @TempDir
+    Path directory;
+
+    private HohmannTransferClusterProperties properties;
+    private final List<HttpServer> servers = new ArrayList<>();
+    private Path input;
+
+    private enum Behavior {
+        HEALTHY, FAILING, SLOW, CORRUPT
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new HohmannTransferClusterProperties();
+        properties.setChunkSize(500);
+        properties.setParallelism(4);
+        properties.setHedgeDelay(Duration.ofSeconds(30L));
+        properties.setBackoff(Duration.ofMillis(10L));
+        var buffer = ByteBuffer.allocate(RECORDS * SIMPLE_INPUT_SIZE);
+        for (int i = 0; i < RECORDS; i++) {
+            writeRecord(buffer, 1.988e30, 1.496e11, 1e11 + i * 1e8);
+        }
+        input = Files.write(directory.resolve("input.f64"), buffer.array());
+    }
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(server -> server.stop(0));
+    }
+
+    @Test
+    void testRegister() {
+        var service = new HohmannTransferClusterService(properties);
+        var worker = service.register(URI.create("http://localhost:8081"));
+        assertEquals(URI.create("http://localhost:8081/"), worker.getUrl());
+        assertSame(worker, service.register(URI.create("http://localhost:8081/")));
+        var other = service.register(URI.create("http://localhost:8082"));
+        assertEquals(List.of(worker, other), service.getWorkers());
+        assertThrows(IllegalArgumentException.class, () -> service.register(URI.create("localhost:8083")));
+        assertThrows(IllegalArgumentException.class, () -> service.register(URI.create("ftp://localhost:8083")));
+        assertThrows(IllegalArgumentException.class, () -> service.register(null));
+
+        assertEquals(worker, service.deregister(worker.getId()).orElseThrow());
+        assertTrue(service.find(worker.getId()).isEmpty());
+        assertTrue(service.deregister(worker.getId()).isEmpty());
+        assertEquals(List.of(other), service.getWorkers());
+    }
+
+    @Test
+    void testRegistrationIsAuthorizedByToken() {
+        assertFalse(new HohmannTransferClusterService(properties).isAuthorized(null));
+        properties.setRegistrationEnabled(true);
+        var service = new HohmannTransferClusterService(properties);
+        assertTrue(service.isRegistrationEnabled());
+        assertFalse(service.isAuthorized(null));
+        assertFalse(service.isAuthorized(""));
+        properties.setRegistrationToken("secret");
+        assertTrue(service.isAuthorized("secret"));
+        assertFalse(service.isAuthorized("Secret"));
+        assertFalse(service.isAuthorized(null));
+        properties.setRegistrationEnabled(false);
+        assertFalse(service.isAuthorized("secret"));
+    }
+
+    @Test
+    void testChunksAreRetriedOnOtherWorkers() throws IOException {
+        var service = new HohmannTransferClusterService(properties);
+        var healthy = List.of(service.register(startWorker(Behavior.HEALTHY)), service.register(startWorker(Behavior.HEALTHY)));
+        var failing = service.register(startWorker(Behavior.FAILING));
+
+        assertTrue(process(service, "distributed.f64"));
+        assertArrayEquals(Files.readAllBytes(calculateLocally()), Files.readAllBytes(directory.resolve("distributed.f64")));
+        assertEquals(RECORDS, healthy.stream().mapToLong(HohmannTransferWorker::getRecords).sum());
+        assertTrue(healthy.stream().allMatch(worker -> worker.getThroughput() > 0d && worker.getInFlight() == 0));
+        assertTrue(failing.getFailures() > 0);
+        assertEquals(0, failing.getRecords());
+        assertEquals("Status 500", failing.getLastError());
+    }
+
+    @Test
+    void testSlowChunksAreHedged() throws IOException {
+        properties.setParallelism(1);
+        properties.setChunkSize(RECORDS);
+        properties.setHedgeDelay(Duration.ofMillis(100L));
+        var service = new HohmannTransferClusterService(properties);
+        var slow = service.register(startWorker(Behavior.SLOW));
+
+        long start = System.nanoTime();
+        var processor = new HohmannTransferFileProcessor(input, directory.resolve("output.f64"), HohmannTransferType.SAME_BODY,
+                service.getChunkSize(), service.getParallelism(), (inputs, outputs) -> {
+            var fast = service.register(startWorker(Behavior.HEALTHY));
+            service.calculator(HohmannTransferType.SAME_BODY).calculate(inputs, outputs);
+            assertEquals(RECORDS, fast.getRecords());
+        });
+        assertTrue(processor.run(() -> false));
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(4L).toNanos());
+        // The request to the slow worker lost the race and was cancelled, without counting as a failure
+        assertEquals(0, slow.getInFlight());
+        assertEquals(0, slow.getFailures());
+        assertArrayEquals(Files.readAllBytes(calculateLocally()), Files.readAllBytes(directory.resolve("output.f64")));
+    }
+
+    @Test
+    void testJobFailsWhenChunksKeepFailing() throws IOException {
+        properties.setMaxAttempts(2);
+        var service = new HohmannTransferClusterService(properties);
+        var failing = service.register(startWorker(Behavior.FAILING));
+        var e = assertThrows(IOException.class, () -> process(service, "output.f64"));
+        assertTrue(e.getMessage().startsWith("Chunk failed 2 times"));
+        assertTrue(failing.getFailures() >= 2);
+
+        service.deregister(failing.getId());
+        properties.setWorkerWait(Duration.ZERO);
+        assertEquals("No workers are registered", assertThrows(IOException.class, () -> process(service, "output.f64")).getMessage());
+    }
+
+    @Test
+    void testJobWaitsForWorkers() throws Exception {
+        var service = new HohmannTransferClusterService(properties);
+        var worker = startWorker(Behavior.HEALTHY);
+        var registration = Executors.newSingleThreadScheduledExecutor();
+        try {
+            registration.schedule(() -> service.register(worker), 200L, TimeUnit.MILLISECONDS);
+            assertTrue(process(service, "output.f64"));
+        } finally {
+            registration.shutdownNow();
+        }
+        assertArrayEquals(Files.readAllBytes(calculateLocally()), Files.readAllBytes(directory.resolve("output.f64")));
+    }
+
+    @Test
+    void testInvalidResultsAreRejected() {
+        properties.setMaxAttempts(2);
+        var service = new HohmannTransferClusterService(properties);
+        var corrupt = service.register(startWorker(Behavior.CORRUPT));
+        var e = assertThrows(IOException.class, () -> process(service, "output.f64"));
+        assertTrue(e.getMessage().endsWith("Invalid response"));
+        assertEquals("Invalid response", corrupt.getLastError());
+        assertEquals(0, corrupt.getRecords());
+    }
+
+    private boolean process(HohmannTransferClusterService service, String output) throws IOException {
+        return new HohmannTransferFileProcessor(input, directory.resolve(output), HohmannTransferType.SAME_BODY,
+                service.getChunkSize(), service.getParallelism(), service.calculator(HohmannTransferType.SAME_BODY))
+                .run(() -> false);
+    }
+
+    private Path calculateLocally() throws IOException {
+        Path output = directory.resolve("local.f64");
+        assertTrue(new HohmannTransferFileProcessor(input, output, HohmannTransferType.SAME_BODY, 1000, 1).run(() -> false));
+        return output;
+    }
+
+    /**
+     * Starts a server which answers binary batches of simple transfers like the batch endpoint of the application.
+     */
+    private URI startWorker(Behavior behavior) {
+        HttpServer server;
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/simple/batch", exchange -> {
+            try {
+                answer(exchange, behavior);
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+        servers.add(server);
+        return URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    private static void answer(HttpExchange exchange, Behavior behavior) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        if (behavior == Behavior.FAILING) {
+            exchange.sendResponseHeaders(500, -1);
+            return;
+        }
+        if (behavior == Behavior.SLOW) {
+            try {
+                Thread.sleep(5_000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        int records = body.length / SIMPLE_INPUT_SIZE;
+        var output = ByteBuffer.allocate(records * OUTPUT_SIZE);
+        new HohmannTransferRecordCalculator(HohmannTransferType.SAME_BODY, records)
+                .calculate(ByteBuffer.wrap(body), output);
+        if (behavior == Behavior.CORRUPT) {
+            output.duplicate().order(ByteOrder.LITTLE_ENDIAN).putDouble(TOTAL_DELTA_V * Double.BYTES, Double.POSITIVE_INFINITY);
+        }
+        exchange.sendResponseHeaders(200, output.capacity());
+        exchange.getResponseBody().write(output.array());
+    }
+}
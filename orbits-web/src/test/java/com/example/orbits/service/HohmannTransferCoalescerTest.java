@@ -0,0 +1,161 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.HohmannTransfer;
+import com.example.orbits.model.Orbit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferCoalescerTest {
+
+    private SimpleMeterRegistry registry;
+    private HohmannTransferMetrics metrics;
+    private HohmannTransferCoalescer coalescer;
+    private CelestialBody sol;
+    private CelestialBody terra;
+    private CelestialBody mars;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = createMetrics(new HohmannTransferCoalescerProperties());
+        sol = new CelestialBody("Sol", 1.988e30);
+        terra = new CelestialBody("Terra", 5.972e24);
+        terra.setOrbit(new Orbit(1.496e11, sol));
+        mars = new CelestialBody("Mars", 6.417e23);
+        mars.setOrbit(new Orbit(2.289e11, sol));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.close();
+        }
+    }
+
+    @Test
+    void testConcurrentCalculationsMatchCalculator() throws Exception {
+        coalescer = createCoalescer(Duration.ofMillis(1), 16);
+        var service = new HohmannTransferService(new HohmannTransferCache(new HohmannTransferCacheProperties()), coalescer, metrics);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            var start = new CountDownLatch(1);
+            var futures = new ArrayList<Future<Boolean>>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 200; i++) {
+                        Orbit startingOrbit;
+                        Orbit destinationOrbit;
+                        if ((i + seed) % 3 == 0) {
+                            startingOrbit = new Orbit(6.671e6 + i, terra);
+                            destinationOrbit = new Orbit(3.69e6 + seed, mars);
+                        } else {
+                            startingOrbit = new Orbit(1.496e11 + i, sol);
+                            destinationOrbit = new Orbit(2.289e11 + seed, sol);
+                        }
+                        var expected = HohmannTransferCalculator.calculateTransfer(startingOrbit, destinationOrbit);
+                        if (!expected.equals(service.calculate(startingOrbit, destinationOrbit, false))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            start.countDown();
+            for (var future : futures) {
+                assertTrue(future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        double coalesced = registry.get("orbits.coalescer.batch.size").summaries().stream()
+                .mapToDouble(summary -> summary.totalAmount()).sum();
+        assertEquals(threads * 200d, coalesced);
+    }
+
+    @Test
+    void testFullBatchIsCalculatedWithoutDelay() {
+        coalescer = createCoalescer(Duration.ofHours(1), 3);
+        var futures = new ArrayList<CompletableFuture<HohmannTransfer>>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(coalescer.submit(HohmannTransferType.SAME_BODY, new Orbit(1.496e11, sol), new Orbit(2.289e11 + i, sol)));
+        }
+        for (int i = 0; i < 3; i++) {
+            assertTrue(futures.get(i).isDone());
+            assertEquals(HohmannTransferCalculator.calculateTransfer(new Orbit(1.496e11, sol), new Orbit(2.289e11 + i, sol)),
+                    futures.get(i).join());
+        }
+        var summary = registry.get("orbits.coalescer.batch.size").tag("trigger", "size").summary();
+        assertEquals(1L, summary.count());
+        assertEquals(3d, summary.totalAmount());
+    }
+
+    @Test
+    void testPartialBatchIsCalculatedAfterDelay() throws Exception {
+        coalescer = createCoalescer(Duration.ofMillis(20), 64);
+        var future = coalescer.submit(HohmannTransferType.INTERPLANETARY, new Orbit(6.671e6, terra), new Orbit(3.69e6, mars));
+        var transfer = future.get(5, TimeUnit.SECONDS);
+        assertEquals(HohmannTransferCalculator.calculateTransfer(new Orbit(6.671e6, terra), new Orbit(3.69e6, mars)), transfer);
+        var summary = registry.get("orbits.coalescer.batch.size").tag("trigger", "delay").summary();
+        assertEquals(1L, summary.count());
+        assertEquals(1d, summary.totalAmount());
+    }
+
+    @Test
+    void testDisabledCoalescerIsNotUsed() {
+        var properties = new HohmannTransferCoalescerProperties();
+        var disabled = new HohmannTransferCoalescer(properties, metrics);
+        var service = new HohmannTransferService(new HohmannTransferCache(new HohmannTransferCacheProperties()), disabled, metrics);
+        assertFalse(disabled.isEnabled());
+        assertNotNull(service.calculate(new Orbit(1.496e11, sol), new Orbit(2.289e11, sol)));
+        assertTrue(registry.find("orbits.coalescer.batch.size").summaries().isEmpty());
+    }
+
+    @Test
+    void testCalculationsAfterCloseAreNotRejected() {
+        coalescer = createCoalescer(Duration.ofHours(1), 64);
+        coalescer.close();
+        var future = coalescer.submit(HohmannTransferType.SAME_BODY, new Orbit(1.496e11, sol), new Orbit(2.289e11, sol));
+        assertEquals(HohmannTransferCalculator.calculateTransfer(new Orbit(1.496e11, sol), new Orbit(2.289e11, sol)), future.join());
+    }
+
+    @Test
+    void testCachedCalculationsAreCoalesced() {
+        coalescer = createCoalescer(Duration.ofMillis(20), 64);
+        var service = new HohmannTransferService(new HohmannTransferCache(new HohmannTransferCacheProperties()), coalescer, metrics);
+        var expected = HohmannTransferCalculator.calculateTransfer(new Orbit(1.496e11, sol), new Orbit(2.289e11, sol));
+        assertEquals(expected, service.calculate(new Orbit(1.496e11, sol), new Orbit(2.289e11, sol)));
+        assertEquals(expected, service.calculate(new Orbit(1.496e11, sol), new Orbit(2.289e11, sol)));
+        assertEquals(1L, registry.get("orbits.coalescer.batch.size").tag("trigger", "delay").summary().count());
+    }
+
+    private HohmannTransferCoalescer createCoalescer(Duration maxDelay, int maxBatchSize) {
+        var properties = new HohmannTransferCoalescerProperties();
+        properties.setEnabled(true);
+        properties.setMaxDelay(maxDelay);
+        properties.setMaxBatchSize(maxBatchSize);
+        metrics = createMetrics(properties);
+        return new HohmannTransferCoalescer(properties, metrics);
+    }
+
+    private HohmannTransferMetrics createMetrics(HohmannTransferCoalescerProperties properties) {
+        var cache = new HohmannTransferCache(new HohmannTransferCacheProperties());
+        return new HohmannTransferMetrics(registry, new HohmannTransferMetricsProperties(), properties, cache);
+    }
+}
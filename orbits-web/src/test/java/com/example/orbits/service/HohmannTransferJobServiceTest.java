@@ -0,0 +1,168 @@
+package com.example.orbits.service;
+
+import com.example.orbits.service.HohmannTransferJob.State;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Properties;
+
+import static com.example.orbits.codec.HohmannTransferBinaryCodec.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferJobServiceTest {
+
+    private static final int RECORDS = 5000;
+
+    @TempDir
+    Path directory;
+
+    private HohmannTransferJobProperties properties;
+    private HohmannTransferClusterService cluster;
+    private HohmannTransferJobService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new HohmannTransferJobProperties();
+        properties.setDirectory(directory);
+        properties.setChunkSize(1000);
+        properties.setParallelism(2);
+        var clusterProperties = new HohmannTransferClusterProperties();
+        clusterProperties.setWorkerWait(Duration.ZERO);
+        cluster = new HohmannTransferClusterService(clusterProperties);
+        var buffer = ByteBuffer.allocate(RECORDS * SIMPLE_INPUT_SIZE);
+        for (int i = 0; i < RECORDS; i++) {
+            writeRecord(buffer, 1.988e30, 1.496e11, 1e11 + i * 1e8);
+        }
+        Files.write(directory.resolve("input.f64"), buffer.array());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    @Test
+    void testSubmit() throws Exception {
+        service = new HohmannTransferJobService(properties, cluster);
+        var job = service.submit(HohmannTransferType.SAME_BODY, "input.f64", "output.f64", false, false);
+        assertEquals(job, service.find(job.getId()).orElseThrow());
+        awaitFinished(job);
+        assertEquals(State.COMPLETED, job.getState());
+        assertEquals(RECORDS, job.getRecordCount());
+        assertEquals(RECORDS, job.getCompletedRecords());
+        assertEquals((long) RECORDS * OUTPUT_SIZE, Files.size(directory.resolve("output.f64")));
+    }
+
+    @Test
+    void testSubmitCsv() throws Exception {
+        Files.writeString(directory.resolve("input.csv"), "mass,r1,r2\n1.988e30,1.496e11,2.289e11\n1.988e30,2.289e11,1.496e11\n");
+        service = new HohmannTransferJobService(properties, cluster);
+        var job = service.submit(HohmannTransferType.SAME_BODY, "input.csv", "output.f64", true, false);
+        awaitFinished(job);
+        assertEquals(State.COMPLETED, job.getState());
+        assertEquals(2, job.getRecordCount());
+        assertTrue(Files.exists(directory.resolve("input.csv" + HohmannTransferJobService.CONVERTED_SUFFIX)));
+    }
+
+    @Test
+    void testSubmitDistributedWithoutWorkers() throws Exception {
+        service = new HohmannTransferJobService(properties, cluster);
+        var job = service.submit(HohmannTransferType.SAME_BODY, "input.f64", "output.f64", false, true);
+        assertTrue(job.isDistributed());
+        awaitFinished(job);
+        assertEquals(State.FAILED, job.getState());
+        assertEquals("No workers are registered", job.getError());
+        assertEquals(0, job.getCompletedRecords());
+    }
+
+    @Test
+    void testInvalidSubmissions() {
+        service = new HohmannTransferJobService(properties, cluster);
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(HohmannTransferType.SAME_BODY, "../input.f64", "output.f64", false, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(HohmannTransferType.SAME_BODY, "input.f64", "../output.f64", false, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(HohmannTransferType.SAME_BODY, "missing.f64", "output.f64", false, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(HohmannTransferType.SAME_BODY, "input.f64", "input.f64", false, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(HohmannTransferType.SAME_BODY, "input.f64", ".jobs/output.f64", false, false));
+        assertTrue(service.getJobs().isEmpty());
+    }
+
+    @Test
+    void testFailedJob() throws Exception {
+        Files.write(directory.resolve("broken.f64"), new byte[SIMPLE_INPUT_SIZE + 1]);
+        service = new HohmannTransferJobService(properties, cluster);
+        var job = service.submit(HohmannTransferType.SAME_BODY, "broken.f64", "output.f64", false, false);
+        awaitFinished(job);
+        assertEquals(State.FAILED, job.getState());
+        assertNotNull(job.getError());
+    }
+
+    @Test
+    void testCancel() throws Exception {
+        service = new HohmannTransferJobService(properties, cluster);
+        assertTrue(service.cancel("unknown").isEmpty());
+        var job = service.submit(HohmannTransferType.SAME_BODY, "input.f64", "output.f64", false, false);
+        service.cancel(job.getId());
+        awaitFinished(job);
+        assertTrue(job.getState() == State.CANCELLED || job.getState() == State.COMPLETED);
+    }
+
+    @Test
+    void testResumeUnfinishedJobs() throws Exception {
+        var unfinished = new Properties();
+        unfinished.setProperty("id", "unfinished");
+        unfinished.setProperty("type", HohmannTransferType.SAME_BODY.name());
+        unfinished.setProperty("input", directory.resolve("input.f64").toString());
+        unfinished.setProperty("output", directory.resolve("output.f64").toString());
+        unfinished.setProperty("csv", "false");
+        unfinished.setProperty("submitted", Instant.now().toString());
+        unfinished.setProperty("state", State.RUNNING.name());
+        Path descriptors = Files.createDirectories(directory.resolve(HohmannTransferJobService.DESCRIPTOR_DIRECTORY));
+        try (Writer writer = Files.newBufferedWriter(descriptors.resolve("unfinished.properties"), StandardCharsets.UTF_8)) {
+            unfinished.store(writer, null);
+        }
+        Files.writeString(descriptors.resolve("truncated.properties"), "id=truncated\ntype=SAME_");
+        var outside = (Properties) unfinished.clone();
+        outside.setProperty("id", "outside");
+        outside.setProperty("output", directory.resolveSibling("outside.f64").toString());
+        try (Writer writer = Files.newBufferedWriter(descriptors.resolve("outside.properties"), StandardCharsets.UTF_8)) {
+            outside.store(writer, null);
+        }
+
+        service = new HohmannTransferJobService(properties, cluster);
+        assertTrue(service.find("truncated").isEmpty());
+        assertTrue(service.find("outside").isEmpty());
+        var job = service.find("unfinished").orElseThrow();
+        awaitFinished(job);
+        assertEquals(State.COMPLETED, job.getState());
+        assertEquals(RECORDS, job.getCompletedRecords());
+        service.close();
+
+        service = new HohmannTransferJobService(properties, cluster);
+        assertEquals(State.COMPLETED, service.find("unfinished").orElseThrow().getState());
+    }
+
+    private static void awaitFinished(HohmannTransferJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (job.getState() == State.QUEUED || job.getState() == State.RUNNING) {
+            assertTrue(System.nanoTime() < deadline, "Job did not finish in time");
+            Thread.sleep(10);
+        }
+    }
+}
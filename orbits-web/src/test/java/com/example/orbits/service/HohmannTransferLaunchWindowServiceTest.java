@@ -0,0 +1,53 @@
+package com.example.orbits.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferLaunchWindowServiceTest {
+
+    private CelestialBodyCatalog catalog;
+    private HohmannTransferLaunchWindowService service;
+
+    @BeforeEach
+    void setUp() {
+        catalog = CelestialBodyCatalogConfiguration.load(new ObjectMapper());
+        service = new HohmannTransferLaunchWindowService(catalog, new HohmannTransferCacheProperties());
+    }
+
+    @Test
+    void testCatalogPairsArePrecalculated() {
+        // 8 planets, 4 moons of Jupiter and 2 moons of both Mars and Saturn
+        assertEquals(8 * 7 + 4 * 3 + 2 + 2, service.getCatalogPairCount());
+        var windows = service.windows("earth", "MARS");
+        assertSame(windows, service.windows("Earth", "Mars"));
+        assertEquals(44.3, Math.toDegrees(windows.getPhaseAngle()), 0.1);
+        var expected = HohmannTransferLaunchWindows.of(catalog.get("Io"), catalog.get("Europa"));
+        assertEquals(expected.getSynodicPeriod(), service.windows("Io", "Europa").getSynodicPeriod());
+    }
+
+    @Test
+    void testInvalidCatalogPairs() {
+        assertThrows(UnknownCelestialBodyException.class, () -> service.windows("Earth", "Vulcan"));
+        assertThrows(UnknownCelestialBodyException.class, () -> service.windows(null, "Mars"));
+        assertThrows(IllegalStateException.class, () -> service.windows("Earth", "Earth"));
+        assertThrows(IllegalStateException.class, () -> service.windows("Earth", "Moon"));
+        assertThrows(IllegalStateException.class, () -> service.windows("Sun", "Earth"));
+    }
+
+    @Test
+    void testOrbitPairsAreCached() {
+        var windows = service.windows(1.9885e30, 1.49598e11, 2.27939e11);
+        assertSame(windows, service.windows(1.9885e30, 1.49598e11, 2.27939e11));
+        assertEquals(service.windows("Earth", "Mars").getPhaseAngle(), windows.getPhaseAngle(), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> service.windows(-1d, 1.49598e11, 2.27939e11));
+        assertThrows(IllegalArgumentException.class, () -> service.windows(1.9885e30, 1.49598e11, 1.49598e11));
+
+        var properties = new HohmannTransferCacheProperties();
+        properties.setEnabled(false);
+        var uncached = new HohmannTransferLaunchWindowService(catalog, properties);
+        assertNotSame(uncached.windows(1.9885e30, 1.49598e11, 2.27939e11), uncached.windows(1.9885e30, 1.49598e11, 2.27939e11));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.Orbit;
+import com.example.orbits.service.HohmannTransferMetrics.RejectionCause;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private HohmannTransferCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new HohmannTransferCache(new HohmannTransferCacheProperties());
+    }
+
+    @Test
+    void testCalculationsAreTimedPerBranch() {
+        var properties = new HohmannTransferMetricsProperties();
+        properties.setTimingSampleInterval(1);
+        var metrics = new HohmannTransferMetrics(registry, properties, new HohmannTransferCoalescerProperties(), cache);
+        var service = new HohmannTransferService(cache, metrics);
+        var sol = new CelestialBody("Sol", 1.988e30);
+        var terra = new CelestialBody("Terra", 5.972e24);
+        terra.setOrbit(new Orbit(1.496e11, sol));
+        var mars = new CelestialBody("Mars", 6.417e23);
+        mars.setOrbit(new Orbit(2.289e11, sol));
+
+        service.calculate(new Orbit(1.496e11, sol), new Orbit(2.289e11, sol));
+        service.calculate(new Orbit(1.496e11, sol), new Orbit(2.289e11, sol));
+        service.calculate(new Orbit(1.496e11, sol), new Orbit(2.289e11, sol), false);
+        service.calculate(new Orbit(6.671e6, terra), new Orbit(3.69e6, mars));
+
+        assertEquals(3L, registry.get("orbits.transfer.calculation").tag("branch", "same-body").timer().count());
+        assertEquals(1L, registry.get("orbits.transfer.calculation").tag("branch", "interplanetary").timer().count());
+        assertEquals(3d, registry.get("orbits.transfer.calculations").tag("branch", "same-body").counter().count());
+        assertEquals(1d, registry.get("cache.gets").tag("cache", "hohmannTransfers").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void testCalculationTimingIsSampled() {
+        var properties = new HohmannTransferMetricsProperties();
+        properties.setTimingSampleInterval(4);
+        var metrics = new HohmannTransferMetrics(registry, properties, new HohmannTransferCoalescerProperties(), cache);
+        for (int i = 0; i < 4000; i++) {
+            metrics.recordCalculation(HohmannTransferType.SAME_BODY, metrics.startTime());
+        }
+        assertEquals(4000d, registry.get("orbits.transfer.calculations").tag("branch", "same-body").counter().count());
+        long timed = registry.get("orbits.transfer.calculation").tag("branch", "same-body").timer().count();
+        assertTrue(timed > 500L && timed < 1500L, "Unexpected number of timed calculations: " + timed);
+    }
+
+    @Test
+    void testRejectionsAndBatchItemsAreCounted() {
+        var metrics = new HohmannTransferMetrics(registry, new HohmannTransferMetricsProperties(),
+                new HohmannTransferCoalescerProperties(), cache);
+        metrics.recordRejection(RejectionCause.of(new UnknownCelestialBodyException("Vulcan")));
+        metrics.recordRejection(RejectionCause.of(new IllegalStateException()));
+        metrics.recordRejection(RejectionCause.of(new IllegalArgumentException()));
+        metrics.recordBatchItem("simple");
+        metrics.recordBatchItem("simple");
+        metrics.recordRejectedBatchItem("simple", RejectionCause.MALFORMED_INPUT);
+
+        assertEquals(1d, registry.get("orbits.transfer.rejections").tag("cause", "unknown-body").counter().count());
+        assertEquals(1d, registry.get("orbits.transfer.rejections").tag("cause", "incompatible-orbits").counter().count());
+        assertEquals(1d, registry.get("orbits.transfer.rejections").tag("cause", "invalid-input").counter().count());
+        assertEquals(2d, registry.get("orbits.batch.items").tag("endpoint", "simple").tag("result", "calculated").counter().count());
+        assertEquals(1d, registry.get("orbits.batch.items").tag("endpoint", "simple").tag("result", "malformed-input").counter().count());
+        assertEquals(0d, registry.get("orbits.transfer.rejections").tag("cause", "malformed-input").counter().count());
+    }
+
+    @Test
+    void testEndpointCountersAreRegisteredUpFront() {
+        var metrics = new HohmannTransferMetrics(registry, new HohmannTransferMetricsProperties(),
+                new HohmannTransferCoalescerProperties(), cache);
+        for (var endpoint : HohmannTransferMetrics.BATCH_ENDPOINTS) {
+            assertEquals(0d, registry.get("orbits.batch.items").tag("endpoint", endpoint).tag("result", "calculated").counter().count());
+        }
+        for (var endpoint : HohmannTransferMetrics.SAMPLING_ENDPOINTS) {
+            assertEquals(0d, registry.get("orbits.sweep.points").tag("endpoint", endpoint).counter().count());
+            assertEquals(0d, registry.get("orbits.trajectory.samples").tag("endpoint", endpoint).counter().count());
+        }
+        int meters = registry.getMeters().size();
+        metrics.recordBatchItem("named");
+        metrics.recordSweepPoints("interplanetary", 10);
+        metrics.recordTrajectorySamples("simple", 5);
+        assertEquals(meters, registry.getMeters().size());
+        assertThrows(IllegalArgumentException.class, () -> metrics.recordBatchItem("unknown"));
+    }
+
+    @Test
+    void testDisabledMetricsRegisterNoMeters() {
+        var properties = new HohmannTransferMetricsProperties();
+        properties.setEnabled(false);
+        var metrics = new HohmannTransferMetrics(registry, properties, new HohmannTransferCoalescerProperties(), cache);
+        metrics.recordCalculation(HohmannTransferType.SAME_BODY, metrics.startTime());
+        metrics.recordRejection(RejectionCause.INVALID_INPUT);
+        metrics.recordBatchItem("simple");
+        assertTrue(registry.getMeters().isEmpty());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.orbits.service;
+
+import com.example.orbits.service.HohmannTransferPhaseEvents.Phase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferProfilerTest {
+
+    private HohmannTransferProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        profiler = new HohmannTransferProfiler(new HohmannTransferProfilingProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        profiler.close();
+    }
+
+    @Test
+    void testPhasesAreAggregated() throws Exception {
+        var future = profiler.record(Duration.ofMillis(500L));
+        assertThrows(IllegalStateException.class, () -> profiler.record(Duration.ofSeconds(1L)));
+        for (int i = 0; i < 100; i++) {
+            var event = new HohmannTransferPhaseEvents.Calculation();
+            event.begin();
+            Thread.sleep(1L);
+            event.end("simple");
+        }
+        var event = new HohmannTransferPhaseEvents.ModelBuilding();
+        event.begin();
+        event.end("named");
+        var profile = future.get(10L, TimeUnit.SECONDS);
+
+        assertEquals(Duration.ofMillis(500L), profile.getDuration());
+        assertEquals(Phase.values().length, profile.getPhases().size());
+        var calculation = profile.getPhases().get(Phase.CALCULATION.ordinal());
+        assertEquals(Phase.CALCULATION, calculation.getPhase());
+        assertEquals(100L, calculation.getCount());
+        assertTrue(calculation.getPercentiles()[0] >= 1e6 * 0.99);
+        assertTrue(calculation.getMean() <= calculation.getMax());
+        assertEquals(1L, profile.getPhases().get(Phase.MODEL.ordinal()).getCount());
+        assertEquals(0L, profile.getPhases().get(Phase.BINDING.ordinal()).getCount());
+
+        assertNotNull(profiler.record(Duration.ofMillis(1L)).get(10L, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCloseEndsRecording() {
+        var future = profiler.record(Duration.ofSeconds(10L));
+        profiler.close();
+
+        var e = assertThrows(ExecutionException.class, () -> future.get(1L, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertThrows(IllegalStateException.class, () -> profiler.record(Duration.ofMillis(1L)));
+    }
+
+    @Test
+    void testDurationIsBounded() {
+        assertThrows(IllegalArgumentException.class, () -> profiler.record(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> profiler.record(Duration.ofMinutes(1L)));
+        assertThrows(IllegalArgumentException.class, () -> profiler.record(null));
+    }
+}
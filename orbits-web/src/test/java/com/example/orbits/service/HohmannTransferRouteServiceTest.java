@@ -0,0 +1,94 @@
+package com.example.orbits.service;
+
+import com.example.orbits.service.HohmannTransferRoutePlanner.Cost;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferRouteServiceTest {
+
+    private HohmannTransferRouteService service;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new HohmannTransferRouteProperties();
+        properties.setMaxOrbits(100);
+        service = new HohmannTransferRouteService(CelestialBodyCatalogConfiguration.load(new ObjectMapper()), properties);
+    }
+
+    @Test
+    void testRoute() {
+        int low = service.addOrbit("earth", 6.671e6);
+        int far = service.addOrbit("Earth", 6.671e8);
+        int high = service.addOrbit("Earth", 1e11);
+        int mars = service.addOrbit("Mars", 3.69e6);
+        var route = service.route(low, far, Cost.DELTA_V).orElseThrow();
+        assertEquals(List.of(low, high, far), route.getOrbitIds());
+        assertEquals(2, route.getLegs().size());
+        assertEquals(route.getLegs().get(0).getTotalDeltaV() + route.getLegs().get(1).getTotalDeltaV(), route.getTotalDeltaV());
+
+        var fastest = service.route(low, far, Cost.TRANSFER_TIME).orElseThrow();
+        assertEquals(List.of(low, far), fastest.getOrbitIds());
+        assertTrue(fastest.getTransferTime() < route.getTransferTime());
+        assertEquals(List.of(low, mars), service.route(low, mars, Cost.DELTA_V).orElseThrow().getOrbitIds());
+        assertEquals(4, service.getOrbits().size());
+
+        int lunar = service.addOrbit("Moon", 1.837e6);
+        var viaEarth = service.route(lunar, mars, Cost.DELTA_V).orElseThrow();
+        assertEquals(List.of(lunar, far, mars), viaEarth.getOrbitIds());
+        assertEquals(HohmannTransferCalculator.calculateMoonTransfer(service.getOrbits().get(lunar), service.getOrbits().get(far)),
+                viaEarth.getLegs().get(0));
+    }
+
+    @Test
+    void testInvalidOrbits() {
+        int lunar = service.addOrbit("Moon", 2e6);
+        int mars = service.addOrbit("Mars", 3.69e6);
+        assertTrue(service.route(lunar, mars, Cost.DELTA_V).isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> service.route(lunar, 2, Cost.DELTA_V));
+        assertThrows(UnknownCelestialBodyException.class, () -> service.addOrbit("Vulcan", 1e7));
+        assertThrows(IllegalArgumentException.class, () -> service.addOrbit("Earth", -1d));
+        for (int i = 2; i < 100; i++) {
+            service.addOrbit("Sun", 1e11 + i);
+        }
+        assertThrows(IllegalArgumentException.class, () -> service.addOrbit("Sun", 2e11));
+
+        var properties = new HohmannTransferRouteProperties();
+        properties.setMaxOrbits(HohmannTransferRoutePlanner.MAX_ORBITS + 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> new HohmannTransferRouteService(CelestialBodyCatalogConfiguration.load(new ObjectMapper()), properties));
+    }
+
+    @Test
+    void testConcurrentQueries() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            service.addOrbit("Earth", 6.671e6);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        int size = service.getOrbits().size();
+                        assertTrue(service.route(0, size - 1, Cost.DELTA_V).isPresent());
+                    }
+                }));
+            }
+            for (int i = 0; i < 50; i++) {
+                service.addOrbit(i % 2 == 0 ? "Earth" : "Mars", 7e6 + i * 1e5);
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.orbits.service;
+
+import com.example.orbits.model.CelestialBody;
+import com.example.orbits.model.HohmannTransfer;
+import com.example.orbits.model.Orbit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HohmannTransferServiceTest {
+
+    private static final int THREADS = 16;
+    private static final int ITERATIONS = 20_000;
+
+    private HohmannTransferCache cache;
+    private HohmannTransferService service;
+    private CelestialBody primary;
+
+    @BeforeEach
+    void setUp() {
+        cache = new HohmannTransferCache(new HohmannTransferCacheProperties());
+        service = new HohmannTransferService(cache, HohmannTransferMetrics.disabled());
+        primary = new CelestialBody("Sol", 1.988e30);
+    }
+
+    @Test
+    void testCalculate() {
+        var starting = new Orbit(1.496e11, primary);
+        var destination = new Orbit(2.289e11, primary);
+        var transfer = service.calculate(starting, destination);
+        assertEquals(2972d, transfer.getInsertionDeltaV(), 1d);
+        assertEquals(2670d, transfer.getArrivalDeltaV(), 1d);
+        assertEquals(5642d, transfer.getTotalDeltaV(), 2d);
+    }
+
+    @Test
+    void testCalculateWithIncompatibleOrbits() {
+        var starting = new Orbit(1.496e11, primary);
+        var destination = new Orbit(2.289e11, new CelestialBody("Terra", 5.972e24));
+        assertThrows(IllegalStateException.class, () -> service.calculate(starting, destination));
+    }
+
+    @Test
+    void testCachedResultIsReturnedForEquivalentInput() {
+        var expected = service.calculate(new Orbit(1.496e11, primary), new Orbit(2.289e11, primary));
+        var otherPrimary = new CelestialBody("Sun", 1.988e30);
+        var transfer = service.calculate(new Orbit(1.496e11, otherPrimary), new Orbit(2.289e11, otherPrimary));
+        assertSame(expected, transfer);
+        assertEquals(1L, cache.getStatistics().hitCount());
+        assertEquals(1L, cache.getStatistics().missCount());
+    }
+
+    @Test
+    void testInterplanetaryTransfersAreCachedSeparately() {
+        var simple = service.calculate(new Orbit(1.496e11, primary), new Orbit(2.289e11, primary));
+        var startingPlanet = new CelestialBody("Terra", 5.972e24);
+        startingPlanet.setOrbit(new Orbit(1.496e11, primary));
+        var destinationPlanet = new CelestialBody("Mars", 6.417e23);
+        destinationPlanet.setOrbit(new Orbit(2.289e11, primary));
+        var interplanetary = service.calculate(new Orbit(6.671e6, startingPlanet), new Orbit(3.69e6, destinationPlanet));
+        assertNotEquals(simple, interplanetary);
+        assertEquals(2L, cache.getStatistics().missCount());
+    }
+
+    @Test
+    void testCacheBypass() {
+        var starting = new Orbit(1.496e11, primary);
+        var destination = new Orbit(2.289e11, primary);
+        service.calculate(starting, destination);
+        var transfer = service.calculate(starting, destination, false);
+        assertEquals(service.calculate(starting, destination), transfer);
+        assertEquals(1L, cache.getStatistics().hitCount());
+        assertEquals(1L, cache.getStatistics().missCount());
+    }
+
+    @Test
+    void testDisabledCache() {
+        var properties = new HohmannTransferCacheProperties();
+        properties.setEnabled(false);
+        var disabledCache = new HohmannTransferCache(properties);
+        var uncachedService = new HohmannTransferService(disabledCache, HohmannTransferMetrics.disabled());
+        var starting = new Orbit(1.496e11, primary);
+        var destination = new Orbit(2.289e11, primary);
+        assertEquals(uncachedService.calculate(starting, destination), uncachedService.calculate(starting, destination));
+        assertEquals(0L, disabledCache.getStatistics().requestCount());
+    }
+
+    @Test
+    void testConcurrentCalculationsDoNotInterfere() throws Exception {
+        var expected = new HohmannTransfer[THREADS];
+        for (int i = 0; i < THREADS; i++) {
+            expected[i] = service.calculate(startingOrbit(i), destinationOrbit(i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var start = new CountDownLatch(1);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                int index = i;
+                Callable<Integer> task = () -> {
+                    start.await();
+                    int mismatches = 0;
+                    for (int j = 0; j < ITERATIONS; j++) {
+                        var transfer = service.calculate(startingOrbit(index), destinationOrbit(index), j % 2 == 0);
+                        if (!expected[index].equals(transfer)) {
+                            mismatches++;
+                        }
+                    }
+                    return mismatches;
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            for (var future : futures) {
+                assertEquals(0, future.get());
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private Orbit startingOrbit(int index) {
+        return new Orbit(1.0e11 + index * 1.0e10, primary);
+    }
+
+    private Orbit destinationOrbit(int index) {
+        return new Orbit(5.0e11 - index * 1.0e10, primary);
+    }
+}